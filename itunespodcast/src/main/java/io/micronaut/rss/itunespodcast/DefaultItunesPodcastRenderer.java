@@ -16,15 +16,17 @@
 package io.micronaut.rss.itunespodcast;
 
 import io.micronaut.context.annotation.Replaces;
-import io.micronaut.rss.RssChannel;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.rss.DefaultRssFeedRenderer;
-import io.micronaut.rss.RssItem;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
+import io.micronaut.rss.EncodedText;
+import io.micronaut.rss.RssChannelImage;
+import io.micronaut.rss.RssChannelSnapshot;
+import io.micronaut.rss.RssItemSnapshot;
+import io.micronaut.rss.RssNamespaceExtension;
+import io.micronaut.rss.XmlTemplate;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
 import java.util.List;
 import java.util.Map;
 
@@ -37,7 +39,22 @@ import java.util.Map;
 @Replaces(DefaultRssFeedRenderer.class)
 @Singleton
 public class DefaultItunesPodcastRenderer extends DefaultRssFeedRenderer {
-    private static final Logger LOG = LoggerFactory.getLogger(DefaultItunesPodcastRenderer.class);
+    private static final EncodedText YES = EncodedText.of("yes");
+    private static final EncodedText NO = EncodedText.of("no");
+
+    /**
+     * Creates a renderer without namespace extensions.
+     */
+    public DefaultItunesPodcastRenderer() {
+    }
+
+    /**
+     * @param extensions Namespace extensions, applied in order
+     */
+    @Inject
+    public DefaultItunesPodcastRenderer(List<RssNamespaceExtension> extensions) {
+        super(extensions);
+    }
 
     @Override
     protected Map<String, String> getRssAttributes() {
@@ -47,85 +64,45 @@ public class DefaultItunesPodcastRenderer extends DefaultRssFeedRenderer {
     }
 
     @Override
-    protected void writeRssChannel(XMLStreamWriter sw, RssChannel rssChannel) {
-        super.writeRssChannel(sw, rssChannel);
-        if (rssChannel instanceof ItunesPodcast) {
-            ItunesPodcast itunesPodcast = (ItunesPodcast) rssChannel;
-
-            itunesPodcast.getSummary().ifPresent(summary -> writeElement(sw, "itunes:summary", summary));
-            itunesPodcast.getAuthor().ifPresent(author -> writeElement(sw, "itunes:author", author));
-            itunesPodcast.getSubtitle().ifPresent(subtitle -> writeElement(sw, "itunes:subtitle", subtitle));
-            itunesPodcast.getType().ifPresent(type -> writeElement(sw, "itunes:type", type.toString().toLowerCase()));
-
-            try {
-                sw.writeStartElement("itunes:owner");
-                writeElement(sw, "itunes:name", itunesPodcast.getOwner().getName());
-                writeElement(sw, "itunes:email", itunesPodcast.getOwner().getEmail());
-                sw.writeEndElement();
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
-                }
-            }
-
-            if (itunesPodcast.getImage().isPresent()) {
-                String imageUrl = itunesPodcast.getImage().get().getUrl();
-                writeItunesImage(sw, imageUrl);
-            }
-
-            if (itunesPodcast.getCategory().isPresent()) {
-                for (List<String> categoryList : itunesPodcast.getCategory().get()) {
-                    writeCategory(sw, categoryList, "itunes:category");
-                }
-            }
-            itunesPodcast.getKeywords()
-                    .stream()
-                    .reduce((a, b) -> a + ", " + b).ifPresent(keywords -> writeElement(sw, "itunes:keywords", keywords));
-
-            writeElement(sw, "itunes:explicit", itunesPodcast.isExplicit() ? "yes" : "no");
-            writeElement(sw, "itunes:block", itunesPodcast.shouldBlock() ? "yes" : "no");
-        }
-    }
-
-    /**
-     * Writes the image url in an itunes:image tag.
-     * @param sw XML straem writer
-     * @param imageUrl the Image URL
-     */
-    protected void writeItunesImage(XMLStreamWriter sw, String imageUrl) {
-        try {
-            sw.writeStartElement("itunes:image");
-            sw.writeAttribute("href", imageUrl);
-            sw.writeEndElement();
-        } catch (XMLStreamException e) {
-            if (LOG.isErrorEnabled()) {
-                LOG.error(e.getMessage());
-            }
-        }
+    protected void compileRssChannel(@NonNull XmlTemplate.Builder<RssChannelSnapshot> channel,
+                                     @NonNull XmlTemplate<RssItemSnapshot> item) {
+        super.compileRssChannel(channel, item);
+        channel.forType(ItunesPodcastSnapshot.class, XmlTemplate.<ItunesPodcastSnapshot>builder()
+                .element("itunes:summary", null, ItunesPodcastSnapshot::getSummary)
+                .element("itunes:author", null, ItunesPodcastSnapshot::getAuthor)
+                .element("itunes:subtitle", null, ItunesPodcastSnapshot::getSubtitle)
+                .element("itunes:type", null, itunesPodcast -> itunesPodcast.getType() != null ? itunesPodcast.getType().getValue() : null)
+                .constant("<itunes:owner>")
+                .requiredElement("itunes:name", null, ItunesPodcastSnapshot::getOwnerName)
+                .requiredElement("itunes:email", null, ItunesPodcastSnapshot::getOwnerEmail)
+                .constant("</itunes:owner>")
+                .with(ItunesPodcastSnapshot::getImage, XmlTemplate.<RssChannelImage>builder()
+                        .constant("<itunes:image href=\"")
+                        .segment((image, out) -> out.writeAttributeValue(image.getUrl()))
+                        .constant("\"></itunes:image>")
+                        .build())
+                .segment(compileCategory("itunes:category"))
+                .element("itunes:keywords", null, ItunesPodcastSnapshot::getKeywords)
+                .requiredElement("itunes:explicit", itunesPodcast -> itunesPodcast.isExplicit() ? YES : NO, null)
+                .requiredElement("itunes:block", itunesPodcast -> itunesPodcast.shouldBlock() ? YES : NO, null)
+                .build());
     }
 
     @Override
-    protected void writeRssItem(XMLStreamWriter sw, RssItem rssItem) {
-        super.writeRssItem(sw, rssItem);
-        if (rssItem instanceof ItunesPodcastEpisode) {
-            ItunesPodcastEpisode itunesPodcastEpisode = (ItunesPodcastEpisode) rssItem;
-
-            itunesPodcastEpisode.getEpisodeType().ifPresent(episodeType -> writeElement(sw, "itunes:episodeType", episodeType.toString().toLowerCase()));
-
-            itunesPodcastEpisode.getTitle().ifPresent(title -> writeElement(sw, "itunes:title", title));
-            itunesPodcastEpisode.getSubtitle().ifPresent(subtitle -> writeElement(sw, "itunes:subtitle", subtitle));
-            itunesPodcastEpisode.getAuthor().ifPresent(author -> writeElement(sw, "itunes:author", author));
-            itunesPodcastEpisode.getSummary().ifPresent(summary -> writeElement(sw, "itunes:summary", summary));
-            itunesPodcastEpisode.getContentEncoded().ifPresent(contentEncode -> {
-                writeElement(sw, "content:encoded", contentEncode);
-            });
-
-            itunesPodcastEpisode.getDuration().ifPresent(author -> writeElement(sw, "itunes:duration", author));
-            itunesPodcastEpisode.getEpisode().ifPresent(episode -> writeElement(sw, "itunes:episode", String.valueOf(episode)));
-            itunesPodcastEpisode.getSeason().ifPresent(season -> writeElement(sw, "itunes:season", String.valueOf(season)));
-            //itunesPodcastEpisode.getImage().ifPresent(image -> writeItunesImage(sw, image));
-            writeElement(sw, "itunes:explicit", itunesPodcastEpisode.isExplicit() ? "yes" : "no");
-
-        }
+    protected void compileRssItem(@NonNull XmlTemplate.Builder<RssItemSnapshot> item) {
+        super.compileRssItem(item);
+        item.forType(ItunesPodcastEpisodeSnapshot.class, XmlTemplate.<ItunesPodcastEpisodeSnapshot>builder()
+                .element("itunes:episodeType", null, episode -> episode.getEpisodeType() != null ? episode.getEpisodeType().getValue() : null)
+                .element("itunes:title", RssItemSnapshot::getEncodedTitle, ItunesPodcastEpisodeSnapshot::getTitle)
+                .element("itunes:subtitle", null, ItunesPodcastEpisodeSnapshot::getSubtitle)
+                .element("itunes:author", RssItemSnapshot::getEncodedAuthor, ItunesPodcastEpisodeSnapshot::getAuthor)
+                .element("itunes:summary", null, ItunesPodcastEpisodeSnapshot::getSummary)
+                .element("content:encoded", null, ItunesPodcastEpisodeSnapshot::getContentEncoded)
+                .contentElement("content:encoded", ItunesPodcastEpisodeSnapshot::getContentEncodedSource)
+                .element("itunes:duration", null, ItunesPodcastEpisodeSnapshot::getDuration)
+                .element("itunes:episode", null, ItunesPodcastEpisodeSnapshot::getEpisode)
+                .element("itunes:season", null, ItunesPodcastEpisodeSnapshot::getSeason)
+                .requiredElement("itunes:explicit", episode -> episode.isExplicit() ? YES : NO, null)
+                .build());
     }
 }
@@ -19,6 +19,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.rss.RssChannel;
 import io.micronaut.rss.RssChannelImage;
+import io.micronaut.rss.RssChannelSnapshot;
 import io.micronaut.rss.RssItem;
 import io.micronaut.rss.RssSkipDays;
 import io.micronaut.rss.RssSkipHours;
@@ -196,6 +197,19 @@ public class ItunesPodcast extends RssChannel {
         return this.keywords;
     }
 
+    @Override
+    @NonNull
+    public ItunesPodcast freeze() {
+        super.freeze();
+        return this;
+    }
+
+    @Override
+    @NonNull
+    protected RssChannelSnapshot createSnapshot(boolean encode) {
+        return new ItunesPodcastSnapshot(this, encode);
+    }
+
     /**
      * ItunesPodcast Builder.
      */
@@ -525,5 +539,14 @@ public class ItunesPodcast extends RssChannel {
         public ItunesPodcast build() {
             return this.podcast;
         }
+
+        /**
+         * Builds a frozen {@link ItunesPodcast}. See {@link RssChannel#freeze()}.
+         * @return A frozen {@link ItunesPodcast}
+         */
+        @NonNull
+        public ItunesPodcast freeze() {
+            return this.podcast.freeze();
+        }
     }
 }
@@ -15,6 +15,9 @@
  */
 package io.micronaut.rss.itunespodcast;
 
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.language.EnumLookup;
+
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -198,8 +201,12 @@ public enum ItunesPodcastCategory {
     TV_AND_FILM_FILM_REVIEWS(Arrays.asList("TV &amp; Film", "Film Reviews")),
     TV_AND_FILM_TV_REVIEWS(Arrays.asList("TV &amp; Film", "TV Reviews"));
 
+    private static final EnumLookup<ItunesPodcastCategory> LOOKUP = EnumLookup.of(values(), ItunesPodcastCategory::toCsv);
+
     private final List<String> categories;
 
+    private final String csv;
+
     /**
      * Constructor.
      *
@@ -207,6 +214,7 @@ public enum ItunesPodcastCategory {
      */
     ItunesPodcastCategory(List<String> categories) {
         this.categories = categories;
+        this.csv = String.join(",", categories);
     }
 
     /**
@@ -222,10 +230,17 @@ public enum ItunesPodcastCategory {
      * @return if found a {@link ItunesPodcastCategory} which matches the CSV representation.
      */
     public static Optional<ItunesPodcastCategory> categoryBy(String csvCategory) {
-        return Arrays.stream(ItunesPodcastCategory
-                .values())
-                .filter(c -> c.toCsv().equals(csvCategory))
-                .findFirst();
+        return Optional.ofNullable(LOOKUP.get(csvCategory));
+    }
+
+    /**
+     * Finds a category by its CSV representation ignoring case. It does not allocate.
+     * @param csvCategory category as a comma separated value string.
+     * @return The {@link ItunesPodcastCategory} which matches the CSV representation or null.
+     */
+    @Nullable
+    public static ItunesPodcastCategory lookup(@Nullable CharSequence csvCategory) {
+        return LOOKUP.getIgnoreCase(csvCategory);
     }
 
     /**
@@ -244,6 +259,6 @@ public enum ItunesPodcastCategory {
      * @return All categories as comma separated value string.
      */
     public String toCsv() {
-        return getCategories().stream().reduce((a, b) -> a + "," + b).get();
+        return csv;
     }
 }
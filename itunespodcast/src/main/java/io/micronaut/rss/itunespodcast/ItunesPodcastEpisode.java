@@ -18,6 +18,8 @@ package io.micronaut.rss.itunespodcast;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.rss.RssItem;
 import io.micronaut.rss.RssItemEnclosure;
+import io.micronaut.rss.RssItemSnapshot;
+import io.micronaut.rss.content.ContentSource;
 
 import io.micronaut.core.annotation.Nullable;
 import jakarta.validation.constraints.Positive;
@@ -38,6 +40,9 @@ public class ItunesPodcastEpisode extends RssItem {
     @Nullable
     private String contentEncoded;
 
+    @Nullable
+    private ContentSource contentEncodedSource;
+
     @Nullable
     private String summary;
 
@@ -128,6 +133,14 @@ public class ItunesPodcastEpisode extends RssItem {
         return Optional.of(contentEncoded);
     }
 
+    /**
+     *
+     * @return The source of the episode's content encoded, read while rendering if the episode has no content encoded.
+     */
+    public Optional<ContentSource> getContentEncodedSource() {
+        return Optional.ofNullable(contentEncodedSource);
+    }
+
     /**
      * Sets episode summary.
      * @param summary Episode's summary.
@@ -144,6 +157,14 @@ public class ItunesPodcastEpisode extends RssItem {
         this.contentEncoded = contentEncoded;
     }
 
+    /**
+     * Sets the source of the episode contentEncoded, streamed and escaped by the renderer.
+     * @param contentEncodedSource The source of the episode's contentEncoded.
+     */
+    public void setContentEncodedSource(@Nullable ContentSource contentEncodedSource) {
+        this.contentEncodedSource = contentEncodedSource;
+    }
+
     /**
      * Sets episode duration.
      * @param duration Episode's duration.
@@ -227,6 +248,12 @@ public class ItunesPodcastEpisode extends RssItem {
         this.image = image;
     }
 
+    @Override
+    @NonNull
+    protected RssItemSnapshot createSnapshot(boolean encode) {
+        return new ItunesPodcastEpisodeSnapshot(this, encode);
+    }
+
     /**
      * @param title Episode's title
      * @return A Builder to build a {@link ItunesPodcastEpisode}.
@@ -354,6 +381,17 @@ public class ItunesPodcastEpisode extends RssItem {
             return this;
         }
 
+        /**
+         * Populate the source of the episode content encoded.
+         * @param contentEncodedSource the source of the episode content encoded.
+         * @return a Episode Builder
+         */
+        @NonNull
+        public Builder contentEncodedSource(ContentSource contentEncodedSource) {
+            episode.setContentEncodedSource(contentEncodedSource);
+            return this;
+        }
+
         /**
          * Populates Episode's enclosure.
          * @param enclosure Episode enclosure.
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.itunespodcast;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.RssItemSnapshot;
+import io.micronaut.rss.content.ContentSource;
+
+/**
+ * Immutable snapshot of an {@link ItunesPodcastEpisode}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public class ItunesPodcastEpisodeSnapshot extends RssItemSnapshot {
+
+    @Nullable
+    private final String subtitle;
+
+    @Nullable
+    private final String contentEncoded;
+
+    @Nullable
+    private final ContentSource contentEncodedSource;
+
+    @Nullable
+    private final String summary;
+
+    @Nullable
+    private final String duration;
+
+    @Nullable
+    private final ItunesPodcastEpisodeType episodeType;
+
+    private final boolean explicit;
+
+    @Nullable
+    private final Integer episode;
+
+    @Nullable
+    private final Integer season;
+
+    @Nullable
+    private final String image;
+
+    /**
+     * Copies the values of the given episode.
+     * @param episode iTunes Podcast episode
+     */
+    public ItunesPodcastEpisodeSnapshot(@NonNull ItunesPodcastEpisode episode) {
+        this(episode, false);
+    }
+
+    /**
+     * Copies the values of the given episode.
+     * @param episode iTunes Podcast episode
+     * @param encode Whether to encode the texts of the item once
+     */
+    public ItunesPodcastEpisodeSnapshot(@NonNull ItunesPodcastEpisode episode, boolean encode) {
+        super(episode, encode);
+        this.subtitle = episode.getSubtitle().orElse(null);
+        this.contentEncoded = episode.getContentEncoded().orElse(null);
+        this.contentEncodedSource = contentEncoded == null ? episode.getContentEncodedSource().orElse(null) : null;
+        this.summary = episode.getSummary().orElse(null);
+        this.duration = episode.getDuration().orElse(null);
+        this.episodeType = episode.getEpisodeType().orElse(null);
+        this.explicit = episode.isExplicit();
+        this.episode = episode.getEpisode().orElse(null);
+        this.season = episode.getSeason().orElse(null);
+        this.image = episode.getImage();
+    }
+
+    /**
+     * @return Episode's subtitle.
+     */
+    @Nullable
+    public String getSubtitle() {
+        return subtitle;
+    }
+
+    /**
+     * @return Episode's content encoded.
+     */
+    @Nullable
+    public String getContentEncoded() {
+        return contentEncoded;
+    }
+
+    /**
+     * @return The source of the episode's content encoded, {@code null} if the episode has a content encoded.
+     */
+    @Nullable
+    public ContentSource getContentEncodedSource() {
+        return contentEncodedSource;
+    }
+
+    /**
+     * @return Episode's summary.
+     */
+    @Nullable
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * @return Episode's duration.
+     */
+    @Nullable
+    public String getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return Episode's type.
+     */
+    @Nullable
+    public ItunesPodcastEpisodeType getEpisodeType() {
+        return episodeType;
+    }
+
+    /**
+     * @return whether an episode is explicit.
+     */
+    public boolean isExplicit() {
+        return explicit;
+    }
+
+    /**
+     * @return Episode's number.
+     */
+    @Nullable
+    public Integer getEpisode() {
+        return episode;
+    }
+
+    /**
+     * @return Episode's season number.
+     */
+    @Nullable
+    public Integer getSeason() {
+        return season;
+    }
+
+    /**
+     * @return Podcast episode image.
+     */
+    @Nullable
+    public String getImage() {
+        return image;
+    }
+}
@@ -15,6 +15,12 @@
  */
 package io.micronaut.rss.itunespodcast;
 
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.language.EnumLookup;
+
+import java.util.Locale;
+
 /**
  * Representation of Itunes Podcasts episode type.
  *
@@ -35,5 +41,28 @@ public enum  ItunesPodcastEpisodeType {
     /**
      *  for extra content related to a show, season, or episode.
      */
-    BONUS
+    BONUS;
+
+    private static final EnumLookup<ItunesPodcastEpisodeType> LOOKUP = EnumLookup.of(values(), ItunesPodcastEpisodeType::getValue);
+
+    private final String value = name().toLowerCase(Locale.ENGLISH);
+
+    /**
+     *
+     * @return The value of the itunes:episodeType tag. For example, {@code full}.
+     */
+    @NonNull
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Finds an episode type by its value ignoring case. It does not allocate.
+     * @param value The value of the itunes:episodeType tag
+     * @return The episode type or null.
+     */
+    @Nullable
+    public static ItunesPodcastEpisodeType lookup(@Nullable CharSequence value) {
+        return LOOKUP.getIgnoreCase(value);
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.itunespodcast;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.AtomLink;
+import io.micronaut.rss.RssChannelSnapshot;
+import io.micronaut.rss.RssItemSnapshot;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of an {@link ItunesPodcast}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public class ItunesPodcastSnapshot extends RssChannelSnapshot {
+
+    @Nullable
+    private final String ownerName;
+
+    @Nullable
+    private final String ownerEmail;
+
+    @Nullable
+    private final String author;
+
+    @Nullable
+    private final ItunesPodcastType type;
+
+    private final boolean explicit;
+
+    @Nullable
+    private final String subtitle;
+
+    @Nullable
+    private final String summary;
+
+    @Nullable
+    private final String keywords;
+
+    private final boolean block;
+
+    /**
+     * Copies the values of the given podcast.
+     * @param podcast iTunes Podcast
+     */
+    public ItunesPodcastSnapshot(@NonNull ItunesPodcast podcast) {
+        this(podcast, false);
+    }
+
+    /**
+     * Copies the values of the given podcast.
+     * @param podcast iTunes Podcast
+     * @param encode Whether to encode the texts of the channel and its items once
+     */
+    public ItunesPodcastSnapshot(@NonNull ItunesPodcast podcast, boolean encode) {
+        super(podcast, encode);
+        ItunesPodcastOwner owner = podcast.getOwner();
+        this.ownerName = owner != null ? owner.getName() : null;
+        this.ownerEmail = owner != null ? owner.getEmail() : null;
+        this.author = podcast.getAuthor().orElse(null);
+        this.type = podcast.getType().orElse(null);
+        this.explicit = podcast.isExplicit();
+        this.subtitle = podcast.getSubtitle().orElse(null);
+        this.summary = podcast.getSummary().orElse(null);
+        List<String> keywordList = podcast.getKeywords();
+        this.keywords = keywordList == null || keywordList.isEmpty() ? null : String.join(", ", keywordList);
+        this.block = podcast.shouldBlock();
+    }
+
+    /**
+     * Copies the given snapshot with other items.
+     * @param snapshot iTunes Podcast snapshot
+     * @param item The items of the copy
+     */
+    protected ItunesPodcastSnapshot(@NonNull ItunesPodcastSnapshot snapshot, @NonNull List<RssItemSnapshot> item) {
+        this(snapshot, item, snapshot.getLinks(), snapshot.isArchive());
+    }
+
+    /**
+     * Copies the given snapshot with other items and Atom links.
+     * @param snapshot iTunes Podcast snapshot
+     * @param item The items of the copy
+     * @param links The {@code atom:link} elements of the copy
+     * @param archive Whether the copy is an archive document
+     */
+    protected ItunesPodcastSnapshot(@NonNull ItunesPodcastSnapshot snapshot,
+                                    @NonNull List<RssItemSnapshot> item,
+                                    @NonNull List<AtomLink> links,
+                                    boolean archive) {
+        super(snapshot, item, links, archive);
+        this.ownerName = snapshot.ownerName;
+        this.ownerEmail = snapshot.ownerEmail;
+        this.author = snapshot.author;
+        this.type = snapshot.type;
+        this.explicit = snapshot.explicit;
+        this.subtitle = snapshot.subtitle;
+        this.summary = snapshot.summary;
+        this.keywords = snapshot.keywords;
+        this.block = snapshot.block;
+    }
+
+    @Override
+    @NonNull
+    public ItunesPodcastSnapshot withItems(@NonNull List<RssItemSnapshot> item) {
+        return new ItunesPodcastSnapshot(this, item);
+    }
+
+    @Override
+    @NonNull
+    public ItunesPodcastSnapshot withLinks(@NonNull List<RssItemSnapshot> item, @NonNull List<AtomLink> links, boolean archive) {
+        return new ItunesPodcastSnapshot(this, item, links, archive);
+    }
+
+    /**
+     * @return The podcast owner name.
+     */
+    @Nullable
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    /**
+     * @return The podcast owner email.
+     */
+    @Nullable
+    public String getOwnerEmail() {
+        return ownerEmail;
+    }
+
+    /**
+     * @return The podcast author.
+     */
+    @Nullable
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * @return The podcast type.
+     */
+    @Nullable
+    public ItunesPodcastType getType() {
+        return type;
+    }
+
+    /**
+     * @return The podcast explicit flag.
+     */
+    public boolean isExplicit() {
+        return explicit;
+    }
+
+    /**
+     * @return The podcast subtitle.
+     */
+    @Nullable
+    public String getSubtitle() {
+        return subtitle;
+    }
+
+    /**
+     * @return The podcast summary.
+     */
+    @Nullable
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * @return The podcast keywords separated by commas.
+     */
+    @Nullable
+    public String getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * @return Whether it should block.
+     */
+    public boolean shouldBlock() {
+        return block;
+    }
+}
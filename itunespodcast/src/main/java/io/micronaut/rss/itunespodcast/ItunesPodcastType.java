@@ -15,7 +15,12 @@
  */
 package io.micronaut.rss.itunespodcast;
 
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.language.EnumLookup;
+
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -35,6 +40,29 @@ public enum ItunesPodcastType {
      */
     SERIAL;
 
+    private static final EnumLookup<ItunesPodcastType> LOOKUP = EnumLookup.of(values(), ItunesPodcastType::getValue);
+
+    private final String value = name().toLowerCase(Locale.ENGLISH);
+
+    /**
+     *
+     * @return The value of the itunes:type tag. For example, {@code episodic}.
+     */
+    @NonNull
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Finds a podcast type by its value ignoring case. It does not allocate.
+     * @param value The value of the itunes:type tag
+     * @return The podcast type or null.
+     */
+    @Nullable
+    public static ItunesPodcastType lookup(@Nullable CharSequence value) {
+        return LOOKUP.getIgnoreCase(value);
+    }
+
     /**
      *
      * @return Returns a map representation.
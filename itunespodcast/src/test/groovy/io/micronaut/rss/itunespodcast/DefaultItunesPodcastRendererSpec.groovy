@@ -0,0 +1,87 @@
+package io.micronaut.rss.itunespodcast
+
+import io.micronaut.rss.RssChannelImage
+import io.micronaut.rss.RssItem
+import io.micronaut.rss.RssItemEnclosure
+import io.micronaut.rss.content.ContentSource
+import io.micronaut.rss.language.RssLanguage
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class DefaultItunesPodcastRendererSpec extends Specification {
+
+    @Unroll
+    void "the writer output equals the output stream output, frozen: #frozen"(boolean frozen) {
+        given:
+        ItunesPodcastEpisode episode = ItunesPodcastEpisode.builder("Episode 1 😀")
+                .author("Sergio")
+                .subtitle("subtitle & more")
+                .episodeType(ItunesPodcastEpisodeType.FULL)
+                .build()
+        episode.setDescription("x <b>y</b>")
+        episode.setContentEncoded("<p>content</p>")
+        episode.setGuid("episode-1")
+        episode.setEpisode(3)
+        episode.setSeason(2)
+        episode.setEnclosure(RssItemEnclosure.builder().url("https://micronaut.io/1.mp3").length(12).type("audio/mpeg").build())
+        episode.setPubDate(ZonedDateTime.of(2020, 1, 2, 3, 4, 5, 0, ZoneId.of("GMT")))
+        ItunesPodcast.Builder builder = ItunesPodcast.builder()
+                .title("Micronaut Podcast")
+                .link("https://micronaut.io")
+                .description("News about Micronaut")
+                .language(RssLanguage.LANG_ENGLISH)
+                .subtitle("subtitle")
+                .summary("summary")
+                .keyword("java")
+                .keyword("groovy")
+                .owner(ItunesPodcastOwner.builder().name("Sergio").email("sergio@micronaut.io").build())
+                .type(ItunesPodcastType.SERIAL)
+                .image(RssChannelImage.builder("logo", "https://micronaut.io/logo.png?a=1&b=2", "https://micronaut.io").build())
+                .category([["Technology", "Podcasting"]])
+                .item(episode)
+                .item(RssItem.builder().title("Announcement").build())
+        ItunesPodcast podcast = frozen ? builder.freeze() : builder.build()
+        DefaultItunesPodcastRenderer renderer = new DefaultItunesPodcastRenderer()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, podcast)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, podcast)
+
+        then:
+        bytes.toString(StandardCharsets.UTF_8) == writer.toString()
+        writer.toString().contains('xmlns:itunes="http://www.itunes.com/dtds/podcast-1.0.dtd"')
+        writer.toString().contains('<itunes:image href="https://micronaut.io/logo.png?a=1&amp;b=2"></itunes:image>')
+
+        where:
+        frozen << [false, true]
+    }
+
+    void "content:encoded is streamed from its content source"() {
+        given:
+        ItunesPodcast podcast = ItunesPodcast.builder()
+                .title("Micronaut Podcast")
+                .link("https://micronaut.io")
+                .description("News about Micronaut")
+                .item(ItunesPodcastEpisode.builder("Episode 1")
+                        .contentEncodedSource(ContentSource.ofString("<p>show notes & links</p>"))
+                        .build())
+                .build()
+        DefaultItunesPodcastRenderer renderer = new DefaultItunesPodcastRenderer()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, podcast)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, podcast)
+
+        then:
+        writer.toString().contains("<content:encoded>&lt;p&gt;show notes &amp; links&lt;/p&gt;</content:encoded>")
+        bytes.toString(StandardCharsets.UTF_8) == writer.toString()
+    }
+}
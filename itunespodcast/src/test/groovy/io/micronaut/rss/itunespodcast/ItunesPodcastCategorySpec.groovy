@@ -0,0 +1,30 @@
+package io.micronaut.rss.itunespodcast
+
+import spock.lang.Specification
+
+class ItunesPodcastCategorySpec extends Specification {
+
+    void "categories can be found by their CSV representation"() {
+        expect:
+        ItunesPodcastCategory.categoryBy('Arts,Books').get() == ItunesPodcastCategory.ARTS_BOOKS
+        !ItunesPodcastCategory.categoryBy('arts,books').isPresent()
+        ItunesPodcastCategory.lookup(new StringBuilder('arts,BOOKS')) == ItunesPodcastCategory.ARTS_BOOKS
+        ItunesPodcastCategory.lookup('Arts,Cooking') == null
+    }
+
+    void "when two categories share a CSV representation the first one is returned"() {
+        given:
+        ItunesPodcastCategory first = ItunesPodcastCategory.values().find { it.toCsv() == 'Society &amp; Culture' }
+
+        expect:
+        ItunesPodcastCategory.categoryBy('Society &amp; Culture').get() == first
+    }
+
+    void "episode and podcast types can be found by their tag value"() {
+        expect:
+        ItunesPodcastEpisodeType.lookup('Trailer') == ItunesPodcastEpisodeType.TRAILER
+        ItunesPodcastEpisodeType.FULL.value == 'full'
+        ItunesPodcastType.lookup('serial') == ItunesPodcastType.SERIAL
+        ItunesPodcastType.lookup('daily') == null
+    }
+}
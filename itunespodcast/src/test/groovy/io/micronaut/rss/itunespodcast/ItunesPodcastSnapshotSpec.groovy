@@ -0,0 +1,55 @@
+package io.micronaut.rss.itunespodcast
+
+import io.micronaut.rss.RssChannelSnapshot
+import io.micronaut.rss.RssItem
+import spock.lang.Specification
+
+class ItunesPodcastSnapshotSpec extends Specification {
+
+    void "podcasts and episodes freeze into iTunes snapshots"() {
+        given:
+        ItunesPodcast podcast = ItunesPodcast.builder()
+                .title("Micronaut Podcast")
+                .link("https://micronaut.io")
+                .description("News about Micronaut")
+                .keyword("java")
+                .keyword("groovy")
+                .item(ItunesPodcastEpisode.builder("Episode 1").episodeType(ItunesPodcastEpisodeType.FULL).build())
+                .item(RssItem.builder().title("Announcement").build())
+                .freeze()
+
+        when:
+        RssChannelSnapshot snapshot = podcast.snapshot()
+
+        then:
+        snapshot instanceof ItunesPodcastSnapshot
+        ((ItunesPodcastSnapshot) snapshot).keywords == "java, groovy"
+        ((ItunesPodcastSnapshot) snapshot).ownerName == null
+        snapshot.item[0] instanceof ItunesPodcastEpisodeSnapshot
+        ((ItunesPodcastEpisodeSnapshot) snapshot.item[0]).episodeType == ItunesPodcastEpisodeType.FULL
+        ((ItunesPodcastEpisodeSnapshot) snapshot.item[0]).season == null
+        !(snapshot.item[1] instanceof ItunesPodcastEpisodeSnapshot)
+        podcast.snapshot().is(snapshot)
+    }
+
+    void "a podcast copy with fewer items keeps its iTunes elements"() {
+        given:
+        ItunesPodcast podcast = ItunesPodcast.builder()
+                .title("Micronaut Podcast")
+                .link("https://micronaut.io")
+                .description("News about Micronaut")
+                .keyword("java")
+                .item(ItunesPodcastEpisode.builder("Episode 1").build())
+                .item(ItunesPodcastEpisode.builder("Episode 2").build())
+                .build()
+
+        when:
+        RssChannelSnapshot snapshot = podcast.withItems(item -> item.title == "Episode 2").snapshot()
+
+        then:
+        snapshot instanceof ItunesPodcastSnapshot
+        ((ItunesPodcastSnapshot) snapshot).keywords == "java"
+        snapshot.item*.title == ["Episode 2"]
+        snapshot.item[0] instanceof ItunesPodcastEpisodeSnapshot
+    }
+}
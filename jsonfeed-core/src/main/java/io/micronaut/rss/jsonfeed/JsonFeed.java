@@ -458,6 +458,47 @@ public class JsonFeed {
         this.items = items;
     }
 
+    /**
+     * Returns a copy of the feed with the given items, which shares the other properties of this feed, so that the feed of a provider is not modified.
+     *
+     * @param items list of items of the copy
+     * @return A copy of the feed
+     * @since 4.5.0
+     */
+    @NonNull
+    public JsonFeed withItems(@NonNull List<JsonFeedItem> items) {
+        JsonFeed copy = new JsonFeed();
+        copy.version = version;
+        copy.title = title;
+        copy.homePageUrl = homePageUrl;
+        copy.feedUrl = feedUrl;
+        copy.description = description;
+        copy.userComment = userComment;
+        copy.nextURL = nextURL;
+        copy.icon = icon;
+        copy.favicon = favicon;
+        copy.authors = authors;
+        copy.items = items;
+        copy.language = language;
+        copy.expired = expired;
+        copy.hubs = hubs;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the feed with the given hubs, which shares the other properties of this feed, so that the feed of a provider is not modified.
+     *
+     * @param hubs Endpoints of the copy that can be used to subscribe to real-time notifications
+     * @return A copy of the feed
+     * @since 4.5.0
+     */
+    @NonNull
+    public JsonFeed withHubs(@Nullable List<@Valid JsonHub> hubs) {
+        JsonFeed copy = withItems(items);
+        copy.hubs = hubs;
+        return copy;
+    }
+
     /**
      *
      * @param author Global JSON Feed's author
@@ -15,14 +15,16 @@
  */
 package io.micronaut.rss.jsonfeed;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.Introspected;
+import io.micronaut.rss.content.ContentSource;
+import io.micronaut.rss.date.FeedDateFormatter;
 import io.micronaut.rss.language.RssLanguage;
 
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -74,6 +76,10 @@ public class JsonFeedItem {
     @JsonProperty(KEY_CONTENT_HTML)
     private String contentHtml;
 
+    @Nullable
+    @JsonIgnore
+    private ContentSource contentHtmlSource;
+
     @JsonProperty(KEY_CONTENT_TEXT)
     @Nullable
     private String contentText;
@@ -230,6 +236,27 @@ public class JsonFeedItem {
         this.contentHtml = contentHtml;
     }
 
+    /**
+     * The source of the html content of the item in the feed, streamed by the JSON Feed controller if the item has no html content.
+     *
+     * @return the source of the html content of the item in the feed
+     */
+    @Nullable
+    @JsonIgnore
+    public ContentSource getContentHtmlSource() {
+        return contentHtmlSource;
+    }
+
+    /**
+     * The source of the html content of the item in the feed, streamed by the JSON Feed controller if the item has no html content.
+     *
+     * @param contentHtmlSource the source of the html content of the item in the feed
+     */
+    @JsonIgnore
+    public void setContentHtmlSource(@Nullable ContentSource contentHtmlSource) {
+        this.contentHtmlSource = contentHtmlSource;
+    }
+
     /**
      * The text content of the item in the feed.
      *
@@ -512,9 +539,6 @@ public class JsonFeedItem {
      * JSON Feed Item Builder.
      */
     public static final class Builder {
-        private static final String RFC_822_PATTERN = "yyyy-MM-dd'T'HH:mm:ssXXX";
-        private static final DateTimeFormatter RFC_822_DATE_FORMAT = DateTimeFormatter.ofPattern(RFC_822_PATTERN);
-
         private final JsonFeedItem feedItem = new JsonFeedItem();
 
         /**
@@ -582,6 +606,18 @@ public class JsonFeedItem {
             return this;
         }
 
+        /**
+         * The source of the html content of the item in the feed.
+         *
+         * @param contentHtmlSource the source of the html content of the item in the feed
+         * @return Builder
+         */
+        @NonNull
+        public Builder contentHtmlSource(ContentSource contentHtmlSource) {
+            feedItem.setContentHtmlSource(contentHtmlSource);
+            return this;
+        }
+
         /**
          * The text content of the item in the feed.
          *
@@ -638,7 +674,7 @@ public class JsonFeedItem {
          */
         @NonNull
         public Builder datePublished(ZonedDateTime datePublished) {
-            feedItem.setDatePublished(RFC_822_DATE_FORMAT.format(datePublished));
+            feedItem.setDatePublished(FeedDateFormatter.RFC_3339.format(datePublished));
             return this;
         }
 
@@ -674,7 +710,7 @@ public class JsonFeedItem {
          */
         @NonNull
         public Builder dateModified(ZonedDateTime dateModified) {
-            feedItem.setDateModified(RFC_822_DATE_FORMAT.format(dateModified));
+            feedItem.setDateModified(FeedDateFormatter.RFC_3339.format(dateModified));
             return this;
         }
 
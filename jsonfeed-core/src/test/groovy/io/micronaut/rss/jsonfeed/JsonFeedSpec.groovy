@@ -272,6 +272,21 @@ class JsonFeedSpec extends ApplicationContextSpecification {
         validator.validate(el).isEmpty()
     }
 
+    void "withHubs returns a copy and does not modify the feed"() {
+        given:
+        JsonFeed el = validJsonFeed()
+        JsonHub hub = JsonHub.builder('WebSub', 'https://example.org/hub').build()
+
+        when:
+        JsonFeed copy = el.withHubs([hub])
+
+        then:
+        copy.hubs == [hub]
+        copy.title == el.title
+        copy.items == el.items
+        el.hubs == null
+    }
+
     static JsonFeed validJsonFeed() {
         JsonFeed.builder("My Example Feed", Collections.singletonList(JsonFeedItem
                 .builder("1")
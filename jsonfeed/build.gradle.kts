@@ -5,11 +5,14 @@ plugins {
 dependencies {
     api(mn.micronaut.http)
     api(mn.micronaut.inject)
+    implementation(mn.micronaut.json.core)
     api(projects.micronautJsonfeedCore)
+    implementation(projects.micronautRssHttpCache)
     implementation(mn.reactor)
     testAnnotationProcessor(mn.micronaut.inject.java)
     testImplementation(mnSerde.micronaut.serde.jackson)
     testImplementation(mn.groovy.json)
+    testImplementation(projects.micronautRssWebsub)
     testImplementation(mn.micronaut.http.client)
     testImplementation(mn.micronaut.http.server.netty)
     testRuntimeOnly(mnLogging.logback.classic)
@@ -15,21 +15,57 @@
  */
 package io.micronaut.rss.jsonfeed.http;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.rss.cache.FeedBodies;
+import io.micronaut.rss.cache.FeedDeltaTracker;
+import io.micronaut.rss.cache.FeedHubs;
+import io.micronaut.rss.cache.FeedTruncationCounter;
+import io.micronaut.rss.cache.GzipFragmentCache;
+import io.micronaut.rss.cache.GzipFragmentOutputStream;
+import io.micronaut.rss.cache.LimitedOutputStream;
+import io.micronaut.rss.cache.RenderedFeedCache;
 import io.micronaut.rss.jsonfeed.JsonFeed;
+import io.micronaut.rss.jsonfeed.JsonFeedItem;
+import io.micronaut.rss.jsonfeed.JsonHub;
+import jakarta.inject.Inject;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Predicate;
+
 /**
  * Exposes an endpoint, by default /feeds/json, which return a JSON Feed.
+ * When a {@link RenderedFeedCache} is configured, feeds with dated items are serialized once per most recent item date and served from the heap.
+ * When a {@link GzipFragmentCache} is configured, requests which accept gzip are answered with a gzip stream assembled from the compressed items of the feed, each of which is compressed once.
+ * When a {@link FeedDeltaTracker} is configured, requests with {@code A-IM: feed} and the entity tag of a previous version are answered with {@code 226 IM Used} and only the items added since that version.
+ * When a maximum number of items or bytes is configured, larger feeds are truncated at an item boundary and their {@code next_url} links to the omitted items:
+ * the same page with an {@code offset}, the number of items of the page to skip.
+ * When {@link FeedHubs} are configured, such as the hubs of the {@code micronaut-rss-websub} module, feeds without hubs list them. The application notifies the hubs when the content of a feed changes.
  * @author Sergio del Amo
  * @since 2.2.0
  */
@@ -41,29 +77,257 @@ public class JsonFeedController {
     @SuppressWarnings("WeakerAccess")
     public static final String APPLICATION_JSON_FEED = "application/json+feed";
 
+    private static final Logger LOG = LoggerFactory.getLogger(JsonFeedController.class);
+    private static final String KEY = "json";
+    private static final String MAX_NUMBER_OF_ITEMS = "maxNumberOfItems";
+    private static final String PAGE_NUMBER = "pageNumber";
+    private static final String OFFSET = "offset";
+
     private final JsonFeedProvider jsonFeedProvider;
+    private final JsonMapper jsonMapper;
+
+    @Nullable
+    private final RenderedFeedCache renderedFeedCache;
+
+    @Nullable
+    private final ByteBufferFactory<?, ?> byteBufferFactory;
+
+    @Nullable
+    private final GzipFragmentCache gzipFragmentCache;
+
+    @Nullable
+    private final FeedDeltaTracker feedDeltaTracker;
+
+    @Nullable
+    private final FeedTruncationCounter feedTruncationCounter;
+
+    @Nullable
+    private final FeedHubs feedHubs;
+
+    private final int maxItems;
+
+    private final long maxBytes;
 
     /**
      *
      * @param jsonFeedProvider JSON Feed Provider
+     * @deprecated Use {@link #JsonFeedController(JsonFeedProvider, JsonMapper, RenderedFeedCache, ByteBufferFactory, GzipFragmentCache, FeedDeltaTracker, JsonFeedControllerConfiguration, FeedTruncationCounter, FeedHubs)} instead.
      */
+    @Deprecated
     public JsonFeedController(JsonFeedProvider jsonFeedProvider) {
+        this(jsonFeedProvider, JsonMapper.createDefault(), null, null, null, null, new JsonFeedControllerConfigurationProperties(), null, null);
+    }
+
+    /**
+     *
+     * @param jsonFeedProvider JSON Feed Provider
+     * @param jsonMapper JSON Mapper used to write feeds whose items have content sources or which are cached
+     * @param renderedFeedCache The cache of rendered feeds or {@code null} if feeds are not cached in the heap
+     * @param byteBufferFactory The buffer factory of the server runtime, into which feeds cached outside the heap are copied, or {@code null} if the runtime provides none
+     * @param gzipFragmentCache The cache of compressed items or {@code null} if responses are not compressed incrementally
+     * @param feedDeltaTracker The tracker of feed versions or {@code null} if delta responses are not supported
+     * @param jsonFeedControllerConfiguration JSON Feed Controller configuration
+     * @param feedTruncationCounter The counter of truncated feeds or {@code null} if truncations are not counted
+     * @param feedHubs The hubs feeds list or {@code null} if feeds do not list hubs
+     */
+    @Inject
+    public JsonFeedController(JsonFeedProvider jsonFeedProvider,
+                              JsonMapper jsonMapper,
+                              @Nullable RenderedFeedCache renderedFeedCache,
+                              @Nullable ByteBufferFactory<?, ?> byteBufferFactory,
+                              @Nullable GzipFragmentCache gzipFragmentCache,
+                              @Nullable FeedDeltaTracker feedDeltaTracker,
+                              JsonFeedControllerConfiguration jsonFeedControllerConfiguration,
+                              @Nullable FeedTruncationCounter feedTruncationCounter,
+                              @Nullable FeedHubs feedHubs) {
         this.jsonFeedProvider = jsonFeedProvider;
+        this.jsonMapper = jsonMapper;
+        this.renderedFeedCache = renderedFeedCache;
+        this.byteBufferFactory = byteBufferFactory;
+        this.gzipFragmentCache = gzipFragmentCache;
+        this.feedDeltaTracker = feedDeltaTracker;
+        this.feedTruncationCounter = feedTruncationCounter;
+        this.feedHubs = feedHubs;
+        Integer configuredMaxItems = jsonFeedControllerConfiguration.getMaxItems();
+        this.maxItems = configuredMaxItems != null ? configuredMaxItems : Integer.MAX_VALUE;
+        Long configuredMaxBytes = jsonFeedControllerConfiguration.getMaxBytes();
+        this.maxBytes = configuredMaxBytes != null ? configuredMaxBytes : Long.MAX_VALUE;
     }
 
     /**
      *
+     * @param request HTTP Request
      * @param maxNumberOfItems Max number of items in the JSON Feed. Optional.
      * @param pageNumber Requested Page. Optional.
-     * @return a JSON Feed.
+     * @param offset The number of items of the page to skip, set in the {@code next_url} of truncated feeds. Optional.
+     * @return a JSON Feed. Feeds whose items have content sources are streamed.
      */
     @Produces(APPLICATION_JSON_FEED)
-    @Get("${" + JsonFeedControllerConfigurationProperties.PREFIX + ".path:/json}{?maxNumberOfItems,pageNumber}")
+    @Get("${" + JsonFeedControllerConfigurationProperties.PREFIX + ".path:/json}{?maxNumberOfItems,pageNumber,offset}")
     @SingleResult
-    public Publisher<MutableHttpResponse<JsonFeed>> index(@QueryValue @Nullable Integer maxNumberOfItems,
-                                                   @QueryValue @Nullable Integer pageNumber) {
+    public Publisher<MutableHttpResponse<?>> index(HttpRequest<?> request,
+                                                   @QueryValue @Nullable Integer maxNumberOfItems,
+                                                   @QueryValue @Nullable Integer pageNumber,
+                                                   @QueryValue @Nullable Integer offset) {
+        int skipped = offset != null && offset > 0 ? offset : 0;
         return Mono.from(jsonFeedProvider.feed(maxNumberOfItems, pageNumber))
-                .map(HttpResponse::ok)
+                .<MutableHttpResponse<?>>map(jsonFeed -> createResponse(request, KEY + "/" + maxNumberOfItems + "/" + pageNumber + "/" + skipped, withHubs(skip(jsonFeed, skipped))))
                 .defaultIfEmpty(HttpResponse.notFound());
     }
+
+    // the items of the page which follow the offset of a truncated feed
+    @NonNull
+    private static JsonFeed skip(@NonNull JsonFeed jsonFeed, int offset) {
+        List<JsonFeedItem> items = jsonFeed.getItems();
+        if (offset > 0 && items != null) {
+            return jsonFeed.withItems(items.subList(Math.min(offset, items.size()), items.size()));
+        }
+        return jsonFeed;
+    }
+
+    // WebSub: feeds list the hubs of the publisher unless they list their own
+    @NonNull
+    private JsonFeed withHubs(@NonNull JsonFeed jsonFeed) {
+        if (feedHubs == null) {
+            return jsonFeed;
+        }
+        if (jsonFeed.getHubs() == null || jsonFeed.getHubs().isEmpty()) {
+            return jsonFeed.withHubs(feedHubs.getHubs()
+                    .stream()
+                    .map(hub -> JsonHub.builder(feedHubs.getType(), hub).build())
+                    .toList());
+        }
+        return jsonFeed;
+    }
+
+    // RFC 3229: a client which sent the entity tag of a tracked version and accepts the feed instance manipulation only gets the items it has not seen; a feed without a date has no entity tag, which would not change with its content
+    @NonNull
+    private MutableHttpResponse<?> createResponse(@NonNull HttpRequest<?> request, @NonNull String key, @NonNull JsonFeed jsonFeed) {
+        OptionalLong version = feedDeltaTracker == null ? OptionalLong.empty() : version(jsonFeed);
+        if (version.isEmpty()) {
+            return createFeedResponse(request, key, jsonFeed);
+        }
+        List<String> itemIds = jsonFeed.getItems() == null ? List.of() : jsonFeed.getItems()
+                .stream()
+                .filter(Objects::nonNull)
+                .map(JsonFeedController::itemId)
+                .toList();
+        return feedDeltaTracker.respond(request, key, version.getAsLong(), itemIds,
+                seenItemIds -> HttpResponse.ok(writable(request, jsonFeed, item -> item != null && !seenItemIds.contains(itemId(item)))),
+                () -> createFeedResponse(request, key, jsonFeed));
+    }
+
+    // requests which accept gzip are compressed incrementally; otherwise the heap cache is looked up first
+    @NonNull
+    private MutableHttpResponse<?> createFeedResponse(@NonNull HttpRequest<?> request, @NonNull String key, @NonNull JsonFeed jsonFeed) {
+        if (gzipFragmentCache != null && GzipFragmentOutputStream.acceptsGzip(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING))) {
+            return FeedBodies.gzip(gzipFragmentCache, outputStream -> writable(request, jsonFeed, null).writeTo(outputStream, StandardCharsets.UTF_8));
+        }
+        OptionalLong version = renderedFeedCache == null ? OptionalLong.empty() : version(jsonFeed);
+        if (version.isPresent()) {
+            Optional<Object> body = renderedFeedCache.read(key, version.getAsLong(), cached -> FeedBodies.cachedBody(cached, byteBufferFactory));
+            if (body.isPresent()) {
+                return HttpResponse.ok(body.get());
+            }
+            try {
+                byte[] rendered = serialize(request, jsonFeed);
+                renderedFeedCache.put(key, version.getAsLong(), rendered);
+                return HttpResponse.ok(rendered);
+            } catch (IOException e) {
+                FeedBodies.logRenderFailure(e);
+                return HttpResponse.serverError();
+            }
+        }
+        if (JsonFeedWritable.hasContentSource(jsonFeed) || exceedsLimits(jsonFeed)) {
+            return HttpResponse.ok(writable(request, jsonFeed, null));
+        }
+        return HttpResponse.ok(jsonFeed);
+    }
+
+    @NonNull
+    private byte[] serialize(@NonNull HttpRequest<?> request, @NonNull JsonFeed jsonFeed) throws IOException {
+        if (JsonFeedWritable.hasContentSource(jsonFeed) || exceedsLimits(jsonFeed)) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            writable(request, jsonFeed, null).writeTo(outputStream, StandardCharsets.UTF_8);
+            return outputStream.toByteArray();
+        }
+        return jsonMapper.writeValueAsBytes(jsonFeed);
+    }
+
+    // feeds are only written item by item when they may be truncated; the size of a feed is not known before it is written
+    private boolean exceedsLimits(@NonNull JsonFeed jsonFeed) {
+        return maxBytes != Long.MAX_VALUE || (jsonFeed.getItems() != null && jsonFeed.getItems().size() > maxItems);
+    }
+
+    // a limited writable truncates the feed at an item boundary; delta responses have no next page
+    @NonNull
+    private JsonFeedWritable writable(@NonNull HttpRequest<?> request, @NonNull JsonFeed jsonFeed, @Nullable Predicate<JsonFeedItem> itemFilter) {
+        if (maxItems == Integer.MAX_VALUE && maxBytes == Long.MAX_VALUE) {
+            return new JsonFeedWritable(jsonMapper, jsonFeed, itemFilter);
+        }
+        return new JsonFeedWritable(jsonMapper,
+                jsonFeed,
+                itemFilter,
+                outputStream -> new LimitedOutputStream(outputStream, maxItems, maxBytes, feedTruncationCounter),
+                itemFilter == null ? omitted -> nextUrl(request, jsonFeed, omitted) : null);
+    }
+
+    // the same page from its first omitted item, so that the provider pages as requested whatever the number of items written
+    @Nullable
+    private static String nextUrl(@NonNull HttpRequest<?> request, @NonNull JsonFeed jsonFeed, int omitted) {
+        long offset = (long) request.getParameters().getFirst(OFFSET, Integer.class).filter(skipped -> skipped > 0).orElse(0) + omitted;
+        if (offset > Integer.MAX_VALUE) {
+            return null;
+        }
+        StringBuilder next = new StringBuilder(request.getPath()).append('?');
+        request.getParameters().getFirst(MAX_NUMBER_OF_ITEMS, Integer.class).ifPresent(maxNumberOfItems -> next.append(MAX_NUMBER_OF_ITEMS).append('=').append(maxNumberOfItems).append('&'));
+        request.getParameters().getFirst(PAGE_NUMBER, Integer.class).ifPresent(pageNumber -> next.append(PAGE_NUMBER).append('=').append(pageNumber).append('&'));
+        next.append(OFFSET).append('=').append(offset);
+        if (jsonFeed.getFeedUrl() != null) {
+            try {
+                return URI.create(jsonFeed.getFeedUrl()).resolve(next.toString()).toString();
+            } catch (IllegalArgumentException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("could not resolve {} against feed URL {}", next, jsonFeed.getFeedUrl());
+                }
+            }
+        }
+        return next.toString();
+    }
+
+    // the id of an item, else its URL
+    @NonNull
+    private static String itemId(@NonNull JsonFeedItem item) {
+        if (item.getId() != null) {
+            return item.getId();
+        }
+        return item.getUrl() != null ? item.getUrl() : "";
+    }
+
+    // the epoch milliseconds of the most recent item modification or publication date
+    @NonNull
+    private static OptionalLong version(@NonNull JsonFeed jsonFeed) {
+        List<JsonFeedItem> items = jsonFeed.getItems();
+        OptionalLong version = OptionalLong.empty();
+        if (items == null) {
+            return version;
+        }
+        for (JsonFeedItem item : items) {
+            String date = item.getDateModified() != null ? item.getDateModified() : item.getDatePublished();
+            if (date == null) {
+                continue;
+            }
+            try {
+                long epochMilli = OffsetDateTime.parse(date).toInstant().toEpochMilli();
+                if (version.isEmpty() || version.getAsLong() < epochMilli) {
+                    version = OptionalLong.of(epochMilli);
+                }
+            } catch (DateTimeParseException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("could not parse RFC 3339 date {}", date);
+                }
+            }
+        }
+        return version;
+    }
 }
@@ -16,6 +16,7 @@
 package io.micronaut.rss.jsonfeed.http;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.Toggleable;
 
 /**
@@ -39,4 +40,18 @@ public interface JsonFeedControllerConfiguration extends Toggleable {
      */
     @NonNull
     String getPath();
+
+    /**
+     *
+     * @return The maximum number of items of a JSON Feed, or {@code null} if it is not limited.
+     */
+    @Nullable
+    Integer getMaxItems();
+
+    /**
+     *
+     * @return The number of bytes of a JSON Feed after which no further item is written, or {@code null} if it is not limited. The size is checked between items, so a feed exceeds it by up to one item.
+     */
+    @Nullable
+    Long getMaxBytes();
 }
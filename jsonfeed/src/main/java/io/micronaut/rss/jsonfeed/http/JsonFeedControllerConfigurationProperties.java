@@ -16,9 +16,12 @@
 package io.micronaut.rss.jsonfeed.http;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 /**
  * {@link ConfigurationProperties} implementation of {@link JsonFeedControllerConfiguration}.
@@ -51,6 +54,14 @@ public class JsonFeedControllerConfigurationProperties implements JsonFeedContro
     @NotBlank
     private String path = DEFAULT_PATH;
 
+    @Nullable
+    @Positive
+    private Integer maxItems;
+
+    @Nullable
+    @Positive
+    private Long maxBytes;
+
     @Override
     @NonNull
     public String getRootPath() {
@@ -91,4 +102,32 @@ public class JsonFeedControllerConfigurationProperties implements JsonFeedContro
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    @Override
+    @Nullable
+    public Integer getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * The maximum number of items of a JSON Feed written by {@link io.micronaut.rss.jsonfeed.http.JsonFeedController}. Further items are left out and {@code next_url} links to them. Default value null, the number of items is not limited.
+     * @param maxItems The maximum number of items of a feed
+     */
+    public void setMaxItems(@Nullable Integer maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    @Nullable
+    public Long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * The size, e.g. {@code 4MB}, after which {@link io.micronaut.rss.jsonfeed.http.JsonFeedController} writes no further item of a JSON Feed. The item which crosses it is kept and {@code next_url} links to the remaining ones. Default value null, the size is not limited.
+     * @param maxBytes The maximum size in bytes
+     */
+    public void setMaxBytes(@Nullable @ReadableBytes Long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.jsonfeed.http;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.json.tree.JsonNode;
+import io.micronaut.rss.render.FragmentBoundary;
+import io.micronaut.rss.render.RenderLimit;
+import io.micronaut.rss.content.ContentSource;
+import io.micronaut.rss.jsonfeed.JsonFeed;
+import io.micronaut.rss.jsonfeed.JsonFeedItem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Writes a JSON Feed whose items have content sources. The feed is serialized by the {@link JsonMapper},
+ * except for the {@code content_html} of items with a {@link JsonFeedItem#getContentHtmlSource()}, which is read in chunks and escaped while it is written.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+final class JsonFeedWritable implements Writable {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final JsonMapper jsonMapper;
+    private final JsonFeed jsonFeed;
+
+    @Nullable
+    private final Predicate<JsonFeedItem> itemFilter;
+
+    @Nullable
+    private final UnaryOperator<OutputStream> limit;
+
+    @Nullable
+    private final IntFunction<String> nextUrl;
+
+    JsonFeedWritable(@NonNull JsonMapper jsonMapper, @NonNull JsonFeed jsonFeed) {
+        this(jsonMapper, jsonFeed, null);
+    }
+
+    /**
+     * @param jsonMapper JSON Mapper
+     * @param jsonFeed JSON Feed
+     * @param itemFilter Accepts the items to write, such as the items added since a previous version of the feed, or {@code null} to write every item
+     */
+    JsonFeedWritable(@NonNull JsonMapper jsonMapper, @NonNull JsonFeed jsonFeed, @Nullable Predicate<JsonFeedItem> itemFilter) {
+        this(jsonMapper, jsonFeed, itemFilter, null, null);
+    }
+
+    /**
+     * @param jsonMapper JSON Mapper
+     * @param jsonFeed JSON Feed
+     * @param itemFilter Accepts the items to write or {@code null} to write every item
+     * @param limit Wraps the output stream into a {@link RenderLimit}, which bounds the items written, or {@code null}
+     * @param nextUrl The {@code next_url} of a truncated feed, given the index of its first omitted item, or {@code null} to keep the {@code next_url} of the feed
+     */
+    JsonFeedWritable(@NonNull JsonMapper jsonMapper,
+                     @NonNull JsonFeed jsonFeed,
+                     @Nullable Predicate<JsonFeedItem> itemFilter,
+                     @Nullable UnaryOperator<OutputStream> limit,
+                     @Nullable IntFunction<String> nextUrl) {
+        this.jsonMapper = jsonMapper;
+        this.jsonFeed = jsonFeed;
+        this.itemFilter = itemFilter;
+        this.limit = limit;
+        this.nextUrl = nextUrl;
+    }
+
+    /**
+     * @param jsonFeed JSON Feed
+     * @return Whether an item of the feed has a content source
+     */
+    static boolean hasContentSource(@NonNull JsonFeed jsonFeed) {
+        List<JsonFeedItem> items = jsonFeed.getItems();
+        if (items != null) {
+            for (JsonFeedItem item : items) {
+                if (contentSource(item) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void writeTo(Writer out) throws IOException {
+        writeTo(out, null, null);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
+        OutputStream target = limit != null ? limit.apply(outputStream) : outputStream;
+        Writer writer = new OutputStreamWriter(target, charset != null ? charset : StandardCharsets.UTF_8);
+        writeTo(writer,
+                target instanceof FragmentBoundary fragmentBoundary ? fragmentBoundary : null,
+                target instanceof RenderLimit renderLimit ? renderLimit : null);
+        writer.flush();
+    }
+
+    // each item is a fragment, so that an incremental gzip output compresses it once; the next_url of a limited feed is written after its items, once it is known whether they were truncated
+    private void writeTo(@NonNull Writer out, @Nullable FragmentBoundary fragmentBoundary, @Nullable RenderLimit renderLimit) throws IOException {
+        JsonNode feed = jsonMapper.writeValueToTree(jsonFeed);
+        List<JsonFeedItem> items = jsonFeed.getItems();
+        out.write('{');
+        boolean first = true;
+        int omitted = -1;
+        JsonNode nextUrlNode = null;
+        for (Map.Entry<String, JsonNode> entry : feed.entries()) {
+            if (renderLimit != null && nextUrl != null && JsonFeed.KEY_NEXT_URL.equals(entry.getKey())) {
+                nextUrlNode = entry.getValue();
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            writeString(out, entry.getKey());
+            out.write(':');
+            JsonNode value = entry.getValue();
+            if (JsonFeed.KEY_ITEMS.equals(entry.getKey()) && value.isArray() && items != null && items.size() == value.size()) {
+                out.write('[');
+                boolean firstItem = true;
+                for (int i = 0; i < value.size(); i++) {
+                    if (itemFilter != null && !itemFilter.test(items.get(i))) {
+                        continue;
+                    }
+                    if (renderLimit != null && !acceptsItem(out, renderLimit)) {
+                        omitted = i;
+                        break;
+                    }
+                    if (!firstItem) {
+                        out.write(',');
+                    }
+                    firstItem = false;
+                    endFragment(out, fragmentBoundary);
+                    writeItem(out, value.get(i), items.get(i));
+                }
+                endFragment(out, fragmentBoundary);
+                out.write(']');
+            } else {
+                writeNode(out, value);
+            }
+        }
+        String next = omitted > 0 && nextUrl != null ? nextUrl.apply(omitted) : null;
+        if (next != null || nextUrlNode != null) {
+            out.write(',');
+            writeString(out, JsonFeed.KEY_NEXT_URL);
+            out.write(':');
+            if (next != null) {
+                writeString(out, next);
+            } else {
+                writeNode(out, nextUrlNode);
+            }
+        }
+        out.write('}');
+    }
+
+    private static boolean acceptsItem(@NonNull Writer out, @NonNull RenderLimit renderLimit) throws IOException {
+        out.flush();
+        return renderLimit.acceptsItem();
+    }
+
+    private void writeItem(@NonNull Writer out, @NonNull JsonNode node, @Nullable JsonFeedItem item) throws IOException {
+        ContentSource contentSource = contentSource(item);
+        if (contentSource == null || !node.isObject()) {
+            writeNode(out, node);
+            return;
+        }
+        out.write('{');
+        for (Map.Entry<String, JsonNode> entry : node.entries()) {
+            writeString(out, entry.getKey());
+            out.write(':');
+            writeNode(out, entry.getValue());
+            out.write(',');
+        }
+        writeString(out, JsonFeedItem.KEY_CONTENT_HTML);
+        out.write(':');
+        out.write('"');
+        try (Reader reader = contentSource.openReader()) {
+            char[] buffer = new char[ContentSource.CHUNK_SIZE];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                writeEscaped(out, buffer, read);
+            }
+        }
+        out.write('"');
+        out.write('}');
+    }
+
+    private void writeNode(@NonNull Writer out, @NonNull JsonNode node) throws IOException {
+        out.write(new String(jsonMapper.writeValueAsBytes(node), StandardCharsets.UTF_8));
+    }
+
+    private static void endFragment(@NonNull Writer out, @Nullable FragmentBoundary fragmentBoundary) throws IOException {
+        if (fragmentBoundary != null) {
+            out.flush();
+            fragmentBoundary.endFragment();
+        }
+    }
+
+    @Nullable
+    private static ContentSource contentSource(@Nullable JsonFeedItem item) {
+        return item != null && item.getContentHtml() == null ? item.getContentHtmlSource() : null;
+    }
+
+    private static void writeString(@NonNull Writer out, @NonNull String text) throws IOException {
+        out.write('"');
+        char[] chars = text.toCharArray();
+        writeEscaped(out, chars, chars.length);
+        out.write('"');
+    }
+
+    // escapes quotes, backslashes and control characters as required by RFC 8259
+    private static void writeEscaped(@NonNull Writer out, @NonNull char[] chars, int length) throws IOException {
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.write(chars, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                case '\b' -> out.write("\\b");
+                case '\f' -> out.write("\\f");
+                default -> {
+                    out.write("\\u00");
+                    out.write(HEX[c >> 4]);
+                    out.write(HEX[c & 0xF]);
+                }
+            }
+        }
+        out.write(chars, start, length - start);
+    }
+}
@@ -0,0 +1,76 @@
+package io.micronaut.rss.jsonfeed.http
+
+import groovy.json.JsonSlurper
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.rss.content.ContentSource
+import io.micronaut.rss.jsonfeed.JsonFeed
+import io.micronaut.rss.jsonfeed.JsonFeedItem
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@Property(name = 'spec.name', value = 'JsonFeedContentSourceSpec')
+@MicronautTest
+class JsonFeedContentSourceSpec extends Specification {
+    static final String CONTENT = '<p>"Hello",\n world \\ ü 😀</p>' * 2000
+
+    @Inject
+    @Client("/")
+    HttpClient httpClient
+
+    void "content_html of items with a content source is streamed"() {
+        when:
+        HttpResponse<String> rsp = httpClient.toBlocking().exchange(HttpRequest.GET('/feeds/json'), String)
+
+        then:
+        rsp.status() == HttpStatus.OK
+        rsp.header("Content-Type") == 'application/json+feed'
+
+        when:
+        def result = new JsonSlurper().parseText(rsp.body())
+
+        then:
+        result['title'] == 'My Example Feed'
+        result['items'].size() == 2
+        result['items'][0]['id'] == '2'
+        result['items'][0]['content_html'] == CONTENT
+        result['items'][1]['content_html'] == '<p>Hello, world!</p>'
+    }
+
+    @Requires(property = 'spec.name', value = 'JsonFeedContentSourceSpec')
+    @Singleton
+    static class ContentSourceJsonFeedProvider implements JsonFeedProvider {
+
+        @NonNull
+        @SingleResult
+        @Override
+        Publisher<JsonFeed> feed(@Nullable Integer maxNumberOfItems, @Nullable Integer pageNumber) {
+            Mono.just(JsonFeed.builder()
+                    .version("https://jsonfeed.org/version/1.1")
+                    .title("My Example Feed")
+                    .item(JsonFeedItem.builder()
+                            .id("2")
+                            .contentHtmlSource(ContentSource.ofInputStream({ -> new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)) }, StandardCharsets.UTF_8))
+                            .build())
+                    .item(JsonFeedItem.builder()
+                            .id("1")
+                            .contentHtml("<p>Hello, world!</p>")
+                            .build())
+                    .build())
+        }
+    }
+}
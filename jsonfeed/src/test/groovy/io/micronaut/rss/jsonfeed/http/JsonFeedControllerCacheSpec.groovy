@@ -0,0 +1,83 @@
+package io.micronaut.rss.jsonfeed.http
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.rss.cache.RenderedFeedCache
+import io.micronaut.rss.jsonfeed.JsonFeed
+import io.micronaut.rss.jsonfeed.JsonFeedItem
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+@Property(name = 'spec.name', value = 'JsonFeedControllerCacheSpec')
+@Property(name = 'micronaut.rss.cache.heap.max-size', value = '1MB')
+@MicronautTest
+class JsonFeedControllerCacheSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient httpClient
+
+    @Inject
+    RenderedFeedCache renderedFeedCache
+
+    @Inject
+    DatedJsonFeedProvider jsonFeedProvider
+
+    void "JSON Feeds are serialized once per version"() {
+        when:
+        HttpResponse<String> first = httpClient.toBlocking().exchange(HttpRequest.GET('/feeds/json'), String)
+        HttpResponse<String> second = httpClient.toBlocking().exchange(HttpRequest.GET('/feeds/json'), String)
+
+        then:
+        first.header("Content-Type") == 'application/json+feed'
+        second.header("Content-Type") == 'application/json+feed'
+        first.body().contains('"title":"My Example Feed"')
+        second.body() == first.body()
+        renderedFeedCache.stats.missCount == 1
+        renderedFeedCache.stats.hitCount == 1
+
+        when: 'an item is modified'
+        jsonFeedProvider.dateModified = '2026-10-18T10:00:00+02:00'
+        String third = httpClient.toBlocking().retrieve(HttpRequest.GET('/feeds/json'), String)
+
+        then:
+        third.contains('2026-10-18T10:00:00+02:00')
+        renderedFeedCache.stats.missCount == 2
+    }
+
+    @Requires(property = 'spec.name', value = 'JsonFeedControllerCacheSpec')
+    @Singleton
+    static class DatedJsonFeedProvider implements JsonFeedProvider {
+
+        String dateModified = '2026-10-17T10:00:00+02:00'
+
+        @NonNull
+        @SingleResult
+        @Override
+        Publisher<JsonFeed> feed(@Nullable Integer maxNumberOfItems, @Nullable Integer pageNumber) {
+            Mono.just(JsonFeed.builder()
+                    .version("https://jsonfeed.org/version/1.1")
+                    .title("My Example Feed")
+                    .homePageUrl("https://example.org/")
+                    .item(JsonFeedItem.builder()
+                            .id("1")
+                            .contentHtml("<p>Hello, world!</p>")
+                            .url("https://example.org/initial-post")
+                            .datePublished('2026-10-16T10:00:00+02:00')
+                            .dateModified(dateModified)
+                            .build())
+                    .build())
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.micronaut.rss.jsonfeed.http
+
+import groovy.json.JsonSlurper
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.rss.jsonfeed.JsonFeed
+import io.micronaut.rss.jsonfeed.JsonFeedItem
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+@Property(name = 'spec.name', value = 'JsonFeedControllerDeltaSpec')
+@Property(name = 'micronaut.rss.cache.delta.max-feeds', value = '100')
+@MicronautTest
+class JsonFeedControllerDeltaSpec extends Specification {
+
+    @Inject
+    EmbeddedServer embeddedServer
+
+    @Inject
+    GrowingJsonFeedProvider jsonFeedProvider
+
+    void "clients which accept the feed instance manipulation only get the new items"() {
+        given:
+        HttpClient jdkClient = HttpClient.newHttpClient()
+
+        when:
+        HttpResponse<String> response = jdkClient.send(request(null), HttpResponse.BodyHandlers.ofString())
+        String entityTag = response.headers().firstValue('ETag').get()
+
+        then:
+        response.statusCode() == 200
+        json(response).items*.id == ['2', '1']
+
+        when:
+        jsonFeedProvider.items.add(0, item('3'))
+        response = jdkClient.send(request(entityTag), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 226
+        response.headers().firstValue('IM').get() == 'feed'
+        json(response).title == 'My Example Feed'
+        json(response).items*.id == ['3']
+
+        when: 'the client is up to date'
+        response = jdkClient.send(request(response.headers().firstValue('ETag').get()), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 304
+    }
+
+    void "a feed whose items have no date is sent without an entity tag"() {
+        given:
+        List<JsonFeedItem> items = jsonFeedProvider.items
+        jsonFeedProvider.items = [item('1', null)]
+
+        when:
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request('*'), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 200
+        !response.headers().firstValue('ETag').present
+
+        cleanup:
+        jsonFeedProvider.items = items
+    }
+
+    private HttpRequest request(String ifNoneMatch) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(embeddedServer.URI.resolve('/feeds/json'))
+                .header('A-IM', 'feed')
+        if (ifNoneMatch) {
+            builder.header('If-None-Match', ifNoneMatch)
+        }
+        builder.build()
+    }
+
+    private static Map json(HttpResponse<String> response) {
+        new JsonSlurper().parseText(response.body()) as Map
+    }
+
+    static JsonFeedItem item(String id, String datePublished = "2026-10-0${id}T00:00:00Z".toString()) {
+        JsonFeedItem.Builder builder = JsonFeedItem.builder()
+                .id(id)
+                .contentHtml("<p>Item ${id}</p>".toString())
+                .url("https://example.org/${id}".toString())
+        if (datePublished) {
+            builder.datePublished(datePublished)
+        }
+        builder.build()
+    }
+
+    @Requires(property = 'spec.name', value = 'JsonFeedControllerDeltaSpec')
+    @Singleton
+    static class GrowingJsonFeedProvider implements JsonFeedProvider {
+
+        List<JsonFeedItem> items = [item('2'), item('1')]
+
+        @NonNull
+        @SingleResult
+        @Override
+        Publisher<JsonFeed> feed(@Nullable Integer maxNumberOfItems, @Nullable Integer pageNumber) {
+            Mono.just(JsonFeed.builder()
+                    .version("https://jsonfeed.org/version/1.1")
+                    .title("My Example Feed")
+                    .homePageUrl("https://example.org/")
+                    .items(items)
+                    .build())
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.micronaut.rss.jsonfeed.http
+
+import groovy.json.JsonSlurper
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.rss.cache.GzipFragmentCache
+import io.micronaut.rss.jsonfeed.JsonFeed
+import io.micronaut.rss.jsonfeed.JsonFeedItem
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.util.zip.GZIPInputStream
+
+@Property(name = 'spec.name', value = 'JsonFeedControllerGzipSpec')
+@Property(name = 'micronaut.rss.cache.gzip.max-size', value = '1MB')
+@MicronautTest
+class JsonFeedControllerGzipSpec extends Specification {
+
+    @Inject
+    EmbeddedServer embeddedServer
+
+    @Inject
+    GzipFragmentCache gzipFragmentCache
+
+    @Inject
+    GrowingJsonFeedProvider jsonFeedProvider
+
+    void "JSON Feed items are compressed once and concatenated into a gzip response"() {
+        given:
+        HttpClient jdkClient = HttpClient.newHttpClient()
+
+        when:
+        HttpResponse<byte[]> response = jdkClient.send(gzipRequest(), HttpResponse.BodyHandlers.ofByteArray())
+        Map json = new JsonSlurper().parse(new GZIPInputStream(new ByteArrayInputStream(response.body()))) as Map
+
+        then:
+        response.statusCode() == 200
+        response.headers().firstValue('Content-Encoding').get() == 'gzip'
+        json.title == 'My Example Feed'
+        json.items*.id == ['2', '1']
+        gzipFragmentCache.stats.missCount == 4
+
+        when: 'an item is added'
+        jsonFeedProvider.items.add(0, item('3'))
+        response = jdkClient.send(gzipRequest(), HttpResponse.BodyHandlers.ofByteArray())
+        json = new JsonSlurper().parse(new GZIPInputStream(new ByteArrayInputStream(response.body()))) as Map
+
+        then: 'only the new item is compressed'
+        json.items*.id == ['3', '2', '1']
+        json.items[0].content_html == '<p>Item 3</p>'
+        gzipFragmentCache.stats.missCount == 5
+        gzipFragmentCache.stats.hitCount == 4
+    }
+
+    private HttpRequest gzipRequest() {
+        HttpRequest.newBuilder(embeddedServer.URI.resolve('/feeds/json'))
+                .header('Accept-Encoding', 'gzip')
+                .build()
+    }
+
+    static JsonFeedItem item(String id) {
+        JsonFeedItem.builder()
+                .id(id)
+                .contentHtml("<p>Item ${id}</p>".toString())
+                .url("https://example.org/${id}".toString())
+                .build()
+    }
+
+    @Requires(property = 'spec.name', value = 'JsonFeedControllerGzipSpec')
+    @Singleton
+    static class GrowingJsonFeedProvider implements JsonFeedProvider {
+
+        List<JsonFeedItem> items = [item('2'), item('1')]
+
+        @NonNull
+        @SingleResult
+        @Override
+        Publisher<JsonFeed> feed(@Nullable Integer maxNumberOfItems, @Nullable Integer pageNumber) {
+            Mono.just(JsonFeed.builder()
+                    .version("https://jsonfeed.org/version/1.1")
+                    .title("My Example Feed")
+                    .homePageUrl("https://example.org/")
+                    .items(items)
+                    .build())
+        }
+    }
+}
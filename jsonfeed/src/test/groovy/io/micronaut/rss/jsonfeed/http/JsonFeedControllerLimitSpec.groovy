@@ -0,0 +1,119 @@
+package io.micronaut.rss.jsonfeed.http
+
+import groovy.json.JsonSlurper
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.rss.cache.FeedTruncationCounter
+import io.micronaut.rss.jsonfeed.JsonFeed
+import io.micronaut.rss.jsonfeed.JsonFeedItem
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+@Property(name = 'spec.name', value = 'JsonFeedControllerLimitSpec')
+@Property(name = 'jsonfeed.max-items', value = '2')
+@MicronautTest
+class JsonFeedControllerLimitSpec extends Specification {
+
+    @Inject
+    EmbeddedServer embeddedServer
+
+    @Inject
+    FeedTruncationCounter feedTruncationCounter
+
+    void "a JSON Feed with more items than the maximum is truncated and links to the omitted items"() {
+        when:
+        Map json = fetch('/feeds/json')
+
+        then:
+        json.title == 'My Example Feed'
+        json.items*.id == ['5', '4']
+        json.next_url == 'https://example.org/feeds/json?offset=2'
+        feedTruncationCounter.count == 1
+
+        when: 'the omitted items are requested'
+        json = fetch('/feeds/json?offset=2')
+
+        then: 'they are truncated again and the next offset follows them'
+        json.items*.id == ['3', '2']
+        json.next_url == 'https://example.org/feeds/json?offset=4'
+        feedTruncationCounter.count == 2
+
+        when: 'the last items are requested'
+        json = fetch('/feeds/json?offset=4')
+
+        then: 'a page which fits is not truncated'
+        json.items*.id == ['1']
+        !json.next_url
+        feedTruncationCounter.count == 2
+
+        when: 'a requested page is larger than the maximum'
+        json = fetch('/feeds/json?maxNumberOfItems=3&pageNumber=2')
+
+        then: 'the next page is the same page from its first omitted item'
+        json.items*.id == ['2', '1']
+        !json.next_url
+
+        when:
+        json = fetch('/feeds/json?maxNumberOfItems=3&pageNumber=1')
+
+        then:
+        json.items*.id == ['5', '4']
+        json.next_url == 'https://example.org/feeds/json?maxNumberOfItems=3&pageNumber=1&offset=2'
+        feedTruncationCounter.count == 3
+
+        when:
+        json = fetch('/feeds/json?maxNumberOfItems=3&pageNumber=1&offset=2')
+
+        then: 'the provider pages as requested, whatever the number of items written'
+        json.items*.id == ['3']
+        !json.next_url
+        feedTruncationCounter.count == 3
+    }
+
+    private Map fetch(String path) {
+        HttpResponse<String> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+        assert response.statusCode() == 200
+        new JsonSlurper().parseText(response.body()) as Map
+    }
+
+    @Requires(property = 'spec.name', value = 'JsonFeedControllerLimitSpec')
+    @Singleton
+    static class PagedJsonFeedProvider implements JsonFeedProvider {
+
+        List<JsonFeedItem> items = ['5', '4', '3', '2', '1'].collect { id ->
+            JsonFeedItem.builder()
+                    .id(id)
+                    .contentHtml("<p>Item ${id}</p>".toString())
+                    .url("https://example.org/${id}".toString())
+                    .build()
+        }
+
+        @NonNull
+        @SingleResult
+        @Override
+        Publisher<JsonFeed> feed(@Nullable Integer maxNumberOfItems, @Nullable Integer pageNumber) {
+            int size = maxNumberOfItems ?: items.size()
+            int from = Math.min(((pageNumber ?: 1) - 1) * size, items.size())
+            Mono.just(JsonFeed.builder()
+                    .version("https://jsonfeed.org/version/1.1")
+                    .title("My Example Feed")
+                    .homePageUrl("https://example.org/")
+                    .feedUrl("https://example.org/feeds/json")
+                    .items(items.subList(from, Math.min(from + size, items.size())))
+                    .build())
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.micronaut.rss.jsonfeed.http
+
+import com.sun.net.httpserver.HttpServer
+import groovy.json.JsonSlurper
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.rss.jsonfeed.JsonFeed
+import io.micronaut.rss.jsonfeed.JsonFeedItem
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.test.support.TestPropertyProvider
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CopyOnWriteArrayList
+
+@MicronautTest
+class JsonFeedControllerWebSubSpec extends Specification implements TestPropertyProvider {
+
+    static final List<String> PINGS = new CopyOnWriteArrayList<>()
+    static final HttpServer HUB = startHub()
+
+    @Inject
+    EmbeddedServer embeddedServer
+
+    @Inject
+    VersionedJsonFeedProvider jsonFeedProvider
+
+    @Override
+    Map<String, String> getProperties() {
+        [
+                'spec.name': 'JsonFeedControllerWebSubSpec',
+                'micronaut.rss.websub.hubs': "http://localhost:${HUB.address.port}/hub".toString(),
+                'micronaut.rss.websub.debounce': '200ms',
+        ]
+    }
+
+    void cleanupSpec() {
+        HUB.stop(0)
+    }
+
+    void "JSON Feeds list the hubs, which are notified when a feed changes"() {
+        when:
+        Map json = fetch()
+
+        then: 'the first version served is not notified'
+        json.hubs == [[type: 'WebSub', url: "http://localhost:${HUB.address.port}/hub".toString()]]
+        PINGS.isEmpty()
+
+        when:
+        jsonFeedProvider.datePublished = '2026-10-19T00:00:00Z'
+        fetch()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert PINGS == ['hub.mode=publish&hub.url=' + URLEncoder.encode('https://example.org/feeds/json', StandardCharsets.UTF_8)]
+        }
+    }
+
+    private Map fetch() {
+        HttpResponse<String> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(embeddedServer.URI.resolve('/feeds/json')).build(), HttpResponse.BodyHandlers.ofString())
+        assert response.statusCode() == 200
+        new JsonSlurper().parseText(response.body()) as Map
+    }
+
+    private static HttpServer startHub() {
+        HttpServer hub = HttpServer.create(new InetSocketAddress('localhost', 0), 0)
+        hub.createContext('/hub') { exchange ->
+            PINGS << new String(exchange.requestBody.readAllBytes(), StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(204, -1)
+            exchange.close()
+        }
+        hub.start()
+        hub
+    }
+
+    @Requires(property = 'spec.name', value = 'JsonFeedControllerWebSubSpec')
+    @Singleton
+    static class VersionedJsonFeedProvider implements JsonFeedProvider {
+
+        volatile String datePublished = '2026-10-18T00:00:00Z'
+
+        @NonNull
+        @SingleResult
+        @Override
+        Publisher<JsonFeed> feed(@Nullable Integer maxNumberOfItems, @Nullable Integer pageNumber) {
+            Mono.just(JsonFeed.builder()
+                    .version("https://jsonfeed.org/version/1.1")
+                    .title("My Example Feed")
+                    .homePageUrl("https://example.org/")
+                    .feedUrl("https://example.org/feeds/json")
+                    .item(JsonFeedItem.builder()
+                            .id('1')
+                            .contentHtml('<p>Item 1</p>')
+                            .url('https://example.org/1')
+                            .datePublished(datePublished)
+                            .build())
+                    .build())
+        }
+    }
+}
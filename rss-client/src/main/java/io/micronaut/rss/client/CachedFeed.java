@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * The validators (ETag, Last-Modified) of a fetched feed together with the parsed model.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class CachedFeed {
+
+    @Nullable
+    private final String etag;
+
+    @Nullable
+    private final String lastModified;
+
+    @NonNull
+    private final FetchedFeed feed;
+
+    /**
+     *
+     * @param etag Value of the ETag response header
+     * @param lastModified Value of the Last-Modified response header
+     * @param feed The parsed feed
+     */
+    public CachedFeed(@Nullable String etag,
+                      @Nullable String lastModified,
+                      @NonNull FetchedFeed feed) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.feed = feed;
+    }
+
+    /**
+     *
+     * @return Value of the ETag response header. Sent back as If-None-Match.
+     */
+    @Nullable
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     *
+     * @return Value of the Last-Modified response header. Sent back as If-Modified-Since.
+     */
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     *
+     * @return The parsed feed.
+     */
+    @NonNull
+    public FetchedFeed getFeed() {
+        return feed;
+    }
+}
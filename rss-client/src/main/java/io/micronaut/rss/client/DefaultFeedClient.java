@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.rss.RssFeedParser;
+import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.jsonfeed.JsonFeed;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * {@link FeedClient} implementation which sends conditional GET requests with the validators kept by {@link FeedValidatorStore}.
+ * A 304 Not Modified response short-circuits without parsing and emits the cached model.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = FeedClientConfigurationProperties.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+@Singleton
+public class DefaultFeedClient implements FeedClient {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultFeedClient.class);
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String JSON = "json";
+
+    private final HttpClient httpClient;
+    private final RssFeedParser rssFeedParser;
+    private final JsonMapper jsonMapper;
+    private final FeedValidatorStore feedValidatorStore;
+    private final FeedClientConfiguration feedClientConfiguration;
+
+    /**
+     *
+     * @param httpClient HTTP Client. Connections are pooled per host.
+     * @param rssFeedParser RSS 2.0 parser
+     * @param jsonMapper JSON Mapper used to read JSON feeds
+     * @param feedValidatorStore Validators store
+     * @param feedClientConfiguration Feed client configuration
+     */
+    public DefaultFeedClient(@Client(id = FeedClientConfigurationProperties.CLIENT_ID) HttpClient httpClient,
+                             RssFeedParser rssFeedParser,
+                             JsonMapper jsonMapper,
+                             FeedValidatorStore feedValidatorStore,
+                             FeedClientConfiguration feedClientConfiguration) {
+        this.httpClient = httpClient;
+        this.rssFeedParser = rssFeedParser;
+        this.jsonMapper = jsonMapper;
+        this.feedValidatorStore = feedValidatorStore;
+        this.feedClientConfiguration = feedClientConfiguration;
+    }
+
+    @Override
+    @NonNull
+    @SingleResult
+    public Publisher<FetchedFeed> fetch(@NonNull String url) {
+        return Mono.defer(() -> {
+            CachedFeed cachedFeed = feedValidatorStore.find(url).orElse(null);
+            return Mono.from(httpClient.exchange(conditionalRequest(url, cachedFeed), byte[].class))
+                    .flatMap(response -> response.status() == HttpStatus.NOT_MODIFIED
+                            ? notModified(url, cachedFeed)
+                            : read(url, response))
+                    .onErrorResume(HttpClientResponseException.class, e -> e.getStatus() == HttpStatus.NOT_MODIFIED
+                            ? notModified(url, cachedFeed)
+                            : Mono.error(e));
+        });
+    }
+
+    /**
+     *
+     * @param url The absolute URL of the feed
+     * @param cachedFeed The validators of the previous fetch
+     * @return A GET request which asks for a compressed response and carries the validators, if any.
+     */
+    @NonNull
+    protected MutableHttpRequest<?> conditionalRequest(@NonNull String url, @Nullable CachedFeed cachedFeed) {
+        MutableHttpRequest<?> request = HttpRequest.GET(url)
+                .header(HttpHeaders.ACCEPT, feedClientConfiguration.getAccept())
+                .header(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+        if (cachedFeed != null) {
+            if (cachedFeed.getEtag() != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, cachedFeed.getEtag());
+            }
+            if (cachedFeed.getLastModified() != null) {
+                request.header(HttpHeaders.IF_MODIFIED_SINCE, cachedFeed.getLastModified());
+            }
+        }
+        return request;
+    }
+
+    @NonNull
+    private Mono<FetchedFeed> notModified(@NonNull String url, @Nullable CachedFeed cachedFeed) {
+        if (cachedFeed == null) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("received 304 Not Modified for {} without cached feed", url);
+            }
+            return Mono.empty();
+        }
+        return Mono.just(cachedFeed.getFeed().notModified());
+    }
+
+    // a body which cannot be parsed is signalled as a FeedParseException and its validators are not stored
+    @NonNull
+    private Mono<FetchedFeed> read(@NonNull String url, @NonNull HttpResponse<byte[]> response) {
+        Optional<byte[]> bodyOptional = response.getBody();
+        if (bodyOptional.isEmpty()) {
+            return Mono.empty();
+        }
+        byte[] body = bodyOptional.get();
+        FetchedFeed feed;
+        try {
+            feed = isJson(response)
+                    ? FetchedFeed.of(url, readJsonFeed(url, body))
+                    : FetchedFeed.of(url, readRssChannel(url, body));
+        } catch (FeedParseException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error(e.getMessage());
+            }
+            return Mono.error(e);
+        }
+        String etag = response.getHeaders().get(HttpHeaders.ETAG);
+        String lastModified = response.getHeaders().get(HttpHeaders.LAST_MODIFIED);
+        if (etag != null || lastModified != null) {
+            feedValidatorStore.save(url, new CachedFeed(etag, lastModified, feed));
+        }
+        return Mono.just(feed);
+    }
+
+    // a document which is not well-formed is signalled with the failure of the parser as cause
+    @NonNull
+    private RssChannel readRssChannel(@NonNull String url, @NonNull byte[] body) {
+        try {
+            return rssFeedParser.parse(new ByteArrayInputStream(body)).orElseThrow(() -> new FeedParseException(url, null));
+        } catch (XMLStreamException e) {
+            throw new FeedParseException(url, e);
+        }
+    }
+
+    @NonNull
+    private JsonFeed readJsonFeed(@NonNull String url, @NonNull byte[] body) {
+        JsonFeed jsonFeed;
+        try {
+            jsonFeed = jsonMapper.readValue(body, Argument.of(JsonFeed.class));
+        } catch (IOException e) {
+            throw new FeedParseException(url, e);
+        }
+        if (jsonFeed == null) {
+            throw new FeedParseException(url, null);
+        }
+        return jsonFeed;
+    }
+
+    private static boolean isJson(@NonNull HttpResponse<?> response) {
+        return response.getContentType()
+                .map(MediaType::getSubtype)
+                .map(subtype -> subtype.contains(JSON))
+                .orElse(false);
+    }
+}
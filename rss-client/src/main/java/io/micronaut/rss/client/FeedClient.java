@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.annotation.SingleResult;
+import org.reactivestreams.Publisher;
+
+/**
+ * Fetches RSS 2.0 and JSON feeds over HTTP.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@FunctionalInterface
+public interface FeedClient {
+
+    /**
+     * Fetches a feed. Validators returned by a previous fetch of the same URL are sent as a conditional request.
+     * @param url The absolute URL of the feed
+     * @return The fetched feed. If the server responds with 304 Not Modified, the previously fetched model is emitted. A body which cannot be parsed is signalled as a {@link FeedParseException}.
+     */
+    @NonNull
+    @SingleResult
+    Publisher<FetchedFeed> fetch(@NonNull String url);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Defines interface for Configuration options of {@link DefaultFeedClient}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface FeedClientConfiguration extends Toggleable {
+
+    /**
+     *
+     * @return The value of the Accept header sent by {@link DefaultFeedClient}.
+     */
+    String getAccept();
+
+    /**
+     *
+     * @return The maximum number of feeds whose validators and parsed model the default {@link FeedValidatorStore} keeps.
+     */
+    int getMaxCachedFeeds();
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.rss.RssConfiguration;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link DefaultFeedClient}.
+ *
+ * The underlying HTTP client is registered with the service id {@value #CLIENT_ID}. Configure its connection pool, which keeps connections per host, with {@code micronaut.http.services.feed-client.pool.*}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(FeedClientConfigurationProperties.PREFIX)
+public class FeedClientConfigurationProperties implements FeedClientConfiguration {
+
+    public static final String PREFIX = RssConfiguration.PREFIX + ".client";
+
+    /**
+     * The service id of the HTTP client used to fetch feeds.
+     */
+    public static final String CLIENT_ID = "feed-client";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /**
+     * The default Accept header.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_ACCEPT = "application/rss+xml, application/feed+json, application/xml;q=0.9, application/json;q=0.9, */*;q=0.8";
+
+    /**
+     * The default maximum number of feeds kept by the in-memory validator store.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_CACHED_FEEDS = 1000;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    private String accept = DEFAULT_ACCEPT;
+
+    @Positive
+    private int maxCachedFeeds = DEFAULT_MAX_CACHED_FEEDS;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether {@link DefaultFeedClient} should be enabled. Default value ({@value #DEFAULT_ENABLED}).
+     * @param enabled enabled flag
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public String getAccept() {
+        return accept;
+    }
+
+    /**
+     * The Accept header sent when fetching feeds. Default value {@value #DEFAULT_ACCEPT}.
+     * @param accept Accept header value
+     */
+    public void setAccept(String accept) {
+        this.accept = accept;
+    }
+
+    @Override
+    public int getMaxCachedFeeds() {
+        return maxCachedFeeds;
+    }
+
+    /**
+     * The maximum number of feeds whose validators and parsed model {@link InMemoryFeedValidatorStore} keeps. The least recently fetched feeds are evicted first. Default value ({@value #DEFAULT_MAX_CACHED_FEEDS}).
+     * @param maxCachedFeeds The maximum number of feeds
+     */
+    public void setMaxCachedFeeds(int maxCachedFeeds) {
+        this.maxCachedFeeds = maxCachedFeeds;
+    }
+}
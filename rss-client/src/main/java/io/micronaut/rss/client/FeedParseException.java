@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Signals that the body of a fetched feed could not be parsed as an RSS 2.0 document or a JSON feed.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public class FeedParseException extends RuntimeException {
+
+    @NonNull
+    private final String url;
+
+    /**
+     *
+     * @param url The absolute URL of the feed
+     * @param cause The parse failure or {@code null} if the parser does not report it
+     */
+    public FeedParseException(@NonNull String url, @Nullable Throwable cause) {
+        super("could not parse the feed " + url, cause);
+        this.url = url;
+    }
+
+    /**
+     *
+     * @return The absolute URL of the feed
+     */
+    @NonNull
+    public String getUrl() {
+        return url;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Stores the validators of fetched feeds per URL. Provide a bean of this type backed by a database or a file to keep validators across restarts.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface FeedValidatorStore {
+
+    /**
+     *
+     * @param url The URL of the feed
+     * @return The validators and model of the last successful fetch.
+     */
+    @NonNull
+    Optional<CachedFeed> find(@NonNull String url);
+
+    /**
+     *
+     * @param url The URL of the feed
+     * @param cachedFeed The validators and model of a successful fetch
+     */
+    void save(@NonNull String url, @NonNull CachedFeed cachedFeed);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.jsonfeed.JsonFeed;
+
+import java.util.Optional;
+
+/**
+ * A feed fetched by {@link FeedClient}. Either an RSS 2.0 channel or a JSON feed.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class FetchedFeed {
+
+    @NonNull
+    private final String url;
+
+    @Nullable
+    private final RssChannel rssChannel;
+
+    @Nullable
+    private final JsonFeed jsonFeed;
+
+    private final boolean notModified;
+
+    private FetchedFeed(@NonNull String url,
+                        @Nullable RssChannel rssChannel,
+                        @Nullable JsonFeed jsonFeed,
+                        boolean notModified) {
+        this.url = url;
+        this.rssChannel = rssChannel;
+        this.jsonFeed = jsonFeed;
+        this.notModified = notModified;
+    }
+
+    /**
+     *
+     * @param url The URL of the feed
+     * @param rssChannel The RSS Channel
+     * @return A fetched RSS 2.0 feed
+     */
+    @NonNull
+    public static FetchedFeed of(@NonNull String url, @NonNull RssChannel rssChannel) {
+        return new FetchedFeed(url, rssChannel, null, false);
+    }
+
+    /**
+     *
+     * @param url The URL of the feed
+     * @param jsonFeed The JSON Feed
+     * @return A fetched JSON feed
+     */
+    @NonNull
+    public static FetchedFeed of(@NonNull String url, @NonNull JsonFeed jsonFeed) {
+        return new FetchedFeed(url, null, jsonFeed, false);
+    }
+
+    /**
+     *
+     * @return The same feed flagged as served from a 304 Not Modified response.
+     */
+    @NonNull
+    public FetchedFeed notModified() {
+        return new FetchedFeed(url, rssChannel, jsonFeed, true);
+    }
+
+    /**
+     *
+     * @return The URL of the feed
+     */
+    @NonNull
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     *
+     * @return The RSS Channel if the server responded with an RSS 2.0 document.
+     */
+    public Optional<RssChannel> getRssChannel() {
+        return Optional.ofNullable(rssChannel);
+    }
+
+    /**
+     *
+     * @return The JSON Feed if the server responded with a JSON feed.
+     */
+    public Optional<JsonFeed> getJsonFeed() {
+        return Optional.ofNullable(jsonFeed);
+    }
+
+    /**
+     *
+     * @return Whether the server responded with 304 Not Modified and the model was not parsed again.
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link FeedValidatorStore} implementation which keeps validators in memory.
+ * It keeps at most {@link FeedClientConfiguration#getMaxCachedFeeds()} feeds, evicting the least recently fetched ones, since every entry holds a parsed feed.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Singleton
+public class InMemoryFeedValidatorStore implements FeedValidatorStore {
+
+    private final Map<String, CachedFeed> cachedFeeds;
+
+    /**
+     *
+     * @param feedClientConfiguration Feed client configuration
+     */
+    public InMemoryFeedValidatorStore(FeedClientConfiguration feedClientConfiguration) {
+        int maxCachedFeeds = feedClientConfiguration.getMaxCachedFeeds();
+        this.cachedFeeds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFeed> eldest) {
+                return size() > maxCachedFeeds;
+            }
+        };
+    }
+
+    @Override
+    @NonNull
+    public synchronized Optional<CachedFeed> find(@NonNull String url) {
+        return Optional.ofNullable(cachedFeeds.get(url));
+    }
+
+    @Override
+    public synchronized void save(@NonNull String url, @NonNull CachedFeed cachedFeed) {
+        cachedFeeds.put(url, cachedFeed);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link SeenGuidSet} backed by a memory-mapped, open-addressing table of 64-bit guid fingerprints.
+ *
+ * <p>Guids are not kept on the heap. Each guid costs one 8-byte slot and the table is sized for a load factor of at most one half,
+ * which is between 16 and 32 bytes per guid. Slots are claimed with compare-and-set, so concurrent ingest threads do not lock.
+ * The table is split into segments of at most 1 GB, each mapped separately, and the file is reused across restarts.</p>
+ *
+ * <p>The table does not grow. It has room for the next power of two at or above twice the expected guids. Past the expected guids
+ * the load factor exceeds one half and lookups probe longer runs of slots, so adds and lookups slow down. Once every slot
+ * of a segment is taken, {@link #add(CharSequence)} throws an {@link IllegalStateException}. Size the table for the largest
+ * number of guids it will ever hold.</p>
+ *
+ * <p>Two guids with the same 64-bit fingerprint are considered equal. With hundreds of millions of guids the probability of such a collision is below one percent.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = SeenGuidSetConfigurationProperties.PREFIX + ".path")
+@Singleton
+public class MappedSeenGuidSet implements SeenGuidSet {
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long MAGIC = 0x5253534755494431L;
+    private static final int HEADER_BYTES = 64;
+    private static final int SEGMENT_HEADER_BYTES = Long.BYTES;
+    private static final int MAX_SEGMENT_SLOTS = 1 << 27;
+    private static final long EMPTY = 0L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final FileChannel fileChannel;
+    private final MappedByteBuffer[] segments;
+    private final int segmentBits;
+    private final int slotsPerSegment;
+    private final long slotMask;
+    private final long memoryUsage;
+
+    /**
+     *
+     * @param configuration Seen guids configuration
+     * @throws IOException if the backing file cannot be opened or was created with a different size
+     */
+    @Inject
+    public MappedSeenGuidSet(SeenGuidSetConfiguration configuration) throws IOException {
+        this(Paths.get(configuration.getPath()), configuration.getExpectedGuids());
+    }
+
+    /**
+     *
+     * @param path The file which backs the table. Created if it does not exist.
+     * @param expectedGuids The number of guids the table is sized for
+     * @throws IOException if the backing file cannot be opened or was created with a different size
+     */
+    public MappedSeenGuidSet(@NonNull Path path, long expectedGuids) throws IOException {
+        long slots = Long.highestOneBit(Math.max(2L * expectedGuids, 2L) - 1) << 1;
+        int segmentCount = (int) Math.max(1L, slots / MAX_SEGMENT_SLOTS);
+        this.slotsPerSegment = (int) (slots / segmentCount);
+        this.segmentBits = Integer.numberOfTrailingZeros(segmentCount);
+        this.slotMask = slotsPerSegment - 1L;
+        long segmentBytes = SEGMENT_HEADER_BYTES + (long) slotsPerSegment * Long.BYTES;
+        this.memoryUsage = HEADER_BYTES + segmentBytes * segmentCount;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            if (header.getLong(0) == MAGIC) {
+                if (header.getInt(Long.BYTES) != segmentCount || header.getInt(Long.BYTES + Integer.BYTES) != slotsPerSegment) {
+                    throw new IOException("seen guids file " + path + " was created for a different number of expected guids");
+                }
+            } else {
+                header.putInt(Long.BYTES, segmentCount);
+                header.putInt(Long.BYTES + Integer.BYTES, slotsPerSegment);
+                header.putLong(0, MAGIC);
+                header.force();
+            }
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = fileChannel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + i * segmentBytes, segmentBytes);
+            }
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalStateException if the segment the guid hashes to has no free slot left
+     */
+    @Override
+    public boolean add(@NonNull CharSequence guid) {
+        long fingerprint = fingerprint(guid);
+        ByteBuffer segment = segments[segmentIndex(fingerprint)];
+        long slot = fingerprint & slotMask;
+        for (int probe = 0; probe < slotsPerSegment; probe++) {
+            int offset = SEGMENT_HEADER_BYTES + (int) slot * Long.BYTES;
+            long current = (long) LONGS.getVolatile(segment, offset);
+            if (current == EMPTY) {
+                if (LONGS.compareAndSet(segment, offset, EMPTY, fingerprint)) {
+                    LONGS.getAndAdd(segment, 0, 1L);
+                    return true;
+                }
+                current = (long) LONGS.getVolatile(segment, offset);
+            }
+            if (current == fingerprint) {
+                return false;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        throw new IllegalStateException("seen guids table is full, increase the number of expected guids");
+    }
+
+    @Override
+    public boolean contains(@NonNull CharSequence guid) {
+        long fingerprint = fingerprint(guid);
+        ByteBuffer segment = segments[segmentIndex(fingerprint)];
+        long slot = fingerprint & slotMask;
+        for (int probe = 0; probe < slotsPerSegment; probe++) {
+            long current = (long) LONGS.getVolatile(segment, SEGMENT_HEADER_BYTES + (int) slot * Long.BYTES);
+            if (current == fingerprint) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (ByteBuffer segment : segments) {
+            size += (long) LONGS.getVolatile(segment, 0);
+        }
+        return size;
+    }
+
+    @Override
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * Flushes the table to disk and closes the backing file.
+     * @throws IOException if the file cannot be closed
+     */
+    @PreDestroy
+    @Override
+    public void close() throws IOException {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        fileChannel.close();
+    }
+
+    private int segmentIndex(long fingerprint) {
+        return segmentBits == 0 ? 0 : (int) (fingerprint >>> (Long.SIZE - segmentBits));
+    }
+
+    // FNV-1a over the UTF-16 code units followed by the MurmurHash3 finalizer. Zero marks an empty slot and is never returned.
+    private static long fingerprint(@NonNull CharSequence guid) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < guid.length(); i++) {
+            h = (h ^ guid.charAt(i)) * FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb3f99fd38f5bL;
+        h ^= h >>> 33;
+        return h == EMPTY ? 1L : h;
+    }
+}
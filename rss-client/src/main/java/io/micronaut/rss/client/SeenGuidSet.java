@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.Closeable;
+
+/**
+ * Remembers the guids of ingested items, such as {@link io.micronaut.rss.RssItem#getGuid()} or {@link io.micronaut.rss.jsonfeed.JsonFeedItem#getId()}, to deduplicate them.
+ * Implementations must be safe to use from concurrent ingest threads.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface SeenGuidSet extends Closeable {
+
+    /**
+     * Marks a guid as seen.
+     * @param guid Item guid
+     * @return true if the guid had not been seen before
+     */
+    boolean add(@NonNull CharSequence guid);
+
+    /**
+     *
+     * @param guid Item guid
+     * @return Whether the guid has been seen
+     */
+    boolean contains(@NonNull CharSequence guid);
+
+    /**
+     *
+     * @return The number of guids seen
+     */
+    long size();
+
+    /**
+     *
+     * @return Bytes used to hold the guids
+     */
+    long getMemoryUsage();
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Defines interface for Configuration options of {@link MappedSeenGuidSet}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface SeenGuidSetConfiguration {
+
+    /**
+     *
+     * @return The path of the file which backs the seen guids table.
+     */
+    @NonNull
+    String getPath();
+
+    /**
+     *
+     * @return The number of guids the table is sized for. The table does not grow past it.
+     */
+    long getExpectedGuids();
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.client;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link MappedSeenGuidSet}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(SeenGuidSetConfigurationProperties.PREFIX)
+public class SeenGuidSetConfigurationProperties implements SeenGuidSetConfiguration {
+
+    public static final String PREFIX = FeedClientConfigurationProperties.PREFIX + ".seen-guids";
+
+    /**
+     * The default number of expected guids.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_EXPECTED_GUIDS = 10_000_000L;
+
+    @NonNull
+    @NotBlank
+    private String path;
+
+    @Positive
+    private long expectedGuids = DEFAULT_EXPECTED_GUIDS;
+
+    @Override
+    @NonNull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Path of the memory-mapped file which backs the seen guids table. The file is reused across restarts.
+     * @param path File path
+     */
+    public void setPath(@NonNull String path) {
+        this.path = path;
+    }
+
+    @Override
+    public long getExpectedGuids() {
+        return expectedGuids;
+    }
+
+    /**
+     * Number of guids the table is sized for. The table does not grow: past this number lookups slow down, and adds fail once the table is full. Default value ({@value #DEFAULT_EXPECTED_GUIDS}).
+     * @param expectedGuids Number of expected guids
+     */
+    public void setExpectedGuids(long expectedGuids) {
+        this.expectedGuids = expectedGuids;
+    }
+}
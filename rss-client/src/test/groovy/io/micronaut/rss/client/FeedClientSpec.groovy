@@ -0,0 +1,109 @@
+package io.micronaut.rss.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.rss.RssChannel
+import io.micronaut.rss.language.RssLanguage
+import io.micronaut.runtime.server.EmbeddedServer
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.xml.stream.XMLStreamException
+
+class FeedClientSpec extends Specification {
+
+    @AutoCleanup
+    @Shared
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'FeedClientSpec'])
+
+    @Shared
+    FeedClient feedClient = embeddedServer.applicationContext.getBean(FeedClient)
+
+    @Shared
+    StubFeedController stub = embeddedServer.applicationContext.getBean(StubFeedController)
+
+    void "a 304 response returns the cached RSS channel without transferring the body again"() {
+        given:
+        String url = "${embeddedServer.URL}/stub/rss"
+
+        when:
+        FetchedFeed first = Mono.from(feedClient.fetch(url)).block()
+        long bytesAfterFirstFetch = stub.bytesSent.get()
+
+        then:
+        !first.notModified
+        bytesAfterFirstFetch > 0
+        stub.acceptEncoding.contains('gzip')
+
+        when:
+        RssChannel rssChannel = first.rssChannel.get()
+
+        then:
+        rssChannel.title == 'Liftoff News'
+        rssChannel.language.get() == RssLanguage.LANG_ENGLISH_UNITED_STATES
+        rssChannel.item.get().size() == 100
+        rssChannel.item.get()[0].description.get() == 'This is <b>item</b> 0.'
+        rssChannel.item.get()[0].enclosure.get().length == 1024
+
+        when:
+        FetchedFeed second = Mono.from(feedClient.fetch(url)).block()
+
+        then:
+        second.notModified
+        second.rssChannel.get().is(rssChannel)
+        stub.notModified.get() == 1
+        stub.bytesSent.get() == bytesAfterFirstFetch
+    }
+
+    void "Last-Modified is sent back as If-Modified-Since"() {
+        given:
+        String url = "${embeddedServer.URL}/stub/json"
+        long bytesBefore = stub.bytesSent.get()
+        int notModifiedBefore = stub.notModified.get()
+
+        when:
+        FetchedFeed first = Mono.from(feedClient.fetch(url)).block()
+
+        then:
+        first.jsonFeed.get().title == 'My Example Feed'
+        stub.bytesSent.get() > bytesBefore
+
+        when:
+        long bytesAfterFirstFetch = stub.bytesSent.get()
+        FetchedFeed second = Mono.from(feedClient.fetch(url)).block()
+
+        then:
+        second.notModified
+        second.jsonFeed.get().is(first.jsonFeed.get())
+        stub.notModified.get() == notModifiedBefore + 1
+        stub.bytesSent.get() == bytesAfterFirstFetch
+    }
+
+    void "a gzip encoded response is decompressed before it is parsed"() {
+        when:
+        FetchedFeed feed = Mono.from(feedClient.fetch("${embeddedServer.URL}/stub/gzip")).block()
+
+        then:
+        feed.rssChannel.get().title == 'Liftoff News'
+        feed.rssChannel.get().item.get().size() == 100
+        feed.rssChannel.get().item.get()[99].description.get() == 'This is <b>item</b> 99.'
+
+        and: 'the transferred body is the compressed one'
+        stub.gzipBytesSent.get() == stub.gzippedRss.length
+        stub.gzippedRss.length < stub.rss.length / 4
+    }
+
+    void "a body which cannot be parsed is signalled as an error"() {
+        given:
+        String url = "${embeddedServer.URL}/stub/malformed"
+
+        when:
+        Mono.from(feedClient.fetch(url)).block()
+
+        then:
+        FeedParseException e = thrown()
+        e.url == url
+        e.cause instanceof XMLStreamException
+    }
+}
@@ -0,0 +1,29 @@
+package io.micronaut.rss.client
+
+import io.micronaut.rss.RssChannel
+import spock.lang.Specification
+
+class InMemoryFeedValidatorStoreSpec extends Specification {
+
+    void "the least recently fetched feeds are evicted beyond the maximum"() {
+        given:
+        FeedClientConfigurationProperties configuration = new FeedClientConfigurationProperties()
+        configuration.maxCachedFeeds = 2
+        FeedValidatorStore store = new InMemoryFeedValidatorStore(configuration)
+
+        when:
+        store.save('https://example.org/a', cachedFeed('https://example.org/a'))
+        store.save('https://example.org/b', cachedFeed('https://example.org/b'))
+        store.find('https://example.org/a')
+        store.save('https://example.org/c', cachedFeed('https://example.org/c'))
+
+        then:
+        store.find('https://example.org/a').isPresent()
+        !store.find('https://example.org/b').isPresent()
+        store.find('https://example.org/c').isPresent()
+    }
+
+    private static CachedFeed cachedFeed(String url) {
+        new CachedFeed('"v1"', null, FetchedFeed.of(url, RssChannel.builder('Feed', url, 'A feed').build()))
+    }
+}
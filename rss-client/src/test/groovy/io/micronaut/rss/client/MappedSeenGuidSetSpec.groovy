@@ -0,0 +1,94 @@
+package io.micronaut.rss.client
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class MappedSeenGuidSetSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "concurrent ingest threads add every guid exactly once"() {
+        given:
+        int guids = 1_000_000
+        int threads = 4
+        MappedSeenGuidSet seenGuids = new MappedSeenGuidSet(tempDir.resolve('guids.bin'), guids)
+        ExecutorService executor = Executors.newFixedThreadPool(threads)
+
+        when:
+        List<Integer> added = executor.invokeAll((1..threads).collect { thread ->
+            { ->
+                int count = 0
+                for (int i = 0; i < guids; i++) {
+                    if (seenGuids.add("http://liftoff.msfc.nasa.gov/2003/06/03.html#item" + i)) {
+                        count++
+                    }
+                }
+                count
+            } as Callable<Integer>
+        })*.get()
+        executor.shutdown()
+        executor.awaitTermination(1, TimeUnit.MINUTES)
+        long bytesPerMillionGuids = (seenGuids.memoryUsage * 1_000_000L / seenGuids.size()) as long
+
+        then:
+        added.sum() == guids
+        seenGuids.size() == guids
+        seenGuids.contains("http://liftoff.msfc.nasa.gov/2003/06/03.html#item573")
+        !seenGuids.contains("http://liftoff.msfc.nasa.gov/2003/06/03.html#item-1")
+        bytesPerMillionGuids <= 32 * 1_000_000L
+
+        cleanup:
+        seenGuids.close()
+    }
+
+    void "seen guids survive a restart"() {
+        given:
+        Path path = tempDir.resolve('restart.bin')
+        MappedSeenGuidSet seenGuids = new MappedSeenGuidSet(path, 1_000)
+
+        when:
+        seenGuids.add("http://liftoff.msfc.nasa.gov/2003/06/03.html#item573")
+        seenGuids.close()
+        seenGuids = new MappedSeenGuidSet(path, 1_000)
+
+        then:
+        seenGuids.size() == 1
+        seenGuids.contains("http://liftoff.msfc.nasa.gov/2003/06/03.html#item573")
+        !seenGuids.add("http://liftoff.msfc.nasa.gov/2003/06/03.html#item573")
+
+        when:
+        seenGuids.close()
+        new MappedSeenGuidSet(path, 1_000_000)
+
+        then:
+        thrown(IOException)
+    }
+
+    void "adding more guids than the table has slots fails"() {
+        given: 'a table sized for one guid has two slots'
+        MappedSeenGuidSet seenGuids = new MappedSeenGuidSet(tempDir.resolve('full.bin'), 1)
+
+        when:
+        seenGuids.add("http://liftoff.msfc.nasa.gov/2003/06/03.html#item1")
+        seenGuids.add("http://liftoff.msfc.nasa.gov/2003/06/03.html#item2")
+
+        then:
+        seenGuids.size() == 2
+
+        when:
+        seenGuids.add("http://liftoff.msfc.nasa.gov/2003/06/03.html#item3")
+
+        then:
+        thrown(IllegalStateException)
+
+        cleanup:
+        seenGuids.close()
+    }
+}
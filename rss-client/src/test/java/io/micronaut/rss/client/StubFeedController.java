@@ -0,0 +1,103 @@
+package io.micronaut.rss.client;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+@Requires(property = "spec.name", value = "FeedClientSpec")
+@Controller("/stub")
+class StubFeedController {
+    static final String ETAG = "\"v1\"";
+    static final String LAST_MODIFIED = "Tue, 10 Jun 2003 09:41:01 GMT";
+
+    final AtomicLong bytesSent = new AtomicLong();
+    final AtomicLong gzipBytesSent = new AtomicLong();
+    final AtomicInteger notModified = new AtomicInteger();
+    volatile String acceptEncoding;
+
+    final byte[] rss;
+    final byte[] gzippedRss;
+    private final byte[] json;
+
+    StubFeedController() {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<rss version=\"2.0\" xmlns:itunes=\"http://www.itunes.com/dtds/podcast-1.0.dtd\"><channel>")
+                .append("<title>Liftoff News</title>")
+                .append("<link>http://liftoff.msfc.nasa.gov/</link>")
+                .append("<description>Liftoff to Space Exploration.</description>")
+                .append("<language>en-us</language>")
+                .append("<pubDate>Tue, 10 Jun 2003 04:00:00 GMT</pubDate>")
+                .append("<itunes:author>NASA</itunes:author>");
+        for (int i = 0; i < 100; i++) {
+            sb.append("<item><title>Item ").append(i).append("</title>")
+                    .append("<description><![CDATA[This is <b>item</b> ").append(i).append(".]]></description>")
+                    .append("<guid>http://liftoff.msfc.nasa.gov/2003/06/03.html#item").append(i).append("</guid>")
+                    .append("<enclosure url=\"http://liftoff.msfc.nasa.gov/").append(i).append(".mp3\" length=\"1024\" type=\"audio/mpeg\"/>")
+                    .append("</item>");
+        }
+        sb.append("</channel></rss>");
+        rss = sb.toString().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(rss);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        gzippedRss = compressed.toByteArray();
+        json = ("{\"version\":\"https://jsonfeed.org/version/1.1\",\"title\":\"My Example Feed\","
+                + "\"items\":[{\"id\":\"1\",\"content_html\":\"<p>Hello, world!</p>\"}]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Get("/rss")
+    HttpResponse<?> rss(@Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch,
+                        @Header(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding) {
+        this.acceptEncoding = acceptEncoding;
+        if (ETAG.equals(ifNoneMatch)) {
+            notModified.incrementAndGet();
+            return HttpResponse.notModified();
+        }
+        bytesSent.addAndGet(rss.length);
+        return HttpResponse.ok(rss)
+                .contentType(MediaType.APPLICATION_XML_TYPE)
+                .header(HttpHeaders.ETAG, ETAG);
+    }
+
+    @Get("/gzip")
+    HttpResponse<?> gzip() {
+        gzipBytesSent.addAndGet(gzippedRss.length);
+        return HttpResponse.ok(gzippedRss)
+                .contentType(MediaType.APPLICATION_XML_TYPE)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    @Get("/malformed")
+    HttpResponse<?> malformed() {
+        return HttpResponse.ok("<rss version=\"2.0\"><channel><title>Liftoff".getBytes(StandardCharsets.UTF_8))
+                .contentType(MediaType.APPLICATION_XML_TYPE);
+    }
+
+    @Get("/json")
+    HttpResponse<?> json(@Header(HttpHeaders.IF_MODIFIED_SINCE) @Nullable String ifModifiedSince) {
+        if (LAST_MODIFIED.equals(ifModifiedSince)) {
+            notModified.incrementAndGet();
+            return HttpResponse.notModified();
+        }
+        bytesSent.addAndGet(json.length);
+        return HttpResponse.ok(json)
+                .contentType("application/feed+json")
+                .header(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * An {@code atom:link} element of a channel, such as the {@code prev-archive} link of an archived feed.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc5005">RFC 5005 Feed Paging and Archiving</a>
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class AtomLink {
+
+    /**
+     * The Atom namespace URI.
+     */
+    public static final String NAMESPACE = "http://www.w3.org/2005/Atom";
+
+    /**
+     * The relation of the link to the subscription document of an archived feed.
+     */
+    public static final String CURRENT = "current";
+
+    /**
+     * The relation of the link to the preceding archive document of an archived feed.
+     */
+    public static final String PREV_ARCHIVE = "prev-archive";
+
+    /**
+     * The relation of the links to the WebSub hubs of a feed.
+     */
+    public static final String HUB = "hub";
+
+    /**
+     * The relation of the link of a feed to itself, the topic of its WebSub hubs.
+     */
+    public static final String SELF = "self";
+
+    @NonNull
+    private final String rel;
+
+    @NonNull
+    private final String href;
+
+    private AtomLink(@NonNull String rel, @NonNull String href) {
+        this.rel = rel;
+        this.href = href;
+    }
+
+    /**
+     * @param rel The link relation, for example {@code prev-archive}
+     * @param href The link URI
+     * @return An Atom link
+     */
+    @NonNull
+    public static AtomLink of(@NonNull String rel, @NonNull String href) {
+        return new AtomLink(rel, href);
+    }
+
+    /**
+     * @return The link relation
+     */
+    @NonNull
+    public String getRel() {
+        return rel;
+    }
+
+    /**
+     * @return The link URI
+     */
+    @NonNull
+    public String getHref() {
+        return href;
+    }
+}
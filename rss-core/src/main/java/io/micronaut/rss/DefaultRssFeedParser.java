@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.language.RssLanguage;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * StAX based implementation of {@link RssFeedParser}. Elements of foreign namespaces are skipped.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Singleton
+public class DefaultRssFeedParser implements RssFeedParser {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRssFeedParser.class);
+    private static final DateTimeFormatter RFC_822_DATE_FORMAT = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
+    private static final String CHANNEL = "channel";
+    private static final String ITEM = "item";
+    private static final String ENCLOSURE = "enclosure";
+
+    @Override
+    @NonNull
+    public Optional<RssChannel> parse(@NonNull InputStream inputStream) throws XMLStreamException {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && CHANNEL.equals(reader.getLocalName())) {
+                    return Optional.of(readRssChannel(reader));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the children of the {@code channel} element. The reader is positioned at the start of the element.
+     * @param reader An XML Stream reader
+     * @return An RSS Channel
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    @NonNull
+    protected RssChannel readRssChannel(@NonNull XMLStreamReader reader) throws XMLStreamException {
+        RssChannel rssChannel = new RssChannel();
+        List<List<String>> categories = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isForeign(reader)) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title" -> rssChannel.setTitle(reader.getElementText());
+                case "link" -> rssChannel.setLink(reader.getElementText());
+                case "description" -> rssChannel.setDescription(reader.getElementText());
+                case "language" -> rssChannel.setLanguage(RssLanguage.lookup(reader.getElementText().trim()));
+                case "copyright" -> rssChannel.setCopyright(reader.getElementText());
+                case "managingEditor" -> rssChannel.setManagingEditor(reader.getElementText());
+                case "webMaster" -> rssChannel.setWebMaster(reader.getElementText());
+                case "pubDate" -> rssChannel.setPubDate(parseDate(reader.getElementText()));
+                case "lastBuildDate" -> rssChannel.setLastBuildDate(parseDate(reader.getElementText()));
+                case "category" -> categories.add(Collections.singletonList(reader.getElementText()));
+                case "generator" -> rssChannel.setGenerator(reader.getElementText());
+                case "docs" -> rssChannel.setDocs(reader.getElementText());
+                case "ttl" -> rssChannel.setTtl(parseInteger(reader.getElementText()));
+                case "rating" -> rssChannel.setRating(reader.getElementText());
+                case ITEM -> rssChannel.addItem(readRssItem(reader));
+                default -> skipElement(reader);
+            }
+        }
+        if (!categories.isEmpty()) {
+            rssChannel.setCategory(categories);
+        }
+        return rssChannel;
+    }
+
+    /**
+     * Reads the children of an {@code item} element. The reader is positioned at the start of the element.
+     * @param reader An XML Stream reader
+     * @return An RSS Item
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    @NonNull
+    protected RssItem readRssItem(@NonNull XMLStreamReader reader) throws XMLStreamException {
+        RssItem rssItem = new RssItem();
+        List<String> categories = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isForeign(reader)) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title" -> rssItem.setTitle(reader.getElementText());
+                case "link" -> rssItem.setLink(reader.getElementText());
+                case "description" -> rssItem.setDescription(reader.getElementText());
+                case "author" -> rssItem.setAuthor(reader.getElementText());
+                case "category" -> categories.add(reader.getElementText());
+                case "comments" -> rssItem.setComments(reader.getElementText());
+                case ENCLOSURE -> rssItem.setEnclosure(readEnclosure(reader));
+                case "guid" -> rssItem.setGuid(reader.getElementText());
+                case "pubDate" -> rssItem.setPubDate(parseDate(reader.getElementText()));
+                case "source" -> rssItem.setSource(reader.getElementText());
+                default -> skipElement(reader);
+            }
+        }
+        if (!categories.isEmpty()) {
+            rssItem.setCategory(categories);
+        }
+        return rssItem;
+    }
+
+    @NonNull
+    private RssItemEnclosure readEnclosure(@NonNull XMLStreamReader reader) throws XMLStreamException {
+        RssItemEnclosure enclosure = RssItemEnclosure.builder()
+                .url(reader.getAttributeValue(null, "url"))
+                .length(parseInteger(reader.getAttributeValue(null, "length")))
+                .type(reader.getAttributeValue(null, "type"))
+                .build();
+        skipElement(reader);
+        return enclosure;
+    }
+
+    private static boolean isForeign(@NonNull XMLStreamReader reader) {
+        String namespaceURI = reader.getNamespaceURI();
+        return namespaceURI != null && !namespaceURI.isEmpty();
+    }
+
+    private static void skipElement(@NonNull XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    @Nullable
+    private static Integer parseInteger(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("could not parse integer {}", value);
+            }
+            return null;
+        }
+    }
+
+    @Nullable
+    private static ZonedDateTime parseDate(@NonNull String value) {
+        String date = value.trim();
+        try {
+            return ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            try {
+                return ZonedDateTime.parse(date, RFC_822_DATE_FORMAT);
+            } catch (DateTimeParseException ex) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("could not parse RFC 822 date {}", value);
+                }
+                return null;
+            }
+        }
+    }
+}
@@ -16,29 +16,36 @@
 package io.micronaut.rss;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.OrderUtil;
+import jakarta.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Singleton;
-import javax.xml.stream.XMLOutputFactory;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Implementation of {@link RssFeedRenderer}.
+ * Implementation of {@link RssFeedRenderer}. Both renderings use an {@link XmlTemplate} compiled once per renderer from {@link #compileRssChannel(XmlTemplate.Builder, XmlTemplate)} and {@link #compileRssItem(XmlTemplate.Builder)}.
  * @author Sergio del Amo
  * @since 1.0
  */
 @Singleton
 public class DefaultRssFeedRenderer implements RssFeedRenderer {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRssFeedRenderer.class);
-    private static final String LOWER_THAN = "<";
     private static final String DESCRIPTION = "description";
     private static final String CATEGORY = "category";
     private static final String LANGUAGE = "language";
@@ -59,106 +66,71 @@ public class DefaultRssFeedRenderer implements RssFeedRenderer {
     private static final String ITEM = "item";
     private static final String RSS = "rss";
     private static final String CHANNEL = "channel";
+    private static final String AUTHOR = "author";
+    private static final String COMMENTS = "comments";
+    private static final String GUID = "guid";
+    private static final String SOURCE = "source";
+    private static final byte[] ENCLOSURE_LENGTH = "<enclosure length=\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENCLOSURE_TYPE = "\" type=\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENCLOSURE_URL = "\" url=\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENCLOSURE_END = "\"></enclosure>".getBytes(StandardCharsets.UTF_8);
+    private static final String XMLNS = "xmlns:";
+    private static final String ATOM_LINK = "atom:link";
+    private static final String ATOM_PREFIX = "atom";
+    private static final String REL = "rel";
+    private static final String HREF = "href";
+    private static final String FH_ARCHIVE = "fh:archive";
+    private static final String FH_PREFIX = "fh";
+    private static final String FH_NAMESPACE = "http://purl.org/syndication/history/1.0";
+    private static final byte[] ATOM_LINK_REL = ("<" + ATOM_LINK + " " + XMLNS + ATOM_PREFIX + "=\"" + AtomLink.NAMESPACE + "\" " + REL + "=\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ATOM_LINK_HREF = ("\" " + HREF + "=\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ATTRIBUTE_VALUE_START = "=\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ATOM_LINK_END = "\"/>".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARCHIVE = ("<" + FH_ARCHIVE + " " + XMLNS + FH_PREFIX + "=\"" + FH_NAMESPACE + "\"/>").getBytes(StandardCharsets.UTF_8);
 
-    /**
-     *
-     * @param sw An XML Stream writer
-     * @param localName The XML tag name
-     * @param value The XML tag value
-     */
-    protected void writeElement(XMLStreamWriter sw, String localName, Object value) {
-        try {
-            sw.writeStartElement(localName);
-            if (value instanceof String) {
-                sw.writeCharacters((String) value);
-            } else if (value instanceof ZonedDateTime) {
-                DateTimeFormatter rfc822DateFormat = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss z");
-                String pubDate = ((ZonedDateTime) value).format(rfc822DateFormat);
-                sw.writeCharacters(pubDate);
-            }
-            sw.writeEndElement();
-        } catch (XMLStreamException e) {
-            if (LOG.isErrorEnabled()) {
-                LOG.error(e.getMessage());
+    private final List<RssNamespaceExtension> extensions;
+    private final ClassValue<XmlTemplate<RssChannelSnapshot>> channelExtensions = new ClassValue<>() {
+        @Override
+        protected XmlTemplate<RssChannelSnapshot> computeValue(Class<?> type) {
+            XmlTemplate.Builder<RssChannelSnapshot> channel = XmlTemplate.builder();
+            for (RssNamespaceExtension extension : extensions) {
+                extension.compileChannel(type.asSubclass(RssChannelSnapshot.class), channel);
             }
+            return channel.build();
         }
-    }
-
-    /**
-     *
-     * @param sw An XML Stream writer
-     * @param rssItem An RSS Item
-     */
-    protected void writeRssItemDescription(XMLStreamWriter sw, RssItem rssItem) {
-        rssItem.getDescription().ifPresent(description -> {
-            if (shouldWrapDescriptionWithCData(description)) {
-                try {
-                    sw.writeStartElement(DESCRIPTION);
-                    sw.writeCData(description);
-                    sw.writeEndElement();
-                } catch (XMLStreamException e) {
-                    if (LOG.isErrorEnabled()) {
-                        LOG.error(e.getMessage());
-                    }
-                }
-            } else {
-                writeElement(sw, DESCRIPTION, description);
+    };
+    private final ClassValue<XmlTemplate<RssItemSnapshot>> itemExtensions = new ClassValue<>() {
+        @Override
+        protected XmlTemplate<RssItemSnapshot> computeValue(Class<?> type) {
+            XmlTemplate.Builder<RssItemSnapshot> item = XmlTemplate.builder();
+            for (RssNamespaceExtension extension : extensions) {
+                extension.compileItem(type.asSubclass(RssItemSnapshot.class), item);
             }
-        });
-    }
+            return item.build();
+        }
+    };
+    private volatile Map<String, String> rssAttributes;
+    private volatile XmlTemplate<RssChannelSnapshot> template;
 
     /**
-     *
-     * @param description RSS Item description
-     * @return Whether description should be wrapped with <![CDATA[ ]]
+     * Creates a renderer without namespace extensions.
      */
-    protected boolean shouldWrapDescriptionWithCData(@NonNull String description) {
-        return description.contains(LOWER_THAN);
+    public DefaultRssFeedRenderer() {
+        this(Collections.emptyList());
     }
 
     /**
-     *
-     * @param sw An XML Stream writer
-     * @param rssItem An RSS Item
+     * @param extensions Namespace extensions, applied in order
      */
-    protected void writeRssItem(XMLStreamWriter sw, RssItem rssItem) {
-        try {
-            rssItem.getTitle().ifPresent(title -> writeElement(sw, TITLE, title));
-            rssItem.getLink().ifPresent(link -> writeElement(sw, "link", link));
-            writeRssItemDescription(sw, rssItem);
-            rssItem.getAuthor().ifPresent(author -> writeElement(sw, "author", author));
-
-            if (rssItem.getCategory().isPresent()) {
-                for (String category : rssItem.getCategory().get()) {
-                    writeElement(sw, "category", category);
-                }
-            }
-            rssItem.getComments().ifPresent(comments -> writeElement(sw, "comments", comments));
-
-            if (rssItem.getEnclosure().isPresent()) {
-                RssItemEnclosure enclosure = rssItem.getEnclosure().get();
-                sw.writeStartElement("enclosure");
-                sw.writeAttribute("length", String.valueOf(enclosure.getLength()));
-                sw.writeAttribute("type", enclosure.getType());
-                sw.writeAttribute("url", enclosure.getUrl());
-                sw.writeEndElement();
-            }
-
-            rssItem.getGuid().ifPresent(guid -> writeElement(sw, "guid", guid));
-
-            rssItem.getPubDate().ifPresent(pubDate -> writeElement(sw, "pubDate", pubDate));
-
-            rssItem.getSource().ifPresent(source -> writeElement(sw, "source", source));
-
-        } catch (XMLStreamException e) {
-            if (LOG.isErrorEnabled()) {
-                LOG.error(e.getMessage());
-            }
-        }
+    @Inject
+    public DefaultRssFeedRenderer(List<RssNamespaceExtension> extensions) {
+        List<RssNamespaceExtension> sorted = new ArrayList<>(extensions);
+        OrderUtil.sort(sorted);
+        this.extensions = Collections.unmodifiableList(sorted);
     }
 
     /**
-     *
+     * Attributes of the {@code rss} element. Called once per renderer, the result is reused by every render.
      * @return RSS Attributes
      */
     protected Map<String, String> getRssAttributes() {
@@ -169,149 +141,299 @@ public class DefaultRssFeedRenderer implements RssFeedRenderer {
     }
 
     /**
-     *
-     * @param sw XML stream writter
-     * @param categories the RSS Categories
+     * Compiles the children of the {@code item} element.
+     * @param item The item template builder
+     */
+    protected void compileRssItem(@NonNull XmlTemplate.Builder<RssItemSnapshot> item) {
+        item.element(TITLE, RssItemSnapshot::getEncodedTitle, RssItemSnapshot::getTitle)
+                .element(LINK, RssItemSnapshot::getEncodedLink, RssItemSnapshot::getLink)
+                .markupElement(DESCRIPTION, RssItemSnapshot::getEncodedDescription, RssItemSnapshot::getDescription)
+                .contentElement(DESCRIPTION, RssItemSnapshot::getDescriptionSource)
+                .element(AUTHOR, RssItemSnapshot::getEncodedAuthor, RssItemSnapshot::getAuthor)
+                .elements(CATEGORY, RssItemSnapshot::getEncodedCategory, RssItemSnapshot::getCategory)
+                .element(COMMENTS, RssItemSnapshot::getEncodedComments, RssItemSnapshot::getComments)
+                .segment((rssItem, out) -> {
+                    if (rssItem.hasEnclosure()) {
+                        out.write(ENCLOSURE_LENGTH);
+                        out.writeAttributeValue(String.valueOf(rssItem.getEnclosureLength()));
+                        out.write(ENCLOSURE_TYPE);
+                        out.writeAttributeValue(rssItem.getEnclosureType());
+                        out.write(ENCLOSURE_URL);
+                        out.writeAttributeValue(rssItem.getEnclosureUrl());
+                        out.write(ENCLOSURE_END);
+                    }
+                })
+                .element(GUID, RssItemSnapshot::getEncodedGuid, RssItemSnapshot::getGuid)
+                .element(PUB_DATE, RssItemSnapshot::getEncodedPubDate, RssItemSnapshot::getPubDate)
+                .element(SOURCE, RssItemSnapshot::getEncodedSource, RssItemSnapshot::getSource)
+                .segment(DefaultRssFeedRenderer::writeRssElements);
+        if (!extensions.isEmpty()) {
+            item.segment((rssItem, out) -> itemExtensions.get(rssItem.getClass()).render(rssItem, out));
+        }
+    }
+
+    /**
+     * Compiles the children of the {@code channel} element.
+     * @param channel The channel template builder
+     * @param item The template of an {@code item} element
+     */
+    protected void compileRssChannel(@NonNull XmlTemplate.Builder<RssChannelSnapshot> channel,
+                                     @NonNull XmlTemplate<RssItemSnapshot> item) {
+        channel.requiredElement(TITLE, RssChannelSnapshot::getEncodedTitle, RssChannelSnapshot::getTitle)
+                .requiredElement(LINK, RssChannelSnapshot::getEncodedLink, RssChannelSnapshot::getLink)
+                .with(RssChannelSnapshot::getImage, XmlTemplate.<RssChannelImage>builder()
+                        .constant("<" + IMAGE + ">")
+                        .requiredElement(TITLE, null, RssChannelImage::getTitle)
+                        .requiredElement(LINK, null, RssChannelImage::getLink)
+                        .requiredElement(URL, null, RssChannelImage::getUrl)
+                        .element(WIDTH, null, image -> image.getWidth().orElse(null))
+                        .element(HEIGHT, null, image -> image.getHeight().orElse(null))
+                        .element(DESCRIPTION, null, image -> image.getDescription().orElse(null))
+                        .constant("</" + IMAGE + ">")
+                        .build())
+                .requiredElement(DESCRIPTION, RssChannelSnapshot::getEncodedDescription, RssChannelSnapshot::getDescription)
+                .element(LANGUAGE, null, rssChannel -> rssChannel.getLanguage() != null ? rssChannel.getLanguage().getLanguageCode() : null)
+                .element(COPYRIGHT, RssChannelSnapshot::getEncodedCopyright, RssChannelSnapshot::getCopyright)
+                .element(PUB_DATE, RssChannelSnapshot::getEncodedPubDate, RssChannelSnapshot::getPubDate)
+                .segment(compileCategory(CATEGORY))
+                .with(RssChannelSnapshot::getSkipHours, XmlTemplate.<List<RssSkipHours>>builder()
+                        .constant("<" + SKIP_HOURS + ">")
+                        .each(skipHours -> skipHours, XmlTemplate.<RssSkipHours>builder()
+                                .requiredElement(HOUR, null, skipHours -> String.valueOf(skipHours.getValue()))
+                                .build())
+                        .constant("</" + SKIP_HOURS + ">")
+                        .build())
+                .with(RssChannelSnapshot::getSkipDays, XmlTemplate.<List<RssSkipDays>>builder()
+                        .constant("<" + SKIP_DAYS + ">")
+                        .each(skipDays -> skipDays, XmlTemplate.<RssSkipDays>builder()
+                                .requiredElement(DAY, null, skipDay -> String.valueOf(skipDay.getDayName()))
+                                .build())
+                        .constant("</" + SKIP_DAYS + ">")
+                        .build())
+                .with(RssChannelSnapshot::getTextInput, XmlTemplate.<RssTextInput>builder()
+                        .constant("<" + TEXT_INPUT + ">")
+                        .requiredElement(TITLE, null, RssTextInput::getTitle)
+                        .requiredElement(NAME, null, RssTextInput::getName)
+                        .requiredElement(LINK, null, RssTextInput::getLink)
+                        .requiredElement(DESCRIPTION, null, RssTextInput::getDescription)
+                        .constant("</" + TEXT_INPUT + ">")
+                        .build())
+                .segment(DefaultRssFeedRenderer::writeRssElements);
+        if (!extensions.isEmpty()) {
+            channel.segment((rssChannel, out) -> channelExtensions.get(rssChannel.getClass()).render(rssChannel, out));
+        }
+        channel.segment(DefaultRssFeedRenderer::writeLinks);
+        channel.eachItem(RssChannelSnapshot::getItem, item);
+    }
+
+    /**
+     * Compiles the channel categories as nested elements.
      * @param tagName the XML tag
+     * @return A template segment
      */
-    protected void writeCategory(XMLStreamWriter sw, List<String> categories, String tagName) {
-        if (!categories.isEmpty()) {
-            try {
-                String category = categories.get(0);
-                sw.writeStartElement(tagName);
-                sw.writeAttribute("text", category);
-                if (categories.size() > 1) {
-                    writeCategory(sw, categories.subList(1, categories.size()), tagName);
+    @NonNull
+    protected XmlTemplateSegment<RssChannelSnapshot> compileCategory(@NonNull String tagName) {
+        byte[] start = ("<" + tagName + " text=\"").getBytes(StandardCharsets.UTF_8);
+        byte[] startEnd = "\">".getBytes(StandardCharsets.UTF_8);
+        byte[] end = ("</" + tagName + ">").getBytes(StandardCharsets.UTF_8);
+        return (rssChannel, out) -> {
+            List<List<String>> categories = rssChannel.getCategory();
+            for (int i = 0; i < categories.size(); i++) {
+                List<String> category = categories.get(i);
+                for (int j = 0; j < category.size(); j++) {
+                    out.write(start);
+                    out.writeAttributeValue(category.get(j));
+                    out.write(startEnd);
                 }
-                sw.writeEndElement();
-
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
+                for (int j = 0; j < category.size(); j++) {
+                    out.write(end);
                 }
             }
+        };
+    }
+
+    @Override
+    public void render(OutputStream outputStream, RssChannel rssChannel) throws IOException {
+        if (rssChannel != null) {
+            render(outputStream, rssChannel.snapshot());
+        }
+    }
+
+    /**
+     * Renders an RSS Channel snapshot as UTF-8 with the compiled template.
+     * @param outputStream The output stream
+     * @param rssChannel An RSS Channel snapshot
+     * @throws IOException if an I/O error occurs
+     */
+    public void render(OutputStream outputStream, RssChannelSnapshot rssChannel) throws IOException {
+        if (rssChannel == null) {
+            return;
         }
+        XmlOutput out = new XmlOutput(outputStream);
+        template().render(rssChannel, out);
+        out.flush();
+    }
 
+    @Override
+    public void render(Writer writer, RssChannel rssChannel) {
+        if (rssChannel != null) {
+            render(writer, rssChannel.snapshot());
+        }
     }
 
     /**
-     *
-     * @param sw An XML Stream writer
-     * @param rssChannel An RSS Channel
+     * Renders an RSS Channel snapshot with the compiled template, decoding its UTF-8 output to the writer. Use it with channels frozen with {@link RssChannel#freeze()} to render without copying the channel.
+     * The writer is flushed once, after the channel is rendered.
+     * @param writer The writer
+     * @param rssChannel An RSS Channel snapshot
      */
-    protected void writeRssChannel(XMLStreamWriter sw, RssChannel rssChannel) {
-        writeElement(sw, TITLE, rssChannel.getTitle());
-        writeElement(sw, LINK, rssChannel.getLink());
-        if (rssChannel.getImage().isPresent()) {
-            try {
-                sw.writeStartElement(IMAGE);
-                RssChannelImage image = rssChannel.getImage().get();
-                writeElement(sw, TITLE, image.getTitle());
-                writeElement(sw, LINK, image.getLink());
-                writeElement(sw, URL, image.getUrl());
-                image.getWidth().ifPresent(width -> writeElement(sw, WIDTH, width));
-                image.getWidth().ifPresent(height -> writeElement(sw, HEIGHT, height));
-                image.getDescription().ifPresent(description -> writeElement(sw, DESCRIPTION, description));
-                sw.writeEndElement();
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
-                }
-            }
+    public void render(Writer writer, RssChannelSnapshot rssChannel) {
+        if (rssChannel == null) {
+            return;
         }
-        writeElement(sw, DESCRIPTION, rssChannel.getDescription());
-        rssChannel.getLanguage().ifPresent(language -> writeElement(sw, LANGUAGE, language.getLanguageCode()));
-        rssChannel.getCopyright().ifPresent(copyright -> writeElement(sw, COPYRIGHT, copyright));
-        rssChannel.getPubDate().ifPresent(pubDate -> writeElement(sw, PUB_DATE, pubDate));
-        if (rssChannel.getCategory().isPresent()) {
-            for (List<String> categoryList : rssChannel.getCategory().get()) {
-                writeCategory(sw, categoryList, CATEGORY);
+        try {
+            XmlOutput out = new XmlOutput(new DecodingOutputStream(writer));
+            template().render(rssChannel, out);
+            out.flushBuffer();
+            writer.flush();
+        } catch (IOException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error(e.getMessage());
             }
         }
+    }
 
-        if (rssChannel.getSkipHours().isPresent()) {
-            try {
-            sw.writeStartElement(SKIP_HOURS);
-            for (RssSkipHours skipHours : rssChannel.getSkipHours().get()) {
-                writeElement(sw, HOUR, String.valueOf(skipHours.getValue()));
-            }
-            sw.writeEndElement();
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
-                }
-            }
+    private static void writeRssElements(@NonNull RssChannelSnapshot rssChannel, @NonNull XmlOutput out) throws IOException {
+        if (rssChannel.getElements() != null) {
+            rssChannel.getElements().writeTo(out);
         }
+    }
 
-        if (rssChannel.getSkipDays().isPresent()) {
-            try {
-                sw.writeStartElement(SKIP_DAYS);
-                for (RssSkipDays skipDay : rssChannel.getSkipDays().get()) {
-                    writeElement(sw, DAY, String.valueOf(skipDay.getDayName()));
-                }
-                sw.writeEndElement();
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
-                }
+    private static void writeRssElements(@NonNull RssItemSnapshot rssItem, @NonNull XmlOutput out) throws IOException {
+        if (rssItem.getElements() != null) {
+            rssItem.getElements().writeTo(out);
+        }
+    }
+
+    // the namespaces are declared on the elements, so that feeds without links keep the attributes of the rss element
+    private static void writeLinks(@NonNull RssChannelSnapshot rssChannel, @NonNull XmlOutput out) throws IOException {
+        List<AtomLink> links = rssChannel.getLinks();
+        for (int i = 0; i < links.size(); i++) {
+            out.write(ATOM_LINK_REL);
+            out.writeAttributeValue(links.get(i).getRel());
+            out.write(ATOM_LINK_HREF);
+            out.writeAttributeValue(links.get(i).getHref());
+            out.write(ATOM_LINK_END);
+        }
+        if (rssChannel.isArchive()) {
+            out.write(ARCHIVE);
+        }
+    }
+
+    // declares the namespaces of the RssElement properties present in the channel
+    private void writeNamespaces(@NonNull RssChannelSnapshot rssChannel, @NonNull XmlOutput out) throws IOException {
+        if (rssChannel.getNamespaces().isEmpty()) {
+            return;
+        }
+        Map<String, String> attributes = rssAttributes();
+        for (Map.Entry<String, String> namespace : rssChannel.getNamespaces().entrySet()) {
+            if (!attributes.containsKey(namespace.getKey())) {
+                out.write(' ');
+                out.writeText(namespace.getKey());
+                out.write(ATTRIBUTE_VALUE_START);
+                out.writeAttributeValue(namespace.getValue());
+                out.write('"');
             }
         }
+    }
 
-        if (rssChannel.getTextInput().isPresent()) {
-            RssTextInput textInput = rssChannel.getTextInput().get();
-            try {
-                sw.writeStartElement(TEXT_INPUT);
-                writeElement(sw, TITLE, textInput.getTitle());
-                writeElement(sw, NAME, textInput.getName());
-                writeElement(sw, LINK, textInput.getLink());
-                writeElement(sw, DESCRIPTION, textInput.getDescription());
-                sw.writeEndElement();
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
-                }
+    // each item is a fragment, so that an incremental gzip output compresses it once
+    private static void endFragment(@NonNull RssItemSnapshot rssItem, @NonNull XmlOutput out) throws IOException {
+        out.endFragment();
+    }
+
+    // RSS attributes are computed once, keeping the iteration order of getRssAttributes(), followed by the namespaces of the extensions
+    @NonNull
+    private Map<String, String> rssAttributes() {
+        Map<String, String> attributes = rssAttributes;
+        if (attributes == null) {
+            Map<String, String> compiled = new LinkedHashMap<>(getRssAttributes());
+            for (RssNamespaceExtension extension : extensions) {
+                compiled.putIfAbsent(XMLNS + extension.getPrefix(), extension.getNamespace());
             }
+            attributes = Collections.unmodifiableMap(compiled);
+            rssAttributes = attributes;
         }
+        return attributes;
+    }
 
-        if (rssChannel.getItem().isPresent()) {
-            for (RssItem rssItem : rssChannel.getItem().get()) {
-                try {
-                    sw.writeStartElement(ITEM);
-                    writeRssItem(sw, rssItem);
-                    sw.writeEndElement();
-                } catch (XMLStreamException e) {
-                    if (LOG.isErrorEnabled()) {
-                        LOG.error(e.getMessage());
-                    }
-                }
+    @NonNull
+    private XmlTemplate<RssChannelSnapshot> template() {
+        XmlTemplate<RssChannelSnapshot> compiled = template;
+        if (compiled == null) {
+            XmlTemplate.Builder<RssItemSnapshot> item = XmlTemplate.<RssItemSnapshot>builder()
+                    .segment(DefaultRssFeedRenderer::endFragment)
+                    .constant("<" + ITEM + ">");
+            compileRssItem(item);
+            XmlTemplate.Builder<RssChannelSnapshot> channel = XmlTemplate.<RssChannelSnapshot>builder()
+                    .constant("<?xml version=\"1.0\" encoding=\"UTF-8\"?><" + RSS);
+            for (Map.Entry<String, String> attribute : rssAttributes().entrySet()) {
+                channel.constant(" " + attribute.getKey() + "=\"" + XmlEscaper.escape(attribute.getValue()).replace("\"", "&quot;") + "\"");
             }
+            channel.segment(this::writeNamespaces)
+                    .constant("><" + CHANNEL + ">");
+            compileRssChannel(channel, item.constant("</" + ITEM + ">").segment(DefaultRssFeedRenderer::endFragment).build());
+            compiled = channel.constant("</" + CHANNEL + "></" + RSS + ">").build();
+            template = compiled;
         }
+        return compiled;
     }
 
-    @Override
-    public void render(Writer writer, RssChannel rssChannel) {
-            XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
-            try {
-                final XMLStreamWriter sw = xmlOutputFactory.createXMLStreamWriter(writer);
+    /**
+     * Output stream which decodes UTF-8 to a writer, keeping the bytes of an incomplete character until the next write.
+     */
+    private static final class DecodingOutputStream extends OutputStream {
+        private static final int BUFFER_SIZE = 2048;
+        private static final int MAX_UTF8_LENGTH = 4;
 
-                if (sw != null && rssChannel != null) {
-                    sw.writeStartDocument("UTF-8", "1.0");
-                    sw.writeStartElement(RSS);
-                    for (String key : getRssAttributes().keySet()) {
-                        sw.writeAttribute(key, getRssAttributes().get(key));
-                    }
+        private final Writer writer;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        private final ByteBuffer incomplete = ByteBuffer.allocate(MAX_UTF8_LENGTH);
+        private final byte[] single = new byte[1];
 
-                    sw.writeStartElement(CHANNEL);
-                    writeRssChannel(sw, rssChannel);
-                    sw.writeEndElement();
+        private DecodingOutputStream(Writer writer) {
+            this.writer = writer;
+        }
 
-                    sw.writeEndElement();
-                    sw.writeEndDocument();
-                }
-            } catch (XMLStreamException e) {
-                if (LOG.isErrorEnabled()) {
-                    LOG.error(e.getMessage());
-                }
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer in = ByteBuffer.wrap(b, off, len);
+            while (incomplete.position() > 0 && in.hasRemaining()) {
+                incomplete.put(in.get());
+                incomplete.flip();
+                decode(incomplete);
+                incomplete.compact();
             }
+            decode(in);
+            incomplete.put(in);
+        }
+
+        private void decode(ByteBuffer in) throws IOException {
+            CoderResult result;
+            do {
+                result = decoder.decode(in, chars, false);
+                writer.write(chars.array(), 0, chars.position());
+                chars.clear();
+            } while (result.isOverflow());
+        }
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text which has been escaped for XML and encoded as UTF-8 once, so that it can be copied verbatim on every render.
+ * The text is either escaped character data or a CDATA section.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class EncodedText {
+    @NonNull
+    private final String text;
+
+    @NonNull
+    private final String encoded;
+
+    @NonNull
+    private final byte[] bytes;
+
+    private final boolean cdata;
+
+    private EncodedText(@NonNull String text, @NonNull String encoded, boolean cdata) {
+        this.text = text;
+        this.encoded = encoded;
+        this.bytes = encoded.getBytes(StandardCharsets.UTF_8);
+        this.cdata = cdata;
+    }
+
+    /**
+     * @param text Text
+     * @return The text escaped as XML character data
+     */
+    @NonNull
+    public static EncodedText of(@NonNull String text) {
+        return new EncodedText(text, XmlEscaper.escape(text), false);
+    }
+
+    /**
+     * Wraps the text in a CDATA section. Occurrences of {@code ]]>} are split across two sections.
+     * @param text Text
+     * @return The text as a CDATA section
+     */
+    @NonNull
+    public static EncodedText cdata(@NonNull String text) {
+        return new EncodedText(text, XmlEscaper.cdata(text), true);
+    }
+
+    /**
+     * Encodes a text which may contain markup, such as an item description, as {@link XmlEscaper#classify(String)} does.
+     * @param text Text
+     * @return The text as a CDATA section if it contains markup, escaped otherwise
+     */
+    @NonNull
+    public static EncodedText ofMarkup(@NonNull String text) {
+        return switch (XmlEscaper.classify(text)) {
+            case CDATA, SPLIT_CDATA -> cdata(text);
+            default -> of(text);
+        };
+    }
+
+    /**
+     * @return The original text
+     */
+    @NonNull
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return The escaped text, including the CDATA markers for a CDATA section
+     */
+    @NonNull
+    public String getEncoded() {
+        return encoded;
+    }
+
+    /**
+     * @return Whether the text is written as a CDATA section
+     */
+    public boolean isCData() {
+        return cdata;
+    }
+
+    /**
+     * @return The number of UTF-8 bytes of the escaped text
+     */
+    public int getByteLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Copies the escaped UTF-8 bytes to the output stream.
+     * @param outputStream Output stream
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(@NonNull OutputStream outputStream) throws IOException {
+        outputStream.write(bytes);
+    }
+
+    /**
+     * Copies the escaped text to the writer.
+     * @param writer Writer
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(@NonNull Writer writer) throws IOException {
+        writer.write(encoded);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EncodedText that = (EncodedText) o;
+        return cdata == that.cdata && text.equals(that.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * text.hashCode() + (cdata ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
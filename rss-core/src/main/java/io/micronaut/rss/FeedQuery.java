@@ -0,0 +1,247 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the items a client requests from an {@link RssFeedProvider}, so that providers can push the limit, the date and the category down into their queries.
+ * Providers which do not support a query apply it in memory with {@link #apply(RssChannel)}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class FeedQuery {
+
+    /**
+     * A query which keeps every item in the order of the provider.
+     */
+    public static final FeedQuery ALL = builder().build();
+
+    @Nullable
+    private final Integer limit;
+
+    @Nullable
+    private final ZonedDateTime since;
+
+    @Nullable
+    private final String category;
+
+    @Nullable
+    private final Sort sort;
+
+    private FeedQuery(@Nullable Integer limit, @Nullable ZonedDateTime since, @Nullable String category, @Nullable Sort sort) {
+        this.limit = limit;
+        this.since = since;
+        this.category = category;
+        this.sort = sort;
+    }
+
+    /**
+     * @return The maximum number of items or {@code null} if the number of items is not limited
+     */
+    @Nullable
+    public Integer getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The date since which items were published, inclusive, or {@code null} if items of any date are requested
+     */
+    @Nullable
+    public ZonedDateTime getSince() {
+        return since;
+    }
+
+    /**
+     * @return The category of the requested items or {@code null} if items of any category are requested
+     */
+    @Nullable
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * @return The order of the items by publication date or {@code null} to keep the order of the provider
+     */
+    @Nullable
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * @return Whether the query keeps every item in the order of the provider
+     */
+    public boolean isAll() {
+        return limit == null && since == null && category == null && sort == null;
+    }
+
+    /**
+     * Filters, sorts and limits the items of a channel in memory. Items without a publication date are not kept when a date is requested and are sorted last.
+     * @param rssChannel RSS Channel
+     * @return The channel itself if the query keeps every item, a frozen copy with the requested items otherwise
+     */
+    @NonNull
+    public RssChannel apply(@NonNull RssChannel rssChannel) {
+        if (isAll()) {
+            return rssChannel;
+        }
+        return rssChannel.withSelectedItems(this::select);
+    }
+
+    // filters before sorting, so only the kept items are sorted, and limits last
+    @NonNull
+    private List<RssItemSnapshot> select(@NonNull List<RssItemSnapshot> items) {
+        List<RssItemSnapshot> selected = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            RssItemSnapshot item = items.get(i);
+            if (matches(item)) {
+                selected.add(item);
+            }
+        }
+        if (sort != null) {
+            Comparator<ZonedDateTime> dates = sort == Sort.NEWEST_FIRST ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            selected.sort(Comparator.comparing(RssItemSnapshot::getPubDate, Comparator.nullsLast(dates)));
+        }
+        return limit != null && limit < selected.size() ? selected.subList(0, limit) : selected;
+    }
+
+    private boolean matches(@NonNull RssItemSnapshot item) {
+        if (since != null && (item.getPubDate() == null || item.getPubDate().isBefore(since))) {
+            return false;
+        }
+        return category == null || item.getCategory().contains(category);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FeedQuery that = (FeedQuery) o;
+        return Objects.equals(limit, that.limit)
+                && Objects.equals(since == null ? null : since.toInstant(), that.since == null ? null : that.since.toInstant())
+                && Objects.equals(category, that.category)
+                && sort == that.sort;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, since == null ? null : since.toInstant(), category, sort);
+    }
+
+    @Override
+    public String toString() {
+        return "limit=" + limit + "&since=" + (since == null ? null : since.toInstant()) + "&category=" + category + "&sort=" + sort;
+    }
+
+    /**
+     * @return A query builder
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The order of the items by publication date.
+     */
+    public enum Sort {
+        /**
+         * The most recently published items first.
+         */
+        NEWEST_FIRST,
+
+        /**
+         * The least recently published items first.
+         */
+        OLDEST_FIRST
+    }
+
+    /**
+     * Builder for {@link FeedQuery}.
+     */
+    public static final class Builder {
+        private Integer limit;
+        private ZonedDateTime since;
+        private String category;
+        private Sort sort;
+
+        private Builder() {
+        }
+
+        /**
+         * @param limit The maximum number of items
+         * @return The builder
+         */
+        @NonNull
+        public Builder limit(@Nullable Integer limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * @param since The date since which items were published, inclusive
+         * @return The builder
+         */
+        @NonNull
+        public Builder since(@Nullable ZonedDateTime since) {
+            this.since = since;
+            return this;
+        }
+
+        /**
+         * @param category The category of the items
+         * @return The builder
+         */
+        @NonNull
+        public Builder category(@Nullable String category) {
+            this.category = category;
+            return this;
+        }
+
+        /**
+         * @param sort The order of the items by publication date
+         * @return The builder
+         */
+        @NonNull
+        public Builder sort(@Nullable Sort sort) {
+            this.sort = sort;
+            return this;
+        }
+
+        /**
+         * @return The query
+         */
+        @NonNull
+        public FeedQuery build() {
+            if (limit != null && limit < 0) {
+                throw new IllegalArgumentException("limit must not be negative");
+            }
+            return new FeedQuery(limit, since, category, sort);
+        }
+    }
+}
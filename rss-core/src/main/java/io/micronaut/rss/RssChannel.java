@@ -27,8 +27,9 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * @see <a href="https://cyber.harvard.edu/rss/rss.html">RSS 2.0 Specification</a>
@@ -103,6 +104,9 @@ public class RssChannel {
     @Nullable
     private List<RssItem> item = new ArrayList<>();
 
+    @Nullable
+    private RssChannelSnapshot frozenSnapshot;
+
     /**
      * The name of the channel.
      *
@@ -136,7 +140,7 @@ public class RssChannel {
         if (language == null) {
             return Optional.empty();
         }
-        return RssLanguage.of(language.getLanguageCode());
+        return Optional.of(language);
     }
 
     /**
@@ -484,6 +488,117 @@ public class RssChannel {
         this.item = item;
     }
 
+    /**
+     * Returns an immutable snapshot of the channel and its items, as consumed by the renderers.
+     * A frozen channel returns the snapshot taken by {@link #freeze()}. Otherwise a new snapshot is taken on every call, so that every modification of the channel, of its items or of the values they hold is rendered.
+     * @return An immutable snapshot of the channel
+     */
+    @NonNull
+    public RssChannelSnapshot snapshot() {
+        RssChannelSnapshot frozen = frozenSnapshot;
+        return frozen != null ? frozen : createSnapshot(false);
+    }
+
+    /**
+     * Freezes the channel. Its snapshot is taken once, with its texts escaped and encoded as {@link EncodedText}, and reused by every subsequent render.
+     * Modifications made to the channel or its items after freezing are not rendered.
+     * @return The frozen channel
+     */
+    @NonNull
+    public RssChannel freeze() {
+        frozenSnapshot = createSnapshot(true);
+        return this;
+    }
+
+    /**
+     * Returns a frozen copy of the channel which only contains the items accepted by the filter, such as the items added since a previous version of the feed.
+     * The copy is rendered from {@link RssChannelSnapshot#withItems(List)}, so the elements of subclasses are kept. Renderers which read the properties of a subclass instead of its snapshot do not see them.
+     * @param filter Accepts the items to keep
+     * @return A frozen copy of the channel
+     */
+    @NonNull
+    public RssChannel withItems(@NonNull Predicate<? super RssItemSnapshot> filter) {
+        return withSelectedItems(items -> items.stream().filter(filter).toList());
+    }
+
+    /**
+     * Returns a frozen copy of the channel with the items selected from the items of its snapshot, for example filtered, sorted and limited by a {@link FeedQuery}.
+     * The copy is rendered from {@link RssChannelSnapshot#withItems(List)}, so the elements of subclasses are kept.
+     * @param selection Selects the items of the copy among the items of the snapshot of this channel
+     * @return A frozen copy of the channel
+     */
+    @NonNull
+    public RssChannel withSelectedItems(@NonNull UnaryOperator<List<RssItemSnapshot>> selection) {
+        RssChannelSnapshot snapshot = snapshot();
+        List<RssItemSnapshot> selected = selection.apply(snapshot.getItem());
+        return copy(rssItems(selected), snapshot.withItems(selected));
+    }
+
+    /**
+     * Returns a frozen copy of the channel which only contains a range of its items and the given Atom links, such as a page of an archived feed.
+     * The copy is rendered from {@link RssChannelSnapshot#withLinks(List, List, boolean)}, so the elements of subclasses are kept.
+     * @param fromIndex The index of the first item of the page, inclusive
+     * @param toIndex The index of the last item of the page, exclusive
+     * @param links The {@code atom:link} elements of the page
+     * @param archive Whether the page is an archive document, whose items do not change
+     * @return A frozen copy of the channel
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc5005">RFC 5005 Feed Paging and Archiving</a>
+     */
+    @NonNull
+    public RssChannel withPage(int fromIndex, int toIndex, @NonNull List<AtomLink> links, boolean archive) {
+        RssChannelSnapshot snapshot = snapshot();
+        List<RssItemSnapshot> page = snapshot.getItem().subList(fromIndex, toIndex);
+        return copy(rssItems(page), snapshot.withLinks(page, links, archive));
+    }
+
+    // the items the given item snapshots were taken from
+    @NonNull
+    private static List<RssItem> rssItems(@NonNull List<RssItemSnapshot> itemSnapshots) {
+        List<RssItem> rssItems = new ArrayList<>(itemSnapshots.size());
+        for (RssItemSnapshot itemSnapshot : itemSnapshots) {
+            rssItems.add(itemSnapshot.getRssItem());
+        }
+        return rssItems;
+    }
+
+    // a plain channel with the fields of this one, rendered from the given snapshot
+    @NonNull
+    private RssChannel copy(@NonNull List<RssItem> items, @NonNull RssChannelSnapshot snapshot) {
+        RssChannel copy = new RssChannel();
+        copy.title = title;
+        copy.link = link;
+        copy.description = description;
+        copy.language = language;
+        copy.copyright = copyright;
+        copy.managingEditor = managingEditor;
+        copy.webMaster = webMaster;
+        copy.pubDate = pubDate;
+        copy.lastBuildDate = lastBuildDate;
+        copy.category = category;
+        copy.generator = generator;
+        copy.docs = docs;
+        copy.cloud = cloud;
+        copy.ttl = ttl;
+        copy.image = image;
+        copy.rating = rating;
+        copy.textInput = textInput;
+        copy.skipHours = skipHours;
+        copy.skipDays = skipDays;
+        copy.item = items;
+        copy.frozenSnapshot = snapshot;
+        return copy;
+    }
+
+    /**
+     * Subclasses adding elements to the channel should return a subclass of {@link RssChannelSnapshot}.
+     * @param encode Whether to encode the texts of the snapshot
+     * @return A new snapshot of the channel
+     */
+    @NonNull
+    protected RssChannelSnapshot createSnapshot(boolean encode) {
+        return new RssChannelSnapshot(this, encode);
+    }
+
     /**
      * @param title The name of the channel.
      * @param link The URL to the HTML website corresponding to the channel.
@@ -716,5 +831,14 @@ public class RssChannel {
         public RssChannel build() {
             return this.rssChannel;
         }
+
+        /**
+         * Builds a frozen RSS Channel. See {@link RssChannel#freeze()}.
+         * @return A frozen RSS Channel.
+         */
+        @NonNull
+        public RssChannel freeze() {
+            return this.rssChannel.freeze();
+        }
     }
 }
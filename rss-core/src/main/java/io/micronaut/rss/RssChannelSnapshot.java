@@ -0,0 +1,503 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.language.RssLanguage;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of a {@link RssChannel} and its items. Accessors return the raw values, {@code null} when absent, so that rendering a channel does not allocate.
+ * Images and text inputs are rendered once per channel and are held by reference. Snapshots of frozen channels additionally hold their texts as {@link EncodedText}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public class RssChannelSnapshot {
+
+    private final String title;
+
+    private final String link;
+
+    private final String description;
+
+    @Nullable
+    private final RssLanguage language;
+
+    @Nullable
+    private final String copyright;
+
+    @Nullable
+    private final String managingEditor;
+
+    @Nullable
+    private final String webMaster;
+
+    @Nullable
+    private final ZonedDateTime pubDate;
+
+    @Nullable
+    private final ZonedDateTime lastBuildDate;
+
+    @NonNull
+    private final List<List<String>> category;
+
+    @Nullable
+    private final String generator;
+
+    @Nullable
+    private final String docs;
+
+    @Nullable
+    private final String cloud;
+
+    @Nullable
+    private final Integer ttl;
+
+    @Nullable
+    private final RssChannelImage image;
+
+    @Nullable
+    private final String rating;
+
+    @Nullable
+    private final RssTextInput textInput;
+
+    @Nullable
+    private final List<RssSkipHours> skipHours;
+
+    @Nullable
+    private final List<RssSkipDays> skipDays;
+
+    @NonNull
+    private final List<RssItemSnapshot> item;
+
+    @Nullable
+    private final EncodedText encodedTitle;
+
+    @Nullable
+    private final EncodedText encodedLink;
+
+    @Nullable
+    private final EncodedText encodedDescription;
+
+    @Nullable
+    private final EncodedText encodedCopyright;
+
+    @Nullable
+    private final EncodedText encodedPubDate;
+
+    @Nullable
+    private final RssElementValues elements;
+
+    @NonNull
+    private final Map<String, String> namespaces;
+
+    @NonNull
+    private final List<AtomLink> links;
+
+    private final boolean archive;
+
+    /**
+     * Copies the values of the given channel and its items.
+     * @param rssChannel RSS Channel
+     */
+    public RssChannelSnapshot(@NonNull RssChannel rssChannel) {
+        this(rssChannel, false);
+    }
+
+    /**
+     * Copies the values of the given channel and its items.
+     * @param rssChannel RSS Channel
+     * @param encode Whether to encode the texts of the channel and its items once, see {@link EncodedText}
+     */
+    public RssChannelSnapshot(@NonNull RssChannel rssChannel, boolean encode) {
+        this.title = rssChannel.getTitle();
+        this.link = rssChannel.getLink();
+        this.description = rssChannel.getDescription();
+        this.language = rssChannel.getLanguage().orElse(null);
+        this.copyright = rssChannel.getCopyright().orElse(null);
+        this.managingEditor = rssChannel.getManagingEditor().orElse(null);
+        this.webMaster = rssChannel.getWebMaster().orElse(null);
+        this.pubDate = rssChannel.getPubDate().orElse(null);
+        this.lastBuildDate = rssChannel.getLastBuildDate().orElse(null);
+        this.category = rssChannel.getCategory()
+                .map(RssChannelSnapshot::copyCategories)
+                .orElse(Collections.emptyList());
+        this.generator = rssChannel.getGenerator().orElse(null);
+        this.docs = rssChannel.getDocs().orElse(null);
+        this.cloud = rssChannel.getCloud().orElse(null);
+        this.ttl = rssChannel.getTtl().orElse(null);
+        this.image = rssChannel.getImage().orElse(null);
+        this.rating = rssChannel.getRating().orElse(null);
+        this.textInput = rssChannel.getTextInput().orElse(null);
+        this.skipHours = rssChannel.getSkipHours().map(l -> Collections.unmodifiableList(new ArrayList<>(l))).orElse(null);
+        this.skipDays = rssChannel.getSkipDays().map(l -> Collections.unmodifiableList(new ArrayList<>(l))).orElse(null);
+        List<RssItemSnapshot> items = new ArrayList<>();
+        rssChannel.getItem().ifPresent(l -> {
+            for (RssItem rssItem : l) {
+                if (rssItem != null) {
+                    items.add(rssItem.createSnapshot(encode));
+                }
+            }
+        });
+        this.item = Collections.unmodifiableList(items);
+        this.encodedTitle = encode ? RssItemSnapshot.encode(title) : null;
+        this.encodedLink = encode ? RssItemSnapshot.encode(link) : null;
+        this.encodedDescription = encode ? RssItemSnapshot.encode(description) : null;
+        this.encodedCopyright = encode ? RssItemSnapshot.encode(copyright) : null;
+        this.encodedPubDate = encode ? RssItemSnapshot.encode(pubDate) : null;
+        this.elements = RssElementWriter.capture(rssChannel, encode);
+        this.namespaces = namespaces(elements, this.item);
+        this.links = Collections.emptyList();
+        this.archive = false;
+    }
+
+    /**
+     * Copies the given snapshot with other items. Subclasses must provide such a constructor to support {@link #withItems(List)}.
+     * @param snapshot RSS Channel snapshot
+     * @param item The items of the copy
+     */
+    protected RssChannelSnapshot(@NonNull RssChannelSnapshot snapshot, @NonNull List<RssItemSnapshot> item) {
+        this(snapshot, item, snapshot.links, snapshot.archive);
+    }
+
+    /**
+     * Copies the given snapshot with other items and Atom links. Subclasses must provide such a constructor to support {@link #withLinks(List, List, boolean)}.
+     * @param snapshot RSS Channel snapshot
+     * @param item The items of the copy
+     * @param links The {@code atom:link} elements of the copy
+     * @param archive Whether the copy is an archive document
+     */
+    protected RssChannelSnapshot(@NonNull RssChannelSnapshot snapshot,
+                                 @NonNull List<RssItemSnapshot> item,
+                                 @NonNull List<AtomLink> links,
+                                 boolean archive) {
+        this.title = snapshot.title;
+        this.link = snapshot.link;
+        this.description = snapshot.description;
+        this.language = snapshot.language;
+        this.copyright = snapshot.copyright;
+        this.managingEditor = snapshot.managingEditor;
+        this.webMaster = snapshot.webMaster;
+        this.pubDate = snapshot.pubDate;
+        this.lastBuildDate = snapshot.lastBuildDate;
+        this.category = snapshot.category;
+        this.generator = snapshot.generator;
+        this.docs = snapshot.docs;
+        this.cloud = snapshot.cloud;
+        this.ttl = snapshot.ttl;
+        this.image = snapshot.image;
+        this.rating = snapshot.rating;
+        this.textInput = snapshot.textInput;
+        this.skipHours = snapshot.skipHours;
+        this.skipDays = snapshot.skipDays;
+        this.item = Collections.unmodifiableList(new ArrayList<>(item));
+        this.encodedTitle = snapshot.encodedTitle;
+        this.encodedLink = snapshot.encodedLink;
+        this.encodedDescription = snapshot.encodedDescription;
+        this.encodedCopyright = snapshot.encodedCopyright;
+        this.encodedPubDate = snapshot.encodedPubDate;
+        this.elements = snapshot.elements;
+        this.namespaces = namespaces(elements, this.item);
+        this.links = List.copyOf(links);
+        this.archive = archive;
+    }
+
+    /**
+     * Returns a copy of this snapshot with other items, such as the items added since a previous version of the feed.
+     * Subclasses which add elements to the channel should override it to return an instance of their own type.
+     * @param item The items of the copy
+     * @return A copy of this snapshot with the given items
+     */
+    @NonNull
+    public RssChannelSnapshot withItems(@NonNull List<RssItemSnapshot> item) {
+        return new RssChannelSnapshot(this, item);
+    }
+
+    /**
+     * Returns a copy of this snapshot with other items and Atom links, such as a page of an archived feed.
+     * Subclasses which add elements to the channel should override it to return an instance of their own type.
+     * @param item The items of the copy
+     * @param links The {@code atom:link} elements of the copy
+     * @param archive Whether the copy is an archive document, marked with an {@code fh:archive} element
+     * @return A copy of this snapshot with the given items and links
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc5005">RFC 5005 Feed Paging and Archiving</a>
+     */
+    @NonNull
+    public RssChannelSnapshot withLinks(@NonNull List<RssItemSnapshot> item, @NonNull List<AtomLink> links, boolean archive) {
+        return new RssChannelSnapshot(this, item, links, archive);
+    }
+
+    /**
+     * @return The name of the channel.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return The URL to the HTML website corresponding to the channel.
+     */
+    public String getLink() {
+        return link;
+    }
+
+    /**
+     * @return Phrase or sentence describing the channel.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return The language the channel is written in.
+     */
+    @Nullable
+    public RssLanguage getLanguage() {
+        return language;
+    }
+
+    /**
+     * @return Copyright notice for content in the channel.
+     */
+    @Nullable
+    public String getCopyright() {
+        return copyright;
+    }
+
+    /**
+     * @return Email address for person responsible for editorial content.
+     */
+    @Nullable
+    public String getManagingEditor() {
+        return managingEditor;
+    }
+
+    /**
+     * @return Email address for person responsible for technical issues relating to channel.
+     */
+    @Nullable
+    public String getWebMaster() {
+        return webMaster;
+    }
+
+    /**
+     * @return The publication date for the content in the channel.
+     */
+    @Nullable
+    public ZonedDateTime getPubDate() {
+        return pubDate;
+    }
+
+    /**
+     * @return The last time the content of the channel changed.
+     */
+    @Nullable
+    public ZonedDateTime getLastBuildDate() {
+        return lastBuildDate;
+    }
+
+    /**
+     * @return The categories of the channel. Empty if the channel has no category.
+     */
+    @NonNull
+    public List<List<String>> getCategory() {
+        return category;
+    }
+
+    /**
+     * @return The program used to generate the channel.
+     */
+    @Nullable
+    public String getGenerator() {
+        return generator;
+    }
+
+    /**
+     * @return A URL that points to the documentation for the format used in the RSS file.
+     */
+    @Nullable
+    public String getDocs() {
+        return docs;
+    }
+
+    /**
+     * @return The cloud of the channel.
+     */
+    @Nullable
+    public String getCloud() {
+        return cloud;
+    }
+
+    /**
+     * @return Number of minutes that indicates how long a channel can be cached before refreshing from the source.
+     */
+    @Nullable
+    public Integer getTtl() {
+        return ttl;
+    }
+
+    /**
+     * @return The image of the channel.
+     */
+    @Nullable
+    public RssChannelImage getImage() {
+        return image;
+    }
+
+    /**
+     * @return The PICS rating for the channel.
+     */
+    @Nullable
+    public String getRating() {
+        return rating;
+    }
+
+    /**
+     * @return The text input box of the channel.
+     */
+    @Nullable
+    public RssTextInput getTextInput() {
+        return textInput;
+    }
+
+    /**
+     * @return The hours in which aggregators may not read the channel.
+     */
+    @Nullable
+    public List<RssSkipHours> getSkipHours() {
+        return skipHours;
+    }
+
+    /**
+     * @return The days in which aggregators may not read the channel.
+     */
+    @Nullable
+    public List<RssSkipDays> getSkipDays() {
+        return skipDays;
+    }
+
+    /**
+     * @return The items of the channel. Empty if the channel has no items.
+     */
+    @NonNull
+    public List<RssItemSnapshot> getItem() {
+        return item;
+    }
+
+    /**
+     * @return The encoded name of the channel, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedTitle() {
+        return encodedTitle;
+    }
+
+    /**
+     * @return The encoded URL of the channel, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedLink() {
+        return encodedLink;
+    }
+
+    /**
+     * @return The encoded description of the channel, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedDescription() {
+        return encodedDescription;
+    }
+
+    /**
+     * @return The encoded copyright notice of the channel, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedCopyright() {
+        return encodedCopyright;
+    }
+
+    /**
+     * @return The encoded publication date of the channel, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedPubDate() {
+        return encodedPubDate;
+    }
+
+    /**
+     * @return The values of the {@link RssElement} properties of the channel, {@code null} if its type has none
+     */
+    @Nullable
+    public RssElementValues getElements() {
+        return elements;
+    }
+
+    /**
+     * @return The namespaces of the {@link RssElement} properties of the channel and its items keyed by {@code xmlns:} attribute name. Empty if they have none.
+     */
+    @NonNull
+    public Map<String, String> getNamespaces() {
+        return namespaces;
+    }
+
+    /**
+     * @return The {@code atom:link} elements of the channel, such as the links between the pages of an archived feed
+     */
+    @NonNull
+    public List<AtomLink> getLinks() {
+        return links;
+    }
+
+    /**
+     * @return Whether the channel is an archive document of an archived feed, whose items do not change
+     */
+    public boolean isArchive() {
+        return archive;
+    }
+
+    @NonNull
+    private static List<List<String>> copyCategories(@NonNull List<List<String>> categories) {
+        List<List<String>> result = new ArrayList<>(categories.size());
+        for (List<String> categoryList : categories) {
+            result.add(Collections.unmodifiableList(new ArrayList<>(categoryList)));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    // merges the namespaces of the channel and its items, copying them only when an item declares a new one
+    @NonNull
+    private static Map<String, String> namespaces(@Nullable RssElementValues elements, @NonNull List<RssItemSnapshot> items) {
+        Map<String, String> namespaces = elements != null ? elements.getNamespaces() : Collections.emptyMap();
+        for (int i = 0; i < items.size(); i++) {
+            RssElementValues itemElements = items.get(i).getElements();
+            if (itemElements != null && !namespaces.keySet().containsAll(itemElements.getNamespaces().keySet())) {
+                Map<String, String> merged = new TreeMap<>(namespaces);
+                itemElements.getNamespaces().forEach(merged::putIfAbsent);
+                namespaces = Collections.unmodifiableMap(merged);
+            }
+        }
+        return namespaces;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a property of a class annotated with {@link RssExtension} to an element, for example {@code @RssElement(namespace = "http://purl.org/dc/elements/1.1/", name = "dc:creator")}.
+ * Strings are escaped, dates are written as RFC 822 dates and an element is written per value of a collection. Null values are not written.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface RssElement {
+
+    /**
+     * A prefixed name requires a {@link #namespace()}. Invalid names fail the first snapshot of the type with an {@link IllegalArgumentException}.
+     * @return The qualified element name, for example {@code dc:creator}
+     */
+    String name();
+
+    /**
+     * @return The namespace URI declared in the {@code rss} element for the prefix of the name
+     */
+    String namespace() default "";
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Values of the {@link RssElement} properties of a channel or an item, captured by its snapshot.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class RssElementValues {
+    private final RssElementWriter<?> writer;
+    private final Object[] values;
+
+    RssElementValues(@NonNull RssElementWriter<?> writer, @NonNull Object[] values) {
+        this.writer = writer;
+        this.values = values;
+    }
+
+    /**
+     * @return The number of properties
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @param index Property index
+     * @return The qualified element name, for example {@code dc:creator}
+     */
+    @NonNull
+    public String getName(int index) {
+        return writer.getName(index);
+    }
+
+    /**
+     * @param index Property index
+     * @return The value, an unmodifiable list for collections, an {@link EncodedText} for values of frozen channels or {@code null}
+     */
+    @Nullable
+    public Object getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return The namespaces of the elements keyed by {@code xmlns:} attribute name, for example {@code xmlns:dc}
+     */
+    @NonNull
+    public Map<String, String> getNamespaces() {
+        return writer.getNamespaces();
+    }
+
+    /**
+     * Writes an element per non-null value.
+     * @param out The output
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(@NonNull XmlOutput out) throws IOException {
+        writer.write(values, out);
+    }
+}
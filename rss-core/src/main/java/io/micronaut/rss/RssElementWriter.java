@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.rss.date.FeedDateFormatter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Writes the {@link RssElement} properties of a type. Compiled once per type from its bean introspection.
+ *
+ * @param <T> The model type
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+final class RssElementWriter<T> {
+    private static final String NAMESPACE = "namespace";
+    private static final String NAME = "name";
+    private static final String XMLNS = "xmlns:";
+
+    private static final RssElementWriter<Object> NONE = new RssElementWriter<>(Object.class, Collections.emptyList());
+
+    private static final ClassValue<RssElementWriter<?>> WRITERS = new ClassValue<>() {
+        @Override
+        protected RssElementWriter<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final BeanProperty<T, Object>[] properties;
+    private final String[] names;
+    private final byte[][] starts;
+    private final byte[][] ends;
+    private final Map<String, String> namespaces;
+
+    @SuppressWarnings("unchecked")
+    private RssElementWriter(Class<?> type, List<BeanProperty<T, Object>> properties) {
+        this.properties = properties.toArray(new BeanProperty[0]);
+        this.names = new String[this.properties.length];
+        this.starts = new byte[this.properties.length][];
+        this.ends = new byte[this.properties.length][];
+        Map<String, String> declared = new TreeMap<>();
+        for (int i = 0; i < this.properties.length; i++) {
+            BeanProperty<T, Object> property = this.properties[i];
+            String name = property.stringValue(RssElement.class, NAME).orElse(property.getName());
+            String namespace = property.stringValue(RssElement.class, NAMESPACE).orElse("");
+            int colon = name.indexOf(':');
+            String prefix = colon >= 0 ? name.substring(0, colon) : null;
+            if ((prefix != null && (!isName(prefix) || prefix.equalsIgnoreCase("xmlns"))) || !isName(name.substring(colon + 1))) {
+                throw new IllegalArgumentException("@RssElement name [" + name + "] of property [" + property.getName() + "] of type [" + type.getName() + "] is not a valid XML element name");
+            }
+            if (prefix != null) {
+                if (namespace.isEmpty()) {
+                    throw new IllegalArgumentException("@RssElement name [" + name + "] of property [" + property.getName() + "] of type [" + type.getName() + "] has a prefix but no namespace");
+                }
+                String previous = declared.putIfAbsent(XMLNS + prefix, namespace);
+                if (previous != null && !previous.equals(namespace)) {
+                    throw new IllegalArgumentException("@RssElement prefix [" + prefix + "] of type [" + type.getName() + "] is bound to both [" + previous + "] and [" + namespace + "]");
+                }
+            }
+            names[i] = name;
+            starts[i] = ("<" + name + ">").getBytes(StandardCharsets.UTF_8);
+            ends[i] = ("</" + name + ">").getBytes(StandardCharsets.UTF_8);
+        }
+        this.namespaces = Collections.unmodifiableMap(declared);
+    }
+
+    /**
+     * Captures the values of the {@link RssElement} properties of a model.
+     * @param model An RSS Channel or an RSS Item
+     * @param encode Whether to encode the values once, see {@link EncodedText}
+     * @return The values or {@code null} if the model type has no {@link RssElement} properties
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static RssElementValues capture(@NonNull Object model, boolean encode) {
+        RssElementWriter<Object> writer = (RssElementWriter<Object>) WRITERS.get(model.getClass());
+        if (writer.properties.length == 0) {
+            return null;
+        }
+        Object[] values = new Object[writer.properties.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = copy(writer.properties[i].get(model), encode);
+        }
+        return new RssElementValues(writer, values);
+    }
+
+    /**
+     * @return The namespaces of the {@link RssElement} properties of the type keyed by {@code xmlns:} attribute name
+     */
+    @NonNull
+    Map<String, String> getNamespaces() {
+        return namespaces;
+    }
+
+    /**
+     * @param index Property index
+     * @return The qualified element name
+     */
+    @NonNull
+    String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Writes the values captured by {@link #capture(Object, boolean)}.
+     * @param values Values
+     * @param out The output
+     * @throws IOException if an I/O error occurs
+     */
+    void write(@NonNull Object[] values, @NonNull XmlOutput out) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof List<?> list) {
+                for (int j = 0; j < list.size(); j++) {
+                    write(i, list.get(j), out);
+                }
+            } else if (value != null) {
+                write(i, value, out);
+            }
+        }
+    }
+
+    private void write(int index, @Nullable Object value, @NonNull XmlOutput out) throws IOException {
+        if (value != null) {
+            out.write(starts[index]);
+            out.writeValue(value);
+            out.write(ends[index]);
+        }
+    }
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    private static RssElementWriter<?> compile(@NonNull Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            Optional<BeanIntrospection<Object>> introspection = BeanIntrospector.SHARED.findIntrospection((Class<Object>) c);
+            if (introspection.isPresent()) {
+                List<BeanProperty<Object, Object>> properties = new ArrayList<>();
+                for (BeanProperty<Object, Object> property : introspection.get().getBeanProperties()) {
+                    if (property.hasAnnotation(RssElement.class)) {
+                        properties.add(property);
+                    }
+                }
+                return properties.isEmpty() ? NONE : new RssElementWriter<>(type, properties);
+            }
+        }
+        return NONE;
+    }
+
+    // whether the text is an XML name without a colon, checked against the letters, digits and punctuation allowed by the XML specification
+    private static boolean isName(@NonNull String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        int first = text.codePointAt(0);
+        if (!Character.isLetter(first) && first != '_') {
+            return false;
+        }
+        for (int i = Character.charCount(first); i < text.length(); i += Character.charCount(text.codePointAt(i))) {
+            int c = text.codePointAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.' && Character.getType(c) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Object copy(@Nullable Object value, boolean encode) {
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object v : iterable) {
+                values.add(copy(v, encode));
+            }
+            return Collections.unmodifiableList(values);
+        }
+        if (!encode || value == null || value instanceof EncodedText) {
+            return value;
+        }
+        if (value instanceof ZonedDateTime date) {
+            return EncodedText.of(FeedDateFormatter.RFC_822.format(date));
+        }
+        return EncodedText.of(String.valueOf(value));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.annotation.SingleResult;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Gathers the requests for single feeds which arrive within a short window and fetches them with a single call to {@link RssFeedProvider#fetchByIds(java.util.Collection)}, as a DataLoader does.
+ * Requests for the same id within a window share the same fetch. Batches are fetched on a scheduler which may block, never on the timer thread of the window nor on the thread of the request which fills a batch.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(beans = RssFeedProvider.class)
+@Requires(property = RssFeedBatchLoaderConfigurationProperties.PREFIX + ".window")
+@Singleton
+public class RssFeedBatchLoader {
+    private final RssFeedProvider rssFeedProvider;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+
+    private Map<Serializable, CompletableFuture<Optional<RssChannel>>> pending = new LinkedHashMap<>();
+    private Disposable scheduled;
+
+    /**
+     *
+     * @param rssFeedProvider The provider of the feeds
+     * @param configuration Batch loader configuration
+     * @param executors The executors keyed by name
+     */
+    @Inject
+    public RssFeedBatchLoader(RssFeedProvider rssFeedProvider,
+                              RssFeedBatchLoaderConfiguration configuration,
+                              Map<String, ExecutorService> executors) {
+        this(rssFeedProvider, configuration.getWindow(), configuration.getMaxBatchSize(), Schedulers.fromExecutorService(executor(executors, configuration.getExecutor())));
+    }
+
+    /**
+     *
+     * @param rssFeedProvider The provider of the feeds
+     * @param window How long requests are gathered before they are fetched
+     * @param maxBatchSize The maximum number of ids of a batch
+     */
+    public RssFeedBatchLoader(RssFeedProvider rssFeedProvider, Duration window, int maxBatchSize) {
+        this(rssFeedProvider, window, maxBatchSize, Schedulers.boundedElastic());
+    }
+
+    /**
+     *
+     * @param rssFeedProvider The provider of the feeds
+     * @param window How long requests are gathered before they are fetched
+     * @param maxBatchSize The maximum number of ids of a batch
+     * @param scheduler The scheduler on which batches are fetched
+     */
+    public RssFeedBatchLoader(RssFeedProvider rssFeedProvider, Duration window, int maxBatchSize, Scheduler scheduler) {
+        this.rssFeedProvider = rssFeedProvider;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Loads a feed in the batch of the current window.
+     * @param id RSS Channel unique identifier.
+     * @return An RSS channel identified by the ID parameter, empty if the provider has none.
+     */
+    @NonNull
+    @SingleResult
+    public Publisher<RssChannel> load(@NonNull Serializable id) {
+        // a copy, so that a cancelled subscriber does not cancel the requests which share the fetch
+        return Mono.defer(() -> Mono.fromFuture(enqueue(id).copy())).flatMap(Mono::justOrEmpty);
+    }
+
+    // the first request of a window schedules the batch, and the request which fills it fetches it at once
+    @NonNull
+    private CompletableFuture<Optional<RssChannel>> enqueue(@NonNull Serializable id) {
+        CompletableFuture<Optional<RssChannel>> future;
+        boolean full;
+        synchronized (this) {
+            future = pending.computeIfAbsent(id, k -> new CompletableFuture<>());
+            full = pending.size() >= maxBatchSize;
+            if (!full && scheduled == null) {
+                scheduled = Mono.delay(window).subscribe(tick -> dispatch());
+            }
+        }
+        if (full) {
+            dispatch();
+        }
+        return future;
+    }
+
+    @NonNull
+    private static ExecutorService executor(@NonNull Map<String, ExecutorService> executors, @NonNull String name) {
+        ExecutorService executor = executors.get(name);
+        if (executor == null) {
+            throw new IllegalStateException("no executor named " + name + " for the RSS feed batch loader");
+        }
+        return executor;
+    }
+
+    // completes the requests whose id the provider did not return with an empty optional; the provider is called on the scheduler
+    private void dispatch() {
+        Map<Serializable, CompletableFuture<Optional<RssChannel>>> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            if (scheduled != null) {
+                scheduled.dispose();
+                scheduled = null;
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Flux.defer(() -> rssFeedProvider.fetchByIds(batch.keySet()))
+                .subscribeOn(scheduler)
+                .subscribe(entry -> {
+                    CompletableFuture<Optional<RssChannel>> future = batch.get(entry.getKey());
+                    if (future != null) {
+                        future.complete(Optional.ofNullable(entry.getValue()));
+                    }
+                }, error -> batch.values().forEach(future -> future.completeExceptionally(error)),
+                    () -> batch.values().forEach(future -> future.complete(Optional.empty())));
+    }
+}
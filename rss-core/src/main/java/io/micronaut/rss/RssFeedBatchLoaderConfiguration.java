@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Defines interface for Configuration options of {@link RssFeedBatchLoader}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface RssFeedBatchLoaderConfiguration {
+
+    /**
+     *
+     * @return How long requests for single feeds are gathered before they are fetched in a batch.
+     */
+    @NonNull
+    Duration getWindow();
+
+    /**
+     *
+     * @return The maximum number of ids of a batch. A full batch is fetched without waiting for the end of the window.
+     */
+    int getMaxBatchSize();
+
+    /**
+     *
+     * @return The name of the executor on which batches are fetched.
+     */
+    @NonNull
+    String getExecutor();
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.Duration;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link RssFeedBatchLoader}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(RssFeedBatchLoaderConfigurationProperties.PREFIX)
+public class RssFeedBatchLoaderConfigurationProperties implements RssFeedBatchLoaderConfiguration {
+
+    public static final String PREFIX = RssConfiguration.PREFIX + ".batch";
+
+    /**
+     * The default maximum number of ids of a batch.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * The default executor on which batches are fetched, the {@code blocking} executor of Micronaut.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_EXECUTOR = "blocking";
+
+    @NotNull
+    @NonNull
+    private Duration window = Duration.ZERO;
+
+    @Positive
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    @NotBlank
+    @NonNull
+    private String executor = DEFAULT_EXECUTOR;
+
+    @Override
+    @NonNull
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * How long requests for single feeds are gathered before they are fetched with a single call to {@link RssFeedProvider#fetchByIds(java.util.Collection)}, for example {@code 5ms}. Setting it enables batching.
+     * @param window The batching window
+     */
+    public void setWindow(@NonNull Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Maximum number of ids of a batch. Default value ({@value #DEFAULT_MAX_BATCH_SIZE}).
+     * @param maxBatchSize Maximum number of ids of a batch
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    @NonNull
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The name of the executor, configured with {@code micronaut.executors}, on which batches are fetched, so that a provider which blocks does not hold the timer thread of the window or the thread of the request which fills a batch. Default value ({@value #DEFAULT_EXECUTOR}).
+     * @param executor The executor name
+     */
+    public void setExecutor(@NonNull String executor) {
+        this.executor = executor;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Interface which defines the parsing of an RSS 2.0 document into an {@link io.micronaut.rss.RssChannel}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@FunctionalInterface
+public interface RssFeedParser {
+
+    /**
+     * Reads an RSS 2.0 document.
+     * @param inputStream The RSS 2.0 document
+     * @return The RSS channel or an empty optional if the document has no {@code channel} element
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    @NonNull
+    Optional<RssChannel> parse(@NonNull InputStream inputStream) throws XMLStreamException;
+}
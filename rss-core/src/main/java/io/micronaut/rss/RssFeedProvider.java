@@ -15,10 +15,16 @@
  */
 package io.micronaut.rss;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.async.publisher.Publishers;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Defines an interface to provide RSS 2.0 feeds.
@@ -41,4 +47,39 @@ public interface RssFeedProvider {
      */
     @SingleResult
     Publisher<RssChannel> fetchById(Serializable id);
+
+    /**
+     * Fetches the default RSS channel with the items requested by a query. Providers backed by a database should override it to push the query down.
+     * The default implementation fetches the whole channel with {@link #fetch()} and applies the query in memory.
+     * @param query The requested items
+     * @return the default RSS channel with the requested items.
+     */
+    @SingleResult
+    default Publisher<RssChannel> fetch(@NonNull FeedQuery query) {
+        return query.isAll() ? fetch() : Publishers.map(fetch(), query::apply);
+    }
+
+    /**
+     * Fetches an RSS channel with the items requested by a query. Providers backed by a database should override it to push the query down.
+     * The default implementation fetches the whole channel with {@link #fetchById(Serializable)} and applies the query in memory.
+     * @param id RSS Channel unique identifier.
+     * @param query The requested items
+     * @return An RSS channel identified by the ID parameter with the requested items.
+     */
+    @SingleResult
+    default Publisher<RssChannel> fetchById(Serializable id, @NonNull FeedQuery query) {
+        return query.isAll() ? fetchById(id) : Publishers.map(fetchById(id), query::apply);
+    }
+
+    /**
+     * Fetches several RSS channels at once, for example to render or pre-warm many feeds. Providers backed by a database should override it to fetch the channels with a single query.
+     * The default implementation calls {@link #fetchById(Serializable)} for each id.
+     * @param ids RSS Channel unique identifiers.
+     * @return The RSS channels keyed by the id which identifies them, in any order. Ids without a channel are skipped.
+     */
+    @NonNull
+    default Publisher<Map.Entry<Serializable, RssChannel>> fetchByIds(@NonNull Collection<? extends Serializable> ids) {
+        return Flux.fromIterable(ids)
+                .flatMap(id -> Mono.from(fetchById(id)).map(rssChannel -> Map.<Serializable, RssChannel>entry(id, rssChannel)));
+    }
 }
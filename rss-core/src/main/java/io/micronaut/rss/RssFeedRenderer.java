@@ -15,7 +15,11 @@
  */
 package io.micronaut.rss;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Interface which defines the render of an {@link io.micronaut.rss.RssChannel} to {@link java.io.Writer}.
@@ -31,4 +35,16 @@ public interface RssFeedRenderer {
      * @param writer A Writer to write the RSS feed into
      */
     void render(Writer writer, RssChannel rssChannel);
+
+    /**
+     * Writes an RSS channel to an {@link java.io.OutputStream} encoded as UTF-8.
+     * @param outputStream An output stream to write the RSS feed into
+     * @param rssChannel The RSS channel to render
+     * @throws IOException if an I/O error occurs
+     */
+    default void render(OutputStream outputStream, RssChannel rssChannel) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        render(writer, rssChannel);
+        writer.flush();
+    }
 }
@@ -17,6 +17,7 @@ package io.micronaut.rss;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.content.ContentSource;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -39,6 +40,9 @@ public class RssItem {
     @Nullable
     private String description;
 
+    @Nullable
+    private ContentSource descriptionSource;
+
     @Nullable
     private String author;
 
@@ -93,6 +97,14 @@ public class RssItem {
         return Optional.of(description);
     }
 
+    /**
+     * The item synopsis read while rendering, used if the item has no description.
+     * @return The source of the item synopsis.
+     */
+    public Optional<ContentSource> getDescriptionSource() {
+        return Optional.ofNullable(descriptionSource);
+    }
+
     /**
      * Email address of the author of the item.
      * @return Email address of the author of the item.
@@ -194,6 +206,14 @@ public class RssItem {
         this.description = description;
     }
 
+    /**
+     *
+     * @param descriptionSource The source of the item synopsis, streamed and escaped by the renderer.
+     */
+    public void setDescriptionSource(@Nullable ContentSource descriptionSource) {
+        this.descriptionSource = descriptionSource;
+    }
+
     /**
      *
      * @param author mail address
@@ -250,6 +270,25 @@ public class RssItem {
         this.source = source;
     }
 
+    /**
+     * Returns an immutable snapshot of the item. A new snapshot is taken on every call.
+     * @return An immutable snapshot of the item, as consumed by the renderers
+     */
+    @NonNull
+    public RssItemSnapshot snapshot() {
+        return createSnapshot(false);
+    }
+
+    /**
+     * Subclasses adding elements to the item should return a subclass of {@link RssItemSnapshot}.
+     * @param encode Whether to encode the texts of the snapshot
+     * @return A new snapshot of the item
+     */
+    @NonNull
+    protected RssItemSnapshot createSnapshot(boolean encode) {
+        return new RssItemSnapshot(this, encode);
+    }
+
     /**
      * @return A Builder to {@link RssItem}
      */
@@ -301,6 +340,17 @@ public class RssItem {
             return this;
         }
 
+        /**
+         *
+         * @param descriptionSource The source of the item synopsis, streamed and escaped by the renderer.
+         * @return {@link RssItem.Builder}
+         */
+        @NonNull
+        public Builder descriptionSource(ContentSource descriptionSource) {
+            rssItem.setDescriptionSource(descriptionSource);
+            return this;
+        }
+
         /**
          *
          * @param author Email address of the author of the item.
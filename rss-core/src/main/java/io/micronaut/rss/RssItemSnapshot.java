@@ -0,0 +1,378 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.content.ContentSource;
+import io.micronaut.rss.date.FeedDateFormatter;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a {@link RssItem}. Accessors return the raw values, {@code null} when absent, so that rendering an item does not allocate.
+ * Snapshots of frozen channels additionally hold their texts as {@link EncodedText}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public class RssItemSnapshot {
+
+    @Nullable
+    private final String title;
+
+    @Nullable
+    private final String link;
+
+    @Nullable
+    private final String description;
+
+    @Nullable
+    private final ContentSource descriptionSource;
+
+    @Nullable
+    private final String author;
+
+    @NonNull
+    private final List<String> category;
+
+    @Nullable
+    private final String comments;
+
+    private final boolean enclosure;
+
+    @Nullable
+    private final String enclosureUrl;
+
+    @Nullable
+    private final Integer enclosureLength;
+
+    @Nullable
+    private final String enclosureType;
+
+    @Nullable
+    private final ZonedDateTime pubDate;
+
+    @Nullable
+    private final String guid;
+
+    @Nullable
+    private final String source;
+
+    @Nullable
+    private final EncodedText encodedTitle;
+
+    @Nullable
+    private final EncodedText encodedLink;
+
+    @Nullable
+    private final EncodedText encodedDescription;
+
+    @Nullable
+    private final EncodedText encodedAuthor;
+
+    @Nullable
+    private final List<EncodedText> encodedCategory;
+
+    @Nullable
+    private final EncodedText encodedComments;
+
+    @Nullable
+    private final EncodedText encodedGuid;
+
+    @Nullable
+    private final EncodedText encodedSource;
+
+    @Nullable
+    private final EncodedText encodedPubDate;
+
+    @Nullable
+    private final RssElementValues elements;
+
+    @NonNull
+    private final RssItem rssItem;
+
+    /**
+     * Copies the values of the given item.
+     * @param rssItem RSS Item
+     */
+    public RssItemSnapshot(@NonNull RssItem rssItem) {
+        this(rssItem, false);
+    }
+
+    /**
+     * Copies the values of the given item.
+     * @param rssItem RSS Item
+     * @param encode Whether to encode the texts of the item once, see {@link EncodedText}
+     */
+    public RssItemSnapshot(@NonNull RssItem rssItem, boolean encode) {
+        this.title = rssItem.getTitle().orElse(null);
+        this.link = rssItem.getLink().orElse(null);
+        this.description = rssItem.getDescription().orElse(null);
+        this.descriptionSource = description == null ? rssItem.getDescriptionSource().orElse(null) : null;
+        this.author = rssItem.getAuthor().orElse(null);
+        this.category = rssItem.getCategory()
+                .map(l -> Collections.unmodifiableList(new ArrayList<>(l)))
+                .orElse(Collections.emptyList());
+        this.comments = rssItem.getComments().orElse(null);
+        RssItemEnclosure enclosure = rssItem.getEnclosure().orElse(null);
+        this.enclosure = enclosure != null;
+        this.enclosureUrl = enclosure != null ? enclosure.getUrl() : null;
+        this.enclosureLength = enclosure != null ? enclosure.getLength() : null;
+        this.enclosureType = enclosure != null ? enclosure.getType() : null;
+        this.pubDate = rssItem.getPubDate().orElse(null);
+        this.guid = rssItem.getGuid().orElse(null);
+        this.source = rssItem.getSource().orElse(null);
+        this.encodedTitle = encode ? encode(title) : null;
+        this.encodedLink = encode ? encode(link) : null;
+        this.encodedDescription = encode && description != null ? EncodedText.ofMarkup(description) : null;
+        this.encodedAuthor = encode ? encode(author) : null;
+        this.encodedCategory = encode ? encode(category) : null;
+        this.encodedComments = encode ? encode(comments) : null;
+        this.encodedGuid = encode ? encode(guid) : null;
+        this.encodedSource = encode ? encode(source) : null;
+        this.encodedPubDate = encode ? encode(pubDate) : null;
+        this.elements = RssElementWriter.capture(rssItem, encode);
+        this.rssItem = rssItem;
+    }
+
+    // the item this snapshot was taken from, so that copies of a channel keep the items of the selected snapshots
+    @NonNull
+    RssItem getRssItem() {
+        return rssItem;
+    }
+
+    /**
+     * @return The title of the item
+     */
+    @Nullable
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return The URL of the item
+     */
+    @Nullable
+    public String getLink() {
+        return link;
+    }
+
+    /**
+     * @return The item synopsis
+     */
+    @Nullable
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return The source of the item synopsis, {@code null} if the item has a description
+     */
+    @Nullable
+    public ContentSource getDescriptionSource() {
+        return descriptionSource;
+    }
+
+    /**
+     * @return Email address of the author of the item
+     */
+    @Nullable
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * @return The categories of the item. Empty if the item has no category.
+     */
+    @NonNull
+    public List<String> getCategory() {
+        return category;
+    }
+
+    /**
+     * @return URL of a page for comments relating to the item
+     */
+    @Nullable
+    public String getComments() {
+        return comments;
+    }
+
+    /**
+     * @return Whether the item has an enclosure
+     */
+    public boolean hasEnclosure() {
+        return enclosure;
+    }
+
+    /**
+     * @return The enclosure URL
+     */
+    @Nullable
+    public String getEnclosureUrl() {
+        return enclosureUrl;
+    }
+
+    /**
+     * @return The enclosure file size in bytes
+     */
+    @Nullable
+    public Integer getEnclosureLength() {
+        return enclosureLength;
+    }
+
+    /**
+     * @return The enclosure MIME type
+     */
+    @Nullable
+    public String getEnclosureType() {
+        return enclosureType;
+    }
+
+    /**
+     * @return Indicates when the item was published
+     */
+    @Nullable
+    public ZonedDateTime getPubDate() {
+        return pubDate;
+    }
+
+    /**
+     * @return A string that uniquely identifies the item
+     */
+    @Nullable
+    public String getGuid() {
+        return guid;
+    }
+
+    /**
+     * @return The RSS channel that the item came from
+     */
+    @Nullable
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return The encoded title of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedTitle() {
+        return encodedTitle;
+    }
+
+    /**
+     * @return The encoded URL of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedLink() {
+        return encodedLink;
+    }
+
+    /**
+     * @return The encoded item synopsis, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedDescription() {
+        return encodedDescription;
+    }
+
+    /**
+     * @return The encoded author of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedAuthor() {
+        return encodedAuthor;
+    }
+
+    /**
+     * @return The encoded categories of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public List<EncodedText> getEncodedCategory() {
+        return encodedCategory;
+    }
+
+    /**
+     * @return The encoded comments URL of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedComments() {
+        return encodedComments;
+    }
+
+    /**
+     * @return The encoded guid of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedGuid() {
+        return encodedGuid;
+    }
+
+    /**
+     * @return The encoded source of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedSource() {
+        return encodedSource;
+    }
+
+    /**
+     * @return The encoded publication date of the item, {@code null} if not encoded
+     */
+    @Nullable
+    public EncodedText getEncodedPubDate() {
+        return encodedPubDate;
+    }
+
+    /**
+     * @return The values of the {@link RssElement} properties of the item, {@code null} if its type has none
+     */
+    @Nullable
+    public RssElementValues getElements() {
+        return elements;
+    }
+
+    /**
+     * @param date Date
+     * @return The date encoded as an RFC 822 date or {@code null} if the date is {@code null}
+     */
+    @Nullable
+    protected static EncodedText encode(@Nullable ZonedDateTime date) {
+        return date != null ? EncodedText.of(FeedDateFormatter.RFC_822.format(date)) : null;
+    }
+
+    /**
+     * @param text Text
+     * @return The encoded text or {@code null} if the text is {@code null}
+     */
+    @Nullable
+    protected static EncodedText encode(@Nullable String text) {
+        return text != null ? EncodedText.of(text) : null;
+    }
+
+    @NonNull
+    private static List<EncodedText> encode(@NonNull List<String> texts) {
+        List<EncodedText> result = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            result.add(EncodedText.of(text != null ? text : ""));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.Ordered;
+
+/**
+ * Contributes the elements of a namespace, such as Media RSS or Dublin Core, to every {@link DefaultRssFeedRenderer}.
+ * Extensions are beans, so several of them can be combined without subclassing the renderer.
+ * The renderer compiles the contributions of all extensions once per snapshot class, so extensions may cast snapshots of the types they support without checking them again.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface RssNamespaceExtension extends Ordered {
+
+    /**
+     * @return The namespace prefix, for example {@code media}
+     */
+    @NonNull
+    String getPrefix();
+
+    /**
+     * @return The namespace URI declared in the {@code rss} element, for example {@code http://search.yahoo.com/mrss/}
+     */
+    @NonNull
+    String getNamespace();
+
+    /**
+     * Appends the channel elements of the namespace for channel snapshots of the given type. Called once per type.
+     * @param type The channel snapshot type
+     * @param channel The channel template builder
+     */
+    default void compileChannel(@NonNull Class<? extends RssChannelSnapshot> type,
+                                @NonNull XmlTemplate.Builder<RssChannelSnapshot> channel) {
+    }
+
+    /**
+     * Appends the item elements of the namespace for item snapshots of the given type. Called once per type.
+     * @param type The item snapshot type
+     * @param item The item template builder
+     */
+    default void compileItem(@NonNull Class<? extends RssItemSnapshot> type,
+                             @NonNull XmlTemplate.Builder<RssItemSnapshot> item) {
+    }
+}
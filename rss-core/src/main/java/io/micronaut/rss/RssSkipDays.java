@@ -15,6 +15,9 @@
  */
 package io.micronaut.rss;
 
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.language.EnumLookup;
+
 /**
  * RSS SkipDays element.
  * @see <a href="https://cyber.harvard.edu/rss/skipHoursDays.html#skipdays">RSS SkipDays</a>
@@ -33,6 +36,8 @@ public enum RssSkipDays {
     SATURDAY("Saturday"),
     SUNDAY("Sunday");
 
+    private static final EnumLookup<RssSkipDays> LOOKUP = EnumLookup.of(values(), RssSkipDays::getDayName);
+
     private final String dayName;
 
     /**
@@ -50,4 +55,14 @@ public enum RssSkipDays {
     public String getDayName() {
         return dayName;
     }
+
+    /**
+     * Finds a day by its name ignoring case. It does not allocate.
+     * @param dayName The day name. For example, {@code Monday}.
+     * @return The day with the supplied name or null.
+     */
+    @Nullable
+    public static RssSkipDays lookup(@Nullable CharSequence dayName) {
+        return LOOKUP.getIgnoreCase(dayName);
+    }
 }
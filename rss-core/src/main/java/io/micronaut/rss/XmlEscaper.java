@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.rss.content.ContentSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Escapes text written as XML character data. The text is classified in a single scan, and then written in runs between the characters which need escaping.
+ * Text containing markup is written as a CDATA section, split wherever the text contains {@code ]]>}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Internal
+public final class XmlEscaper {
+    private static final String CDATA_START = "<![CDATA[";
+    private static final String CDATA_END = "]]>";
+    private static final String CDATA_SPLIT = "]]]]><![CDATA[>";
+    private static final String AMP = "&amp;";
+    private static final String LT = "&lt;";
+    private static final String GT = "&gt;";
+
+    /**
+     * How a text is written.
+     */
+    public enum Classification {
+        /**
+         * Nothing to escape. The text is written as is.
+         */
+        PLAIN,
+
+        /**
+         * The text contains {@code &} or {@code >} but no markup. The text is escaped.
+         */
+        ESCAPE,
+
+        /**
+         * The text contains markup. The text is written as a single CDATA section.
+         */
+        CDATA,
+
+        /**
+         * The text contains markup and {@code ]]>}. The text is written as several CDATA sections.
+         */
+        SPLIT_CDATA
+    }
+
+    private XmlEscaper() {
+    }
+
+    /**
+     * Classifies a text which may contain markup, such as an item description.
+     * @param text Text
+     * @return How the text is written
+     */
+    @NonNull
+    public static Classification classify(@NonNull String text) {
+        int length = text.length();
+        int firstSpecial = -1;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c <= '>') {
+                if (c == '<') {
+                    int from = firstSpecial < 0 ? i : Math.max(0, firstSpecial - 2);
+                    return text.indexOf(CDATA_END, from) < 0 ? Classification.CDATA : Classification.SPLIT_CDATA;
+                }
+                if (firstSpecial < 0 && (c == '&' || c == '>')) {
+                    firstSpecial = i;
+                }
+            }
+        }
+        return firstSpecial < 0 ? Classification.PLAIN : Classification.ESCAPE;
+    }
+
+    /**
+     * Writes a text which may contain markup, such as an item description.
+     * @param writer Writer
+     * @param text Text
+     * @return How the text was written
+     * @throws IOException if an I/O error occurs
+     */
+    @NonNull
+    public static Classification writeMarkup(@NonNull Writer writer, @NonNull String text) throws IOException {
+        Classification classification = classify(text);
+        switch (classification) {
+            case PLAIN -> writer.write(text);
+            case ESCAPE -> writeEscaped(writer, text, 0);
+            case CDATA -> {
+                writer.write(CDATA_START);
+                writer.write(text);
+                writer.write(CDATA_END);
+            }
+            default -> writeSplitCData(writer, text);
+        }
+        return classification;
+    }
+
+    /**
+     * Writes a text escaping {@code &}, {@code <} and {@code >}.
+     * @param writer Writer
+     * @param text Text
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeEscaped(@NonNull Writer writer, @NonNull String text) throws IOException {
+        writeEscaped(writer, text, 0);
+    }
+
+    /**
+     * @param text Text
+     * @return The text escaping {@code &}, {@code <} and {@code >}. The same instance if there is nothing to escape.
+     */
+    @NonNull
+    public static String escape(@NonNull String text) {
+        int special = indexOfSpecial(text, 0);
+        if (special < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        sb.append(text, 0, special);
+        for (int i = special; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> sb.append(AMP);
+                case '<' -> sb.append(LT);
+                case '>' -> sb.append(GT);
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param text Text
+     * @return The text as CDATA sections, split wherever the text contains {@code ]]>}
+     */
+    @NonNull
+    public static String cdata(@NonNull String text) {
+        return CDATA_START + text.replace(CDATA_END, CDATA_SPLIT) + CDATA_END;
+    }
+
+    /**
+     * Reads a text in chunks of {@link ContentSource#CHUNK_SIZE} characters and writes it escaping {@code &}, {@code <} and {@code >}.
+     * @param writer Writer
+     * @param reader Reader of the text
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeEscaped(@NonNull Writer writer, @NonNull Reader reader) throws IOException {
+        char[] buffer = new char[ContentSource.CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c <= '>' && (c == '&' || c == '<' || c == '>')) {
+                    writer.write(buffer, start, i - start);
+                    writer.write(c == '&' ? AMP : c == '<' ? LT : GT);
+                    start = i + 1;
+                }
+            }
+            writer.write(buffer, start, read - start);
+        }
+    }
+
+    private static void writeEscaped(@NonNull Writer writer, @NonNull String text, int from) throws IOException {
+        int start = from;
+        int special = indexOfSpecial(text, start);
+        while (special >= 0) {
+            if (special > start) {
+                writer.write(text, start, special - start);
+            }
+            char c = text.charAt(special);
+            writer.write(c == '&' ? AMP : c == '<' ? LT : GT);
+            start = special + 1;
+            special = indexOfSpecial(text, start);
+        }
+        if (start < text.length()) {
+            writer.write(text, start, text.length() - start);
+        }
+    }
+
+    private static void writeSplitCData(@NonNull Writer writer, @NonNull String text) throws IOException {
+        writer.write(CDATA_START);
+        int start = 0;
+        int end = text.indexOf(CDATA_END);
+        while (end >= 0) {
+            writer.write(text, start, end - start);
+            writer.write(CDATA_SPLIT);
+            start = end + CDATA_END.length();
+            end = text.indexOf(CDATA_END, start);
+        }
+        writer.write(text, start, text.length() - start);
+        writer.write(CDATA_END);
+    }
+
+    private static int indexOfSpecial(@NonNull String text, int from) {
+        int length = text.length();
+        for (int i = from; i < length; i++) {
+            char c = text.charAt(i);
+            if (c <= '>' && (c == '&' || c == '<' || c == '>')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.render.FragmentBoundary;
+import io.micronaut.rss.render.RenderLimit;
+import io.micronaut.rss.content.ContentSource;
+import io.micronaut.rss.date.FeedDateFormatter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.time.ZonedDateTime;
+
+/**
+ * Buffered output stream which writes XML as UTF-8, escaping text and attribute values while encoding them.
+ * Used by {@link XmlTemplate} to render feeds.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class XmlOutput extends OutputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_ENTITY_LENGTH = 6;
+    private static final byte[] AMP = {'&', 'a', 'm', 'p', ';'};
+    private static final byte[] LT = {'&', 'l', 't', ';'};
+    private static final byte[] GT = {'&', 'g', 't', ';'};
+    private static final byte[] QUOT = {'&', 'q', 'u', 'o', 't', ';'};
+    private static final byte[] CDATA_START = {'<', '!', '[', 'C', 'D', 'A', 'T', 'A', '['};
+    private static final byte[] CDATA_END = {']', ']', '>'};
+    private static final byte[] CDATA_SPLIT = {']', ']', ']', ']', '>', '<', '!', '[', 'C', 'D', 'A', 'T', 'A', '[', '>'};
+    private static final int NONE = 0;
+    private static final int TEXT = 1;
+    private static final int ATTRIBUTE = 2;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private long written;
+
+    /**
+     * @param out The output stream to write to
+     */
+    public XmlOutput(@NonNull OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(@NonNull byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length > buffer.length) {
+                out.write(bytes, offset, length);
+                written += length;
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    /**
+     * Copies the encoded text verbatim.
+     * @param text Encoded text
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeEncoded(@NonNull EncodedText text) throws IOException {
+        text.writeTo(this);
+    }
+
+    /**
+     * Writes character data escaping {@code &}, {@code <} and {@code >}.
+     * @param text Text
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeText(@Nullable String text) throws IOException {
+        if (text != null) {
+            writeUtf8(text, 0, text.length(), TEXT);
+        }
+    }
+
+    /**
+     * Reads character data in chunks and writes it escaping {@code &}, {@code <} and {@code >}.
+     * @param reader Reader of the character data
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeText(@NonNull Reader reader) throws IOException {
+        char[] chars = new char[ContentSource.CHUNK_SIZE];
+        int pending = 0;
+        int read;
+        while ((read = reader.read(chars, pending, chars.length - pending)) != -1) {
+            int length = pending + read;
+            if (length == 0) {
+                continue;
+            }
+            // a high surrogate at the end of a chunk is encoded with the low surrogate of the next one
+            pending = Character.isHighSurrogate(chars[length - 1]) ? 1 : 0;
+            String chunk = new String(chars, 0, length - pending);
+            writeUtf8(chunk, 0, chunk.length(), TEXT);
+            if (pending == 1) {
+                chars[0] = chars[length - 1];
+            }
+        }
+        if (pending == 1) {
+            writeUtf8(String.valueOf(chars[0]), 0, 1, TEXT);
+        }
+    }
+
+    /**
+     * Writes an attribute value escaping {@code &}, {@code <}, {@code >} and {@code "}.
+     * @param value Attribute value
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeAttributeValue(@Nullable String value) throws IOException {
+        if (value != null) {
+            writeUtf8(value, 0, value.length(), ATTRIBUTE);
+        }
+    }
+
+    /**
+     * Writes a text which may contain markup as {@link XmlEscaper#writeMarkup(java.io.Writer, String)} does.
+     * @param text Text
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeMarkup(@NonNull String text) throws IOException {
+        switch (XmlEscaper.classify(text)) {
+            case PLAIN -> writeUtf8(text, 0, text.length(), NONE);
+            case ESCAPE -> writeUtf8(text, 0, text.length(), TEXT);
+            case CDATA -> {
+                write(CDATA_START);
+                writeUtf8(text, 0, text.length(), NONE);
+                write(CDATA_END);
+            }
+            default -> {
+                write(CDATA_START);
+                int start = 0;
+                int end = text.indexOf("]]>");
+                while (end >= 0) {
+                    writeUtf8(text, start, end, NONE);
+                    write(CDATA_SPLIT);
+                    start = end + CDATA_END.length;
+                    end = text.indexOf("]]>", start);
+                }
+                writeUtf8(text, start, text.length(), NONE);
+                write(CDATA_END);
+            }
+        }
+    }
+
+    /**
+     * Writes a date as an RFC 822 date.
+     * @param date Date
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeDate(@NonNull ZonedDateTime date) throws IOException {
+        FeedDateFormatter.RFC_822.writeTo(date, this);
+    }
+
+    /**
+     * Writes a value: strings are escaped, dates are written as RFC 822 dates, encoded texts are copied and other values are written as strings.
+     * @param value Value
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeValue(@Nullable Object value) throws IOException {
+        if (value instanceof String text) {
+            writeText(text);
+        } else if (value instanceof EncodedText encodedText) {
+            writeEncoded(encodedText);
+        } else if (value instanceof ZonedDateTime date) {
+            writeDate(date);
+        } else if (value != null) {
+            writeText(String.valueOf(value));
+        }
+    }
+
+    /**
+     * @return The number of bytes written so far, including buffered bytes
+     */
+    public long getWritten() {
+        return written + position;
+    }
+
+    /**
+     * Writes the buffered bytes to the underlying output stream without flushing it.
+     * @throws IOException if an I/O error occurs
+     */
+    public void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            written += position;
+            position = 0;
+        }
+    }
+
+    /**
+     * Ends a fragment of the document, such as an item, if the underlying output stream is a {@link FragmentBoundary}. Otherwise, it is a no-op.
+     * @throws IOException if an I/O error occurs
+     */
+    public void endFragment() throws IOException {
+        if (out instanceof FragmentBoundary fragmentBoundary) {
+            flushBuffer();
+            fragmentBoundary.endFragment();
+        }
+    }
+
+    /**
+     * Asks the underlying output stream, if it is a {@link RenderLimit}, whether another item may be written. Otherwise, every item is accepted.
+     * @return Whether another item may be written
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean acceptsItem() throws IOException {
+        if (out instanceof RenderLimit renderLimit) {
+            flushBuffer();
+            return renderLimit.acceptsItem();
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+    }
+
+    private void writeUtf8(@NonNull String text, int from, int to, int escape) throws IOException {
+        byte[] buf = buffer;
+        int pos = position;
+        for (int i = from; i < to; i++) {
+            if (pos > buf.length - MAX_ENTITY_LENGTH) {
+                position = pos;
+                flushBuffer();
+                pos = 0;
+            }
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (escape != NONE && c <= '>') {
+                    byte[] entity = entity(c, escape);
+                    if (entity != null) {
+                        System.arraycopy(entity, 0, buf, pos, entity.length);
+                        pos += entity.length;
+                        continue;
+                    }
+                }
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = '?';
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        position = pos;
+    }
+
+    @Nullable
+    private static byte[] entity(char c, int escape) {
+        return switch (c) {
+            case '&' -> AMP;
+            case '<' -> LT;
+            case '>' -> GT;
+            case '"' -> escape == ATTRIBUTE ? QUOT : null;
+            default -> null;
+        };
+    }
+}
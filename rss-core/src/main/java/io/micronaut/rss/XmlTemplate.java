@@ -0,0 +1,402 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.content.ContentSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A document layout compiled into a sequence of pre-encoded constant byte segments and value slots.
+ * Adjacent constants are merged into a single byte array, so rendering is a loop of array copies and escaped value writes.
+ *
+ * @param <T> The model type
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class XmlTemplate<T> {
+    private final XmlTemplateSegment<? super T>[] segments;
+
+    private XmlTemplate(XmlTemplateSegment<? super T>[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Renders the model.
+     * @param model The model
+     * @param out The output
+     * @throws IOException if an I/O error occurs
+     */
+    public void render(@NonNull T model, @NonNull XmlOutput out) throws IOException {
+        for (XmlTemplateSegment<? super T> segment : segments) {
+            segment.write(model, out);
+        }
+    }
+
+    /**
+     * @return The number of segments after merging adjacent constants
+     */
+    public int size() {
+        return segments.length;
+    }
+
+    /**
+     * @param <T> The model type
+     * @return A template builder
+     */
+    @NonNull
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    private static void writeValue(@Nullable Object value, boolean markup, @NonNull XmlOutput out) throws IOException {
+        if (markup && value instanceof String text) {
+            out.writeMarkup(text);
+        } else {
+            out.writeValue(value);
+        }
+    }
+
+    /**
+     * Builder for {@link XmlTemplate}.
+     *
+     * @param <T> The model type
+     */
+    public static final class Builder<T> {
+        private final List<XmlTemplateSegment<? super T>> segments = new ArrayList<>();
+        private final StringBuilder constant = new StringBuilder();
+
+        private Builder() {
+        }
+
+        /**
+         * Appends markup which is written verbatim.
+         * @param markup Markup
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> constant(@NonNull String markup) {
+            constant.append(markup);
+            return this;
+        }
+
+        /**
+         * Appends an element which is written, empty if the value is null.
+         * @param name Element name
+         * @param encoded Accessor of the pre-encoded value or null
+         * @param value Accessor of the value
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> requiredElement(@NonNull String name,
+                                          @Nullable Function<? super T, EncodedText> encoded,
+                                          @Nullable Function<? super T, ?> value) {
+            constant(open(name));
+            segment(new ValueSegment<>(encoded, value, false));
+            return constant(close(name));
+        }
+
+        /**
+         * Appends an element which is only written if its value is not null.
+         * @param name Element name
+         * @param encoded Accessor of the pre-encoded value or null
+         * @param value Accessor of the value
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> element(@NonNull String name,
+                                  @Nullable Function<? super T, EncodedText> encoded,
+                                  @NonNull Function<? super T, ?> value) {
+            return segment(new ElementSegment<>(name, encoded, value, false));
+        }
+
+        /**
+         * Appends an element whose value may contain markup. See {@link XmlEscaper#writeMarkup(java.io.Writer, String)}.
+         * @param name Element name
+         * @param encoded Accessor of the pre-encoded value or null
+         * @param value Accessor of the value
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> markupElement(@NonNull String name,
+                                        @Nullable Function<? super T, EncodedText> encoded,
+                                        @NonNull Function<? super T, String> value) {
+            return segment(new ElementSegment<>(name, encoded, value, true));
+        }
+
+        /**
+         * Appends an element whose text is read from a content source while rendering and escaped. Only written if the content source is not null.
+         * @param name Element name
+         * @param content Accessor of the content source
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> contentElement(@NonNull String name,
+                                         @NonNull Function<? super T, ContentSource> content) {
+            byte[] open = bytes(open(name));
+            byte[] close = bytes(close(name));
+            return segment((model, out) -> {
+                ContentSource contentSource = content.apply(model);
+                if (contentSource != null) {
+                    try (Reader reader = contentSource.openReader()) {
+                        out.write(open);
+                        out.writeText(reader);
+                        out.write(close);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Appends an element per value.
+         * @param name Element name
+         * @param encoded Accessor of the pre-encoded values or null
+         * @param values Accessor of the values
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> elements(@NonNull String name,
+                                   @Nullable Function<? super T, List<EncodedText>> encoded,
+                                   @NonNull Function<? super T, List<String>> values) {
+            byte[] open = bytes(open(name));
+            byte[] close = bytes(close(name));
+            return segment((model, out) -> {
+                List<EncodedText> encodedValues = encoded != null ? encoded.apply(model) : null;
+                if (encodedValues != null) {
+                    for (int i = 0; i < encodedValues.size(); i++) {
+                        out.write(open);
+                        out.writeEncoded(encodedValues.get(i));
+                        out.write(close);
+                    }
+                    return;
+                }
+                List<String> list = values.apply(model);
+                for (int i = 0; i < list.size(); i++) {
+                    out.write(open);
+                    out.writeText(list.get(i));
+                    out.write(close);
+                }
+            });
+        }
+
+        /**
+         * Renders the template for each child.
+         * @param children Accessor of the children
+         * @param template Template of a child
+         * @param <C> The child type
+         * @return The builder
+         */
+        @NonNull
+        public <C> Builder<T> each(@NonNull Function<? super T, List<C>> children,
+                                   @NonNull XmlTemplate<? super C> template) {
+            return segment((model, out) -> {
+                List<C> list = children.apply(model);
+                if (list != null) {
+                    for (int i = 0; i < list.size(); i++) {
+                        template.render(list.get(i), out);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Renders the template for each child while the output accepts items, see {@link XmlOutput#acceptsItem()}.
+         * @param children Accessor of the children
+         * @param template Template of a child
+         * @param <C> The child type
+         * @return The builder
+         */
+        @NonNull
+        public <C> Builder<T> eachItem(@NonNull Function<? super T, List<C>> children,
+                                       @NonNull XmlTemplate<? super C> template) {
+            return segment((model, out) -> {
+                List<C> list = children.apply(model);
+                if (list != null) {
+                    for (int i = 0; i < list.size() && out.acceptsItem(); i++) {
+                        template.render(list.get(i), out);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Renders the template for a child if it is not null.
+         * @param child Accessor of the child
+         * @param template Template of the child
+         * @param <C> The child type
+         * @return The builder
+         */
+        @NonNull
+        public <C> Builder<T> with(@NonNull Function<? super T, C> child,
+                                   @NonNull XmlTemplate<? super C> template) {
+            return segment((model, out) -> {
+                C value = child.apply(model);
+                if (value != null) {
+                    template.render(value, out);
+                }
+            });
+        }
+
+        /**
+         * Renders the template if the model is an instance of the given type.
+         * @param type The type
+         * @param template Template of the type
+         * @param <S> The type
+         * @return The builder
+         */
+        @NonNull
+        public <S> Builder<T> forType(@NonNull Class<S> type,
+                                      @NonNull XmlTemplate<? super S> template) {
+            return segment((model, out) -> {
+                if (type.isInstance(model)) {
+                    template.render(type.cast(model), out);
+                }
+            });
+        }
+
+        /**
+         * Appends a custom slot.
+         * @param segment The segment
+         * @return The builder
+         */
+        @NonNull
+        public Builder<T> segment(@NonNull XmlTemplateSegment<? super T> segment) {
+            flushConstant();
+            segments.add(segment);
+            return this;
+        }
+
+        /**
+         * @return The template
+         */
+        @NonNull
+        @SuppressWarnings("unchecked")
+        public XmlTemplate<T> build() {
+            flushConstant();
+            return new XmlTemplate<>(segments.toArray(new XmlTemplateSegment[0]));
+        }
+
+        private void flushConstant() {
+            if (!constant.isEmpty()) {
+                segments.add(new ConstantSegment(bytes(constant.toString())));
+                constant.setLength(0);
+            }
+        }
+
+        @NonNull
+        private static String open(@NonNull String name) {
+            return "<" + name + ">";
+        }
+
+        @NonNull
+        private static String close(@NonNull String name) {
+            return "</" + name + ">";
+        }
+
+        @NonNull
+        private static byte[] bytes(@NonNull String markup) {
+            return markup.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Pre-encoded markup.
+     */
+    private static final class ConstantSegment implements XmlTemplateSegment<Object> {
+        private final byte[] bytes;
+
+        private ConstantSegment(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void write(@NonNull Object model, @NonNull XmlOutput out) throws IOException {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Value of a required element, preferring its pre-encoded form.
+     *
+     * @param <T> The model type
+     */
+    private static final class ValueSegment<T> implements XmlTemplateSegment<T> {
+        private final Function<? super T, EncodedText> encoded;
+        private final Function<? super T, ?> value;
+        private final boolean markup;
+
+        private ValueSegment(Function<? super T, EncodedText> encoded, Function<? super T, ?> value, boolean markup) {
+            this.encoded = encoded;
+            this.value = value;
+            this.markup = markup;
+        }
+
+        @Override
+        public void write(@NonNull T model, @NonNull XmlOutput out) throws IOException {
+            EncodedText encodedText = encoded != null ? encoded.apply(model) : null;
+            if (encodedText != null) {
+                out.writeEncoded(encodedText);
+            } else if (value != null) {
+                writeValue(value.apply(model), markup, out);
+            }
+        }
+    }
+
+    /**
+     * Element which is only written if its value is not null.
+     *
+     * @param <T> The model type
+     */
+    private static final class ElementSegment<T> implements XmlTemplateSegment<T> {
+        private final byte[] open;
+        private final byte[] close;
+        private final Function<? super T, EncodedText> encoded;
+        private final Function<? super T, ?> value;
+        private final boolean markup;
+
+        private ElementSegment(String name, Function<? super T, EncodedText> encoded, Function<? super T, ?> value, boolean markup) {
+            this.open = Builder.bytes(Builder.open(name));
+            this.close = Builder.bytes(Builder.close(name));
+            this.encoded = encoded;
+            this.value = value;
+            this.markup = markup;
+        }
+
+        @Override
+        public void write(@NonNull T model, @NonNull XmlOutput out) throws IOException {
+            EncodedText encodedText = encoded != null ? encoded.apply(model) : null;
+            if (encodedText != null) {
+                out.write(open);
+                out.writeEncoded(encodedText);
+                out.write(close);
+                return;
+            }
+            Object v = value.apply(model);
+            if (v != null) {
+                out.write(open);
+                writeValue(v, markup, out);
+                out.write(close);
+            }
+        }
+    }
+}
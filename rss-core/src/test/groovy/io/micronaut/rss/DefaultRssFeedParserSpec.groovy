@@ -0,0 +1,75 @@
+package io.micronaut.rss
+
+import io.micronaut.rss.language.RssLanguage
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Subject
+
+import javax.xml.stream.XMLStreamException
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class DefaultRssFeedParserSpec extends Specification {
+
+    @Subject
+    @Shared
+    DefaultRssFeedParser rssFeedParser = new DefaultRssFeedParser()
+
+    @Shared
+    DefaultRssFeedRenderer rssFeedRenderer = new DefaultRssFeedRenderer()
+
+    void "a rendered RSS channel can be parsed back"() {
+        given:
+        ZonedDateTime pubDate = ZonedDateTime.of(LocalDateTime.of(2003, 6, 3, 9, 39, 21), ZoneId.of("GMT"))
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .language(RssLanguage.LANG_ENGLISH_UNITED_STATES)
+                .item(RssItem.builder()
+                        .title("Star City")
+                        .description("This is <b>bold</b>.")
+                        .category(["space", "russia"])
+                        .enclosure(RssItemEnclosure.builder().url("http://liftoff.msfc.nasa.gov/1.mp3").length(1024).type("audio/mpeg").build())
+                        .pubDate(pubDate)
+                        .guid("http://liftoff.msfc.nasa.gov/2003/06/03.html#item573")
+                        .build())
+                .build()
+        StringWriter writer = new StringWriter()
+        rssFeedRenderer.render(writer, rssChannel)
+
+        when:
+        RssChannel parsed = rssFeedParser.parse(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8))).get()
+
+        then:
+        parsed.title == "Liftoff News"
+        parsed.link == "http://liftoff.msfc.nasa.gov/"
+        parsed.description == "Liftoff to Space Exploration."
+        parsed.language.get() == RssLanguage.LANG_ENGLISH_UNITED_STATES
+        parsed.item.get().size() == 1
+
+        when:
+        RssItem item = parsed.item.get().first()
+
+        then:
+        item.title.get() == "Star City"
+        item.description.get() == "This is <b>bold</b>."
+        item.category.get() == ["space", "russia"]
+        item.enclosure.get().url == "http://liftoff.msfc.nasa.gov/1.mp3"
+        item.enclosure.get().length == 1024
+        item.pubDate.get().toInstant() == pubDate.toInstant()
+        item.guid.get() == "http://liftoff.msfc.nasa.gov/2003/06/03.html#item573"
+    }
+
+    void "malformed documents fail with the parse error"() {
+        when:
+        rssFeedParser.parse(new ByteArrayInputStream("<rss><channel>".getBytes(StandardCharsets.UTF_8)))
+
+        then:
+        thrown(XMLStreamException)
+    }
+
+    void "documents without a channel are parsed to an empty optional"() {
+        expect:
+        !rssFeedParser.parse(new ByteArrayInputStream("<rss></rss>".getBytes(StandardCharsets.UTF_8))).isPresent()
+    }
+}
@@ -4,6 +4,7 @@ import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Subject
 
+import javax.xml.parsers.DocumentBuilderFactory
 import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.ZonedDateTime
@@ -31,4 +32,21 @@ class DefaultRssFeedRendererSpec extends Specification {
         feed.contains('<description><![CDATA[This is <b>bold</b>.]]></description>')
     }
 
+    void "description containing the CDATA end marker is split in several CDATA sections"() {
+        given:
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder()
+                .description("This is <b>bold</b> ]]> text.").build()).build()
+
+        when:
+        StringWriter writer = new StringWriter()
+        rssFeedRenderer.render(writer, rssChannel)
+        String feed = writer.toString()
+
+        then:
+        feed.contains('<description><![CDATA[This is <b>bold</b> ]]]]><![CDATA[> text.]]></description>')
+        DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(feed.getBytes('UTF-8')))
+                .getElementsByTagName('item').item(0).textContent == 'This is <b>bold</b> ]]> text.'
+    }
 }
@@ -0,0 +1,82 @@
+package io.micronaut.rss
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class EncodedTextSpec extends Specification {
+
+    void "text is escaped and encoded as UTF-8 once"() {
+        when:
+        EncodedText text = EncodedText.of("Café <Bar> & Grill")
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        text.writeTo(out)
+
+        then:
+        !text.isCData()
+        text.text == "Café <Bar> & Grill"
+        text.encoded == "Café &lt;Bar&gt; &amp; Grill"
+        new String(out.toByteArray(), StandardCharsets.UTF_8) == "Café &lt;Bar&gt; &amp; Grill"
+        text.byteLength == out.size()
+    }
+
+    void "text without markup is not copied"() {
+        given:
+        String value = "Liftoff News"
+
+        expect:
+        EncodedText.of(value).encoded.is(value)
+    }
+
+    void "CDATA sections containing the end marker are split"() {
+        when:
+        EncodedText text = EncodedText.cdata("a ]]> b")
+
+        then:
+        text.isCData()
+        text.encoded == "<![CDATA[a ]]]]><![CDATA[> b]]>"
+    }
+
+    void "a frozen channel renders its encoded texts verbatim"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        RssChannel.Builder builder = RssChannel.builder("Liftoff & News", "http://liftoff.msfc.nasa.gov/?a=1&b=2", "Liftoff to Space Exploration.")
+                .item(RssItem.builder()
+                        .title("Star City")
+                        .author("Jürgen <jurgen@example.com>")
+                        .category(["Space & Time"])
+                        .description("This is <b>bold</b>.")
+                        .build())
+
+        when:
+        StringWriter notFrozen = new StringWriter()
+        renderer.render(notFrozen, builder.build())
+        StringWriter frozen = new StringWriter()
+        renderer.render(frozen, builder.freeze())
+
+        then:
+        frozen.toString() == notFrozen.toString()
+        frozen.toString().contains('<title>Liftoff &amp; News</title>')
+        frozen.toString().contains('<author>Jürgen &lt;jurgen@example.com&gt;</author>')
+        frozen.toString().contains('<category>Space &amp; Time</category>')
+        frozen.toString().contains('<description><![CDATA[This is <b>bold</b>.]]></description>')
+    }
+
+    void "rendering to a writer flushes it once the channel is rendered"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder().title("Star City").description("This is <b>bold</b>.").build())
+                .freeze()
+        StringWriter target = new StringWriter()
+        BufferedWriter writer = new BufferedWriter(target)
+
+        when:
+        renderer.render(writer, rssChannel)
+
+        then:
+        target.toString().startsWith('<?xml')
+        target.toString().endsWith('</rss>')
+        target.toString().contains('<title>Star City</title>')
+    }
+}
@@ -0,0 +1,59 @@
+package io.micronaut.rss
+
+import spock.lang.Specification
+
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+
+class FeedQuerySpec extends Specification {
+
+    RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+            .item(RssItem.builder().title("Sky watchers").guid("item572").category(["astronomy"]).pubDate(date(30)).build())
+            .item(RssItem.builder().title("Star City").guid("item573").category(["training"]).pubDate(date(31)).build())
+            .item(RssItem.builder().title("Undated").guid("item574").category(["astronomy"]).build())
+            .item(RssItem.builder().title("The Engine That Does More").guid("item571").category(["astronomy", "engines"]).pubDate(date(27)).build())
+            .build()
+
+    void "a query which keeps every item returns the channel itself"() {
+        expect:
+        FeedQuery.ALL.isAll()
+        FeedQuery.ALL.apply(rssChannel).is(rssChannel)
+    }
+
+    void "items are filtered, sorted and limited in memory"(FeedQuery query, List<String> titles) {
+        when:
+        RssChannel result = query.apply(rssChannel)
+
+        then:
+        result.item.get()*.title*.get() == titles
+        result.snapshot().item*.title == titles
+        rssChannel.item.get().size() == 4
+
+        where:
+        query                                                                               || titles
+        FeedQuery.builder().limit(2).build()                                                || ["Sky watchers", "Star City"]
+        FeedQuery.builder().sort(FeedQuery.Sort.NEWEST_FIRST).build()                       || ["Star City", "Sky watchers", "The Engine That Does More", "Undated"]
+        FeedQuery.builder().sort(FeedQuery.Sort.OLDEST_FIRST).limit(1).build()              || ["The Engine That Does More"]
+        FeedQuery.builder().since(date(30)).build()                                         || ["Sky watchers", "Star City"]
+        FeedQuery.builder().category("astronomy").sort(FeedQuery.Sort.NEWEST_FIRST).build() || ["Sky watchers", "The Engine That Does More", "Undated"]
+        FeedQuery.builder().category("rockets").build()                                     || []
+    }
+
+    void "queries with the same instant are equal"() {
+        expect:
+        FeedQuery.builder().since(date(30)).limit(2).build() == FeedQuery.builder().since(date(30).withZoneSameInstant(ZoneOffset.ofHours(2))).limit(2).build()
+        FeedQuery.builder().limit(2).build() != FeedQuery.builder().limit(3).build()
+    }
+
+    void "a negative limit is rejected"() {
+        when:
+        FeedQuery.builder().limit(-1).build()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static ZonedDateTime date(int day) {
+        ZonedDateTime.of(2003, 5, day, 9, 0, 0, 0, ZoneOffset.UTC)
+    }
+}
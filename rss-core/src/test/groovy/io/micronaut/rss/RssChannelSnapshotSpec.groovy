@@ -0,0 +1,181 @@
+package io.micronaut.rss
+
+import spock.lang.Specification
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class RssChannelSnapshotSpec extends Specification {
+
+    void "snapshot exposes raw values and nulls for missing elements"() {
+        given:
+        ZonedDateTime pubDate = ZonedDateTime.of(2020, 1, 2, 3, 4, 5, 0, ZoneId.of("GMT"))
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder()
+                        .title("Star City")
+                        .category(["Space", "Russia"])
+                        .enclosure(RssItemEnclosure.builder().url("http://example.com/a.mp3").length(12).type("audio/mpeg").build())
+                        .pubDate(pubDate)
+                        .build())
+                .build()
+
+        when:
+        RssChannelSnapshot snapshot = rssChannel.snapshot()
+        RssItemSnapshot item = snapshot.item.first()
+
+        then:
+        snapshot.title == "Liftoff News"
+        snapshot.copyright == null
+        snapshot.language == null
+        snapshot.category.isEmpty()
+        item.title == "Star City"
+        item.description == null
+        item.category == ["Space", "Russia"]
+        item.hasEnclosure()
+        item.enclosureUrl == "http://example.com/a.mp3"
+        item.enclosureLength == 12
+        item.enclosureType == "audio/mpeg"
+        item.pubDate == pubDate
+
+        when:
+        item.category.add("Moon")
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    void "a snapshot is not affected by later modifications"() {
+        given:
+        RssItem rssItem = RssItem.builder().title("Star City").build()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(rssItem)
+                .build()
+        RssChannelSnapshot snapshot = rssChannel.snapshot()
+
+        when:
+        rssItem.title = "Sky watchers"
+        rssChannel.title = "Liftoff"
+
+        then:
+        snapshot.title == "Liftoff News"
+        snapshot.item.first().title == "Star City"
+        rssChannel.snapshot().title == "Liftoff"
+        rssChannel.snapshot().item.first().title == "Sky watchers"
+    }
+
+    void "every snapshot of a channel which is not frozen sees the latest modifications"() {
+        given:
+        RssItemEnclosure enclosure = RssItemEnclosure.builder().url("http://example.com/a.mp3").length(12).type("audio/mpeg").build()
+        RssItem starCity = RssItem.builder().title("Star City").enclosure(enclosure).build()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(starCity)
+                .build()
+        RssChannelSnapshot snapshot = rssChannel.snapshot()
+
+        when: 'an item is added through the list of items and a held enclosure changes'
+        rssChannel.item.get().add(RssItem.builder().title("Sky watchers").build())
+        enclosure.length = 24
+
+        then:
+        !rssChannel.snapshot().is(snapshot)
+        rssChannel.snapshot().item*.title == ["Star City", "Sky watchers"]
+        rssChannel.snapshot().item[0].enclosureLength == 24
+
+        when: 'an extension property changes'
+        DublinCoreItem item = new DublinCoreItem()
+        item.title = "Dublin"
+        rssChannel.item.get().add(item)
+        rssChannel.snapshot()
+        item.creator = "Sergio"
+
+        then:
+        rssChannel.snapshot().namespaces == ['xmlns:dc': DublinCoreItem.DUBLIN_CORE]
+        rssChannel.snapshot().item[2].elements.getValue(0) == "Sergio"
+    }
+
+    void "a frozen channel reuses its snapshot"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder().description("This is <b>bold</b>.").build())
+                .freeze()
+
+        expect:
+        rssChannel.snapshot().is(rssChannel.snapshot())
+
+        when:
+        StringWriter frozen = new StringWriter()
+        renderer.render(frozen, rssChannel)
+        StringWriter snapshot = new StringWriter()
+        renderer.render(snapshot, rssChannel.snapshot())
+
+        then:
+        frozen.toString() == snapshot.toString()
+        frozen.toString().contains('<description><![CDATA[This is <b>bold</b>.]]></description>')
+    }
+
+    void "a copy with fewer items renders like the channel without the other items"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder().title("Star City").guid("item573").build())
+                .item(RssItem.builder().title("Sky watchers").guid("item572").build())
+                .build()
+
+        when:
+        RssChannel delta = rssChannel.withItems(item -> item.guid == "item573")
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, delta)
+
+        then:
+        delta.item.get()*.title*.get() == ["Star City"]
+        rssChannel.item.get().size() == 2
+        delta.snapshot().is(delta.snapshot())
+        writer.toString().contains('<title>Star City</title>')
+        !writer.toString().contains('Sky watchers')
+        writer.toString().contains('<title>Liftoff News</title>')
+    }
+
+    void "a page of a channel renders its Atom links with both renderings"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder().title("Star City").guid("item573").build())
+                .item(RssItem.builder().title("Sky watchers").guid("item572").build())
+                .item(RssItem.builder().title("The Engine That Does More").guid("item571").build())
+                .build()
+
+        when:
+        RssChannel page = rssChannel.withPage(1, 3, [AtomLink.of(AtomLink.CURRENT, "https://example.org/feed?a=1&b=2")], true)
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, page)
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+        renderer.render(outputStream, page)
+
+        then:
+        page.snapshot().item*.title == ["Sky watchers", "The Engine That Does More"]
+        page.snapshot().archive
+        !rssChannel.snapshot().archive
+        rssChannel.snapshot().links.empty
+        writer.toString() == outputStream.toString("UTF-8")
+        writer.toString().contains('<atom:link xmlns:atom="http://www.w3.org/2005/Atom" rel="current" href="https://example.org/feed?a=1&amp;b=2"/><fh:archive xmlns:fh="http://purl.org/syndication/history/1.0"/><item>')
+        !writer.toString().contains('Star City')
+    }
+
+    void "copies keep the items their selected snapshots were taken from"() {
+        given:
+        RssItem starCity = RssItem.builder().title("Star City").guid("item573").build()
+        RssItem skyWatchers = RssItem.builder().title("Sky watchers").guid("item572").build()
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.").build()
+        rssChannel.item = [null, starCity, null, skyWatchers]
+
+        when:
+        RssChannel reversed = rssChannel.withSelectedItems(items -> items.reverse())
+        RssChannel page = rssChannel.withPage(1, 2, [], true)
+
+        then:
+        reversed.item.get() == [skyWatchers, starCity]
+        page.item.get() == [skyWatchers]
+        page.snapshot().item*.title == ["Sky watchers"]
+    }
+}
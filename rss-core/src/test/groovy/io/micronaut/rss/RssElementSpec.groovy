@@ -0,0 +1,99 @@
+package io.micronaut.rss
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+class RssElementSpec extends Specification {
+
+    @Unroll
+    void "RssElement properties are rendered with their namespace declared in the rss element, frozen: #frozen"(boolean frozen) {
+        given:
+        DublinCoreItem item = new DublinCoreItem()
+        item.setTitle("Micronaut RSS")
+        item.setCreator("Sergio & co")
+        item.setSubject(["java", "rss"])
+        RssChannel.Builder builder = RssChannel.builder("title", "https://micronaut.io", "description").item(item)
+        RssChannel rssChannel = frozen ? builder.freeze() : builder.build()
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, rssChannel)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, rssChannel)
+        String xml = writer.toString()
+
+        then:
+        xml.contains('xmlns:dc="http://purl.org/dc/elements/1.1/"')
+        xml.contains('<title>Micronaut RSS</title><dc:creator>Sergio &amp; co</dc:creator><dc:subject>java</dc:subject><dc:subject>rss</dc:subject></item>')
+        bytes.toString(StandardCharsets.UTF_8) == xml
+
+        where:
+        frozen << [false, true]
+    }
+
+    void "snapshots capture RssElement values"() {
+        given:
+        DublinCoreItem item = new DublinCoreItem()
+        item.setCreator("Sergio")
+
+        when:
+        RssItemSnapshot snapshot = item.snapshot()
+        item.setCreator("Tim")
+
+        then:
+        snapshot.elements.size() == 2
+        snapshot.elements.getName(0) == "dc:creator"
+        snapshot.elements.getValue(0) == "Sergio"
+        snapshot.elements.getValue(1) == null
+
+        and: 'types without RssElement properties capture nothing'
+        RssItem.builder().title("plain").build().snapshot().elements == null
+    }
+
+    void "only the namespaces of RssElement properties present in the channel are declared"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        DublinCoreItem item = new DublinCoreItem()
+        item.setCreator("Sergio")
+        RssChannel plain = RssChannel.builder("title", "https://micronaut.io", "description")
+                .item(RssItem.builder().title("plain").build())
+                .build()
+        RssChannel mixed = RssChannel.builder("title", "https://micronaut.io", "description")
+                .item(RssItem.builder().title("plain").build())
+                .item(item)
+                .build()
+
+        when:
+        ByteArrayOutputStream plainBytes = new ByteArrayOutputStream()
+        renderer.render(plainBytes, plain)
+        ByteArrayOutputStream mixedBytes = new ByteArrayOutputStream()
+        renderer.render(mixedBytes, mixed)
+        StringWriter mixedWriter = new StringWriter()
+        renderer.render(mixedWriter, mixed)
+
+        then:
+        plain.snapshot().namespaces.isEmpty()
+        !plainBytes.toString(StandardCharsets.UTF_8).contains('xmlns:dc')
+        mixed.snapshot().namespaces == ['xmlns:dc': 'http://purl.org/dc/elements/1.1/']
+        mixedBytes.toString(StandardCharsets.UTF_8).contains('xmlns:dc="http://purl.org/dc/elements/1.1/"><channel>')
+        mixedWriter.toString() == mixedBytes.toString(StandardCharsets.UTF_8)
+    }
+
+    @Unroll
+    void "invalid RssElement names are rejected when #type.simpleName is first captured"(Class<? extends RssItem> type, String message) {
+        when:
+        type.getDeclaredConstructor().newInstance().snapshot()
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message.contains(message)
+
+        where:
+        type                 | message
+        UndeclaredPrefixItem | 'has a prefix but no namespace'
+        InvalidNameItem      | 'is not a valid XML element name'
+    }
+}
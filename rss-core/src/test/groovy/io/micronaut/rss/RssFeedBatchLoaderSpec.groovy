@@ -0,0 +1,140 @@
+package io.micronaut.rss
+
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+class RssFeedBatchLoaderSpec extends Specification {
+
+    CountingRssFeedProvider provider = new CountingRssFeedProvider()
+
+    void "concurrent requests for single feeds are fetched with one round trip"() {
+        given:
+        List<String> ids = (0..<50).collect { "feed-${it}".toString() }
+
+        when: 'each feed is fetched on its own'
+        List<RssChannel> unbatched = Flux.fromIterable(ids).flatMap { provider.fetchById(it) }.collectList().block()
+
+        then:
+        unbatched.size() == 50
+        provider.roundTrips.get() == 50
+
+        when: 'the feeds are loaded in batches'
+        provider.roundTrips.set(0)
+        RssFeedBatchLoader loader = new RssFeedBatchLoader(provider, Duration.ofMillis(50), 100)
+        List<RssChannel> batched = Flux.fromIterable(ids).flatMap { loader.load(it) }.collectList().block()
+
+        then:
+        batched*.title as Set == ids as Set
+        provider.roundTrips.get() == 1
+        provider.batchSizes == [50]
+    }
+
+    void "a full batch is fetched without waiting for the end of the window"() {
+        given:
+        RssFeedBatchLoader loader = new RssFeedBatchLoader(provider, Duration.ofMinutes(1), 20)
+
+        when:
+        List<RssChannel> batched = Flux.range(0, 40).flatMap { loader.load("feed-${it}".toString()) }.collectList().block(Duration.ofSeconds(10))
+
+        then:
+        batched.size() == 40
+        provider.batchSizes == [20, 20]
+    }
+
+    void "requests for the same id share a fetch and missing feeds are empty"() {
+        given:
+        RssFeedBatchLoader loader = new RssFeedBatchLoader(provider, Duration.ofMillis(20), 100)
+
+        when:
+        List<Optional<RssChannel>> channels = Flux.just('a', 'missing', 'a')
+                .flatMapSequential { Mono.from(loader.load(it)).map(Optional::of).defaultIfEmpty(Optional.empty()) }
+                .collectList()
+                .block()
+
+        then:
+        channels*.map { it.title }*.orElse(null) == ['a', null, 'a']
+        provider.batchSizes == [2]
+    }
+
+    void "batches are fetched on the scheduler of the loader"() {
+        given:
+        Scheduler scheduler = Schedulers.newSingle('batch')
+        RssFeedBatchLoader loader = new RssFeedBatchLoader(provider, Duration.ofMillis(20), 2, scheduler)
+
+        when: 'a batch is fetched at the end of the window and another one as soon as it is full'
+        Mono.from(loader.load('a')).block(Duration.ofSeconds(10))
+        Flux.just('b', 'c').flatMap { loader.load(it) }.collectList().block(Duration.ofSeconds(10))
+
+        then:
+        provider.threads.size() == 2
+        provider.threads.every { it.startsWith('batch') }
+
+        cleanup:
+        scheduler.dispose()
+    }
+
+    void "by default a batch fetches the feeds one by one"() {
+        given:
+        RssFeedProvider provider = new RssFeedProvider() {
+            @Override
+            Publisher<RssChannel> fetch() {
+                Mono.empty()
+            }
+
+            @Override
+            Publisher<RssChannel> fetchById(Serializable id) {
+                id == 'missing' ? Mono.empty() : Mono.just(channel(id))
+            }
+        }
+
+        when:
+        Map<Serializable, RssChannel> channels = Flux.from(provider.fetchByIds(['a', 'missing', 'b']))
+                .collectMap({ it.key }, { it.value })
+                .block()
+
+        then:
+        channels.keySet() == ['a', 'b'] as Set
+        channels['b'].title == 'b'
+    }
+
+    static RssChannel channel(Serializable id) {
+        RssChannel.builder(id.toString(), "https://example.org/${id}".toString(), "Feed ${id}".toString()).build()
+    }
+
+    static class CountingRssFeedProvider implements RssFeedProvider {
+        AtomicInteger roundTrips = new AtomicInteger()
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>()
+        List<String> threads = new CopyOnWriteArrayList<>()
+
+        @Override
+        Publisher<RssChannel> fetch() {
+            Mono.empty()
+        }
+
+        @Override
+        Publisher<RssChannel> fetchById(Serializable id) {
+            Mono.fromCallable {
+                roundTrips.incrementAndGet()
+                channel(id)
+            }
+        }
+
+        @Override
+        Publisher<Map.Entry<Serializable, RssChannel>> fetchByIds(Collection<? extends Serializable> ids) {
+            Flux.defer {
+                roundTrips.incrementAndGet()
+                batchSizes << ids.size()
+                threads << Thread.currentThread().name
+                Flux.fromIterable(ids.findAll { it != 'missing' }).map { Map.entry(it, channel(it)) }
+            }
+        }
+    }
+}
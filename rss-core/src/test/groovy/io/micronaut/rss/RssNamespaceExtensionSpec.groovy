@@ -0,0 +1,108 @@
+package io.micronaut.rss
+
+import io.micronaut.core.annotation.NonNull
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class RssNamespaceExtensionSpec extends Specification {
+
+    void "extensions declare their namespaces and contribute elements compiled once per snapshot class"() {
+        given:
+        DublinCoreExtension dublinCore = new DublinCoreExtension()
+        MediaExtension media = new MediaExtension()
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer([media, dublinCore])
+        RssChannel rssChannel = RssChannel.builder("title", "https://micronaut.io", "description")
+                .item(RssItem.builder().title("one").guid("1").build())
+                .item(RssItem.builder().title("two").guid("2").build())
+                .build()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, rssChannel)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, rssChannel)
+        String xml = writer.toString()
+
+        then:
+        xml.contains('xmlns:dc="http://purl.org/dc/elements/1.1/"')
+        xml.contains('xmlns:media="http://search.yahoo.com/mrss/"')
+        xml.contains('<dc:rights>CC BY 4.0</dc:rights><item>')
+        xml.contains('<guid>1</guid><dc:identifier>1</dc:identifier><media:rating>nonadult</media:rating></item>')
+        bytes.toString(StandardCharsets.UTF_8) == xml
+
+        and: 'extensions are applied by order and compiled once per class'
+        dublinCore.compiledItems == 1
+        media.compiledItems == 1
+    }
+
+    void "extensions are written to the writer and to the output stream"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer([new DublinCoreExtension()])
+        RssChannel rssChannel = RssChannel.builder("title", "https://micronaut.io", "description")
+                .item(RssItem.builder().guid("Jürgen 😀 & co").build())
+                .item(RssItem.builder().guid("ü".repeat(5000)).build())
+                .build()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, rssChannel)
+        ByteArrayOutputStream template = new ByteArrayOutputStream()
+        renderer.render(template, rssChannel)
+
+        then:
+        writer.toString().contains('<guid>Jürgen 😀 &amp; co</guid><dc:identifier>Jürgen 😀 &amp; co</dc:identifier></item>')
+        writer.toString().contains('<dc:identifier>' + "ü".repeat(5000) + '</dc:identifier>')
+        template.toString(StandardCharsets.UTF_8) == writer.toString()
+    }
+
+    static class DublinCoreExtension implements RssNamespaceExtension {
+        int compiledItems
+
+        @Override
+        String getPrefix() {
+            "dc"
+        }
+
+        @Override
+        String getNamespace() {
+            "http://purl.org/dc/elements/1.1/"
+        }
+
+        @Override
+        void compileChannel(@NonNull Class<? extends RssChannelSnapshot> type, @NonNull XmlTemplate.Builder<RssChannelSnapshot> channel) {
+            channel.constant("<dc:rights>CC BY 4.0</dc:rights>")
+        }
+
+        @Override
+        void compileItem(@NonNull Class<? extends RssItemSnapshot> type, @NonNull XmlTemplate.Builder<RssItemSnapshot> item) {
+            compiledItems++
+            item.element("dc:identifier", RssItemSnapshot::getEncodedGuid, RssItemSnapshot::getGuid)
+        }
+    }
+
+    static class MediaExtension implements RssNamespaceExtension {
+        int compiledItems
+
+        @Override
+        String getPrefix() {
+            "media"
+        }
+
+        @Override
+        String getNamespace() {
+            "http://search.yahoo.com/mrss/"
+        }
+
+        @Override
+        int getOrder() {
+            10
+        }
+
+        @Override
+        void compileItem(@NonNull Class<? extends RssItemSnapshot> type, @NonNull XmlTemplate.Builder<RssItemSnapshot> item) {
+            compiledItems++
+            item.constant("<media:rating>nonadult</media:rating>")
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.micronaut.rss
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.xml.parsers.DocumentBuilderFactory
+import javax.xml.stream.XMLOutputFactory
+import javax.xml.stream.XMLStreamWriter
+
+class XmlEscaperSpec extends Specification {
+
+    @Unroll
+    void "#text is classified as #classification"(String text, XmlEscaper.Classification classification) {
+        expect:
+        XmlEscaper.classify(text) == classification
+
+        where:
+        text                        || classification
+        'Liftoff News'              || XmlEscaper.Classification.PLAIN
+        'Café'                      || XmlEscaper.Classification.PLAIN
+        'Space & Time'              || XmlEscaper.Classification.ESCAPE
+        'a ]]> b'                   || XmlEscaper.Classification.ESCAPE
+        'This is <b>bold</b>.'      || XmlEscaper.Classification.CDATA
+        'a ]]> b <b>bold</b>'       || XmlEscaper.Classification.SPLIT_CDATA
+        '<b>bold</b> a ]]> b'       || XmlEscaper.Classification.SPLIT_CDATA
+    }
+
+    @Unroll
+    void "#text is written as #expected"(String text, String expected) {
+        when:
+        StringWriter writer = new StringWriter()
+        XmlEscaper.writeMarkup(writer, text)
+
+        then:
+        writer.toString() == expected
+
+        where:
+        text                        || expected
+        'Liftoff News'              || 'Liftoff News'
+        'Space & Time > Space'      || 'Space &amp; Time &gt; Space'
+        'This is <b>bold</b>.'      || '<![CDATA[This is <b>bold</b>.]]>'
+        '<b>a</b> ]]> b ]]>'        || '<![CDATA[<b>a</b> ]]]]><![CDATA[> b ]]]]><![CDATA[>]]>'
+    }
+
+    @Unroll
+    void "a #size KB HTML body is written as StAX writes it and parses back to the same text"(int size) {
+        given:
+        String html = body(size)
+
+        when:
+        StringWriter escaper = new StringWriter()
+        escaper.write('<description>')
+        XmlEscaper.writeMarkup(escaper, html)
+        escaper.write('</description>')
+
+        StringWriter stax = new StringWriter()
+        XMLStreamWriter sw = XMLOutputFactory.newFactory().createXMLStreamWriter(stax)
+        sw.writeStartElement('description')
+        sw.writeCData(html)
+        sw.writeEndElement()
+        sw.flush()
+
+        then:
+        escaper.toString() == stax.toString()
+        parse(escaper.toString()) == html
+
+        when: 'the body contains the CDATA end marker'
+        String broken = html + ' ]]> ' + html
+        StringWriter split = new StringWriter()
+        split.write('<description>')
+        XmlEscaper.writeMarkup(split, broken)
+        split.write('</description>')
+
+        then:
+        parse(split.toString()) == broken
+
+        where:
+        size << [10, 100, 500]
+    }
+
+    void "escaped text is written as StAX writes it"() {
+        given:
+        String text = body(10).replace('<', '[')
+
+        when:
+        StringWriter escaper = new StringWriter()
+        XmlEscaper.writeEscaped(escaper, text)
+        StringWriter stax = new StringWriter()
+        XMLStreamWriter sw = XMLOutputFactory.newFactory().createXMLStreamWriter(stax)
+        sw.writeCharacters(text)
+        sw.flush()
+
+        then:
+        escaper.toString() == stax.toString()
+        XmlEscaper.escape(text) == stax.toString()
+    }
+
+    private static String body(int kilobytes) {
+        StringBuilder sb = new StringBuilder()
+        while (sb.length() < kilobytes * 1024) {
+            sb.append('<p>Lorem ipsum dolor sit amet &amp; consectetur <a href="https://example.com/?a=1&b=2">link</a> adipiscing > elit.</p>\n')
+        }
+        sb.toString()
+    }
+
+    private static String parse(String xml) {
+        DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xml.getBytes('UTF-8')))
+                .documentElement.textContent
+    }
+}
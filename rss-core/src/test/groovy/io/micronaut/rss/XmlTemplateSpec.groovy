@@ -0,0 +1,185 @@
+package io.micronaut.rss
+
+import io.micronaut.rss.content.ContentSource
+import io.micronaut.rss.render.FragmentBoundary
+import io.micronaut.rss.render.RenderLimit
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+
+class XmlTemplateSpec extends Specification {
+
+    void "adjacent constants are merged into a single segment"() {
+        when:
+        XmlTemplate<RssItemSnapshot> template = XmlTemplate.<RssItemSnapshot>builder()
+                .constant("<item>")
+                .requiredElement("title", RssItemSnapshot::getEncodedTitle, RssItemSnapshot::getTitle)
+                .constant("</item>")
+                .build()
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        XmlOutput out = new XmlOutput(bytes)
+        template.render(RssItem.builder().title("A & B").build().snapshot(), out)
+        out.flush()
+
+        then: 'one constant, one slot and one constant'
+        template.size() == 3
+        bytes.toString(StandardCharsets.UTF_8) == "<item><title>A &amp; B</title></item>"
+    }
+
+    void "attribute values escape quotes and multi byte characters are encoded as UTF-8"() {
+        given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        XmlOutput out = new XmlOutput(bytes)
+
+        when:
+        out.writeAttributeValue('a "b" & <ü>')
+        out.writeText(' ')
+        out.writeText('"ü" 😀 > ')
+        out.flush()
+
+        then:
+        bytes.toString(StandardCharsets.UTF_8) == '''a &quot;b&quot; &amp; &lt;ü&gt; "ü" 😀 &gt; '''
+        out.written == bytes.size()
+    }
+
+    @Unroll
+    void "the writer output equals the output stream output, frozen: #frozen"(boolean frozen) {
+        given:
+        RssChannel.Builder builder = RssChannel.builder("A & B <x>", "https://micronaut.io?a=1&b=2", "D > C")
+                .copyright("(c) <me>")
+                .pubDate(ZonedDateTime.of(2021, 5, 6, 7, 8, 9, 0, ZoneOffset.ofHours(2)))
+                .image(RssChannelImage.builder("logo", "https://micronaut.io/logo.png", "https://micronaut.io").width(88).height(31).build())
+                .item(RssItem.builder()
+                        .title("t&t")
+                        .description("x <b>y</b> ]]> z")
+                        .author("ü <a>")
+                        .category(["c&1", "c2"])
+                        .guid("g")
+                        .enclosure(RssItemEnclosure.builder().url("https://micronaut.io/a.mp3?x=1&y=2").length(12).type("audio/mpeg").build())
+                        .build())
+                .item(RssItem.builder().description("plain & simple").build())
+                .category([["Technology", "Java"], ["Solo"]])
+                .skipHours([RssSkipHours.ZERO, RssSkipHours.ONE])
+                .skipDays([RssSkipDays.MONDAY])
+        RssChannel rssChannel = frozen ? builder.freeze() : builder.build()
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, rssChannel)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, rssChannel)
+
+        then:
+        bytes.toString(StandardCharsets.UTF_8) == writer.toString()
+        writer.toString().contains("<width>88</width><height>31</height>")
+
+        where:
+        frozen << [false, true]
+    }
+
+    void "elements compiled by subclasses are written by both renderings"() {
+        given:
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer() {
+            @Override
+            protected void compileRssItem(XmlTemplate.Builder<RssItemSnapshot> item) {
+                super.compileRssItem(item)
+                item.element("comments", null, rssItem -> "compiled")
+            }
+        }
+        RssChannel rssChannel = RssChannel.builder("title", "https://micronaut.io", "description")
+                .item(RssItem.builder().description("original").build())
+                .build()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, rssChannel)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, rssChannel)
+
+        then:
+        writer.toString().contains("<description>original</description><comments>compiled</comments></item>")
+        bytes.toString(StandardCharsets.UTF_8) == writer.toString()
+    }
+
+    void "descriptions are streamed from their content source and escaped"() {
+        given: 'a surrogate pair across the chunk boundary'
+        String description = ('a' * 4095) + '😀 <b>x & y</b>' + ('z' * 5000)
+        boolean closed = false
+        ContentSource contentSource = { ->
+            new StringReader(description) {
+                @Override
+                void close() {
+                    closed = true
+                    super.close()
+                }
+            }
+        } as ContentSource
+        RssChannel rssChannel = RssChannel.builder("title", "https://micronaut.io", "description")
+                .item(RssItem.builder().title("streamed").descriptionSource(contentSource).build())
+                .item(RssItem.builder().title("in memory").description("wins").descriptionSource(contentSource).build())
+                .build()
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+
+        when:
+        StringWriter writer = new StringWriter()
+        renderer.render(writer, rssChannel)
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        renderer.render(bytes, rssChannel)
+        String xml = writer.toString()
+
+        then:
+        xml.contains("<description>" + XmlEscaper.escape(description) + "</description>")
+        xml.contains("<description>wins</description>")
+        bytes.toString(StandardCharsets.UTF_8) == xml
+        closed
+    }
+
+    void "the renderer ends a fragment around every item and stops at the item the output stream rejects"() {
+        given:
+        RssChannel rssChannel = RssChannel.builder("Liftoff News", "http://liftoff.msfc.nasa.gov/", "Liftoff to Space Exploration.")
+                .item(RssItem.builder().title("Star City").guid("item573").build())
+                .item(RssItem.builder().title("Sky watchers").guid("item572").build())
+                .item(RssItem.builder().title("The Engine That Does More").guid("item571").build())
+                .build()
+        DefaultRssFeedRenderer renderer = new DefaultRssFeedRenderer()
+        BoundedOutputStream out = new BoundedOutputStream(maxItems: 2)
+
+        when:
+        renderer.render(out, rssChannel)
+
+        then:
+        out.toString(StandardCharsets.UTF_8).contains('Sky watchers')
+        !out.toString(StandardCharsets.UTF_8).contains('The Engine That Does More')
+        out.toString(StandardCharsets.UTF_8).endsWith('</item></channel></rss>')
+        out.fragmentEnds.size() == 3
+        out.rejected == 1
+    }
+
+    static class BoundedOutputStream extends ByteArrayOutputStream implements FragmentBoundary, RenderLimit {
+        int maxItems
+        int items
+        int rejected
+        List<Integer> fragmentEnds = []
+
+        @Override
+        void endFragment() {
+            if (fragmentEnds.empty || fragmentEnds.last() != size()) {
+                fragmentEnds << size()
+            }
+        }
+
+        @Override
+        boolean acceptsItem() {
+            if (items < maxItems) {
+                items++
+                return true
+            }
+            rejected++
+            false
+        }
+    }
+}
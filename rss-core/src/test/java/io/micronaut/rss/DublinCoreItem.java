@@ -0,0 +1,30 @@
+package io.micronaut.rss;
+
+import java.util.List;
+
+@RssExtension
+public class DublinCoreItem extends RssItem {
+    public static final String DUBLIN_CORE = "http://purl.org/dc/elements/1.1/";
+
+    @RssElement(namespace = DUBLIN_CORE, name = "dc:creator")
+    private String creator;
+
+    @RssElement(namespace = DUBLIN_CORE, name = "dc:subject")
+    private List<String> subject;
+
+    public String getCreator() {
+        return creator;
+    }
+
+    public void setCreator(String creator) {
+        this.creator = creator;
+    }
+
+    public List<String> getSubject() {
+        return subject;
+    }
+
+    public void setSubject(List<String> subject) {
+        this.subject = subject;
+    }
+}
@@ -0,0 +1,16 @@
+package io.micronaut.rss;
+
+@RssExtension
+public class InvalidNameItem extends RssItem {
+
+    @RssElement(namespace = DublinCoreItem.DUBLIN_CORE, name = "dc:1creator")
+    private String creator;
+
+    public String getCreator() {
+        return creator;
+    }
+
+    public void setCreator(String creator) {
+        this.creator = creator;
+    }
+}
@@ -0,0 +1,16 @@
+package io.micronaut.rss;
+
+@RssExtension
+public class UndeclaredPrefixItem extends RssItem {
+
+    @RssElement(name = "dc:creator")
+    private String creator;
+
+    public String getCreator() {
+        return creator;
+    }
+
+    public void setCreator(String creator) {
+        this.creator = creator;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.rss.render.FragmentBoundary;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Stops a render at the next fragment boundary, such as the end of an item, once it is cancelled, e.g. because the client disconnected.
+ * Boundaries are forwarded to the wrapped stream if it is a {@link FragmentBoundary} as well.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class CancellableOutputStream extends OutputStream implements FragmentBoundary {
+    private final OutputStream out;
+    private final BooleanSupplier cancelled;
+
+    /**
+     *
+     * @param out The output stream to write to
+     * @param cancelled Whether the render is cancelled
+     */
+    public CancellableOutputStream(@NonNull OutputStream out, @NonNull BooleanSupplier cancelled) {
+        this.out = out;
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+    }
+
+    /**
+     * Ends the fragment in the wrapped stream, then fails if the render is cancelled.
+     * @throws InterruptedIOException if the render is cancelled
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void endFragment() throws IOException {
+        if (out instanceof FragmentBoundary fragmentBoundary) {
+            fragmentBoundary.endFragment();
+        }
+        if (cancelled.getAsBoolean()) {
+            throw new InterruptedIOException("render cancelled");
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
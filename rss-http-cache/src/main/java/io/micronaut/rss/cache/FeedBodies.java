@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Response bodies shared by the controllers which serve feeds from the caches and stores of this module, whatever the format of the feeds.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class FeedBodies {
+    private static final Logger LOG = LoggerFactory.getLogger(FeedBodies.class);
+    private static final String GZIP = "gzip";
+
+    private FeedBodies() {
+    }
+
+    /**
+     * Feeds in the heap are sent as is, feeds in the off-heap and memory-mapped tiers are copied into a buffer of the runtime, which is direct on Netty.
+     *
+     * @param cached A cached rendered feed
+     * @param byteBufferFactory The buffer factory of the server runtime or {@code null} if the runtime provides none
+     * @return The response body
+     */
+    @NonNull
+    public static Object cachedBody(@NonNull ByteBuffer cached, @Nullable ByteBufferFactory<?, ?> byteBufferFactory) {
+        if (cached.hasArray() && cached.arrayOffset() == 0 && cached.remaining() == cached.array().length) {
+            return cached.array();
+        }
+        if (byteBufferFactory != null) {
+            return byteBufferFactory.buffer(cached.remaining()).write(cached);
+        }
+        byte[] body = new byte[cached.remaining()];
+        cached.get(body);
+        return body;
+    }
+
+    /**
+     * Items are compressed once and their compressed bytes reused by later responses, so the feed is rendered but only new items are compressed.
+     *
+     * @param gzipFragmentCache The cache of compressed items
+     * @param writer Renders the feed
+     * @return A gzip encoded response, or {@code 500 Internal Server Error} if the render fails
+     */
+    @NonNull
+    public static MutableHttpResponse<?> gzip(@NonNull GzipFragmentCache gzipFragmentCache, @NonNull FeedBodyWriter writer) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            GzipFragmentOutputStream gzipOutputStream = new GzipFragmentOutputStream(outputStream, gzipFragmentCache);
+            writer.writeTo(gzipOutputStream);
+            gzipOutputStream.finish();
+        } catch (IOException e) {
+            logRenderFailure(e);
+            return HttpResponse.serverError();
+        }
+        return HttpResponse.ok(outputStream.toByteArray())
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * A render cancelled because the client disconnected is not an error.
+     *
+     * @param e The failure of a render
+     */
+    public static void logRenderFailure(@NonNull IOException e) {
+        if (e instanceof InterruptedIOException) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("render cancelled: {}", e.getMessage());
+            }
+        } else if (LOG.isErrorEnabled()) {
+            LOG.error(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Renders a feed into an output stream. Used to fill stores of rendered feeds on a miss.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@FunctionalInterface
+public interface FeedBodyWriter {
+
+    /**
+     * Writes the rendered feed. The caller closes the stream.
+     * @param outputStream The output stream
+     * @throws IOException if an I/O error occurs
+     */
+    void writeTo(@NonNull OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the items of the recent versions of feeds, so that clients which support RFC 3229 with the {@code feed} instance manipulation
+ * only receive the items added since the version identified by their entity tag.
+ *
+ * <p>A version is identified by a weak entity tag derived from the version of the feed, such as the epoch milliseconds of its last build date, and the ids of its items.
+ * The ids of the items of the most recent versions of each feed are kept, and the least recently requested feeds are forgotten first.</p>
+ *
+ * <p>The entity tag does not cover the content of the items. As the caches of rendered feeds, it relies on the version of the feed: an item whose content changes while its id and the dates of the feed do not
+ * keeps the entity tag, so clients which send it get {@code 304 Not Modified}. Update the last build date of a feed when the content of its items changes.
+ * Feeds without a version are not tracked: their entity tag would not change with their content.</p>
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc3229">RFC 3229</a>
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = FeedDeltaTrackerConfigurationProperties.PREFIX + ".max-feeds")
+@Singleton
+public class FeedDeltaTracker {
+
+    /**
+     * The request header which lists the instance manipulations accepted by the client.
+     */
+    public static final String A_IM = "A-IM";
+
+    /**
+     * The response header which lists the instance manipulations applied to a {@code 226 IM Used} response.
+     */
+    public static final String IM = "IM";
+
+    /**
+     * The instance manipulation which only keeps the items added since the version identified by the {@code If-None-Match} header.
+     */
+    public static final String FEED = "feed";
+
+    /**
+     * The {@code Cache-Control} header of a {@code 226 IM Used} response, which caches unaware of instance manipulations must not store.
+     */
+    public static final String CACHE_CONTROL_IM = "no-store, im";
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final int ENTITY_TAG_BYTES = 8;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final int maxFeeds;
+    private final int maxVersions;
+    private final LinkedHashMap<String, LinkedHashMap<String, Set<String>>> feeds = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     *
+     * @param configuration Feed delta tracker configuration
+     */
+    @Inject
+    public FeedDeltaTracker(FeedDeltaTrackerConfiguration configuration) {
+        this(configuration.getMaxFeeds(), configuration.getMaxVersions());
+    }
+
+    /**
+     *
+     * @param maxFeeds The maximum number of feeds whose versions are tracked
+     * @param maxVersions The maximum number of versions tracked per feed
+     */
+    public FeedDeltaTracker(int maxFeeds, int maxVersions) {
+        this.maxFeeds = maxFeeds;
+        this.maxVersions = maxVersions;
+    }
+
+    /**
+     * Records the current version of a feed. The content of the items is not part of the entity tag.
+     * @param key The feed key
+     * @param version The feed version, such as the epoch milliseconds of its last build date
+     * @param itemIds The ids of the items of the feed, such as their guids
+     * @return The weak entity tag of the current version
+     */
+    @NonNull
+    public String track(@NonNull String key, long version, @NonNull List<String> itemIds) {
+        String entityTag = entityTag(version, itemIds);
+        synchronized (this) {
+            LinkedHashMap<String, Set<String>> versions = feeds.computeIfAbsent(key, k -> new LinkedHashMap<>());
+            if (versions.remove(entityTag) == null && versions.size() >= maxVersions) {
+                Iterator<String> oldest = versions.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+            versions.put(entityTag, Set.copyOf(itemIds));
+            if (feeds.size() > maxFeeds) {
+                Iterator<String> leastRecentlyUsed = feeds.keySet().iterator();
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+        return entityTag;
+    }
+
+    /**
+     * Tracks the current version of a feed and answers a request for it. A request whose {@code If-None-Match} header lists the current version gets {@code 304 Not Modified};
+     * a request which also accepts the {@code feed} instance manipulation and lists a tracked version gets {@code 226 IM Used} and the items it has not seen; other requests get the whole feed.
+     * Successful responses carry the entity tag of the current version.
+     * @param request HTTP Request
+     * @param key The feed key
+     * @param version The feed version, such as the epoch milliseconds of its last build date
+     * @param itemIds The ids of the items of the feed, such as their guids
+     * @param delta Renders the feed without the items whose ids it is given
+     * @param feed Renders the whole feed
+     * @return The response
+     */
+    @NonNull
+    public MutableHttpResponse<?> respond(@NonNull HttpRequest<?> request,
+                                          @NonNull String key,
+                                          long version,
+                                          @NonNull List<String> itemIds,
+                                          @NonNull Function<Set<String>, MutableHttpResponse<?>> delta,
+                                          @NonNull Supplier<MutableHttpResponse<?>> feed) {
+        String entityTag = track(key, version, itemIds);
+        String ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (matches(ifNoneMatch, entityTag)) {
+            return HttpResponse.notModified().header(HttpHeaders.ETAG, entityTag);
+        }
+        if (acceptsFeed(request.getHeaders().get(A_IM))) {
+            Optional<Set<String>> seen = find(key, ifNoneMatch);
+            if (seen.isPresent()) {
+                MutableHttpResponse<?> response = delta.apply(seen.get());
+                if (response.getStatus() != HttpStatus.OK) {
+                    return response;
+                }
+                return response.status(HttpStatus.IM_USED)
+                        .header(IM, FEED)
+                        .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_IM)
+                        .header(HttpHeaders.ETAG, entityTag);
+            }
+        }
+        MutableHttpResponse<?> response = feed.get();
+        return response.getStatus() == HttpStatus.OK ? response.header(HttpHeaders.ETAG, entityTag) : response;
+    }
+
+    /**
+     * Finds the ids of the items of the first tracked version listed in an {@code If-None-Match} header.
+     * @param key The feed key
+     * @param ifNoneMatch The value of an {@code If-None-Match} header
+     * @return The ids of the items of that version, or an empty optional if no listed version is tracked
+     */
+    @NonNull
+    public synchronized Optional<Set<String>> find(@NonNull String key, @Nullable String ifNoneMatch) {
+        LinkedHashMap<String, Set<String>> versions = feeds.get(key);
+        if (versions == null || ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        for (String entityTag : ifNoneMatch.split(",")) {
+            Set<String> itemIds = versions.get(weak(entityTag.trim()));
+            if (itemIds != null) {
+                return Optional.of(itemIds);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param ifNoneMatch The value of an {@code If-None-Match} header
+     * @param entityTag The entity tag of the current version
+     * @return Whether the header lists the current version, with the weak comparison of RFC 9110, or is {@code *}
+     */
+    public static boolean matches(@Nullable String ifNoneMatch, @NonNull String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (ANY.equals(trimmed) || weak(trimmed).equals(weak(entityTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param aIm The value of an {@code A-IM} header
+     * @return Whether the header accepts the {@code feed} instance manipulation
+     */
+    public static boolean acceptsFeed(@Nullable String aIm) {
+        if (aIm == null) {
+            return false;
+        }
+        for (String instanceManipulation : aIm.split(",")) {
+            if (FEED.equalsIgnoreCase(instanceManipulation.split(";")[0].trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NonNull
+    private static String weak(@NonNull String entityTag) {
+        return entityTag.startsWith(WEAK_PREFIX) ? entityTag : WEAK_PREFIX + entityTag;
+    }
+
+    // the first bytes of the SHA-256 digest of the version and of the item ids, separated by NUL bytes
+    @NonNull
+    private static String entityTag(long version, @NonNull List<String> itemIds) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(Long.toString(version).getBytes(StandardCharsets.UTF_8));
+            for (String itemId : itemIds) {
+                digest.update((byte) 0);
+                digest.update(itemId.getBytes(StandardCharsets.UTF_8));
+            }
+            return WEAK_PREFIX + '"' + HexFormat.of().formatHex(digest.digest(), 0, ENTITY_TAG_BYTES) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link FeedDeltaTracker}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(FeedDeltaTrackerConfigurationProperties.PREFIX)
+public class FeedDeltaTrackerConfigurationProperties implements FeedDeltaTrackerConfiguration {
+
+    public static final String PREFIX = "micronaut.rss.cache.delta";
+
+    /**
+     * The default number of versions tracked per feed.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_VERSIONS = 16;
+
+    @Positive
+    private int maxFeeds;
+
+    @Positive
+    private int maxVersions = DEFAULT_MAX_VERSIONS;
+
+    @Override
+    public int getMaxFeeds() {
+        return maxFeeds;
+    }
+
+    /**
+     * Maximum number of feeds whose versions are tracked. Setting it enables RFC 3229 delta responses.
+     * @param maxFeeds Maximum number of feeds
+     */
+    public void setMaxFeeds(int maxFeeds) {
+        this.maxFeeds = maxFeeds;
+    }
+
+    @Override
+    public int getMaxVersions() {
+        return maxVersions;
+    }
+
+    /**
+     * Maximum number of versions tracked per feed. A client whose entity tag is older gets the whole feed. Default value ({@value #DEFAULT_MAX_VERSIONS}).
+     * @param maxVersions Maximum number of versions
+     */
+    public void setMaxVersions(int maxVersions) {
+        this.maxVersions = maxVersions;
+    }
+}
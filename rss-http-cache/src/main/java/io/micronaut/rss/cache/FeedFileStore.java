@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores rendered feeds as files, so that a feed which did not change is rendered once and sent from disk, e.g. with {@code sendfile}, without being loaded into the heap.
+ *
+ * <p>A feed is identified by a key and a version, such as the epoch milliseconds of its last build date. It is rendered to a temporary file, which is then atomically moved in place of the file of the previous version.
+ * Readers never see a partially written file. Files are named after the SHA-256 digest of the key and the version, and the directory is scanned on startup, so files written before a restart are reused.</p>
+ *
+ * <p>The total size of the files is bounded. When it is exceeded, the files of the least recently used feeds are deleted.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = FeedFileStoreConfigurationProperties.PREFIX + ".directory")
+@Singleton
+public class FeedFileStore {
+    private static final Logger LOG = LoggerFactory.getLogger(FeedFileStore.class);
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})_(-?[0-9]+)\\.([A-Za-z0-9]+)");
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+    private final LinkedHashMap<String, StoredFile> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     *
+     * @param configuration Feed file store configuration
+     * @throws IOException if the directory cannot be created or read
+     */
+    @Inject
+    public FeedFileStore(FeedFileStoreConfiguration configuration) throws IOException {
+        this(Paths.get(configuration.getDirectory()), configuration.getMaxSize());
+    }
+
+    /**
+     *
+     * @param directory The directory where rendered feeds are stored. Created if it does not exist.
+     * @param maxSize The maximum number of bytes of all the stored feeds
+     * @throws IOException if the directory cannot be created or read
+     */
+    public FeedFileStore(@NonNull Path directory, long maxSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxSize = maxSize;
+        List<Path> evicted;
+        synchronized (files) {
+            for (StoredFile storedFile : scan()) {
+                files.put(storedFile.digest, storedFile);
+                size += storedFile.size;
+            }
+            evicted = evict();
+        }
+        delete(evicted);
+    }
+
+    /**
+     *
+     * @param key The feed key
+     * @param version The feed version
+     * @return The file of the feed, if the given version is stored
+     */
+    @NonNull
+    public Optional<Path> find(@NonNull String key, long version) {
+        String digest = digest(key);
+        StoredFile storedFile;
+        synchronized (files) {
+            storedFile = files.get(digest);
+        }
+        if (storedFile == null || storedFile.version != version) {
+            return Optional.empty();
+        }
+        if (!Files.isRegularFile(storedFile.path)) {
+            remove(storedFile);
+            return Optional.empty();
+        }
+        return Optional.of(storedFile.path);
+    }
+
+    /**
+     * Renders a feed into a temporary file and atomically moves it in place of the previously stored version.
+     * @param key The feed key
+     * @param version The feed version
+     * @param extension The file extension, e.g. {@code xml}, from which the media type of the file is resolved
+     * @param writer Renders the feed
+     * @return The file of the feed or an empty optional if the feed alone exceeds the maximum size
+     * @throws IOException if the feed cannot be rendered or written
+     */
+    @NonNull
+    public Optional<Path> store(@NonNull String key, long version, @NonNull String extension, @NonNull FeedBodyWriter writer) throws IOException {
+        String digest = digest(key);
+        Path temporary = Files.createTempFile(directory, digest, TEMPORARY_SUFFIX);
+        long fileSize;
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                writer.writeTo(outputStream);
+            }
+            fileSize = Files.size(temporary);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        if (fileSize > maxSize) {
+            Files.deleteIfExists(temporary);
+            return Optional.empty();
+        }
+        Path path = directory.resolve(digest + "_" + version + "." + extension);
+        move(temporary, path);
+        StoredFile storedFile = new StoredFile(digest, version, path, fileSize);
+        List<Path> evicted;
+        synchronized (files) {
+            StoredFile previous = files.put(digest, storedFile);
+            size += fileSize;
+            if (previous != null) {
+                size -= previous.size;
+            }
+            evicted = evict();
+            if (previous != null && !previous.path.equals(path)) {
+                evicted.add(previous.path);
+            }
+        }
+        delete(evicted);
+        return Optional.of(path);
+    }
+
+    /**
+     *
+     * @return The number of bytes of all the stored feeds.
+     */
+    public long getSize() {
+        synchronized (files) {
+            return size;
+        }
+    }
+
+    // called while holding the lock, the files are deleted by the caller after releasing it
+    @NonNull
+    private List<Path> evict() {
+        List<Path> evicted = new ArrayList<>();
+        Iterator<StoredFile> iterator = files.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            StoredFile eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.size;
+            evicted.add(eldest.path);
+        }
+        return evicted;
+    }
+
+    private void remove(@NonNull StoredFile storedFile) {
+        synchronized (files) {
+            if (files.remove(storedFile.digest, storedFile)) {
+                size -= storedFile.size;
+            }
+        }
+    }
+
+    // files of the same key but an older version, or left over by an interrupted write, are deleted; the others are returned from the least to the most recently modified
+    @NonNull
+    private List<StoredFile> scan() throws IOException {
+        Map<String, StoredFile> latest = new HashMap<>();
+        List<Path> stale = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                Matcher matcher = FILE_NAME.matcher(fileName);
+                if (fileName.endsWith(TEMPORARY_SUFFIX)) {
+                    stale.add(path);
+                } else if (matcher.matches()) {
+                    StoredFile storedFile = new StoredFile(matcher.group(1), Long.parseLong(matcher.group(2)), path, Files.size(path));
+                    StoredFile previous = latest.get(storedFile.digest);
+                    if (previous == null || previous.version < storedFile.version) {
+                        latest.put(storedFile.digest, storedFile);
+                        if (previous != null) {
+                            stale.add(previous.path);
+                        }
+                    } else {
+                        stale.add(path);
+                    }
+                }
+            }
+        }
+        delete(stale);
+        List<StoredFile> result = new ArrayList<>(latest.values());
+        Map<Path, Long> lastModified = new HashMap<>();
+        for (StoredFile storedFile : result) {
+            lastModified.put(storedFile.path, Files.getLastModifiedTime(storedFile.path).toMillis());
+        }
+        result.sort(Comparator.comparing(storedFile -> lastModified.get(storedFile.path)));
+        return result;
+    }
+
+    private static void move(@NonNull Path source, @NonNull Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void delete(@NonNull List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error(e.getMessage());
+                }
+            }
+        }
+    }
+
+    @NonNull
+    private static String digest(@NonNull String key) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A stored feed file.
+     */
+    private static final class StoredFile {
+        private final String digest;
+        private final long version;
+        private final Path path;
+        private final long size;
+
+        private StoredFile(String digest, long version, Path path, long size) {
+            this.digest = digest;
+            this.version = version;
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Defines interface for Configuration options of {@link FeedFileStore}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface FeedFileStoreConfiguration {
+
+    /**
+     *
+     * @return The directory where rendered feeds are stored.
+     */
+    @NonNull
+    String getDirectory();
+
+    /**
+     *
+     * @return The maximum number of bytes of all the stored feeds.
+     */
+    long getMaxSize();
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.ReadableBytes;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link FeedFileStore}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(FeedFileStoreConfigurationProperties.PREFIX)
+public class FeedFileStoreConfigurationProperties implements FeedFileStoreConfiguration {
+
+    public static final String PREFIX = "micronaut.rss.cache.files";
+
+    /**
+     * The default maximum size in bytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_SIZE = 512L * 1024 * 1024;
+
+    @NonNull
+    @NotBlank
+    private String directory;
+
+    @Positive
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    @Override
+    @NonNull
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Directory where rendered feeds are stored. Files are reused across restarts.
+     * @param directory Directory path
+     */
+    public void setDirectory(@NonNull String directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Maximum size of all the stored feeds, e.g. {@code 2GB}. The least recently used files are deleted when it is exceeded. Default value ({@value #DEFAULT_MAX_SIZE}).
+     * @param maxSize Maximum size in bytes
+     */
+    public void setMaxSize(@ReadableBytes long maxSize) {
+        this.maxSize = maxSize;
+    }
+}
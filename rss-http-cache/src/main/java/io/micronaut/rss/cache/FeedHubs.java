@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * Hubs which feeds link to, so that subscribers are notified when the feeds change. Implemented by {@link WebSubFeedHubs} when the {@code micronaut-rss-websub} module is present and hubs are configured.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface FeedHubs {
+
+    /**
+     *
+     * @return The protocol of the hubs, as listed by a JSON Feed, e.g. {@code WebSub}
+     */
+    @NonNull
+    String getType();
+
+    /**
+     *
+     * @return The URLs of the hubs
+     */
+    @NonNull
+    List<String> getHubs();
+
+    /**
+     *
+     * @param path The path of a feed, e.g. {@code /feed}
+     * @return The URL of the feed, its topic, resolved against the configured base URL
+     */
+    @NonNull
+    String topic(@NonNull String path);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the feeds rendered without their last items because they exceeded the maximum number of items or bytes of a feed.
+ * A high count means that a provider returns more items than it should. When Micrometer is present, {@link MicrometerFeedTruncationCounter} records them as a metric too.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Singleton
+public class FeedTruncationCounter {
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Records a truncated feed.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     *
+     * @return The number of truncated feeds.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Cache of compressed feed fragments, such as the items of a feed, bounded by the number of bytes it holds.
+ *
+ * <p>Each fragment is compressed with a fresh raw {@link Deflater}, which is sync flushed but not finished. The compressed fragment therefore ends on a byte boundary,
+ * does not reference the bytes of other fragments and contains no final block, so compressed fragments can be concatenated, in any order, into a single deflate stream.
+ * {@link GzipFragmentOutputStream} wraps them into one gzip member, so adding an item to a large feed costs the compression of that item only.</p>
+ *
+ * <p>Fragments are identified by the SHA-256 digest of their bytes, so a fragment which changed is compressed again and the stale one ages out of the LRU order.
+ * Fragments whose compressed size exceeds a sixteenth of the maximum size are compressed but not cached.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = GzipFragmentCacheConfigurationProperties.PREFIX + ".max-size")
+@Singleton
+public class GzipFragmentCache {
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int BUFFER_SIZE = 8192;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final long maxSize;
+    private final int level;
+    private final LinkedHashMap<Key, byte[]> fragments = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    /**
+     *
+     * @param configuration Gzip fragment cache configuration
+     */
+    @Inject
+    public GzipFragmentCache(GzipFragmentCacheConfiguration configuration) {
+        this(configuration.getMaxSize(), configuration.getLevel());
+    }
+
+    /**
+     *
+     * @param maxSize The maximum number of bytes of all the compressed fragments
+     * @param level The deflate compression level
+     */
+    public GzipFragmentCache(long maxSize, int level) {
+        this.maxSize = maxSize;
+        this.level = level;
+    }
+
+    /**
+     * Returns the compressed fragment, compressing and caching it on a miss.
+     * @param fragment The uncompressed bytes
+     * @param offset The offset of the fragment
+     * @param length The length of the fragment
+     * @return Raw deflate blocks ending on a byte boundary and without a final block
+     */
+    @NonNull
+    public byte[] deflate(@NonNull byte[] fragment, int offset, int length) {
+        Key key = new Key(digest(fragment, offset, length));
+        synchronized (this) {
+            byte[] compressed = fragments.get(key);
+            if (compressed != null) {
+                hitCount++;
+                return compressed;
+            }
+            missCount++;
+        }
+        byte[] compressed = compress(fragment, offset, length);
+        long weight = weigh(compressed);
+        synchronized (this) {
+            if (weight > maxSize / 16) {
+                rejectionCount++;
+                return compressed;
+            }
+            byte[] previous = fragments.put(key, compressed);
+            if (previous != null) {
+                size -= weigh(previous);
+            }
+            size += weight;
+            evict();
+        }
+        return compressed;
+    }
+
+    /**
+     *
+     * @return Snapshot of the cache statistics
+     */
+    @NonNull
+    public synchronized RenderedFeedCacheStats getStats() {
+        return new RenderedFeedCacheStats(hitCount, missCount, evictionCount, rejectionCount, size, fragments.size());
+    }
+
+    // the least recently used fragments are evicted until the cache fits
+    private void evict() {
+        Iterator<Map.Entry<Key, byte[]>> iterator = fragments.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= weigh(iterator.next().getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    // a fresh deflater per fragment, so that no fragment references the bytes of another one
+    @NonNull
+    private byte[] compress(@NonNull byte[] fragment, int offset, int length) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(fragment, offset, length);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, length / 2));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int written;
+            do {
+                written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                compressed.write(buffer, 0, written);
+            } while (written == buffer.length);
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static long weigh(@NonNull byte[] compressed) {
+        return compressed.length + ENTRY_OVERHEAD;
+    }
+
+    @NonNull
+    private static byte[] digest(@NonNull byte[] fragment, int offset, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(fragment, offset, length);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * The digest of an uncompressed fragment.
+     */
+    private static final class Key {
+        private final byte[] digest;
+        private final int hashCode;
+
+        private Key(byte[] digest) {
+            this.digest = digest;
+            this.hashCode = Arrays.hashCode(digest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Arrays.equals(digest, key.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
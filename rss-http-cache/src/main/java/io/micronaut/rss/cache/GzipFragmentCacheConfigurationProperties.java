@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+
+import java.util.zip.Deflater;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link GzipFragmentCache}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(GzipFragmentCacheConfigurationProperties.PREFIX)
+public class GzipFragmentCacheConfigurationProperties implements GzipFragmentCacheConfiguration {
+
+    public static final String PREFIX = "micronaut.rss.cache.gzip";
+
+    /**
+     * The default compression level.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_LEVEL = Deflater.BEST_COMPRESSION;
+
+    @Positive
+    private long maxSize;
+
+    @Min(1)
+    @Max(9)
+    private int level = DEFAULT_LEVEL;
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Maximum size of all the compressed fragments, e.g. {@code 64MB}. Setting it enables incremental gzip compression.
+     * @param maxSize Maximum size in bytes
+     */
+    public void setMaxSize(@ReadableBytes long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Deflate compression level, between 1 and 9. Default value ({@value #DEFAULT_LEVEL}). Each fragment is only compressed once, so the best compression is usually affordable.
+     * @param level Compression level
+     */
+    public void setLevel(int level) {
+        this.level = level;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.render.FragmentBoundary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a single gzip member whose deflate stream is the concatenation of the fragments compressed by a {@link GzipFragmentCache}, followed by an empty final block.
+ * The bytes written between two calls to {@link #endFragment()} form a fragment. Only the CRC-32 of the uncompressed bytes is computed for every response.
+ *
+ * <p>The output is a regular gzip stream of one member, which every gzip decoder accepts. Fragments larger than 1MB are split.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class GzipFragmentOutputStream extends OutputStream implements FragmentBoundary {
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MAX_FRAGMENT_SIZE = 1024 * 1024;
+    private static final byte OS_UNKNOWN = (byte) 0xff;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, OS_UNKNOWN};
+
+    // a final block with fixed Huffman codes which only contains the end of block code
+    private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+    private final OutputStream out;
+    private final GzipFragmentCache gzipFragmentCache;
+    private final CRC32 crc = new CRC32();
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int count;
+    private long length;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     *
+     * @param out The output stream the gzip member is written to
+     * @param gzipFragmentCache The cache of compressed fragments
+     */
+    public GzipFragmentOutputStream(@NonNull OutputStream out, @NonNull GzipFragmentCache gzipFragmentCache) {
+        this.out = out;
+        this.gzipFragmentCache = gzipFragmentCache;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == buffer.length) {
+            grow(count + 1);
+        }
+        buffer[count++] = (byte) b;
+        if (count == MAX_FRAGMENT_SIZE) {
+            endFragment();
+        }
+    }
+
+    @Override
+    public void write(@NonNull byte[] bytes, int offset, int len) throws IOException {
+        while (len > 0) {
+            int chunk = Math.min(len, MAX_FRAGMENT_SIZE - count);
+            if (count + chunk > buffer.length) {
+                grow(count + chunk);
+            }
+            System.arraycopy(bytes, offset, buffer, count, chunk);
+            count += chunk;
+            offset += chunk;
+            len -= chunk;
+            if (count == MAX_FRAGMENT_SIZE) {
+                endFragment();
+            }
+        }
+    }
+
+    @Override
+    public void endFragment() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        start();
+        crc.update(buffer, 0, count);
+        length += count;
+        out.write(gzipFragmentCache.deflate(buffer, 0, count));
+        count = 0;
+    }
+
+    /**
+     * Ends the last fragment and writes the final block and the gzip trailer, without closing the underlying stream.
+     * @throws IOException if an I/O error occurs
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        endFragment();
+        start();
+        out.write(FINAL_BLOCK);
+        writeInt((int) crc.getValue());
+        writeInt((int) length);
+        finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    /**
+     * @param acceptEncoding The value of an {@code Accept-Encoding} header
+     * @return Whether the header accepts the gzip content coding with a non-zero quality
+     */
+    public static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            if (GZIP.equalsIgnoreCase(name) || X_GZIP.equalsIgnoreCase(name)) {
+                return !hasZeroQuality(parameters);
+            }
+        }
+        return false;
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            out.write(HEADER);
+            started = true;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        byte[] grown = new byte[Math.min(MAX_FRAGMENT_SIZE, Math.max(minCapacity, buffer.length << 1))];
+        System.arraycopy(buffer, 0, grown, 0, count);
+        buffer = grown;
+    }
+
+    // gzip stores its trailer fields in little-endian order
+    private void writeInt(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >>> 8) & 0xff);
+        out.write((value >>> 16) & 0xff);
+        out.write((value >>> 24) & 0xff);
+    }
+
+    private static boolean hasZeroQuality(@NonNull String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
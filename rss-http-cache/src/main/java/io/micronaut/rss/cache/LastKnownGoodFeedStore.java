@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the last successfully rendered version of each feed, so that it can be served while its provider times out or fails.
+ *
+ * <p>Unlike {@link RenderedFeedCache}, which evicts rarely requested feeds, the store keeps every feed until it runs out of room, and then drops the least recently stored ones.
+ * A feed is rendered into the store once per version, and each later fetch of that version from its provider is recorded, so that the age of a stored feed counts from the last successful fetch.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = LastKnownGoodFeedStoreConfigurationProperties.PREFIX + ".max-size")
+@Singleton
+public class LastKnownGoodFeedStore {
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final long maxSize;
+    private final Clock clock;
+    private final LinkedHashMap<String, StoredFeed> feeds = new LinkedHashMap<>();
+    private long size;
+
+    /**
+     *
+     * @param configuration Last known good feed store configuration
+     */
+    @Inject
+    public LastKnownGoodFeedStore(LastKnownGoodFeedStoreConfiguration configuration) {
+        this(configuration.getMaxSize(), Clock.systemUTC());
+    }
+
+    /**
+     *
+     * @param maxSize The maximum number of bytes of all the stored feeds
+     * @param clock The clock which dates the stored and fetched feeds
+     */
+    public LastKnownGoodFeedStore(long maxSize, @NonNull Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Stores a feed, rendering it only if the given version is not stored yet.
+     * @param key The feed key
+     * @param version The feed version
+     * @param renderer Renders the feed
+     * @throws IOException if the feed cannot be rendered
+     */
+    public void store(@NonNull String key, long version, @NonNull Renderer renderer) throws IOException {
+        synchronized (this) {
+            StoredFeed stored = feeds.get(key);
+            if (stored != null && stored.version == version) {
+                return;
+            }
+        }
+        byte[] body = renderer.render();
+        put(key, version, body);
+    }
+
+    /**
+     * Stores a rendered feed, replacing any other version of it.
+     * @param key The feed key
+     * @param version The feed version
+     * @param body The rendered feed. It must not be modified afterwards.
+     */
+    public synchronized void put(@NonNull String key, long version, @NonNull byte[] body) {
+        StoredFeed previous = feeds.remove(key);
+        if (previous != null) {
+            size -= weigh(key, previous.body.length);
+        }
+        long weight = weigh(key, body.length);
+        if (weight > maxSize) {
+            return;
+        }
+        Instant now = clock.instant();
+        feeds.put(key, new StoredFeed(version, body, now, now));
+        size += weight;
+        Iterator<Map.Entry<String, StoredFeed>> eldest = feeds.entrySet().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            Map.Entry<String, StoredFeed> entry = eldest.next();
+            size -= weigh(entry.getKey(), entry.getValue().body.length);
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Records that a version of a feed has been successfully fetched from its provider. It is ignored if the store holds another version of the feed.
+     * @param key The feed key
+     * @param version The fetched version
+     */
+    public synchronized void recordFetch(@NonNull String key, long version) {
+        StoredFeed stored = feeds.get(key);
+        if (stored != null && stored.version == version) {
+            stored.fetchedAt = clock.instant();
+        }
+    }
+
+    /**
+     *
+     * @param key The feed key
+     * @return The last stored version of the feed or an empty optional if it has never been stored or was dropped.
+     */
+    @NonNull
+    public synchronized Optional<StoredFeed> find(@NonNull String key) {
+        return Optional.ofNullable(feeds.get(key));
+    }
+
+    /**
+     *
+     * @param storedFeed A stored feed
+     * @return How long ago the stored version of the feed was last fetched from its provider
+     */
+    @NonNull
+    public Duration age(@NonNull StoredFeed storedFeed) {
+        Duration age = Duration.between(storedFeed.getFetchedAt(), clock.instant());
+        return age.isNegative() ? Duration.ZERO : age;
+    }
+
+    private static long weigh(@NonNull String key, int length) {
+        return (long) length + key.length() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Renders a feed into bytes.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+
+        /**
+         *
+         * @return The rendered feed
+         * @throws IOException if the feed cannot be rendered
+         */
+        @NonNull
+        byte[] render() throws IOException;
+    }
+
+    /**
+     * The last known good version of a feed.
+     */
+    public static final class StoredFeed {
+        private final long version;
+        private final byte[] body;
+        private final Instant storedAt;
+        private volatile Instant fetchedAt;
+
+        private StoredFeed(long version, byte[] body, Instant storedAt, Instant fetchedAt) {
+            this.version = version;
+            this.body = body;
+            this.storedAt = storedAt;
+            this.fetchedAt = fetchedAt;
+        }
+
+        /**
+         *
+         * @return The feed version
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         *
+         * @return The rendered feed. It must not be modified.
+         */
+        @NonNull
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         *
+         * @return When the feed was stored
+         */
+        @NonNull
+        public Instant getStoredAt() {
+            return storedAt;
+        }
+
+        /**
+         *
+         * @return When this version of the feed was last fetched from its provider
+         */
+        @NonNull
+        public Instant getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link LastKnownGoodFeedStore}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(LastKnownGoodFeedStoreConfigurationProperties.PREFIX)
+public class LastKnownGoodFeedStoreConfigurationProperties implements LastKnownGoodFeedStoreConfiguration {
+
+    public static final String PREFIX = "micronaut.rss.cache.last-known-good";
+
+    @Positive
+    private long maxSize;
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Maximum size of all the stored feeds, e.g. {@code 64MB}. Setting it enables the fallback to the last known good feeds.
+     * @param maxSize Maximum size in bytes
+     */
+    public void setMaxSize(@ReadableBytes long maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.render.FragmentBoundary;
+import io.micronaut.rss.render.RenderLimit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Bounds the number of items and bytes of a rendered feed. Once either limit is reached, it accepts no more items, so that the renderer truncates the feed at an item boundary.
+ * The item which crosses the maximum number of bytes is kept. Boundaries are forwarded to the wrapped stream if it is a {@link FragmentBoundary} as well.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class LimitedOutputStream extends OutputStream implements FragmentBoundary, RenderLimit {
+    private final OutputStream out;
+    private final int maxItems;
+    private final long maxBytes;
+
+    @Nullable
+    private final FeedTruncationCounter feedTruncationCounter;
+
+    private long written;
+    private int items;
+    private boolean truncated;
+
+    /**
+     *
+     * @param out The output stream to write to
+     * @param maxItems The maximum number of items
+     * @param maxBytes The maximum number of bytes, after which no further item is written
+     * @param feedTruncationCounter Counts the truncated feeds or {@code null}
+     */
+    public LimitedOutputStream(@NonNull OutputStream out,
+                               int maxItems,
+                               long maxBytes,
+                               @Nullable FeedTruncationCounter feedTruncationCounter) {
+        this.out = out;
+        this.maxItems = maxItems;
+        this.maxBytes = maxBytes;
+        this.feedTruncationCounter = feedTruncationCounter;
+    }
+
+    @Override
+    public boolean acceptsItem() {
+        if (truncated) {
+            return false;
+        }
+        if (items < maxItems && written < maxBytes) {
+            items++;
+            return true;
+        }
+        truncated = true;
+        if (feedTruncationCounter != null) {
+            feedTruncationCounter.increment();
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return Whether items were left out
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     *
+     * @return The number of items accepted so far
+     */
+    public int getItems() {
+        return items;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        written++;
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        written += len;
+    }
+
+    @Override
+    public void endFragment() throws IOException {
+        if (out instanceof FragmentBoundary fragmentBoundary) {
+            fragmentBoundary.endFragment();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
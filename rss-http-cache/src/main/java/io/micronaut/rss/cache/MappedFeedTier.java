@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link RenderedFeedTier} which holds cold rendered feeds in a memory-mapped segment file, mapped in segments of at most 1 GB.
+ * The operating system pages the file in and out, so the tier may be much larger than the memory of the process. Feeds it evicts are dropped.
+ * The index of the tier is kept in the heap, so the file is truncated on startup.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = MappedFeedTierConfigurationProperties.PREFIX + ".path")
+@Singleton
+public class MappedFeedTier extends SlabFeedTier {
+
+    private final FileChannel fileChannel;
+
+    /**
+     *
+     * @param configuration Memory-mapped tier configuration
+     * @throws IOException if the segment file cannot be created or mapped
+     */
+    @Inject
+    public MappedFeedTier(MappedFeedTierConfiguration configuration) throws IOException {
+        this(Paths.get(configuration.getPath()), configuration.getMaxSize());
+    }
+
+    /**
+     *
+     * @param path The segment file. Created if it does not exist and truncated otherwise.
+     * @param maxSize The size of the segment file
+     * @throws IOException if the segment file cannot be created or mapped
+     */
+    public MappedFeedTier(@NonNull Path path, long maxSize) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE), maxSize);
+    }
+
+    private MappedFeedTier(FileChannel fileChannel, long maxSize) throws IOException {
+        super(map(fileChannel, maxSize), null);
+        this.fileChannel = fileChannel;
+    }
+
+    /**
+     * Closes the segment file.
+     * @throws IOException if an I/O error occurs
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+
+    @NonNull
+    private static ByteBuffer[] map(@NonNull FileChannel fileChannel, long maxSize) throws IOException {
+        try {
+            int[] sizes = slabSizes(maxSize);
+            ByteBuffer[] segments = new ByteBuffer[sizes.length];
+            long offset = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                segments[i] = fileChannel.map(FileChannel.MapMode.READ_WRITE, offset, sizes[i]);
+                offset += sizes[i];
+            }
+            return segments;
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.ReadableBytes;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link MappedFeedTier}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(MappedFeedTierConfigurationProperties.PREFIX)
+public class MappedFeedTierConfigurationProperties implements MappedFeedTierConfiguration {
+
+    public static final String PREFIX = "micronaut.rss.cache.mapped";
+
+    /**
+     * The default segment file size.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAX_SIZE = 8L * 1024 * 1024 * 1024;
+
+    @NonNull
+    @NotBlank
+    private String path;
+
+    @Positive
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    @Override
+    @NonNull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Path of the memory-mapped segment file which holds rendered feeds evicted from the heap and off-heap tiers. Setting it enables the tier. The file is truncated on startup.
+     * @param path File path
+     */
+    public void setPath(@NonNull String path) {
+        this.path = path;
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Size of the segment file, e.g. {@code 32GB}. Default value ({@value #DEFAULT_MAX_SIZE}).
+     * @param maxSize Maximum size in bytes
+     */
+    public void setMaxSize(@ReadableBytes long maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * Records the truncated feeds through a Micrometer counter, named {@value #METRIC}, when a {@link MeterRegistry} is present.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Replaces(FeedTruncationCounter.class)
+@Singleton
+public class MicrometerFeedTruncationCounter extends FeedTruncationCounter {
+
+    /**
+     * The name of the counter of truncated feeds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String METRIC = "micronaut.rss.feeds.truncated";
+
+    private final Counter counter;
+
+    /**
+     *
+     * @param meterRegistry The registry the counter is registered with
+     */
+    public MicrometerFeedTruncationCounter(MeterRegistry meterRegistry) {
+        this.counter = Counter.builder(METRIC)
+                .description("Feeds rendered without their last items because they exceeded the maximum number of items or bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void increment() {
+        super.increment();
+        counter.increment();
+    }
+}
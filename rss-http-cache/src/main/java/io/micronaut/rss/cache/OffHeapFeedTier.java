@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RenderedFeedTier} which holds warm rendered feeds in direct memory, allocated once in slabs of at most 1 GB.
+ * Feeds it evicts are demoted to the {@link MappedFeedTier}, if configured.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = OffHeapFeedTierConfigurationProperties.PREFIX + ".max-size")
+@Singleton
+public class OffHeapFeedTier extends SlabFeedTier {
+
+    /**
+     *
+     * @param configuration Off-heap tier configuration
+     * @param mappedFeedTier The tier to which evicted feeds are demoted or {@code null} if they are dropped
+     */
+    @Inject
+    public OffHeapFeedTier(OffHeapFeedTierConfiguration configuration, @Nullable MappedFeedTier mappedFeedTier) {
+        this(configuration.getMaxSize(), mappedFeedTier);
+    }
+
+    /**
+     *
+     * @param maxSize The number of bytes of direct memory to allocate
+     * @param nextTier The tier to which evicted feeds are demoted or {@code null} if they are dropped
+     */
+    public OffHeapFeedTier(long maxSize, @Nullable RenderedFeedTier nextTier) {
+        super(allocate(maxSize), nextTier);
+    }
+
+    @NonNull
+    private static ByteBuffer[] allocate(long maxSize) {
+        int[] sizes = slabSizes(maxSize);
+        ByteBuffer[] slabs = new ByteBuffer[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            slabs[i] = ByteBuffer.allocateDirect(sizes[i]);
+        }
+        return slabs;
+    }
+}
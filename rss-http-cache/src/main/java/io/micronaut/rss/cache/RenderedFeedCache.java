@@ -0,0 +1,383 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-process cache of rendered feeds bounded by the number of bytes it holds.
+ *
+ * <p>Each entry is weighed by the size of the rendered feed plus a fixed overhead, so that a few large feeds cannot hold more memory than configured.
+ * Eviction follows the W-TinyLFU policy: new feeds enter a small LRU window, which takes 1% of the size. When they leave the window,
+ * they are only admitted into the main space if a {@link FrequencySketch} estimates that they were requested more often than the feeds they would evict.
+ * The main space is a segmented LRU, 80% of which is reserved for feeds requested at least twice. A crawler sweeping the long tail of rarely requested feeds therefore does not flush the frequently requested ones.</p>
+ *
+ * <p>A feed is identified by a key and a version, such as the epoch milliseconds of its last build date. A lookup with a different version is a miss.</p>
+ *
+ * <p>Feeds which are evicted, or not admitted, are demoted to the next {@link RenderedFeedTier}, the {@link OffHeapFeedTier} or else the {@link MappedFeedTier}, if configured.
+ * {@link #read(String, long, Function)} serves them from there without copying them into the heap, and promotes them back to the heap when they are requested often enough to be admitted.
+ * The next tier is only called outside the lock of the heap, so that its I/O does not block other requests. A version left in the next tier when a new one is cached in the heap is never served,
+ * since lookups compare versions, and is replaced when the new version is demoted.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = RenderedFeedCacheConfigurationProperties.PREFIX + ".max-size")
+@Singleton
+public class RenderedFeedCache {
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int WINDOW_PERCENTAGE = 1;
+    private static final int PROTECTED_PERCENTAGE = 80;
+    private static final int AVERAGE_FEED_SIZE = 2048;
+
+    private final long maxSize;
+    private final long maxWindowSize;
+    private final long maxProtectedSize;
+    private final FrequencySketch sketch;
+
+    @Nullable
+    private final RenderedFeedTier nextTier;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Entry> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Entry> protectedSegment = new LinkedHashMap<>();
+    private long windowSize;
+    private long protectedSize;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    /**
+     *
+     * @param configuration Rendered feed cache configuration
+     * @param offHeapFeedTier The off-heap tier or {@code null} if it is not configured
+     * @param mappedFeedTier The memory-mapped tier or {@code null} if it is not configured
+     */
+    @Inject
+    public RenderedFeedCache(RenderedFeedCacheConfiguration configuration,
+                             @Nullable OffHeapFeedTier offHeapFeedTier,
+                             @Nullable MappedFeedTier mappedFeedTier) {
+        this(configuration.getMaxSize(), offHeapFeedTier != null ? offHeapFeedTier : mappedFeedTier);
+    }
+
+    /**
+     *
+     * @param maxSize The maximum number of bytes of all the cached feeds
+     */
+    public RenderedFeedCache(long maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     *
+     * @param maxSize The maximum number of bytes of all the cached feeds
+     * @param nextTier The tier to which evicted feeds are demoted or {@code null} if they are dropped
+     */
+    public RenderedFeedCache(long maxSize, @Nullable RenderedFeedTier nextTier) {
+        this.nextTier = nextTier;
+        this.maxSize = maxSize;
+        this.maxWindowSize = Math.max(1, maxSize * WINDOW_PERCENTAGE / 100);
+        this.maxProtectedSize = (maxSize - maxWindowSize) * PROTECTED_PERCENTAGE / 100;
+        this.sketch = new FrequencySketch(maxSize / AVERAGE_FEED_SIZE);
+    }
+
+    /**
+     *
+     * @param key The feed key
+     * @param version The feed version
+     * @return The rendered feed, if the given version is cached
+     */
+    @NonNull
+    public synchronized Optional<byte[]> get(@NonNull String key, long version) {
+        return Optional.ofNullable(lookUp(key, version));
+    }
+
+    /**
+     * Reads a rendered feed from the heap or, on a miss, from the next tiers. The buffer passed to the reader wraps the cached array for a feed in the heap,
+     * and is a read-only view of direct or memory-mapped memory, only valid while the reader runs, for a feed in a lower tier.
+     * A feed found in a lower tier is promoted to the heap if it is requested more often than the feed it would evict, unless a version of it has been cached in the heap while it was read.
+     * @param key The feed key
+     * @param version The feed version
+     * @param reader Reads the rendered feed. It must not modify it.
+     * @param <T> The type returned by the reader
+     * @return The result of the reader, or an empty optional if the given version is not cached
+     */
+    @NonNull
+    public <T> Optional<T> read(@NonNull String key, long version, @NonNull Function<ByteBuffer, T> reader) {
+        byte[] body;
+        boolean frequent;
+        long room;
+        synchronized (this) {
+            body = lookUp(key, version);
+            frequent = body == null && nextTier != null && isMoreFrequentThanVictim(key);
+            room = maxSize - size;
+        }
+        if (body != null) {
+            return Optional.ofNullable(reader.apply(ByteBuffer.wrap(body)));
+        }
+        if (nextTier == null) {
+            return Optional.empty();
+        }
+        byte[][] promoted = new byte[1][];
+        Optional<T> result = nextTier.read(key, version, buffer -> {
+            if (frequent || weigh(key, buffer.remaining()) <= room) {
+                promoted[0] = new byte[buffer.remaining()];
+                buffer.duplicate().get(promoted[0]);
+            }
+            return reader.apply(buffer);
+        });
+        if (promoted[0] != null) {
+            store(key, version, promoted[0], true);
+        }
+        return result;
+    }
+
+    /**
+     * Caches a rendered feed, replacing any other version of it. The feed may be evicted right away if it is requested less often than the feeds it would evict.
+     * @param key The feed key
+     * @param version The feed version
+     * @param body The rendered feed. It must not be modified afterwards.
+     */
+    public void put(@NonNull String key, long version, @NonNull byte[] body) {
+        store(key, version, body, false);
+    }
+
+    /**
+     * Removes a rendered feed from the heap and from the next tier.
+     * @param key The feed key
+     */
+    public void invalidate(@NonNull String key) {
+        synchronized (this) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                unlink(entry);
+            }
+        }
+        if (nextTier != null) {
+            nextTier.invalidate(key);
+        }
+    }
+
+    /**
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    @NonNull
+    public synchronized RenderedFeedCacheStats getStats() {
+        return new RenderedFeedCacheStats(hitCount, missCount, evictionCount, rejectionCount, size, entries.size());
+    }
+
+    /**
+     *
+     * @return The tier to which evicted feeds are demoted, if any.
+     */
+    @NonNull
+    public Optional<RenderedFeedTier> getNextTier() {
+        return Optional.ofNullable(nextTier);
+    }
+
+    /**
+     * Called when a rendered feed is evicted or not admitted, outside the lock of the cache. Demotes it to the next tier, if any.
+     * @param key The feed key
+     * @param version The feed version
+     * @param body The rendered feed
+     */
+    protected void onEviction(@NonNull String key, long version, @NonNull byte[] body) {
+        if (nextTier != null) {
+            nextTier.put(key, version, ByteBuffer.wrap(body));
+        }
+    }
+
+    // the evicted feeds are collected under the lock and demoted after it is released; a promoted feed is removed from the next tier before the feeds it evicts are demoted
+    // a promotion is skipped if the heap holds the feed, which was put or promoted by another thread after the lower tier was read
+    private void store(@NonNull String key, long version, @NonNull byte[] body, boolean promoted) {
+        List<Entry> evicted = new ArrayList<>(1);
+        synchronized (this) {
+            if (promoted && entries.containsKey(key)) {
+                return;
+            }
+            Entry entry = new Entry(key, version, body, weigh(key, body.length));
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (entry.weight > maxSize) {
+                rejectionCount++;
+            } else {
+                entries.put(key, entry);
+                window.put(key, entry);
+                windowSize += entry.weight;
+                size += entry.weight;
+                evict(evicted);
+            }
+        }
+        if (promoted && nextTier != null) {
+            nextTier.invalidate(key);
+        }
+        for (Entry entry : evicted) {
+            onEviction(entry.key, entry.version, entry.body);
+        }
+    }
+
+    // called with the lock held
+    @Nullable
+    private byte[] lookUp(@NonNull String key, long version) {
+        sketch.increment(key.hashCode());
+        Entry entry = entries.get(key);
+        if (entry == null || entry.version != version) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        onAccess(entry);
+        return entry.body;
+    }
+
+    // a feed read from a lower tier is promoted if it fits in the heap without evictions or if it would be admitted; called with the lock held
+    private boolean isMoreFrequentThanVictim(@NonNull String key) {
+        Entry victim = first(probation, protectedSegment);
+        return victim != null && sketch.frequency(key.hashCode()) > sketch.frequency(victim.key.hashCode());
+    }
+
+    // a hit in the window refreshes its recency, a hit in probation promotes the entry to the protected segment
+    private void onAccess(@NonNull Entry entry) {
+        if (window.containsKey(entry.key)) {
+            window.remove(entry.key);
+            window.put(entry.key, entry);
+        } else if (probation.remove(entry.key) != null) {
+            protectedSegment.put(entry.key, entry);
+            protectedSize += entry.weight;
+            while (protectedSize > maxProtectedSize && protectedSegment.size() > 1) {
+                Entry demoted = removeFirst(protectedSegment);
+                protectedSize -= demoted.weight;
+                probation.put(demoted.key, demoted);
+            }
+        } else {
+            protectedSegment.remove(entry.key);
+            protectedSegment.put(entry.key, entry);
+        }
+    }
+
+    // entries leaving the window compete with the head of probation, the least frequently requested of the two is evicted
+    private void evict(@NonNull List<Entry> evicted) {
+        while (windowSize > maxWindowSize && !window.isEmpty()) {
+            Entry candidate = removeFirst(window);
+            windowSize -= candidate.weight;
+            admit(candidate, evicted);
+        }
+        while (size > maxSize) {
+            Entry victim = first(probation, protectedSegment, window);
+            if (victim == null) {
+                break;
+            }
+            evict(victim, evicted);
+            evictionCount++;
+        }
+    }
+
+    private void admit(@NonNull Entry candidate, @NonNull List<Entry> evicted) {
+        int candidateFrequency = sketch.frequency(candidate.key.hashCode());
+        while (size > maxSize) {
+            Entry victim = first(probation, protectedSegment);
+            if (victim == null) {
+                break;
+            }
+            if (candidateFrequency <= sketch.frequency(victim.key.hashCode())) {
+                entries.remove(candidate.key);
+                size -= candidate.weight;
+                rejectionCount++;
+                evicted.add(candidate);
+                return;
+            }
+            evict(victim, evicted);
+            evictionCount++;
+        }
+        probation.put(candidate.key, candidate);
+    }
+
+    private void evict(@NonNull Entry victim, @NonNull List<Entry> evicted) {
+        entries.remove(victim.key);
+        unlink(victim);
+        evicted.add(victim);
+    }
+
+    private void unlink(@NonNull Entry entry) {
+        if (window.remove(entry.key) != null) {
+            windowSize -= entry.weight;
+        } else if (protectedSegment.remove(entry.key) != null) {
+            protectedSize -= entry.weight;
+        } else {
+            probation.remove(entry.key);
+        }
+        size -= entry.weight;
+    }
+
+    @Nullable
+    @SafeVarargs
+    private static Entry first(@NonNull LinkedHashMap<String, Entry>... segments) {
+        for (LinkedHashMap<String, Entry> segment : segments) {
+            if (!segment.isEmpty()) {
+                return segment.values().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    @NonNull
+    private static Entry removeFirst(@NonNull LinkedHashMap<String, Entry> segment) {
+        Iterator<Entry> iterator = segment.values().iterator();
+        Entry entry = iterator.next();
+        iterator.remove();
+        return entry;
+    }
+
+    private static long weigh(@NonNull String key, int length) {
+        return (long) length + 2L * key.length() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * A cached rendered feed.
+     */
+    private static final class Entry {
+        private final String key;
+        private final long version;
+        private final byte[] body;
+        private final long weight;
+
+        private Entry(String key, long version, byte[] body, long weight) {
+            this.key = key;
+            this.version = version;
+            this.body = body;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+/**
+ * Statistics of a {@link RenderedFeedCache}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class RenderedFeedCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long rejectionCount;
+    private final long size;
+    private final int entryCount;
+
+    /**
+     *
+     * @param hitCount Number of lookups which returned a rendered feed
+     * @param missCount Number of lookups which did not return a rendered feed
+     * @param evictionCount Number of rendered feeds evicted to make room for others
+     * @param rejectionCount Number of rendered feeds not admitted because they were accessed less often than the feeds they would have evicted
+     * @param size Number of bytes held
+     * @param entryCount Number of rendered feeds held
+     */
+    public RenderedFeedCacheStats(long hitCount, long missCount, long evictionCount, long rejectionCount, long size, int entryCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.rejectionCount = rejectionCount;
+        this.size = size;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     *
+     * @return Number of lookups which returned a rendered feed.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     *
+     * @return Number of lookups which did not return a rendered feed.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     *
+     * @return Number of rendered feeds evicted to make room for others.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     *
+     * @return Number of rendered feeds not admitted because they were accessed less often than the feeds they would have evicted.
+     */
+    public long getRejectionCount() {
+        return rejectionCount;
+    }
+
+    /**
+     *
+     * @return Number of bytes held.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     *
+     * @return Number of rendered feeds held.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     *
+     * @return The ratio of lookups which returned a rendered feed, or {@code 1} if there were no lookups.
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderedFeedCacheStats{hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", rejectionCount=" + rejectionCount +
+                ", size=" + size +
+                ", entryCount=" + entryCount +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A storage tier for rendered feeds below the heap of {@link RenderedFeedCache}, which demotes the feeds it evicts to it.
+ * Tiers may be chained: a tier demotes the feeds it evicts to the next tier and looks up the next tier on a miss.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface RenderedFeedTier {
+
+    /**
+     * Stores a rendered feed, replacing any other version of it.
+     * @param key The feed key
+     * @param version The feed version
+     * @param body The rendered feed, from its position to its limit. It is copied and its position is not changed.
+     */
+    void put(@NonNull String key, long version, @NonNull ByteBuffer body);
+
+    /**
+     * Reads a rendered feed. The buffer passed to the reader is a read-only view of the tier's memory which is only valid while the reader runs, the reader must copy what it keeps.
+     * @param key The feed key
+     * @param version The feed version
+     * @param reader Reads the rendered feed
+     * @param <T> The type returned by the reader
+     * @return The result of the reader, or an empty optional if the given version is not stored
+     */
+    @NonNull
+    <T> Optional<T> read(@NonNull String key, long version, @NonNull Function<ByteBuffer, T> reader);
+
+    /**
+     * Removes a rendered feed.
+     * @param key The feed key
+     */
+    void invalidate(@NonNull String key);
+
+    /**
+     *
+     * @return A snapshot of the statistics of this tier.
+     */
+    @NonNull
+    RenderedFeedCacheStats getStats();
+}
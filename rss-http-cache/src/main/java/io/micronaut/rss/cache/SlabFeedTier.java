@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * {@link RenderedFeedTier} which stores rendered feeds in slabs of memory outside the heap.
+ *
+ * <p>Keys are spread over the slabs, each of which is locked separately. Within a slab, feeds are written one after the other as in a ring:
+ * when the end of the slab is reached, writing starts over at its beginning and the oldest feeds in the way are demoted to the next tier.
+ * The heap only holds a small index entry per feed, so the garbage collector does not see the stored bytes.</p>
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+abstract class SlabFeedTier implements RenderedFeedTier {
+
+    /**
+     * Maximum size of a slab.
+     */
+    static final int MAX_SLAB_SIZE = 1 << 30;
+
+    private final Slab[] slabs;
+
+    @Nullable
+    private final RenderedFeedTier nextTier;
+
+    /**
+     *
+     * @param memory The slabs, each at most {@value #MAX_SLAB_SIZE} bytes
+     * @param nextTier The tier to which evicted feeds are demoted or {@code null} if they are dropped
+     */
+    SlabFeedTier(@NonNull ByteBuffer[] memory, @Nullable RenderedFeedTier nextTier) {
+        this.slabs = new Slab[memory.length];
+        for (int i = 0; i < memory.length; i++) {
+            slabs[i] = new Slab(memory[i]);
+        }
+        this.nextTier = nextTier;
+    }
+
+    @Override
+    public void put(@NonNull String key, long version, @NonNull ByteBuffer body) {
+        slab(key).put(key, version, body);
+    }
+
+    @Override
+    @NonNull
+    public <T> Optional<T> read(@NonNull String key, long version, @NonNull Function<ByteBuffer, T> reader) {
+        Optional<T> result = slab(key).read(key, version, reader);
+        if (result.isEmpty() && nextTier != null) {
+            return nextTier.read(key, version, reader);
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(@NonNull String key) {
+        slab(key).invalidate(key);
+        if (nextTier != null) {
+            nextTier.invalidate(key);
+        }
+    }
+
+    @Override
+    @NonNull
+    public RenderedFeedCacheStats getStats() {
+        long hitCount = 0;
+        long missCount = 0;
+        long evictionCount = 0;
+        long rejectionCount = 0;
+        long size = 0;
+        int entryCount = 0;
+        for (Slab slab : slabs) {
+            synchronized (slab) {
+                hitCount += slab.hitCount;
+                missCount += slab.missCount;
+                evictionCount += slab.evictionCount;
+                rejectionCount += slab.rejectionCount;
+                size += slab.size;
+                entryCount += slab.index.size();
+            }
+        }
+        return new RenderedFeedCacheStats(hitCount, missCount, evictionCount, rejectionCount, size, entryCount);
+    }
+
+    /**
+     * Splits a size into slabs.
+     * @param size The total size
+     * @return The sizes of the slabs
+     */
+    @NonNull
+    static int[] slabSizes(long size) {
+        int count = (int) Math.max(1, (size + MAX_SLAB_SIZE - 1) / MAX_SLAB_SIZE);
+        int[] sizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            sizes[i] = (int) (size / count + (i < size % count ? 1 : 0));
+        }
+        return sizes;
+    }
+
+    @NonNull
+    private Slab slab(@NonNull String key) {
+        return slabs[Math.floorMod(key.hashCode(), slabs.length)];
+    }
+
+    /**
+     * A ring of rendered feeds.
+     */
+    private final class Slab {
+        private final ByteBuffer memory;
+        private final int capacity;
+        private final ArrayDeque<Region> regions = new ArrayDeque<>();
+        private final Map<String, Region> index = new HashMap<>();
+        private int position;
+        private long size;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private long rejectionCount;
+
+        private Slab(ByteBuffer memory) {
+            this.memory = memory;
+            this.capacity = memory.capacity();
+        }
+
+        private synchronized void put(String key, long version, ByteBuffer body) {
+            invalidate(key);
+            int length = body.remaining();
+            if (length > capacity) {
+                rejectionCount++;
+                demote(key, version, body);
+                return;
+            }
+            if (position + length > capacity) {
+                evictBefore(capacity);
+                position = 0;
+            }
+            evictBefore(position + length);
+            memory.put(position, body, body.position(), length);
+            Region region = new Region(key, version, position, length);
+            regions.addLast(region);
+            index.put(key, region);
+            size += length;
+            position += length;
+        }
+
+        private synchronized <T> Optional<T> read(String key, long version, Function<ByteBuffer, T> reader) {
+            Region region = index.get(key);
+            if (region == null || region.version != version) {
+                missCount++;
+                return Optional.empty();
+            }
+            hitCount++;
+            return Optional.ofNullable(reader.apply(slice(region).asReadOnlyBuffer()));
+        }
+
+        private synchronized void invalidate(String key) {
+            Region region = index.remove(key);
+            if (region != null) {
+                region.live = false;
+                size -= region.length;
+            }
+        }
+
+        // regions are allocated in ring order, so the regions in the way of the next write are the oldest ones
+        private void evictBefore(int end) {
+            Region oldest;
+            while ((oldest = regions.peekFirst()) != null && oldest.offset >= position && oldest.offset < end) {
+                regions.pollFirst();
+                if (oldest.live) {
+                    oldest.live = false;
+                    index.remove(oldest.key);
+                    size -= oldest.length;
+                    evictionCount++;
+                    demote(oldest.key, oldest.version, slice(oldest));
+                }
+            }
+        }
+
+        private void demote(String key, long version, ByteBuffer body) {
+            if (nextTier != null) {
+                nextTier.put(key, version, body);
+            }
+        }
+
+        private ByteBuffer slice(Region region) {
+            return memory.slice(region.offset, region.length);
+        }
+    }
+
+    /**
+     * The location of a rendered feed in a slab.
+     */
+    private static final class Region {
+        private final String key;
+        private final long version;
+        private final int offset;
+        private final int length;
+        private boolean live = true;
+
+        private Region(String key, long version, int offset, int length) {
+            this.key = key;
+            this.version = version;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
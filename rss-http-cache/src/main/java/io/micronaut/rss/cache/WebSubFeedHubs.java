@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.rss.websub.WebSubPublisher;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * {@link FeedHubs} of the {@link WebSubPublisher}. Only loaded when the {@code micronaut-rss-websub} module is on the classpath and hubs are configured.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(classes = WebSubPublisher.class)
+@Requires(beans = WebSubPublisher.class)
+@Singleton
+public class WebSubFeedHubs implements FeedHubs {
+
+    private final WebSubPublisher webSubPublisher;
+
+    /**
+     *
+     * @param webSubPublisher The publisher whose hubs feeds link to
+     */
+    public WebSubFeedHubs(WebSubPublisher webSubPublisher) {
+        this.webSubPublisher = webSubPublisher;
+    }
+
+    @Override
+    @NonNull
+    public String getType() {
+        return WebSubPublisher.TYPE;
+    }
+
+    @Override
+    @NonNull
+    public List<String> getHubs() {
+        return webSubPublisher.getHubs();
+    }
+
+    @Override
+    @NonNull
+    public String topic(@NonNull String path) {
+        return webSubPublisher.topic(path);
+    }
+}
@@ -0,0 +1,129 @@
+package io.micronaut.rss.cache
+
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MutableHttpRequest
+import io.micronaut.http.MutableHttpResponse
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+import java.util.function.Supplier
+
+class FeedDeltaTrackerSpec extends Specification {
+
+    void "the items of recent versions are found by their entity tag"() {
+        given:
+        FeedDeltaTracker tracker = new FeedDeltaTracker(10, 2)
+
+        when:
+        String first = tracker.track('rss', 1L, ['a'])
+        String second = tracker.track('rss', 2L, ['b', 'a'])
+
+        then:
+        first.startsWith('W/"')
+        first != second
+        tracker.track('rss', 2L, ['b', 'a']) == second
+        tracker.find('rss', first).get() == ['a'] as Set
+        tracker.find('rss', "\"unknown\", ${second}").get() == ['a', 'b'] as Set
+        !tracker.find('rss', null).present
+        !tracker.find('json', first).present
+
+        when: 'a third version is tracked'
+        tracker.track('rss', 3L, ['c', 'b', 'a'])
+
+        then: 'the oldest version is forgotten'
+        !tracker.find('rss', first).present
+        tracker.find('rss', second).present
+    }
+
+    void "requests are answered with 304, 226 or the whole feed"() {
+        given:
+        FeedDeltaTracker tracker = new FeedDeltaTracker(10, 2)
+        String first = tracker.track('rss', 1L, ['a'])
+        Closure<MutableHttpResponse<?>> respond = { MutableHttpRequest<?> request ->
+            tracker.respond(request, 'rss', 2L, ['b', 'a'],
+                    { Set<String> seen -> HttpResponse.ok(['b', 'a'] - seen) } as Function<Set<String>, MutableHttpResponse<?>>,
+                    { HttpResponse.ok(['b', 'a']) } as Supplier<MutableHttpResponse<?>>)
+        }
+
+        when:
+        MutableHttpResponse<?> feed = respond(HttpRequest.GET('/feed'))
+        String second = feed.header(HttpHeaders.ETAG)
+
+        then:
+        feed.status() == HttpStatus.OK
+        feed.body() == ['b', 'a']
+        second == tracker.track('rss', 2L, ['b', 'a'])
+
+        when:
+        MutableHttpResponse<?> notModified = respond(HttpRequest.GET('/feed').header(HttpHeaders.IF_NONE_MATCH, second))
+
+        then:
+        notModified.status() == HttpStatus.NOT_MODIFIED
+        notModified.header(HttpHeaders.ETAG) == second
+
+        when:
+        MutableHttpResponse<?> delta = respond(HttpRequest.GET('/feed').header(HttpHeaders.IF_NONE_MATCH, first).header(FeedDeltaTracker.A_IM, 'feed'))
+
+        then:
+        delta.status() == HttpStatus.IM_USED
+        delta.body() == ['b']
+        delta.header(FeedDeltaTracker.IM) == 'feed'
+        delta.header(HttpHeaders.CACHE_CONTROL) == 'no-store, im'
+        delta.header(HttpHeaders.ETAG) == second
+
+        when: 'the client does not accept instance manipulations'
+        MutableHttpResponse<?> whole = respond(HttpRequest.GET('/feed').header(HttpHeaders.IF_NONE_MATCH, first))
+
+        then:
+        whole.status() == HttpStatus.OK
+        whole.body() == ['b', 'a']
+    }
+
+    void "the least recently requested feeds are forgotten"() {
+        given:
+        FeedDeltaTracker tracker = new FeedDeltaTracker(2, 16)
+        String a = tracker.track('a', 1L, ['1'])
+        String b = tracker.track('b', 1L, ['1'])
+
+        when:
+        tracker.track('a', 1L, ['1'])
+        tracker.track('c', 1L, ['1'])
+
+        then:
+        tracker.find('a', a).present
+        !tracker.find('b', b).present
+    }
+
+    @Unroll
+    void "If-None-Match #ifNoneMatch matches the current version: #expected"(String ifNoneMatch, boolean expected) {
+        expect:
+        FeedDeltaTracker.matches(ifNoneMatch, 'W/"abc"') == expected
+
+        where:
+        ifNoneMatch         || expected
+        null                || false
+        'W/"abc"'           || true
+        '"abc"'             || true
+        '"x", W/"abc"'      || true
+        '*'                 || true
+        'W/"abd"'           || false
+    }
+
+    @Unroll
+    void "A-IM #aIm accepts the feed instance manipulation: #expected"(String aIm, boolean expected) {
+        expect:
+        FeedDeltaTracker.acceptsFeed(aIm) == expected
+
+        where:
+        aIm                 || expected
+        null                || false
+        'feed'              || true
+        'vcdiff, feed'      || true
+        'feed;q=1.0'        || true
+        'vcdiff'            || false
+    }
+}
@@ -0,0 +1,108 @@
+package io.micronaut.rss.cache
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+
+class FeedFileStoreSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "a feed is stored once per version and the previous version is deleted"() {
+        given:
+        FeedFileStore store = new FeedFileStore(tempDir, 1024)
+
+        expect:
+        !store.find('rss', 1L).present
+
+        when:
+        Path first = store.store('rss', 1L, 'xml', writer('<rss>1</rss>')).get()
+
+        then:
+        first.fileName.toString().endsWith('_1.xml')
+        store.find('rss', 1L).get() == first
+        !store.find('rss', 2L).present
+        Files.readString(first) == '<rss>1</rss>'
+
+        when:
+        Path second = store.store('rss', 2L, 'xml', writer('<rss>22</rss>')).get()
+
+        then:
+        store.find('rss', 2L).get() == second
+        !Files.exists(first)
+        store.size == 13
+        files() == [second]
+    }
+
+    void "least recently used feeds are deleted when the maximum size is exceeded"() {
+        given:
+        FeedFileStore store = new FeedFileStore(tempDir, 30)
+        Path a = store.store('a', 1L, 'xml', writer('a' * 10)).get()
+        Path b = store.store('b', 1L, 'xml', writer('b' * 10)).get()
+        Path c = store.store('c', 1L, 'xml', writer('c' * 10)).get()
+
+        when:
+        store.find('a', 1L)
+        Path d = store.store('d', 1L, 'xml', writer('d' * 10)).get()
+
+        then:
+        store.find('a', 1L).present
+        !store.find('b', 1L).present
+        !Files.exists(b)
+        Files.exists(c)
+        Files.exists(d)
+        store.size == 30
+
+        when: 'a feed bigger than the maximum size'
+        Optional<Path> big = store.store('e', 1L, 'xml', writer('e' * 31))
+
+        then:
+        !big.present
+        store.size == 30
+        files().size() == 3
+    }
+
+    void "a failed write leaves no file behind"() {
+        given:
+        FeedFileStore store = new FeedFileStore(tempDir, 1024)
+
+        when:
+        store.store('rss', 1L, 'xml', { out ->
+            out.write('<rss>'.bytes)
+            throw new IOException('renderer failed')
+        } as FeedBodyWriter)
+
+        then:
+        thrown(IOException)
+        files().empty
+        !store.find('rss', 1L).present
+    }
+
+    void "files are reused after a restart and leftovers are deleted"() {
+        given:
+        FeedFileStore store = new FeedFileStore(tempDir, 1024)
+        Path stored = store.store('rss', 7L, 'xml', writer('<rss/>')).get()
+        Files.writeString(tempDir.resolve(stored.fileName.toString().replace('_7.xml', '_3.xml')), '<old/>')
+        Files.writeString(tempDir.resolve('interrupted.tmp'), '<rss>')
+
+        when:
+        FeedFileStore restarted = new FeedFileStore(tempDir, 1024)
+
+        then:
+        restarted.find('rss', 7L).get() == stored
+        restarted.size == 6
+        files() == [stored]
+    }
+
+    private List<Path> files() {
+        Files.list(tempDir).withCloseable { it.toList() }
+    }
+
+    private static FeedBodyWriter writer(String body) {
+        { OutputStream out -> out.write(body.getBytes(StandardCharsets.UTF_8)) } as FeedBodyWriter
+    }
+}
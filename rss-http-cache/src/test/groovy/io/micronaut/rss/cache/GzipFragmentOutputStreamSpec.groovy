@@ -0,0 +1,102 @@
+package io.micronaut.rss.cache
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.GZIPInputStream
+
+class GzipFragmentOutputStreamSpec extends Specification {
+
+    void "compressed fragments are concatenated into a single gzip member"() {
+        given:
+        GzipFragmentCache cache = new GzipFragmentCache(1024 * 1024, 9)
+        List<String> items = (1..50).collect { "<item><title>Item ${it}</title><description>${'lorem ipsum ' * it}</description></item>".toString() }
+
+        when:
+        byte[] first = gzip(cache, '<rss><channel>', items, '</channel></rss>')
+
+        then:
+        gunzip(first) == '<rss><channel>' + items.join('') + '</channel></rss>'
+        cache.stats.missCount == 52
+        cache.stats.hitCount == 0
+
+        when: 'an item is added'
+        List<String> more = ['<item><title>Item 51</title></item>'] + items
+        byte[] second = gzip(cache, '<rss><channel>', more, '</channel></rss>')
+
+        then: 'only the new item is compressed'
+        gunzip(second) == '<rss><channel>' + more.join('') + '</channel></rss>'
+        cache.stats.missCount == 53
+        cache.stats.hitCount == 52
+    }
+
+    void "an empty stream and fragments larger than the maximum fragment size are valid gzip"() {
+        given:
+        GzipFragmentCache cache = new GzipFragmentCache(1024 * 1024, 1)
+        ByteArrayOutputStream empty = new ByteArrayOutputStream()
+        new GzipFragmentOutputStream(empty, cache).close()
+        byte[] big = new byte[3 * 1024 * 1024]
+        new Random(1).nextBytes(big)
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream()
+
+        when:
+        new GzipFragmentOutputStream(compressed, cache).withCloseable { it.write(big) }
+
+        then:
+        new GZIPInputStream(new ByteArrayInputStream(empty.toByteArray())).readAllBytes().length == 0
+        new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())).readAllBytes() == big
+
+        and: 'fragments too large for the cache are compressed but not cached'
+        cache.stats.rejectionCount == 3
+        cache.stats.entryCount == 0
+    }
+
+    void "least recently used fragments are evicted"() {
+        given:
+        GzipFragmentCache cache = new GzipFragmentCache(4 * 1024, 9)
+
+        when:
+        100.times { gzip(cache, '', ["<item>${it}${'x' * it}</item>".toString()], '') }
+
+        then:
+        cache.stats.size <= 4 * 1024
+        cache.stats.evictionCount > 0
+        cache.stats.evictionCount == 100 - cache.stats.entryCount
+    }
+
+    @Unroll
+    void "Accept-Encoding #acceptEncoding accepts gzip: #expected"(String acceptEncoding, boolean expected) {
+        expect:
+        GzipFragmentOutputStream.acceptsGzip(acceptEncoding) == expected
+
+        where:
+        acceptEncoding          || expected
+        null                    || false
+        'gzip'                  || true
+        'GZIP'                  || true
+        'x-gzip'                || true
+        'deflate, gzip;q=0.5'   || true
+        'gzip;q=0'              || false
+        'gzip; q=0.0, br'       || false
+        'br, deflate'           || false
+    }
+
+    private static byte[] gzip(GzipFragmentCache cache, String header, List<String> items, String footer) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        GzipFragmentOutputStream gzip = new GzipFragmentOutputStream(out, cache)
+        gzip.write(header.getBytes(StandardCharsets.UTF_8))
+        for (String item : items) {
+            gzip.endFragment()
+            gzip.write(item.getBytes(StandardCharsets.UTF_8))
+            gzip.endFragment()
+        }
+        gzip.write(footer.getBytes(StandardCharsets.UTF_8))
+        gzip.finish()
+        out.toByteArray()
+    }
+
+    private static String gunzip(byte[] compressed) {
+        new String(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8)
+    }
+}
@@ -0,0 +1,22 @@
+package io.micronaut.rss.cache
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+class MicrometerFeedTruncationCounterSpec extends Specification {
+
+    void "truncated feeds are counted and recorded through the meter registry"() {
+        given:
+        MeterRegistry meterRegistry = new SimpleMeterRegistry()
+        FeedTruncationCounter feedTruncationCounter = new MicrometerFeedTruncationCounter(meterRegistry)
+
+        when:
+        feedTruncationCounter.increment()
+        feedTruncationCounter.increment()
+
+        then:
+        feedTruncationCounter.count == 2
+        meterRegistry.get(MicrometerFeedTruncationCounter.METRIC).counter().count() == 2d
+    }
+}
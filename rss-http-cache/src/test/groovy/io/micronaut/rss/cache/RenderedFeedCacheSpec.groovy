@@ -0,0 +1,154 @@
+package io.micronaut.rss.cache
+
+import spock.lang.Specification
+
+class RenderedFeedCacheSpec extends Specification {
+
+    void "a lookup with a different version is a miss"() {
+        given:
+        RenderedFeedCache cache = new RenderedFeedCache(1024 * 1024)
+
+        when:
+        cache.put('rss', 1L, '<rss>1</rss>'.bytes)
+
+        then:
+        new String(cache.get('rss', 1L).get()) == '<rss>1</rss>'
+        !cache.get('rss', 2L).present
+
+        when:
+        cache.put('rss', 2L, '<rss>2</rss>'.bytes)
+
+        then:
+        new String(cache.get('rss', 2L).get()) == '<rss>2</rss>'
+        !cache.get('rss', 1L).present
+        cache.stats.entryCount == 1
+        cache.stats.hitCount == 2
+        cache.stats.missCount == 2
+    }
+
+    void "the cache is bounded by the size of the rendered feeds"() {
+        given:
+        RenderedFeedCache cache = new RenderedFeedCache(100_000)
+
+        when:
+        100.times { cache.put("rss/${it}", 1L, new byte[5_000]) }
+
+        then:
+        cache.stats.size <= 100_000
+        cache.stats.entryCount < 20
+        cache.stats.evictionCount + cache.stats.rejectionCount == 100 - cache.stats.entryCount
+
+        when: 'a feed bigger than the cache'
+        cache.put('big', 1L, new byte[100_001])
+
+        then:
+        !cache.get('big', 1L).present
+    }
+
+    void "frequently requested feeds are not flushed by a crawler sweeping the long tail"() {
+        given:
+        int feeds = 10_000
+        long maxSize = 8L * 1024 * 1024
+        ZipfTrace trace = new ZipfTrace(feeds, 1.0d, new Random(42))
+        int[] sizes = new int[feeds]
+        Random random = new Random(7)
+        feeds.times { sizes[it] = (int) (2048 * Math.pow(2, random.nextDouble() * 6)) } // 2 KB to 128 KB
+        Map<Integer, byte[]> bodies = [:]
+
+        when:
+        Map<String, Double> hitRates = [:]
+        [false, true].each { boolean crawler ->
+            RenderedFeedCache cache = new RenderedFeedCache(maxSize)
+            LruCache lru = new LruCache(maxSize)
+            int sweep = feeds.intdiv(2)
+            long requests = 0
+            long hits = 0
+            long lruHits = 0
+            for (int n = 0; n < 200_000; n++) {
+                boolean crawl = crawler && n % 2 == 1
+                int feed
+                if (crawl) {
+                    feed = sweep++
+                    if (sweep == feeds) {
+                        sweep = feeds.intdiv(2)
+                    }
+                } else {
+                    feed = trace.next()
+                }
+                byte[] body = bodies.computeIfAbsent(sizes[feed]) { new byte[it] }
+                String key = "rss/${feed}"
+                boolean hit = cache.get(key, 1L).present
+                if (!hit) {
+                    cache.put(key, 1L, body)
+                }
+                boolean lruHit = lru.get(key)
+                if (!lruHit) {
+                    lru.put(key, body.length)
+                }
+                if (!crawl) {
+                    requests++
+                    hits += hit ? 1 : 0
+                    lruHits += lruHit ? 1 : 0
+                }
+            }
+            RenderedFeedCacheStats stats = cache.stats
+            hitRates["tinylfu-${crawler}".toString()] = hits / requests
+            hitRates["lru-${crawler}".toString()] = lruHits / requests
+            assert stats.size <= maxSize
+            assert stats.hitCount + stats.missCount == 200_000
+        }
+
+        then: 'the most requested feeds stay cached'
+        hitRates['tinylfu-false'] > 0.3
+        hitRates['tinylfu-true'] > 0.3
+
+        and: 'more of them than with an LRU policy, with or without a crawler'
+        hitRates['tinylfu-false'] > hitRates['lru-false']
+        hitRates['tinylfu-true'] > hitRates['lru-true'] + 0.1
+        hitRates['tinylfu-false'] - hitRates['tinylfu-true'] < 0.05
+    }
+
+    static class ZipfTrace {
+        final double[] cdf
+        final Random random
+
+        ZipfTrace(int size, double exponent, Random random) {
+            this.random = random
+            this.cdf = new double[size]
+            double sum = 0
+            for (int i = 0; i < size; i++) {
+                sum += 1 / Math.pow(i + 1, exponent)
+                cdf[i] = sum
+            }
+        }
+
+        int next() {
+            int index = Arrays.binarySearch(cdf, random.nextDouble() * cdf[cdf.length - 1])
+            index < 0 ? -index - 1 : index
+        }
+    }
+
+    static class LruCache {
+        final long maxSize
+        final LinkedHashMap<String, Integer> entries = new LinkedHashMap<>(16, 0.75f, true)
+        long size
+
+        LruCache(long maxSize) {
+            this.maxSize = maxSize
+        }
+
+        boolean get(String key) {
+            entries.get(key) != null
+        }
+
+        void put(String key, int weight) {
+            entries.put(key, weight)
+            size += weight
+            Iterator<Integer> iterator = entries.values().iterator()
+            while (size > maxSize) {
+                size -= iterator.next()
+                iterator.remove()
+            }
+        }
+    }
+}
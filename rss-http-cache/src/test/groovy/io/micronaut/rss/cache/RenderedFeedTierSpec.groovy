@@ -0,0 +1,199 @@
+package io.micronaut.rss.cache
+
+import spock.lang.AutoCleanup
+import spock.lang.Requires
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.lang.management.ManagementFactory
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.function.Function
+
+class RenderedFeedTierSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    @AutoCleanup
+    MappedFeedTier mappedFeedTier
+
+    void "feeds evicted from the heap are demoted to the off-heap and then to the memory-mapped tier"() {
+        given:
+        mappedFeedTier = new MappedFeedTier(tempDir.resolve('feeds.bin'), 64 * 1024)
+        OffHeapFeedTier offHeapFeedTier = new OffHeapFeedTier(16 * 1024, mappedFeedTier)
+        RenderedFeedCache cache = new RenderedFeedCache(8 * 1024, offHeapFeedTier)
+
+        when:
+        40.times { cache.put("rss/${it}", 1L, body(it, 2000)) }
+
+        then:
+        cache.stats.entryCount + offHeapFeedTier.stats.entryCount + mappedFeedTier.stats.entryCount == 40
+        offHeapFeedTier.stats.size <= 16 * 1024
+        mappedFeedTier.stats.entryCount > 0
+
+        and: 'every feed is read intact, from the heap or from direct memory'
+        (0..<40).every { int n ->
+            cache.read("rss/${n}", 1L, { ByteBuffer buffer ->
+                assert buffer.hasArray() || (buffer.direct && buffer.readOnly)
+                intact(buffer, n, 2000)
+            } as Function<ByteBuffer, Boolean>).get()
+        }
+
+        and:
+        !cache.read('rss/0', 2L, { true } as Function<ByteBuffer, Boolean>).present
+    }
+
+    void "a feed read often enough is promoted to the heap"() {
+        given:
+        OffHeapFeedTier offHeapFeedTier = new OffHeapFeedTier(64 * 1024, null)
+        RenderedFeedCache cache = new RenderedFeedCache(8 * 1024, offHeapFeedTier)
+        10.times { cache.put("rss/${it}", 1L, body(it, 2000)) }
+        String cold = (0..<10).collect { "rss/${it}".toString() }.find { key ->
+            offHeapFeedTier.read(key, 1L, { true } as Function<ByteBuffer, Boolean>).present
+        }
+
+        when:
+        List<Boolean> fromHeap = (1..6).collect {
+            cache.read(cold, 1L, { ByteBuffer buffer -> buffer.hasArray() } as Function<ByteBuffer, Boolean>).get()
+        }
+
+        then:
+        !fromHeap.first()
+        fromHeap.last()
+        !offHeapFeedTier.read(cold, 1L, { true } as Function<ByteBuffer, Boolean>).present
+    }
+
+    void "a feed put while a lower tier is read is not replaced by the promoted version"() {
+        given:
+        OffHeapFeedTier offHeapFeedTier = new OffHeapFeedTier(64 * 1024, null)
+        RenderedFeedCache cache = new RenderedFeedCache(8 * 1024, offHeapFeedTier)
+        offHeapFeedTier.put('rss/0', 1L, ByteBuffer.wrap(body(1, 1000)))
+
+        when: 'a newer version is put while the reader runs'
+        boolean read = cache.read('rss/0', 1L, { ByteBuffer buffer ->
+            cache.put('rss/0', 2L, body(2, 1000))
+            intact(buffer, 1, 1000)
+        } as Function<ByteBuffer, Boolean>).get()
+
+        then:
+        read
+        cache.get('rss/0', 2L).present
+        !cache.get('rss/0', 1L).present
+        cache.stats.entryCount == 1
+    }
+
+    void "a slab is written as a ring"() {
+        given:
+        OffHeapFeedTier tier = new OffHeapFeedTier(10_000, null)
+
+        when:
+        30.times { tier.put("rss/${it}", 1L, ByteBuffer.wrap(body(it, 1_500))) }
+
+        then:
+        tier.stats.size <= 10_000
+        tier.stats.evictionCount == 30 - tier.stats.entryCount
+        (30 - tier.stats.entryCount..<30).every { int n ->
+            tier.read("rss/${n}", 1L, { ByteBuffer buffer -> intact(buffer, n, 1_500) } as Function<ByteBuffer, Boolean>).get()
+        }
+
+        when: 'a feed bigger than the slab'
+        tier.put('big', 1L, ByteBuffer.allocate(10_001))
+
+        then:
+        !tier.read('big', 1L, { true } as Function<ByteBuffer, Boolean>).present
+        tier.stats.rejectionCount == 1
+    }
+
+    void "the segment file is truncated on startup"() {
+        given:
+        Path path = tempDir.resolve('feeds.bin')
+        Files.write(path, new byte[100])
+
+        when:
+        mappedFeedTier = new MappedFeedTier(path, 4096)
+        mappedFeedTier.put('rss', 1L, ByteBuffer.wrap(body(1, 100)))
+
+        then:
+        Files.size(path) == 4096
+        mappedFeedTier.read('rss', 1L, { ByteBuffer buffer -> intact(buffer, 1, 100) } as Function<ByteBuffer, Boolean>).get()
+    }
+
+    void "the next tier is called outside the lock of the heap"() {
+        given:
+        RenderedFeedCache cache = null
+        List<Boolean> locked = []
+        OffHeapFeedTier offHeapFeedTier = new OffHeapFeedTier(64 * 1024, null) {
+            @Override
+            void put(String key, long version, ByteBuffer body) {
+                locked << Thread.holdsLock(cache)
+                super.put(key, version, body)
+            }
+
+            @Override
+            void invalidate(String key) {
+                locked << Thread.holdsLock(cache)
+                super.invalidate(key)
+            }
+
+            @Override
+            <T> Optional<T> read(String key, long version, Function<ByteBuffer, T> reader) {
+                locked << Thread.holdsLock(cache)
+                super.read(key, version, reader)
+            }
+        }
+        cache = new RenderedFeedCache(8 * 1024, offHeapFeedTier)
+
+        when:
+        10.times { cache.put("rss/${it}", 1L, body(it, 2000)) }
+        10.times { cache.read("rss/${it}", 1L, { true } as Function<ByteBuffer, Boolean>) }
+        cache.invalidate('rss/0')
+
+        then:
+        locked.size() > 10
+        !locked.any()
+    }
+
+    @Requires({ ManagementFactory.threadMXBean instanceof com.sun.management.ThreadMXBean })
+    void "reads from the off-heap tier do not copy the feed onto the heap"() {
+        given:
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.threadMXBean
+        OffHeapFeedTier offHeapFeedTier = new OffHeapFeedTier(1024 * 1024, null)
+        RenderedFeedCache cache = new RenderedFeedCache(1024, offHeapFeedTier)
+        offHeapFeedTier.put('rss', 1L, ByteBuffer.wrap(new byte[256 * 1024]))
+        ByteBuffer response = ByteBuffer.allocateDirect(256 * 1024)
+        Function<ByteBuffer, Integer> reader = { ByteBuffer buffer ->
+            response.clear()
+            response.put(buffer)
+            response.position()
+        } as Function<ByteBuffer, Integer>
+        100.times { cache.read('rss', 1L, reader) }
+
+        when:
+        long allocated = threadMXBean.currentThreadAllocatedBytes
+        100.times { cache.read('rss', 1L, reader) }
+        allocated = threadMXBean.currentThreadAllocatedBytes - allocated
+
+        then:
+        allocated / 100 < 16 * 1024
+    }
+
+    private static byte[] body(int n, int length) {
+        byte[] body = new byte[length]
+        Arrays.fill(body, (byte) n)
+        body
+    }
+
+    private static boolean intact(ByteBuffer buffer, int n, int length) {
+        if (buffer.remaining() != length) {
+            return false
+        }
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) != (byte) n) {
+                return false
+            }
+        }
+        true
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.language;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.function.Function;
+
+/**
+ * Immutable open-addressing table which finds an enum constant by a code. Lookups accept any {@link CharSequence}, may ignore case, and do not allocate.
+ *
+ * @param <E> Enum type
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Internal
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final String[] keys;
+    private final E[] values;
+    private final int mask;
+
+    private EnumLookup(String[] keys, E[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+    }
+
+    /**
+     * Builds a lookup table. When two constants share a code, the first one wins.
+     * @param constants Enum constants, usually {@code values()}
+     * @param code Function which returns the code of a constant
+     * @param <E> Enum type
+     * @return The lookup table
+     */
+    @NonNull
+    public static <E extends Enum<E>> EnumLookup<E> of(@NonNull E[] constants, @NonNull Function<E, String> code) {
+        int capacity = Integer.highestOneBit(Math.max(constants.length, 1) * 4 - 1) << 1;
+        String[] keys = new String[capacity];
+        @SuppressWarnings("unchecked")
+        E[] values = (E[]) Array.newInstance(constants.getClass().getComponentType(), capacity);
+        int mask = capacity - 1;
+        for (E constant : constants) {
+            String key = code.apply(constant);
+            int index = hash(key) & mask;
+            while (keys[index] != null && !keys[index].equals(key)) {
+                index = (index + 1) & mask;
+            }
+            if (keys[index] == null) {
+                keys[index] = key;
+                values[index] = constant;
+            }
+        }
+        return new EnumLookup<>(keys, values);
+    }
+
+    /**
+     *
+     * @param code The code
+     * @return The constant whose code equals the supplied one or null.
+     */
+    @Nullable
+    public E get(@Nullable CharSequence code) {
+        if (code == null) {
+            return null;
+        }
+        for (int index = hash(code) & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (contentEquals(keys[index], code, false)) {
+                return values[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     *
+     * @param code The code
+     * @return The constant whose code equals the supplied one ignoring case or null.
+     */
+    @Nullable
+    public E getIgnoreCase(@Nullable CharSequence code) {
+        if (code == null) {
+            return null;
+        }
+        for (int index = hash(code) & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (contentEquals(keys[index], code, true)) {
+                return values[index];
+            }
+        }
+        return null;
+    }
+
+    private static int hash(@NonNull CharSequence code) {
+        int h = 0;
+        for (int i = 0; i < code.length(); i++) {
+            h = 31 * h + Character.toLowerCase(code.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean contentEquals(@NonNull String key, @NonNull CharSequence code, boolean ignoreCase) {
+        int length = key.length();
+        if (length != code.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char a = key.charAt(i);
+            char b = code.charAt(i);
+            if (a != b && (!ignoreCase || Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -16,8 +16,8 @@
 package io.micronaut.rss.language;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -131,6 +131,8 @@ public enum RssLanguage {
 
     public static final String LANGUAGE_CODE_PATTERN = "af|sq|eu|be|bg|ca|zh-cn|zh-tw|hr|cs|da|nl|nl-be|nl-nl|en|en-au|en-bz|en-ca|en-ie|en-jm|en-nz|en-ph|en-za|en-tt|en-gb|en-us|en-zw|et|fo|fi|fr|fr-be|fr-ca|fr-fr|fr-lu|fr-mc|fr-ch|gl|gd|de|de-at|de-de|de-li|de-lu|de-ch|el|haw|hu|is|in|ga|it|it-it|it-ch|ja|ko|mk|no|pl|pt|pt-br|pt-pt|ro|ro-mo|ro-ro|ru|ru-mo|ru-ru|sr|sk|sl|es|es-ar|es-bo|es-cl|es-co|es-cr|es-do|es-ec|es-sv|es-gt|es-hn|es-mx|es-ni|es-pa|es-py|es-pe|es-pr|es-es|es-uy|es-ve|sv|sv-fi|sv-se|tr|uk";
 
+    private static final EnumLookup<RssLanguage> LOOKUP = EnumLookup.of(values(), RssLanguage::getLanguageCode);
+
     private final String languageName;
     private final String languageCode;
 
@@ -173,10 +175,23 @@ public enum RssLanguage {
         return m;
     }
 
+    /**
+     *
+     * @param languageCode The code of the language. For example, {@code en-us}.
+     * @return The language with the supplied code.
+     */
     @NonNull
     public static Optional<RssLanguage> of(String languageCode) {
-        return Arrays.stream(RssLanguage.values())
-            .filter(lang -> lang.getLanguageCode().equals(languageCode))
-            .findFirst();
+        return Optional.ofNullable(LOOKUP.get(languageCode));
+    }
+
+    /**
+     * Finds a language by its code ignoring case. It does not allocate, which makes it suitable for parsers and validators.
+     * @param languageCode The code of the language. For example, {@code en-US}.
+     * @return The language with the supplied code or null.
+     */
+    @Nullable
+    public static RssLanguage lookup(@Nullable CharSequence languageCode) {
+        return LOOKUP.getIgnoreCase(languageCode);
     }
 }
@@ -8,4 +8,30 @@ class RssLanguageSpec extends Specification {
         expect:
         RssLanguage.LANG_SPANISH == RssLanguage.of('es').get()
     }
+
+    void "RssLanguage::of is case sensitive and returns empty for unknown codes"() {
+        expect:
+        !RssLanguage.of('ES').isPresent()
+        !RssLanguage.of('xx').isPresent()
+        !RssLanguage.of(null).isPresent()
+    }
+
+    void "RssLanguage::lookup ignores case and accepts any CharSequence"() {
+        expect:
+        RssLanguage.lookup(code) == expected
+
+        where:
+        code                          || expected
+        'en-us'                       || RssLanguage.LANG_ENGLISH_UNITED_STATES
+        'en-US'                       || RssLanguage.LANG_ENGLISH_UNITED_STATES
+        new StringBuilder('EN-us')    || RssLanguage.LANG_ENGLISH_UNITED_STATES
+        'haw'                         || RssLanguage.LANG_HAWAIIAN
+        'en-u'                        || null
+        null                          || null
+    }
+
+    void "every language can be found by its code"() {
+        expect:
+        RssLanguage.values().every { RssLanguage.of(it.languageCode).get() == it && RssLanguage.lookup(it.languageCode.toUpperCase()) == it }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.content;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.Callable;
+
+/**
+ * Supplies the content of an item, such as a description stored in a blob store, every time a feed is rendered.
+ * Renderers read it in chunks and escape it while writing the response, so the content is never held in memory in full.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@FunctionalInterface
+public interface ContentSource {
+
+    /**
+     * Size of the chunks read by {@link #transferTo(Writer)} and the renderers.
+     */
+    int CHUNK_SIZE = 4096;
+
+    /**
+     * Opens the content. The caller closes the reader.
+     * @return A reader of the content
+     * @throws IOException if the content cannot be opened
+     */
+    @NonNull
+    Reader openReader() throws IOException;
+
+    /**
+     * Copies the content, unescaped, to a writer.
+     * @param writer The writer
+     * @throws IOException if an I/O error occurs
+     */
+    default void transferTo(@NonNull Writer writer) throws IOException {
+        try (Reader reader = openReader()) {
+            reader.transferTo(writer);
+        }
+    }
+
+    /**
+     * @param text The content
+     * @return A content source of a text already in memory
+     */
+    @NonNull
+    static ContentSource ofString(@NonNull String text) {
+        return () -> new StringReader(text);
+    }
+
+    /**
+     * @param inputStream Opens the content, for example the object of a blob store
+     * @param charset The charset of the content
+     * @return A content source which decodes an input stream
+     */
+    @NonNull
+    static ContentSource ofInputStream(@NonNull Callable<? extends InputStream> inputStream, @NonNull Charset charset) {
+        return () -> new InputStreamReader(open(inputStream), charset);
+    }
+
+    /**
+     * @param channel Opens the content, for example a file channel
+     * @param charset The charset of the content
+     * @return A content source which decodes a byte channel
+     */
+    @NonNull
+    static ContentSource ofChannel(@NonNull Callable<? extends ReadableByteChannel> channel, @NonNull Charset charset) {
+        return () -> Channels.newReader(open(channel), charset.newDecoder(), CHUNK_SIZE);
+    }
+
+    @NonNull
+    private static <T> T open(@NonNull Callable<T> supplier) throws IOException {
+        try {
+            return supplier.call();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
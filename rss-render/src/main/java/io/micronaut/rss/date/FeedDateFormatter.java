@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.date;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Formats dates as RFC 822 dates, as used by RSS 2.0, or as RFC 3339 dates, as used by JSON Feed.
+ * Dates are written as ASCII bytes without a {@link DateTimeFormatter}, in English regardless of the default locale.
+ * Recently formatted instants are memoized, so that dates which are rendered on every request are formatted once.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class FeedDateFormatter {
+
+    /**
+     * RFC 822 dates such as {@code Tue, 10 Jun 2003 04:00:00 GMT}. Dates with an offset other than zero are written with a numeric offset such as {@code +0200}.
+     */
+    public static final FeedDateFormatter RFC_822 = new FeedDateFormatter(true);
+
+    /**
+     * RFC 3339 dates such as {@code 2003-06-10T04:00:00Z} or {@code 2003-06-10T06:00:00+02:00}.
+     */
+    public static final FeedDateFormatter RFC_3339 = new FeedDateFormatter(false);
+
+    private static final int CACHE_SIZE = 512;
+    private static final byte[][] DAYS = ascii("Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun");
+    private static final byte[][] MONTHS = ascii("Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec");
+    private static final DateTimeFormatter RFC_822_FALLBACK = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss xx", Locale.ENGLISH);
+    private static final DateTimeFormatter RFC_3339_FALLBACK = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ssXXX", Locale.ENGLISH);
+
+    private final boolean rfc822;
+    private final Entry[] cache = new Entry[CACHE_SIZE];
+
+    private FeedDateFormatter(boolean rfc822) {
+        this.rfc822 = rfc822;
+    }
+
+    /**
+     * @param date Date
+     * @return The formatted date
+     */
+    @NonNull
+    public String format(@NonNull ZonedDateTime date) {
+        return entry(date).text;
+    }
+
+    /**
+     * Writes the formatted date as ASCII bytes.
+     * @param date Date
+     * @param outputStream Output Stream
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(@NonNull ZonedDateTime date, @NonNull OutputStream outputStream) throws IOException {
+        outputStream.write(entry(date).bytes);
+    }
+
+    @NonNull
+    private Entry entry(@NonNull ZonedDateTime date) {
+        long epochSecond = date.toEpochSecond();
+        int offsetSeconds = date.getOffset().getTotalSeconds();
+        long hash = (epochSecond * 31 + offsetSeconds) * 0x9E3779B97F4A7C15L;
+        int index = (int) (hash >>> 55) & (CACHE_SIZE - 1);
+        Entry entry = cache[index];
+        if (entry == null || entry.epochSecond != epochSecond || entry.offsetSeconds != offsetSeconds) {
+            byte[] bytes = rfc822 ? rfc822(date) : rfc3339(date);
+            entry = new Entry(epochSecond, offsetSeconds, bytes, new String(bytes, StandardCharsets.US_ASCII));
+            cache[index] = entry;
+        }
+        return entry;
+    }
+
+    @NonNull
+    private static byte[] rfc822(@NonNull ZonedDateTime date) {
+        LocalDateTime local = date.toLocalDateTime();
+        int year = local.getYear();
+        if (year < 1000 || year > 9999) {
+            return RFC_822_FALLBACK.format(date).getBytes(StandardCharsets.US_ASCII);
+        }
+        int offsetSeconds = date.getOffset().getTotalSeconds();
+        byte[] b = new byte[offsetSeconds == 0 ? 29 : 31];
+        System.arraycopy(DAYS[local.getDayOfWeek().ordinal()], 0, b, 0, 3);
+        b[3] = ',';
+        b[4] = ' ';
+        twoDigits(b, 5, local.getDayOfMonth());
+        b[7] = ' ';
+        System.arraycopy(MONTHS[local.getMonthValue() - 1], 0, b, 8, 3);
+        b[11] = ' ';
+        fourDigits(b, 12, year);
+        b[16] = ' ';
+        time(b, 17, local);
+        b[25] = ' ';
+        if (offsetSeconds == 0) {
+            b[26] = 'G';
+            b[27] = 'M';
+            b[28] = 'T';
+        } else {
+            int offsetMinutes = Math.abs(offsetSeconds) / 60;
+            b[26] = (byte) (offsetSeconds < 0 ? '-' : '+');
+            twoDigits(b, 27, offsetMinutes / 60);
+            twoDigits(b, 29, offsetMinutes % 60);
+        }
+        return b;
+    }
+
+    @NonNull
+    private static byte[] rfc3339(@NonNull ZonedDateTime date) {
+        LocalDateTime local = date.toLocalDateTime();
+        int year = local.getYear();
+        int offsetSeconds = date.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+            return RFC_3339_FALLBACK.format(date).getBytes(StandardCharsets.US_ASCII);
+        }
+        byte[] b = new byte[offsetSeconds == 0 ? 20 : 25];
+        fourDigits(b, 0, year);
+        b[4] = '-';
+        twoDigits(b, 5, local.getMonthValue());
+        b[7] = '-';
+        twoDigits(b, 8, local.getDayOfMonth());
+        b[10] = 'T';
+        time(b, 11, local);
+        if (offsetSeconds == 0) {
+            b[19] = 'Z';
+        } else {
+            int offsetMinutes = Math.abs(offsetSeconds) / 60;
+            b[19] = (byte) (offsetSeconds < 0 ? '-' : '+');
+            twoDigits(b, 20, offsetMinutes / 60);
+            b[22] = ':';
+            twoDigits(b, 23, offsetMinutes % 60);
+        }
+        return b;
+    }
+
+    private static void time(byte[] b, int offset, LocalDateTime local) {
+        twoDigits(b, offset, local.getHour());
+        b[offset + 2] = ':';
+        twoDigits(b, offset + 3, local.getMinute());
+        b[offset + 5] = ':';
+        twoDigits(b, offset + 6, local.getSecond());
+    }
+
+    private static void twoDigits(byte[] b, int offset, int value) {
+        b[offset] = (byte) ('0' + value / 10);
+        b[offset + 1] = (byte) ('0' + value % 10);
+    }
+
+    private static void fourDigits(byte[] b, int offset, int value) {
+        twoDigits(b, offset, value / 100);
+        twoDigits(b, offset + 2, value % 100);
+    }
+
+    private static byte[][] ascii(String... values) {
+        byte[][] result = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return result;
+    }
+
+    /**
+     * A formatted instant. Entries are immutable, so that they can be shared between threads without synchronization.
+     */
+    private static final class Entry {
+        private final long epochSecond;
+        private final int offsetSeconds;
+        private final byte[] bytes;
+        private final String text;
+
+        private Entry(long epochSecond, int offsetSeconds, byte[] bytes, String text) {
+            this.epochSecond = epochSecond;
+            this.offsetSeconds = offsetSeconds;
+            this.bytes = bytes;
+            this.text = text;
+        }
+    }
+}
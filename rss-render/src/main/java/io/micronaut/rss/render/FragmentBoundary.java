@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.render;
+
+import java.io.IOException;
+
+/**
+ * Implemented by output streams which process the bytes written between two boundaries as a unit, such as an item of a feed.
+ * Renderers call {@link #endFragment()} before and after each item when the output stream implements it.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@FunctionalInterface
+public interface FragmentBoundary {
+
+    /**
+     * Ends the fragment written since the previous boundary. Calling it without writing anything in between is a no-op.
+     * @throws IOException if an I/O error occurs
+     */
+    void endFragment() throws IOException;
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.render;
+
+/**
+ * Implemented by output streams which bound the number of items, or the number of bytes, of a rendered feed.
+ * Renderers ask, before each item, whether the output accepts it and, if not, skip the remaining items and complete the document.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@FunctionalInterface
+public interface RenderLimit {
+
+    /**
+     * Called at an item boundary, after the preceding bytes have been written to the output stream.
+     * @return Whether another item may be written
+     */
+    boolean acceptsItem();
+}
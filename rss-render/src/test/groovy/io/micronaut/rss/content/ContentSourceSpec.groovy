@@ -0,0 +1,36 @@
+package io.micronaut.rss.content
+
+import spock.lang.Specification
+
+import java.nio.channels.Channels
+import java.nio.charset.StandardCharsets
+
+class ContentSourceSpec extends Specification {
+
+    void "content sources decode input streams and channels every time they are opened"() {
+        given:
+        byte[] bytes = 'Ünïcödé 😀'.getBytes(StandardCharsets.UTF_8)
+        int opened = 0
+        ContentSource inputStream = ContentSource.ofInputStream({ ->
+            opened++
+            new ByteArrayInputStream(bytes)
+        }, StandardCharsets.UTF_8)
+        ContentSource channel = ContentSource.ofChannel({ -> Channels.newChannel(new ByteArrayInputStream(bytes)) }, StandardCharsets.UTF_8)
+
+        expect:
+        inputStream.openReader().text == 'Ünïcödé 😀'
+        inputStream.openReader().text == 'Ünïcödé 😀'
+        opened == 2
+        channel.openReader().text == 'Ünïcödé 😀'
+        ContentSource.ofString('plain').openReader().text == 'plain'
+    }
+
+    void "failures to open the content are reported as IOException"() {
+        when:
+        ContentSource.ofInputStream({ -> throw new IllegalStateException("missing blob") }, StandardCharsets.UTF_8).openReader()
+
+        then:
+        IOException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+}
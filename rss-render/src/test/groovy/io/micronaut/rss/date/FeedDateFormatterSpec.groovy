@@ -0,0 +1,69 @@
+package io.micronaut.rss.date
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZonedDateTime
+import java.time.format.DateTimeFormatter
+
+class FeedDateFormatterSpec extends Specification {
+
+    @Unroll
+    void "#date is formatted as #rfc822 and #rfc3339"(ZonedDateTime date, String rfc822, String rfc3339) {
+        expect:
+        FeedDateFormatter.RFC_822.format(date) == rfc822
+        FeedDateFormatter.RFC_3339.format(date) == rfc3339
+
+        when:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        FeedDateFormatter.RFC_822.writeTo(date, out)
+
+        then:
+        out.toString('US-ASCII') == rfc822
+
+        where:
+        date                                                                  || rfc822                            | rfc3339
+        ZonedDateTime.of(2016, 4, 12, 1, 15, 0, 0, ZoneId.of('GMT'))          || 'Tue, 12 Apr 2016 01:15:00 GMT'   | '2016-04-12T01:15:00Z'
+        ZonedDateTime.of(2020, 11, 27, 7, 37, 55, 0, ZoneId.of('Europe/Madrid')) || 'Fri, 27 Nov 2020 07:37:55 +0100' | '2020-11-27T07:37:55+01:00'
+        ZonedDateTime.of(2003, 6, 10, 4, 0, 0, 0, ZoneId.of('America/St_Johns')) || 'Tue, 10 Jun 2003 04:00:00 -0230' | '2003-06-10T04:00:00-02:30'
+    }
+
+    void "formatting does not depend on the default locale"() {
+        given:
+        Locale defaultLocale = Locale.default
+        Locale.setDefault(Locale.FRANCE)
+        ZonedDateTime date = ZonedDateTime.of(2021, 2, 3, 4, 5, 6, 0, ZoneId.of('GMT'))
+
+        expect:
+        FeedDateFormatter.RFC_822.format(date) == 'Wed, 03 Feb 2021 04:05:06 GMT'
+
+        cleanup:
+        Locale.setDefault(defaultLocale)
+    }
+
+    void "dates match java.time formatting"() {
+        given:
+        DateTimeFormatter rfc822 = DateTimeFormatter.ofPattern('EEE, dd MMM yyyy HH:mm:ss xx', Locale.ENGLISH)
+        DateTimeFormatter rfc3339 = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX", Locale.ENGLISH)
+        Random random = new Random(42)
+        List<ZoneId> zones = ['UTC', 'Europe/Madrid', 'America/New_York', 'Asia/Kolkata', 'Pacific/Chatham'].collect { ZoneId.of(it) }
+
+        expect:
+        (0..<10_000).every {
+            ZonedDateTime date = Instant.ofEpochSecond(random.nextInt(Integer.MAX_VALUE)).atZone(zones[random.nextInt(zones.size())])
+            String expected = date.offset.totalSeconds == 0 ? date.format(rfc822).substring(0, 26) + 'GMT' : date.format(rfc822)
+            FeedDateFormatter.RFC_822.format(date) == expected && FeedDateFormatter.RFC_3339.format(date) == date.format(rfc3339)
+        }
+    }
+
+    void "recently formatted instants are memoized"() {
+        given:
+        ZonedDateTime date = ZonedDateTime.of(2016, 4, 12, 1, 15, 0, 0, ZoneId.of('GMT'))
+
+        expect:
+        FeedDateFormatter.RFC_822.format(date).is(FeedDateFormatter.RFC_822.format(date.withNano(5)))
+        !FeedDateFormatter.RFC_822.format(date).is(FeedDateFormatter.RFC_3339.format(date))
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.websub;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Notifies WebSub hubs that feeds changed, so that the hubs fetch them and push them to their subscribers.
+ *
+ * <p>The application calls {@link #publish(String)} when the content of a feed changes. The URLs of the feeds, their topics, changed within a debounce window
+ * are collected and deduplicated, and every hub receives a single {@code hub.mode=publish} request listing them as {@code hub.url} parameters once the window closes.
+ * A hub which fails, answers {@code 429 Too Many Requests} or does not answer is retried with an exponential backoff.</p>
+ *
+ * <p>Topics are resolved against the configured base URL, never against the host of a request. The publisher is created at startup and fails it if no base URL is configured.</p>
+ *
+ * @see <a href="https://www.w3.org/TR/websub/">WebSub</a>
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = WebSubPublisherConfigurationProperties.PREFIX + ".hubs")
+@Context
+public class WebSubPublisher {
+
+    /**
+     * The protocol of the hubs of a JSON Feed.
+     */
+    public static final String TYPE = "WebSub";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebSubPublisher.class);
+    private static final String PUBLISH = "hub.mode=publish";
+    private static final String HUB_URL = "&hub.url=";
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final List<String> hubs;
+    private final String baseUrl;
+    private final Duration debounce;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final TaskScheduler taskScheduler;
+    private final Set<String> pending = new LinkedHashSet<>();
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     *
+     * @param configuration WebSub publisher configuration
+     * @param httpClient The HTTP client which sends the notifications
+     * @param taskScheduler Schedules the notifications once the debounce window closes and their retries
+     * @throws ConfigurationException if no base URL is configured
+     */
+    public WebSubPublisher(@NonNull WebSubPublisherConfiguration configuration,
+                           @Client(id = WebSubPublisherConfigurationProperties.CLIENT_ID) HttpClient httpClient,
+                           @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
+        if (StringUtils.isEmpty(configuration.getBaseUrl())) {
+            throw new ConfigurationException(WebSubPublisherConfigurationProperties.PREFIX + ".base-url is required to resolve the topics of the feeds notified to the hubs " + configuration.getHubs());
+        }
+        this.hubs = List.copyOf(configuration.getHubs());
+        String configuredBaseUrl = configuration.getBaseUrl();
+        this.baseUrl = configuredBaseUrl.endsWith("/") ? configuredBaseUrl.substring(0, configuredBaseUrl.length() - 1) : configuredBaseUrl;
+        this.debounce = configuration.getDebounce();
+        this.maxAttempts = configuration.getMaxAttempts();
+        this.retryDelay = configuration.getRetryDelay();
+        this.timeout = configuration.getTimeout();
+        this.httpClient = httpClient;
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     *
+     * @return The URLs of the hubs, which feeds link to
+     */
+    @NonNull
+    public List<String> getHubs() {
+        return hubs;
+    }
+
+    /**
+     *
+     * @param path The path of a feed, e.g. {@code /feed}
+     * @return The URL of the feed, its topic, resolved against the configured base URL
+     */
+    @NonNull
+    public String topic(@NonNull String path) {
+        return path.startsWith("/") ? baseUrl + path : baseUrl + "/" + path;
+    }
+
+    /**
+     * Notifies the hubs that a feed changed once the debounce window closes. A feed which changes again within the window is notified once.
+     * Call it when the content of the feed changes, e.g. once a new item is saved.
+     * @param topic The URL of the feed, e.g. {@code topic("/feed")}
+     */
+    public void publish(@NonNull String topic) {
+        synchronized (pending) {
+            if (!pending.add(topic) || pending.size() > 1) {
+                return;
+            }
+        }
+        schedule(this::flush, debounce);
+    }
+
+    /**
+     *
+     * @return The number of notifications accepted by a hub
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /**
+     *
+     * @return The number of notifications abandoned after the maximum number of attempts
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Stops notifying the hubs. Pending notifications are dropped.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+    }
+
+    // every hub receives one request for the topics collected within the window
+    private void flush() {
+        List<String> topics;
+        synchronized (pending) {
+            topics = List.copyOf(pending);
+            pending.clear();
+        }
+        StringBuilder body = new StringBuilder(PUBLISH);
+        for (String topic : topics) {
+            body.append(HUB_URL).append(URLEncoder.encode(topic, StandardCharsets.UTF_8));
+        }
+        for (String hub : hubs) {
+            send(hub, body.toString(), 1);
+        }
+    }
+
+    private void send(@NonNull String hub, @NonNull String body, int attempt) {
+        if (closed) {
+            return;
+        }
+        Mono.from(httpClient.exchange(HttpRequest.POST(hub, body).contentType(MediaType.APPLICATION_FORM_URLENCODED)))
+                .timeout(timeout)
+                .subscribe(response -> publishedCount.increment(), e -> retry(hub, body, attempt, e));
+    }
+
+    // a hub which fails, answers 429 Too Many Requests or does not answer is retried, a hub which rejects the notification is not
+    private void retry(@NonNull String hub, @NonNull String body, int attempt, @NonNull Throwable e) {
+        boolean retryable = !(e instanceof HttpClientResponseException responseException)
+                || responseException.getStatus().getCode() >= 500
+                || responseException.getStatus() == HttpStatus.TOO_MANY_REQUESTS;
+        if (retryable && attempt < maxAttempts) {
+            schedule(() -> send(hub, body, attempt + 1), retryDelay.multipliedBy(1L << Math.min(attempt - 1, MAX_BACKOFF_SHIFT)));
+            return;
+        }
+        failedCount.increment();
+        if (LOG.isErrorEnabled()) {
+            LOG.error("could not notify the WebSub hub {} after {} attempts: {}", hub, attempt, e.toString());
+        }
+    }
+
+    // notifications scheduled after the publisher or the scheduler is closed are dropped
+    private void schedule(@NonNull Runnable task, @NonNull Duration delay) {
+        if (closed) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(delay, task);
+        } catch (RejectedExecutionException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("WebSub publisher closed, dropping a notification");
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.websub;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Defines interface for Configuration options of {@link WebSubPublisher}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface WebSubPublisherConfiguration {
+
+    /**
+     *
+     * @return The URLs of the hubs which are notified of new versions of feeds.
+     */
+    @NonNull
+    List<String> getHubs();
+
+    /**
+     *
+     * @return The URL of the application, e.g. {@code https://example.org}, against which the topics of feeds are resolved, or {@code null} if it is not configured.
+     */
+    @Nullable
+    String getBaseUrl();
+
+    /**
+     *
+     * @return How long the changes of a feed are collected before its hubs are notified.
+     */
+    @NonNull
+    Duration getDebounce();
+
+    /**
+     *
+     * @return The maximum number of attempts to notify a hub.
+     */
+    int getMaxAttempts();
+
+    /**
+     *
+     * @return The delay before the first retry, doubled for every further retry.
+     */
+    @NonNull
+    Duration getRetryDelay();
+
+    /**
+     *
+     * @return How long a hub may take to answer a notification.
+     */
+    @NonNull
+    Duration getTimeout();
+}
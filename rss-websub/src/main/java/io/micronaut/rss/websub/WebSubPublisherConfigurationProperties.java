@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.websub;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.validation.constraints.Positive;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link WebSubPublisher}.
+ *
+ * The hubs are notified with the HTTP client registered with the service id {@value #CLIENT_ID}. Configure it with {@code micronaut.http.services.websub.*}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@ConfigurationProperties(WebSubPublisherConfigurationProperties.PREFIX)
+public class WebSubPublisherConfigurationProperties implements WebSubPublisherConfiguration {
+
+    public static final String PREFIX = "micronaut.rss.websub";
+
+    /**
+     * The service id of the HTTP client used to notify the hubs.
+     */
+    public static final String CLIENT_ID = "websub";
+
+    /**
+     * The default time during which the changes of a feed are collected.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofSeconds(1);
+
+    /**
+     * The default maximum number of attempts to notify a hub.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default delay before the first retry.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(1);
+
+    /**
+     * The default time a hub may take to answer a notification.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    @NonNull
+    private List<String> hubs = Collections.emptyList();
+
+    @Nullable
+    private String baseUrl;
+
+    @NonNull
+    private Duration debounce = DEFAULT_DEBOUNCE;
+
+    @Positive
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    @NonNull
+    private Duration retryDelay = DEFAULT_RETRY_DELAY;
+
+    @NonNull
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    @Override
+    @NonNull
+    public List<String> getHubs() {
+        return hubs;
+    }
+
+    /**
+     * The URLs of the WebSub hubs which are notified of new versions of feeds. Setting it enables the {@link WebSubPublisher}.
+     * @param hubs The URLs of the hubs
+     */
+    public void setHubs(@NonNull List<String> hubs) {
+        this.hubs = hubs;
+    }
+
+    @Override
+    @Nullable
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * The URL of the application, e.g. {@code https://example.org}, against which the topics of feeds, the URLs notified to the hubs and linked as {@code self}, are resolved. Required when hubs are configured.
+     * @param baseUrl The base URL
+     */
+    public void setBaseUrl(@Nullable String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    @NonNull
+    public Duration getDebounce() {
+        return debounce;
+    }
+
+    /**
+     * How long the changes of feeds are collected before their hubs are notified once, e.g. {@code 500ms}. Default value 1 second.
+     * @param debounce The debounce window
+     */
+    public void setDebounce(@NonNull Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * The maximum number of attempts to notify a hub which fails or does not answer. Default value ({@value #DEFAULT_MAX_ATTEMPTS}).
+     * @param maxAttempts The maximum number of attempts
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @NonNull
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * The delay before the first retry, doubled for every further retry. Default value 1 second.
+     * @param retryDelay The delay before the first retry
+     */
+    public void setRetryDelay(@NonNull Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    @Override
+    @NonNull
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * How long a hub may take to answer a notification before it is retried. Default value 10 seconds.
+     * @param timeout The timeout
+     */
+    public void setTimeout(@NonNull Duration timeout) {
+        this.timeout = timeout;
+    }
+}
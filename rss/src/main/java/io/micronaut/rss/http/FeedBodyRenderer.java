@@ -0,0 +1,263 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.RssFeedRenderer;
+import io.micronaut.rss.cache.CancellableOutputStream;
+import io.micronaut.rss.cache.FeedBodies;
+import io.micronaut.rss.cache.FeedTruncationCounter;
+import io.micronaut.rss.cache.GzipFragmentCache;
+import io.micronaut.rss.cache.GzipFragmentOutputStream;
+import io.micronaut.rss.cache.LimitedOutputStream;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Renders the feeds served by {@link FeedController} into response bodies.
+ *
+ * When the server runtime provides a {@link ByteBufferFactory}, e.g. Netty's pooled allocator, feeds are rendered straight into a buffer of the runtime, sized after the previous response.
+ * Otherwise, or for {@code HEAD} requests, the response body is a {@link Writable}.
+ * When a {@link GzipFragmentCache} is configured, requests which accept gzip are answered with a gzip stream assembled from the compressed items of the feed.
+ *
+ * Every render stops at the next item boundary once the feed reaches the configured maximum number of items or bytes.
+ * Renders into a buffer also stop once the response is cancelled. A {@link Writable} is rendered when the server writes the response, after the response publisher has completed,
+ * so a client which disconnects by then no longer cancels it.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(beans = RssFeedRenderer.class)
+@Singleton
+public class FeedBodyRenderer {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final RssFeedRenderer rssFeedRenderer;
+
+    @Nullable
+    private final ByteBufferFactory<?, ?> byteBufferFactory;
+
+    @Nullable
+    private final GzipFragmentCache gzipFragmentCache;
+
+    @Nullable
+    private final FeedTruncationCounter feedTruncationCounter;
+
+    private final int maxItems;
+
+    private final long maxBytes;
+
+    private volatile int bufferSizeHint = DEFAULT_BUFFER_SIZE;
+
+    /**
+     *
+     * @param rssFeedRenderer Provides a bean to render {@link io.micronaut.rss.RssChannel}
+     * @param configuration Feed Controller configuration
+     * @param byteBufferFactory The buffer factory of the server runtime or {@code null} if the runtime provides none
+     * @param gzipFragmentCache The cache of compressed items or {@code null} if responses are not compressed incrementally
+     * @param feedTruncationCounter Counts the feeds truncated to the maximum number of items or bytes or {@code null}
+     */
+    public FeedBodyRenderer(RssFeedRenderer rssFeedRenderer,
+                            FeedControllerConfiguration configuration,
+                            @Nullable ByteBufferFactory<?, ?> byteBufferFactory,
+                            @Nullable GzipFragmentCache gzipFragmentCache,
+                            @Nullable FeedTruncationCounter feedTruncationCounter) {
+        this.rssFeedRenderer = rssFeedRenderer;
+        this.byteBufferFactory = configuration.isDirectBuffer() ? byteBufferFactory : null;
+        this.gzipFragmentCache = gzipFragmentCache;
+        this.feedTruncationCounter = feedTruncationCounter;
+        this.maxItems = configuration.getMaxItems() != null ? configuration.getMaxItems() : Integer.MAX_VALUE;
+        this.maxBytes = configuration.getMaxBytes() != null ? configuration.getMaxBytes() : Long.MAX_VALUE;
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @param rssChannel The feed
+     * @param cancelled Whether the response is cancelled, which is not checked by a {@link Writable} body
+     * @return A response whose body is a buffer of the server runtime or, for {@code HEAD} requests or without a buffer factory, a {@link Writable}
+     */
+    @NonNull
+    public MutableHttpResponse<?> render(@NonNull HttpRequest<?> request, @NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) {
+        if (byteBufferFactory == null || request.getMethod() == HttpMethod.HEAD) {
+            return HttpResponse.ok(writable(rssChannel));
+        }
+        ByteBuffer<?> buffer = byteBufferFactory.buffer(bufferSizeHint);
+        try {
+            OutputStream outputStream = buffer.toOutputStream();
+            render(outputStream, rssChannel, cancelled);
+            outputStream.flush();
+        } catch (IOException e) {
+            release(buffer);
+            FeedBodies.logRenderFailure(e);
+            return HttpResponse.serverError();
+        } catch (RuntimeException e) {
+            release(buffer);
+            throw e;
+        }
+        int size = buffer.readableBytes();
+        // leave some headroom so that a slightly bigger feed does not grow, and therefore copy, the next buffer
+        bufferSizeHint = Math.max(DEFAULT_BUFFER_SIZE, size + (size >> 3));
+        return HttpResponse.ok(buffer);
+    }
+
+    /**
+     * The feed is limited to the maximum number of items or bytes but not cancelled, since it is rendered when the response is written, after the response publisher has completed.
+     *
+     * @param rssChannel The feed
+     * @return A {@link Writable} which renders the feed when the response is written
+     */
+    @NonNull
+    public Writable writable(@NonNull RssChannel rssChannel) {
+        return new RssChannelWritable(rssFeedRenderer, rssChannel, maxItems == Integer.MAX_VALUE && maxBytes == Long.MAX_VALUE ? null : outputStream -> guarded(outputStream, () -> false));
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @return Whether the response to the request is compressed incrementally
+     */
+    public boolean compresses(@NonNull HttpRequest<?> request) {
+        return gzipFragmentCache != null && GzipFragmentOutputStream.acceptsGzip(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    /**
+     * Items are compressed once and their compressed bytes reused by later responses, so the feed is rendered but only new items are compressed.
+     *
+     * @param rssChannel The feed
+     * @param cancelled Whether the response is cancelled
+     * @return A gzip encoded response
+     * @throws IllegalStateException if no {@link GzipFragmentCache} is configured
+     */
+    @NonNull
+    public MutableHttpResponse<?> renderGzip(@NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) {
+        if (gzipFragmentCache == null) {
+            throw new IllegalStateException("no gzip fragment cache is configured");
+        }
+        return FeedBodies.gzip(gzipFragmentCache, outputStream -> render(outputStream, rssChannel, cancelled));
+    }
+
+    /**
+     *
+     * @param rssChannel The feed
+     * @param cancelled Whether the render is cancelled
+     * @return The rendered feed
+     * @throws IOException if the render fails or is cancelled
+     */
+    @NonNull
+    public byte[] renderToByteArray(@NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bufferSizeHint);
+        render(outputStream, rssChannel, cancelled);
+        int size = outputStream.size();
+        bufferSizeHint = Math.max(DEFAULT_BUFFER_SIZE, size + (size >> 3));
+        return outputStream.toByteArray();
+    }
+
+    /**
+     *
+     * @param outputStream The output stream
+     * @param rssChannel The feed
+     * @param cancelled Whether the render is cancelled
+     * @throws IOException if the render fails or is cancelled
+     */
+    public void render(@NonNull OutputStream outputStream, @NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) throws IOException {
+        rssFeedRenderer.render(guarded(outputStream, cancelled), rssChannel);
+    }
+
+    /**
+     * Feeds in the heap are sent as is, feeds in the off-heap and memory-mapped tiers are copied into a buffer of the runtime, which is direct on Netty.
+     *
+     * @param cached A cached rendered feed
+     * @return The response body
+     */
+    @NonNull
+    public Object cachedBody(@NonNull java.nio.ByteBuffer cached) {
+        return FeedBodies.cachedBody(cached, byteBufferFactory);
+    }
+
+    // at every item boundary, the renderer checks whether the response is cancelled and, if limited, whether the feed has reached the maximum number of items or bytes
+    @NonNull
+    private OutputStream guarded(@NonNull OutputStream outputStream, @NonNull BooleanSupplier cancelled) {
+        OutputStream cancellable = new CancellableOutputStream(outputStream, cancelled);
+        if (maxItems == Integer.MAX_VALUE && maxBytes == Long.MAX_VALUE) {
+            return cancellable;
+        }
+        return new LimitedOutputStream(cancellable, maxItems, maxBytes, feedTruncationCounter);
+    }
+
+    private static void release(@NonNull ByteBuffer<?> buffer) {
+        if (buffer instanceof ReferenceCounted referenceCounted) {
+            referenceCounted.release();
+        }
+    }
+
+    /**
+     * Writes UTF-8 responses through {@link RssFeedRenderer#render(OutputStream, RssChannel)}, which skips the character encoding of a {@link Writer}.
+     * When the feed is limited, writers and other charsets get the limited UTF-8 rendering decoded, since limits only apply to output streams.
+     */
+    private static final class RssChannelWritable implements Writable {
+        private final RssFeedRenderer rssFeedRenderer;
+        private final RssChannel rssChannel;
+        @Nullable
+        private final UnaryOperator<OutputStream> limit;
+
+        private RssChannelWritable(RssFeedRenderer rssFeedRenderer, RssChannel rssChannel, @Nullable UnaryOperator<OutputStream> limit) {
+            this.rssFeedRenderer = rssFeedRenderer;
+            this.rssChannel = rssChannel;
+            this.limit = limit;
+        }
+
+        @Override
+        public void writeTo(Writer out) throws IOException {
+            if (limit == null) {
+                rssFeedRenderer.render(out, rssChannel);
+                return;
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            rssFeedRenderer.render(limit.apply(outputStream), rssChannel);
+            out.write(outputStream.toString(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
+            if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+                rssFeedRenderer.render(limit == null ? outputStream : limit.apply(outputStream), rssChannel);
+            } else {
+                Writable.super.writeTo(outputStream, charset);
+            }
+        }
+    }
+}
@@ -17,26 +17,54 @@ package io.micronaut.rss.http;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.annotation.SingleResult;
 import io.micronaut.core.io.Writable;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
+import io.micronaut.rss.FeedQuery;
 import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.RssFeedBatchLoader;
 import io.micronaut.rss.RssFeedProvider;
 import io.micronaut.rss.RssFeedRenderer;
+import io.micronaut.rss.cache.FeedDeltaTracker;
+import io.micronaut.rss.cache.FeedFileStore;
+import io.micronaut.rss.cache.FeedHubs;
+import io.micronaut.rss.cache.GzipFragmentCache;
+import io.micronaut.rss.cache.RenderedFeedCache;
+import jakarta.inject.Inject;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  *
  * Micronaut {@link io.micronaut.http.annotation.Controller} which exposes an RSS 2.0 Feed.
  *
+ * Feeds are rendered by {@link FeedBodyRenderer}: when the server runtime provides a {@link ByteBufferFactory}, e.g. Netty's pooled allocator, straight into a buffer of the runtime, otherwise, or for {@code HEAD} requests, into a {@link Writable}.
+ * When a {@link GzipFragmentCache} is configured, requests which accept gzip are answered with a gzip stream assembled from the compressed items of the feed.
+ *
+ * {@link FeedResponder} caches the rendered feeds in a {@link RenderedFeedCache} or a {@link FeedFileStore}, answers with deltas when a {@link FeedDeltaTracker} is configured,
+ * and with the last known good feed when a provider fails.
+ *
+ * When a {@link RssFeedBatchLoader} is configured, concurrent requests for feeds identified by an id are fetched in batches.
+ *
+ * The {@code limit}, {@code since}, {@code category} and {@code sort} query parameters are passed to the provider as a {@link FeedQuery}. Queried feeds are rendered for every request, and are neither cached nor paged.
+ *
+ * When a page size is configured, {@link FeedPager} archives feeds as defined by RFC 5005 and, when {@link FeedHubs} are configured, links subscription documents to them.
+ *
  * @author Sergio del Amo
  * @since 1.0
  */
@@ -44,53 +72,270 @@ import java.io.Serializable;
 @Controller("${" + FeedControllerConfigurationProperties.PREFIX + ".path:/feed}")
 @Requires(property = FeedControllerConfigurationProperties.PREFIX + ".enabled", notEquals = "false")
 public class FeedController {
+    private static final String KEY = FeedPager.KEY;
+    private static final String LIMIT = "limit";
+    private static final String SINCE = "since";
+    private static final String CATEGORY = "category";
+    private static final String SORT = "sort";
+    private static final String NEWEST = "newest";
+    private static final String OLDEST = "oldest";
 
     private final RssFeedProvider rssFeedProvider;
-    private final RssFeedRenderer rssFeedRenderer;
+
+    private final FeedResponder feedResponder;
+
+    @Nullable
+    private final RssFeedBatchLoader rssFeedBatchLoader;
+
+    @Nullable
+    private final FeedRouter feedRouter;
+
+    private final FeedProviderGuard guard;
+
+    private final int maxLimit;
+
+    /**
+     *
+     * @param rssFeedProvider A bean which returns RSS 2.0 feeds.
+     * @param configuration Feed Controller configuration
+     * @param feedResponder Answers with the fetched feeds
+     * @param rssFeedBatchLoader Fetches concurrently requested feeds in batches or {@code null} if feeds are fetched one by one
+     * @param feedRouter Routes feeds to named providers or {@code null} if every feed is fetched from the default provider
+     */
+    @Inject
+    public FeedController(RssFeedProvider rssFeedProvider,
+                          FeedControllerConfiguration configuration,
+                          FeedResponder feedResponder,
+                          @Nullable RssFeedBatchLoader rssFeedBatchLoader,
+                          @Nullable FeedRouter feedRouter) {
+        this.rssFeedProvider = rssFeedProvider;
+        this.feedResponder = feedResponder;
+        this.rssFeedBatchLoader = rssFeedBatchLoader;
+        this.feedRouter = feedRouter;
+        this.guard = new FeedProviderGuard(null, configuration.getTimeout(), configuration.getMaxConcurrency());
+        this.maxLimit = configuration.getMaxLimit();
+    }
 
     /**
      *
      * @param rssFeedProvider A bean which returns RSS 2.0 feeds.
      * @param rssFeedRenderer Provides a bean to render {@link io.micronaut.rss.RssChannel}
+     * @deprecated Use {@link #FeedController(RssFeedProvider, FeedControllerConfiguration, FeedResponder, RssFeedBatchLoader, FeedRouter)} instead.
      */
+    @Deprecated
     public FeedController(RssFeedProvider rssFeedProvider,
                           RssFeedRenderer rssFeedRenderer) {
+        FeedControllerConfiguration configuration = new FeedControllerConfigurationProperties();
         this.rssFeedProvider = rssFeedProvider;
-        this.rssFeedRenderer = rssFeedRenderer;
+        this.feedResponder = new FeedResponder(new FeedBodyRenderer(rssFeedRenderer, configuration, null, null, null),
+                new FeedPager(configuration, null),
+                null,
+                null,
+                null,
+                null,
+                null);
+        this.rssFeedBatchLoader = null;
+        this.feedRouter = null;
+        this.guard = FeedProviderGuard.NONE;
+        this.maxLimit = configuration.getMaxLimit();
+    }
+
+    /**
+     *
+     * @return Return the default RSS 2.0 provided by {@link io.micronaut.rss.RssFeedProvider}, rendered by {@link io.micronaut.rss.RssFeedRenderer} when the response is written.
+     * @deprecated Use {@link #index(HttpRequest)} instead.
+     */
+    @Deprecated
+    @SingleResult
+    public Publisher<MutableHttpResponse<Writable>> index() {
+        return feedResponder.respondWithWritable(guard.fetch(rssFeedProvider::fetch));
     }
 
     /**
      *
+     * @param id RSS guid
+     * @return Return the RSS 2.0 identified by the id provided by {@link io.micronaut.rss.RssFeedProvider}, rendered by {@link io.micronaut.rss.RssFeedRenderer} when the response is written.
+     * @deprecated Use {@link #find(HttpRequest, Serializable)} instead.
+     */
+    @Deprecated
+    @SingleResult
+    public Publisher<MutableHttpResponse<Writable>> find(Serializable id) {
+        return feedResponder.respondWithWritable(fetchById(id, FeedQuery.ALL));
+    }
+
+    /**
+     *
+     * @param request HTTP Request
      * @return Return the default RSS 2.0 provided by {@link io.micronaut.rss.RssFeedProvider} and rendered by {@link io.micronaut.rss.RssFeedRenderer}.
      */
     @Produces(MediaType.APPLICATION_XML)
     @Get
     @SingleResult
-    public Publisher<MutableHttpResponse<Writable>> index() {
-        return createResponse(rssFeedProvider.fetch());
+    public Publisher<MutableHttpResponse<?>> index(HttpRequest<?> request) {
+        return createQueryResponse(request, KEY, query -> guard.fetch(() -> rssFeedProvider.fetch(query)));
     }
 
     /**
      *
+     * @param request HTTP Request
      * @param id RSS guid
      * @return Return the RSS 2.0 identified by the path parameter provided by {@link io.micronaut.rss.RssFeedProvider} and rendered by {@link io.micronaut.rss.RssFeedRenderer}.
      */
     @Produces(MediaType.APPLICATION_XML)
     @Get("/{id}")
     @SingleResult
-    public Publisher<MutableHttpResponse<Writable>> find(Serializable id) {
-        return createResponse(rssFeedProvider.fetchById(id));
+    public Publisher<MutableHttpResponse<?>> find(HttpRequest<?> request, Serializable id) {
+        Optional<FeedRoute> route = findByPrefix(id);
+        if (route.isPresent()) {
+            return createRouteResponse(request, route.get(), localId(route.get(), id));
+        }
+        return createQueryResponse(request, KEY + "/" + id, query -> fetchById(id, query));
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @param route The name of a route
+     * @param id RSS guid
+     * @return Return the RSS 2.0 identified by the path parameter provided by the {@link io.micronaut.rss.RssFeedProvider} of the route and rendered by {@link io.micronaut.rss.RssFeedRenderer}.
+     */
+    @Produces(MediaType.APPLICATION_XML)
+    @Get("/{route}/{id}")
+    @SingleResult
+    public Publisher<MutableHttpResponse<?>> findInRoute(HttpRequest<?> request, String route, Serializable id) {
+        return findByName(route)
+                .map(feedRoute -> createRouteResponse(request, feedRoute, id))
+                .orElseGet(() -> Mono.just(HttpResponse.notFound()));
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @param page The archive page number, starting with the oldest page at 1
+     * @return Return an archive page of the default RSS 2.0 provided by {@link io.micronaut.rss.RssFeedProvider} and rendered by {@link io.micronaut.rss.RssFeedRenderer}.
+     */
+    @Produces(MediaType.APPLICATION_XML)
+    @Get("/archive/{page}")
+    @SingleResult
+    public Publisher<MutableHttpResponse<?>> archive(HttpRequest<?> request, int page) {
+        return feedResponder.respondWithArchive(request, KEY, page, guard.fetch(rssFeedProvider::fetch));
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @param id RSS guid
+     * @param page The archive page number, starting with the oldest page at 1
+     * @return Return an archive page of the RSS 2.0 identified by the path parameter provided by {@link io.micronaut.rss.RssFeedProvider} and rendered by {@link io.micronaut.rss.RssFeedRenderer}.
+     */
+    @Produces(MediaType.APPLICATION_XML)
+    @Get("/{id}/archive/{page}")
+    @SingleResult
+    public Publisher<MutableHttpResponse<?>> findArchive(HttpRequest<?> request, Serializable id, int page) {
+        Optional<FeedRoute> route = findByPrefix(id);
+        if (route.isPresent()) {
+            return createRouteArchiveResponse(request, route.get(), localId(route.get(), id), page);
+        }
+        return feedResponder.respondWithArchive(request, KEY + "/" + id, page, fetchById(id, FeedQuery.ALL));
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @param route The name of a route
+     * @param id RSS guid
+     * @param page The archive page number, starting with the oldest page at 1
+     * @return Return an archive page of the RSS 2.0 identified by the path parameter provided by the {@link io.micronaut.rss.RssFeedProvider} of the route and rendered by {@link io.micronaut.rss.RssFeedRenderer}.
+     */
+    @Produces(MediaType.APPLICATION_XML)
+    @Get("/{route}/{id}/archive/{page}")
+    @SingleResult
+    public Publisher<MutableHttpResponse<?>> findArchiveInRoute(HttpRequest<?> request, String route, Serializable id, int page) {
+        return findByName(route)
+                .map(feedRoute -> createRouteArchiveResponse(request, feedRoute, id, page))
+                .orElseGet(() -> Mono.just(HttpResponse.notFound()));
+    }
+
+    @NonNull
+    private Optional<FeedRoute> findByName(@NonNull String route) {
+        return feedRouter == null ? Optional.empty() : feedRouter.findByName(route);
+    }
+
+    @NonNull
+    private Optional<FeedRoute> findByPrefix(@NonNull Serializable id) {
+        return feedRouter == null ? Optional.empty() : feedRouter.findByPrefix(id.toString());
+    }
+
+    @NonNull
+    private static String localId(@NonNull FeedRoute route, @NonNull Serializable id) {
+        return id.toString().substring(Objects.requireNonNull(route.getPrefix()).length());
+    }
+
+    // a feed routed by the prefix of its id is cached and linked under the path segment of its route
+    @NonNull
+    private Publisher<MutableHttpResponse<?>> createRouteResponse(@NonNull HttpRequest<?> request, @NonNull FeedRoute route, @NonNull Serializable id) {
+        return createQueryResponse(request, KEY + "/" + route.getName() + "/" + id, query -> route.fetchById(id, query));
+    }
+
+    @NonNull
+    private Publisher<MutableHttpResponse<?>> createRouteArchiveResponse(@NonNull HttpRequest<?> request, @NonNull FeedRoute route, @NonNull Serializable id, int page) {
+        return feedResponder.respondWithArchive(request, KEY + "/" + route.getName() + "/" + id, page, route.fetchById(id, FeedQuery.ALL));
+    }
+
+    // whole feeds are fetched in batches when a batch loader is configured, queries are pushed down to the provider
+    @NonNull
+    private Publisher<RssChannel> fetchById(@NonNull Serializable id, @NonNull FeedQuery query) {
+        return guard.fetch(() -> rssFeedBatchLoader != null && query.isAll() ? rssFeedBatchLoader.load(id) : rssFeedProvider.fetchById(id, query));
     }
 
+    // queried feeds bypass the caches, the delta tracker and paging
     @NonNull
-    private Publisher<MutableHttpResponse<Writable>> createResponse(@NonNull Publisher<RssChannel> rssChannelPublisher) {
-        return Mono.from(rssChannelPublisher)
-                .map(rssChannel -> HttpResponse.ok(render(rssChannel)))
-                .defaultIfEmpty(HttpResponse.notFound());
+    private Publisher<MutableHttpResponse<?>> createQueryResponse(@NonNull HttpRequest<?> request,
+                                                                  @NonNull String key,
+                                                                  @NonNull Function<FeedQuery, Publisher<RssChannel>> fetch) {
+        FeedQuery query;
+        try {
+            query = feedQuery(request);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Mono.just(HttpResponse.badRequest());
+        }
+        if (query.isAll()) {
+            return feedResponder.respond(request, key, fetch.apply(query));
+        }
+        return feedResponder.respondToQuery(request, fetch.apply(query));
     }
 
+    // the limit is lowered to the configured maximum
     @NonNull
-    private Writable render(@NonNull RssChannel rssChannel) {
-        return (writer) -> rssFeedRenderer.render(writer, rssChannel);
+    private FeedQuery feedQuery(@NonNull HttpRequest<?> request) {
+        String limit = request.getParameters().get(LIMIT);
+        String since = request.getParameters().get(SINCE);
+        String category = request.getParameters().get(CATEGORY);
+        String sort = request.getParameters().get(SORT);
+        if (limit == null && since == null && category == null && sort == null) {
+            return FeedQuery.ALL;
+        }
+        FeedQuery.Builder builder = FeedQuery.builder();
+        if (limit != null) {
+            int requested = Integer.parseInt(limit);
+            if (requested < 1) {
+                throw new IllegalArgumentException("limit must be positive");
+            }
+            builder.limit(Math.min(requested, maxLimit));
+        }
+        if (since != null) {
+            builder.since(ZonedDateTime.parse(since));
+        }
+        if (category != null) {
+            builder.category(category);
+        }
+        if (sort != null) {
+            builder.sort(switch (sort) {
+                case NEWEST -> FeedQuery.Sort.NEWEST_FIRST;
+                case OLDEST -> FeedQuery.Sort.OLDEST_FIRST;
+                default -> throw new IllegalArgumentException("unknown sort " + sort);
+            });
+        }
+        return builder.build();
     }
 }
@@ -15,8 +15,11 @@
  */
 package io.micronaut.rss.http;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.Toggleable;
 
+import java.time.Duration;
+
 /**
  * Defines interface for Configuration options of {@link FeedController}.
  *
@@ -30,4 +33,58 @@ public interface FeedControllerConfiguration extends Toggleable  {
      * @return the path where {@link FeedController} listens.
      */
     String getPath();
+
+    /**
+     *
+     * @return Whether feeds are rendered into a pooled buffer of the server runtime, e.g. a Netty {@code ByteBuf}, which is handed to the channel without further copies.
+     */
+    boolean isDirectBuffer();
+
+    /**
+     *
+     * @return The number of items of the pages of an archived feed, as defined by RFC 5005, or {@code null} if feeds are not paged.
+     */
+    @Nullable
+    Integer getPageSize();
+
+    /**
+     *
+     * @return The URL of the application, e.g. {@code https://example.org}, against which the links between archive pages are resolved, or {@code null} if it is not configured.
+     */
+    @Nullable
+    String getBaseUrl();
+
+    /**
+     *
+     * @return The maximum number of items a client may request with the {@code limit} query parameter.
+     */
+    int getMaxLimit();
+
+    /**
+     *
+     * @return How long the default provider may take to fetch a feed, or {@code null} if it is not limited.
+     */
+    @Nullable
+    Duration getTimeout();
+
+    /**
+     *
+     * @return The maximum number of concurrent calls to the default provider, or {@code null} if it is not limited.
+     */
+    @Nullable
+    Integer getMaxConcurrency();
+
+    /**
+     *
+     * @return The maximum number of items of a rendered feed, or {@code null} if it is not limited.
+     */
+    @Nullable
+    Integer getMaxItems();
+
+    /**
+     *
+     * @return The number of bytes of a rendered feed after which no further item is rendered, or {@code null} if it is not limited. The size is checked between items, so a feed exceeds it by up to one item.
+     */
+    @Nullable
+    Long getMaxBytes();
 }
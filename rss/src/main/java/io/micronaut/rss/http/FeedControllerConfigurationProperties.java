@@ -16,15 +16,20 @@
 package io.micronaut.rss.http;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+import jakarta.validation.constraints.Positive;
 import io.micronaut.rss.RssConfiguration;
 
+import java.time.Duration;
+
 /**
  * {@link io.micronaut.context.annotation.ConfigurationProperties} for {@link FeedController}.
  *
  * @author Sergio del Amo
  * @since 1.0
  */
-@ConfigurationProperties(RssConfiguration.PREFIX)
+@ConfigurationProperties(FeedControllerConfigurationProperties.PREFIX)
 public class FeedControllerConfigurationProperties implements FeedControllerConfiguration {
 
     public static final String PREFIX = RssConfiguration.PREFIX + ".feed";
@@ -41,10 +46,49 @@ public class FeedControllerConfigurationProperties implements FeedControllerConf
     @SuppressWarnings("WeakerAccess")
     public static final String DEFAULT_PATH = "/feed";
 
+    /**
+     * The default direct buffer value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_DIRECT_BUFFER = true;
+
+    /**
+     * The default maximum number of items a client may request.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_LIMIT = 100;
+
     private boolean enabled = DEFAULT_ENABLED;
 
     private String path = DEFAULT_PATH;
 
+    private boolean directBuffer = DEFAULT_DIRECT_BUFFER;
+
+    @Nullable
+    @Positive
+    private Integer pageSize;
+
+    @Nullable
+    private String baseUrl;
+
+    @Positive
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+
+    @Nullable
+    private Duration timeout;
+
+    @Nullable
+    @Positive
+    private Integer maxConcurrency;
+
+    @Nullable
+    @Positive
+    private Integer maxItems;
+
+    @Nullable
+    @Positive
+    private Long maxBytes;
+
     @Override
     public boolean isEnabled() {
         return enabled;
@@ -74,4 +118,114 @@ public class FeedControllerConfigurationProperties implements FeedControllerConf
     public String getPath() {
         return this.path;
     }
+
+    @Override
+    public boolean isDirectBuffer() {
+        return directBuffer;
+    }
+
+    /**
+     * Whether {@link io.micronaut.rss.http.FeedController} renders feeds into a pooled buffer of the server runtime instead of returning a {@link io.micronaut.core.io.Writable}. Ignored when the runtime provides no {@link io.micronaut.core.io.buffer.ByteBufferFactory}. Default value ({@value #DEFAULT_DIRECT_BUFFER}).
+     * @param directBuffer direct buffer flag
+     */
+    public void setDirectBuffer(boolean directBuffer) {
+        this.directBuffer = directBuffer;
+    }
+
+    @Override
+    @Nullable
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * The number of items of the archive pages of {@link io.micronaut.rss.http.FeedController}. When set, feeds are split into immutable archive pages, linked with {@code atom:link} elements as defined by RFC 5005, and the subscription document only contains the newest items. Default value null, feeds are not paged.
+     * @param pageSize The number of items of an archive page
+     */
+    public void setPageSize(@Nullable Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    @Nullable
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * The URL of the application, e.g. {@code https://example.org}, against which the links between the archive pages of {@link io.micronaut.rss.http.FeedController} are resolved. The links are cached and stored with the pages, so they are not resolved against the {@code Host} header of a request. Required when {@code page-size} is set. Default value null.
+     * @param baseUrl The base URL
+     */
+    public void setBaseUrl(@Nullable String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * The maximum number of items a client may request from {@link io.micronaut.rss.http.FeedController} with the {@code limit} query parameter. Greater limits are lowered to it. Default value ({@value #DEFAULT_MAX_LIMIT}).
+     * @param maxLimit The maximum number of items of a query
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * How long the default {@link io.micronaut.rss.RssFeedProvider} may take to fetch a feed, e.g. {@code 2s}. Slower fetches are answered with the last known good feed, if any, or else with {@code 504 Gateway Timeout}. Default value null, fetches are not limited.
+     * @param timeout The timeout
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    @Nullable
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The maximum number of concurrent calls to the default {@link io.micronaut.rss.RssFeedProvider}. Further requests are answered with the last known good feed, if any, or else with {@code 503 Service Unavailable}, instead of queueing up behind a slow backend. Default value null, calls are not limited.
+     * @param maxConcurrency The maximum number of concurrent calls
+     */
+    public void setMaxConcurrency(@Nullable Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    @Nullable
+    public Integer getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * The maximum number of items of a feed rendered by {@link io.micronaut.rss.http.FeedController}, which guards against providers returning far more items than intended. Further items are left out. Unlike {@code max-limit}, it applies to every feed, queried or not. Default value null, the number of items is not limited.
+     * @param maxItems The maximum number of items of a feed
+     */
+    public void setMaxItems(@Nullable Integer maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    @Nullable
+    public Long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * The size, e.g. {@code 4MB}, after which {@link io.micronaut.rss.http.FeedController} renders no further item of a feed. The item which crosses it is kept and the document is completed. Default value null, the size is not limited.
+     * @param maxBytes The maximum size in bytes
+     */
+    public void setMaxBytes(@Nullable @ReadableBytes Long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
 }
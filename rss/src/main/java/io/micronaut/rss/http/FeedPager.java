@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.rss.AtomLink;
+import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.RssItem;
+import io.micronaut.rss.cache.FeedHubs;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Splits the feeds served by {@link FeedController} into a subscription document and archive pages, as defined by RFC 5005, and links subscription documents to the {@link FeedHubs}
+ * and to their topic, resolved against the base URL of the publisher.
+ *
+ * Items are expected newest first. The oldest items are split into archive pages of the configured page size, numbered from the oldest, so that the items of an archive page never change.
+ * The links between archive pages are resolved against the configured base URL, never against the {@code Host} header of a request, since the pages are cached, stored and served as immutable.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Context
+public class FeedPager {
+    static final String KEY = "rss";
+    static final String ARCHIVE = "/archive/";
+
+    @Nullable
+    private final String baseUrl;
+
+    @Nullable
+    private final FeedHubs feedHubs;
+
+    @Nullable
+    private final String path;
+
+    private final int pageSize;
+
+    /**
+     *
+     * @param configuration Feed Controller configuration
+     * @param feedHubs The hubs subscription documents link to or {@code null} if feeds do not link to hubs
+     * @throws ConfigurationException if feeds are paged and no base URL is configured
+     */
+    public FeedPager(FeedControllerConfiguration configuration,
+                     @Nullable FeedHubs feedHubs) {
+        String configuredBaseUrl = configuration.getBaseUrl();
+        if (configuration.getPageSize() != null && StringUtils.isEmpty(configuredBaseUrl)) {
+            throw new ConfigurationException(FeedControllerConfigurationProperties.PREFIX + ".base-url is required to resolve the links between the archive pages of feeds paged by " + FeedControllerConfigurationProperties.PREFIX + ".page-size");
+        }
+        this.baseUrl = configuredBaseUrl != null && configuredBaseUrl.endsWith("/") ? configuredBaseUrl.substring(0, configuredBaseUrl.length() - 1) : configuredBaseUrl;
+        this.feedHubs = feedHubs;
+        this.path = configuration.getPath();
+        this.pageSize = configuration.getPageSize() != null ? configuration.getPageSize() : 0;
+    }
+
+    /**
+     *
+     * @return Whether feeds are archived
+     */
+    public boolean isPaged() {
+        return pageSize > 0;
+    }
+
+    /**
+     * The subscription document keeps the items which do not fill an archive page, at least one, and links to the newest archive page, to the WebSub hubs and to its topic.
+     *
+     * @param key The key of the feed
+     * @param rssChannel The whole feed
+     * @return The subscription document
+     */
+    @NonNull
+    public RssChannel subscriptionDocument(@NonNull String key, @NonNull RssChannel rssChannel) {
+        if (pageSize == 0 && feedHubs == null) {
+            return rssChannel;
+        }
+        List<AtomLink> links = new ArrayList<>();
+        if (feedHubs != null) {
+            for (String hub : feedHubs.getHubs()) {
+                links.add(AtomLink.of(AtomLink.HUB, hub));
+            }
+            links.add(AtomLink.of(AtomLink.SELF, feedHubs.topic(feedPath(key))));
+        }
+        int size = rssChannel.snapshot().getItem().size();
+        int archives = archives(size);
+        if (archives > 0) {
+            links.add(AtomLink.of(AtomLink.PREV_ARCHIVE, archiveUrl(key, archives)));
+        }
+        if (links.isEmpty()) {
+            return rssChannel;
+        }
+        return rssChannel.withPage(0, size - archives * pageSize, links, false);
+    }
+
+    /**
+     * Archive pages do not link to the next archive page, which may not exist yet.
+     *
+     * @param key The key of the feed
+     * @param page The archive page number, starting with the oldest page at 1
+     * @param rssChannel The whole feed
+     * @return The archive page or an empty optional if the feed has no such page
+     */
+    @NonNull
+    public Optional<RssChannel> archive(@NonNull String key, int page, @NonNull RssChannel rssChannel) {
+        int size = rssChannel.snapshot().getItem().size();
+        if (page < 1 || page > archives(size)) {
+            return Optional.empty();
+        }
+        List<AtomLink> links = new ArrayList<>(2);
+        links.add(AtomLink.of(AtomLink.CURRENT, feedUrl(key)));
+        if (page > 1) {
+            links.add(AtomLink.of(AtomLink.PREV_ARCHIVE, archiveUrl(key, page - 1)));
+        }
+        return Optional.of(rssChannel.withPage(size - page * pageSize, size - (page - 1) * pageSize, links, true));
+    }
+
+    // the epoch milliseconds of the last build date, else the publication date, else the most recent item publication date
+    @NonNull
+    static OptionalLong version(@NonNull RssChannel rssChannel) {
+        Optional<ZonedDateTime> date = rssChannel.getLastBuildDate().or(rssChannel::getPubDate);
+        if (date.isEmpty()) {
+            date = rssChannel.getItem()
+                    .stream()
+                    .flatMap(List::stream)
+                    .map(RssItem::getPubDate)
+                    .flatMap(Optional::stream)
+                    .max(ZonedDateTime::compareTo);
+        }
+        return date.map(d -> OptionalLong.of(d.toInstant().toEpochMilli())).orElseGet(OptionalLong::empty);
+    }
+
+    // the number of full archive pages, leaving at least one item to the subscription document
+    private int archives(int size) {
+        return size == 0 || pageSize == 0 ? 0 : (size - 1) / pageSize;
+    }
+
+    // the URL of the feed with the given key, resolved against the configured base URL
+    @NonNull
+    private String feedUrl(@NonNull String key) {
+        return baseUrl + feedPath(key);
+    }
+
+    // the path of the feed with the given key, e.g. /feed/1 for rss/1
+    @NonNull
+    private String feedPath(@NonNull String key) {
+        return key.equals(KEY) ? path : path + key.substring(KEY.length());
+    }
+
+    @NonNull
+    private String archiveUrl(@NonNull String key, int page) {
+        return feedUrl(key) + ARCHIVE + page;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.RssChannel;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the calls of {@link FeedController} to a {@link io.micronaut.rss.RssFeedProvider}: they run on an optional scheduler, fail with a {@link java.util.concurrent.TimeoutException}
+ * when they exceed the timeout, and fail with a {@link RejectedExecutionException}, without calling the provider, when the maximum number of concurrent calls is reached.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class FeedProviderGuard {
+
+    /**
+     * A guard which does not bound the calls.
+     */
+    public static final FeedProviderGuard NONE = new FeedProviderGuard(null, null, null);
+
+    @Nullable
+    private final Scheduler scheduler;
+
+    @Nullable
+    private final Duration timeout;
+
+    @Nullable
+    private final Semaphore bulkhead;
+
+    /**
+     *
+     * @param scheduler The scheduler on which the provider is called or {@code null} to call it on the thread of the request
+     * @param timeout How long the provider may take to fetch a feed or {@code null}
+     * @param maxConcurrency The maximum number of concurrent calls to the provider or {@code null}
+     */
+    public FeedProviderGuard(@Nullable Scheduler scheduler,
+                             @Nullable Duration timeout,
+                             @Nullable Integer maxConcurrency) {
+        this.scheduler = scheduler;
+        this.timeout = timeout;
+        this.bulkhead = maxConcurrency != null ? new Semaphore(maxConcurrency) : null;
+    }
+
+    /**
+     * Calls the provider once the returned publisher is subscribed. A permit of the bulkhead is held until the call completes, fails or is cancelled. A call which times out keeps its permit until the provider finishes,
+     * so that a slow backend is not called again while it is still working on the calls which timed out.
+     * @param fetch Calls the provider
+     * @return The RSS channel returned by the provider
+     */
+    @NonNull
+    public Publisher<RssChannel> fetch(@NonNull Supplier<Publisher<RssChannel>> fetch) {
+        if (scheduler == null && timeout == null && bulkhead == null) {
+            return fetch.get();
+        }
+        Mono<RssChannel> rssChannel = Mono.defer(() -> Mono.from(fetch.get()));
+        if (scheduler != null) {
+            rssChannel = rssChannel.subscribeOn(scheduler);
+        }
+        if (bulkhead == null) {
+            return timeout == null ? rssChannel : rssChannel.timeout(timeout);
+        }
+        Mono<RssChannel> call = rssChannel.doFinally(signal -> bulkhead.release());
+        Mono<RssChannel> guarded = timeout == null ? call : Mono.defer(() -> {
+            // a timeout only stops waiting for the call, which keeps its permit until the provider finishes; a cancelled request cancels it
+            CompletableFuture<RssChannel> future = call.toFuture();
+            return Mono.fromFuture(future.copy())
+                    .timeout(timeout)
+                    .doOnCancel(() -> future.cancel(true));
+        });
+        return Mono.defer(() -> bulkhead.tryAcquire()
+                ? guarded
+                : Mono.error(new RejectedExecutionException("too many concurrent calls to the RSS feed provider")));
+    }
+}
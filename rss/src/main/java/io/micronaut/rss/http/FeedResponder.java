@@ -0,0 +1,426 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.server.types.files.SystemFile;
+import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.RssFeedRenderer;
+import io.micronaut.rss.RssItem;
+import io.micronaut.rss.RssItemSnapshot;
+import io.micronaut.rss.cache.FeedBodies;
+import io.micronaut.rss.cache.FeedDeltaTracker;
+import io.micronaut.rss.cache.FeedFileStore;
+import io.micronaut.rss.cache.LastKnownGoodFeedStore;
+import io.micronaut.rss.cache.RenderedFeedCache;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Answers the requests of {@link FeedController} with the fetched feeds.
+ *
+ * When a {@link RenderedFeedCache} or a {@link FeedFileStore} is configured, feeds with a last build date, a publication date or dated items are rendered once per date and served from the heap or from disk.
+ *
+ * When a {@link FeedDeltaTracker} is configured, responses carry an entity tag. A request with a current {@code If-None-Match} header is answered with {@code 304 Not Modified},
+ * and a request with {@code A-IM: feed} and the entity tag of a previous version with {@code 226 IM Used} and only the items added since that version, as defined by RFC 3229.
+ *
+ * When a {@link LastKnownGoodFeedStore} is configured, a provider which fails, times out or is saturated is answered with the last rendered version of the feed, as defined by RFC 7234.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(beans = RssFeedRenderer.class)
+@Singleton
+public class FeedResponder {
+    private static final Logger LOG = LoggerFactory.getLogger(FeedResponder.class);
+    private static final String EXTENSION = "xml";
+    private static final String ARCHIVE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String STALE_WARNING = "111 - \"Revalidation Failed\"";
+
+    private final FeedBodyRenderer feedBodyRenderer;
+
+    private final FeedPager feedPager;
+
+    @Nullable
+    private final FeedFileStore feedFileStore;
+
+    @Nullable
+    private final RenderedFeedCache renderedFeedCache;
+
+    @Nullable
+    private final FeedDeltaTracker feedDeltaTracker;
+
+    @Nullable
+    private final LastKnownGoodFeedStore lastKnownGoodFeedStore;
+
+    private final Map<String, RenderedFeedCache> routeCaches;
+
+    /**
+     *
+     * @param feedBodyRenderer Renders feeds into response bodies
+     * @param feedPager Splits feeds into a subscription document and archive pages
+     * @param feedFileStore The store of rendered feeds or {@code null} if feeds are not stored on disk
+     * @param renderedFeedCache The cache of rendered feeds or {@code null} if feeds are not cached in the heap
+     * @param feedDeltaTracker The tracker of feed versions or {@code null} if delta responses are not supported
+     * @param feedRouter Routes feeds to named providers, some of which have a cache of their own, or {@code null}
+     * @param lastKnownGoodFeedStore Keeps the last rendered feeds to serve when a provider fails or {@code null} if failures are not masked
+     */
+    public FeedResponder(FeedBodyRenderer feedBodyRenderer,
+                         FeedPager feedPager,
+                         @Nullable FeedFileStore feedFileStore,
+                         @Nullable RenderedFeedCache renderedFeedCache,
+                         @Nullable FeedDeltaTracker feedDeltaTracker,
+                         @Nullable FeedRouter feedRouter,
+                         @Nullable LastKnownGoodFeedStore lastKnownGoodFeedStore) {
+        this.feedBodyRenderer = feedBodyRenderer;
+        this.feedPager = feedPager;
+        this.feedFileStore = feedFileStore;
+        this.renderedFeedCache = renderedFeedCache;
+        this.feedDeltaTracker = feedDeltaTracker;
+        this.routeCaches = feedRouter == null ? Collections.emptyMap() : feedRouter.getRoutes()
+                .stream()
+                .filter(route -> route.getRenderedFeedCache() != null)
+                .collect(Collectors.toMap(FeedRoute::getName, FeedRoute::getRenderedFeedCache));
+        this.lastKnownGoodFeedStore = lastKnownGoodFeedStore;
+    }
+
+    /**
+     *
+     * @param request HTTP Request
+     * @param key The key of the feed, {@code rss} for the default feed, {@code rss/<id>} or {@code rss/<route>/<id>}
+     * @param rssChannelPublisher The whole feed
+     * @return The subscription document of the feed
+     */
+    @NonNull
+    public Publisher<MutableHttpResponse<?>> respond(@NonNull HttpRequest<?> request,
+                                                     @NonNull String key,
+                                                     @NonNull Publisher<RssChannel> rssChannelPublisher) {
+        return respondTo(key, rssChannelPublisher, (rssChannel, cancelled) -> respond(request, key, feedPager.subscriptionDocument(key, rssChannel), cancelled));
+    }
+
+    /**
+     * Queried feeds are rendered for every request: they are neither cached, stored, tracked for deltas nor paged, since every distinct query, e.g. every {@code since} date, would take an entry of its own.
+     * A provider which fails is not masked with a last known good feed.
+     *
+     * @param request HTTP Request
+     * @param rssChannelPublisher The queried feed
+     * @return The queried feed
+     */
+    @NonNull
+    public Publisher<MutableHttpResponse<?>> respondToQuery(@NonNull HttpRequest<?> request,
+                                                            @NonNull Publisher<RssChannel> rssChannelPublisher) {
+        return respondTo(null, rssChannelPublisher, (rssChannel, cancelled) -> feedBodyRenderer.compresses(request)
+                ? feedBodyRenderer.renderGzip(rssChannel, cancelled)
+                : feedBodyRenderer.render(request, rssChannel, cancelled));
+    }
+
+    /**
+     * Archive pages are cached and stored with their page number as version, since their items never change. A page found in the heap cache or in the file store is served without fetching the feed.
+     *
+     * @param request HTTP Request
+     * @param key The key of the feed
+     * @param page The archive page number, starting with the oldest page at 1
+     * @param rssChannelPublisher The whole feed, which is only subscribed to if the page is not cached
+     * @return The archive page, or {@code 404 Not Found} if feeds are not paged or the feed has no such page
+     */
+    @NonNull
+    public Publisher<MutableHttpResponse<?>> respondWithArchive(@NonNull HttpRequest<?> request,
+                                                                @NonNull String key,
+                                                                int page,
+                                                                @NonNull Publisher<RssChannel> rssChannelPublisher) {
+        if (!feedPager.isPaged()) {
+            return Mono.just(HttpResponse.notFound());
+        }
+        String archiveKey = key + FeedPager.ARCHIVE + page;
+        if (!feedBodyRenderer.compresses(request)) {
+            Optional<MutableHttpResponse<?>> rendered = findRendered(cacheFor(archiveKey), archiveKey, page);
+            if (rendered.isPresent()) {
+                return Mono.just(immutable(rendered.get()));
+            }
+        }
+        return respondTo(archiveKey, rssChannelPublisher, (rssChannel, cancelled) -> feedPager.archive(key, page, rssChannel)
+                .<MutableHttpResponse<?>>map(archive -> immutable(respondWithFeed(request, archiveKey, archive, OptionalLong.of(page), cancelled)))
+                .orElseGet(HttpResponse::notFound));
+    }
+
+    @NonNull
+    private static MutableHttpResponse<?> immutable(@NonNull MutableHttpResponse<?> response) {
+        return response.getStatus() == HttpStatus.OK ? response.header(HttpHeaders.CACHE_CONTROL, ARCHIVE_CACHE_CONTROL) : response;
+    }
+
+    /**
+     *
+     * @param rssChannelPublisher The feed
+     * @return The feed, neither cached nor paged, rendered when the response is written
+     */
+    @NonNull
+    public Publisher<MutableHttpResponse<Writable>> respondWithWritable(@NonNull Publisher<RssChannel> rssChannelPublisher) {
+        return Mono.from(rssChannelPublisher)
+                .map(rssChannel -> HttpResponse.ok(feedBodyRenderer.writable(rssChannel)))
+                .defaultIfEmpty(HttpResponse.notFound());
+    }
+
+    // a client which disconnects cancels the subscription, which cancels the provider call, or stops a render into a buffer at the next item; a feed without a key has no last known good version
+    // only the failures of the provider are answered with the fallback, a render which fails is an error
+    @NonNull
+    private Publisher<MutableHttpResponse<?>> respondTo(@Nullable String key,
+                                                        @NonNull Publisher<RssChannel> rssChannelPublisher,
+                                                        @NonNull BiFunction<RssChannel, BooleanSupplier, MutableHttpResponse<?>> respond) {
+        return Mono.defer(() -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            return Mono.from(rssChannelPublisher)
+                    .onErrorMap(ProviderFailure::new)
+                    .<MutableHttpResponse<?>>map(rssChannel -> {
+                        MutableHttpResponse<?> response = respond.apply(rssChannel, cancelled::get);
+                        recordFetch(key, rssChannel);
+                        return response;
+                    })
+                    .defaultIfEmpty(HttpResponse.notFound())
+                    .onErrorResume(ProviderFailure.class, e -> fallback(key, e.getCause()))
+                    .doOnCancel(() -> cancelled.set(true));
+        });
+    }
+
+    // RFC 7234: the age of the last known good feed counts from the last fetch of its version, a feed without a date cannot be matched to the stored one
+    private void recordFetch(@Nullable String key, @NonNull RssChannel rssChannel) {
+        if (lastKnownGoodFeedStore != null && key != null) {
+            OptionalLong version = FeedPager.version(rssChannel);
+            if (version.isPresent()) {
+                lastKnownGoodFeedStore.recordFetch(key, version.getAsLong());
+            }
+        }
+    }
+
+    // RFC 7234: a provider which fails, times out or is saturated is answered with the last known good feed, marked as stale; else a timeout is a 504 and a full bulkhead a 503
+    @NonNull
+    private Mono<MutableHttpResponse<?>> fallback(@Nullable String key, @NonNull Throwable e) {
+        if (lastKnownGoodFeedStore != null && key != null) {
+            Optional<LastKnownGoodFeedStore.StoredFeed> storedFeed = lastKnownGoodFeedStore.find(key);
+            if (storedFeed.isPresent()) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("serving the last known good feed {}: {}", key, e.toString());
+                }
+                return Mono.just(HttpResponse.ok(storedFeed.get().getBody())
+                        .header(HttpHeaders.WARNING, STALE_WARNING)
+                        .header(HttpHeaders.AGE, String.valueOf(lastKnownGoodFeedStore.age(storedFeed.get()).toSeconds())));
+            }
+        }
+        if (e instanceof TimeoutException) {
+            return Mono.just(HttpResponse.status(HttpStatus.GATEWAY_TIMEOUT));
+        }
+        if (e instanceof RejectedExecutionException) {
+            return Mono.just(HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+        return Mono.error(e);
+    }
+
+    // RFC 3229: a client which sent the entity tag of a tracked version and accepts the feed instance manipulation only gets the items it has not seen; a feed without a date has no entity tag, which would not change with its content
+    @NonNull
+    private MutableHttpResponse<?> respond(@NonNull HttpRequest<?> request, @NonNull String key, @NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) {
+        OptionalLong version = feedDeltaTracker == null ? OptionalLong.empty() : FeedPager.version(rssChannel);
+        if (version.isEmpty()) {
+            return respondWithFeed(request, key, rssChannel, cancelled);
+        }
+        List<String> itemIds = rssChannel.getItem()
+                .stream()
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .map(FeedResponder::itemId)
+                .toList();
+        return feedDeltaTracker.respond(request, key, version.getAsLong(), itemIds,
+                seenItemIds -> feedBodyRenderer.render(request, rssChannel.withItems(item -> !seenItemIds.contains(itemId(item))), cancelled),
+                () -> respondWithFeed(request, key, rssChannel, cancelled));
+    }
+
+    @NonNull
+    private MutableHttpResponse<?> respondWithFeed(@NonNull HttpRequest<?> request, @NonNull String key, @NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) {
+        return respondWithFeed(request, key, rssChannel, cacheFor(key) == null && feedFileStore == null ? OptionalLong.empty() : FeedPager.version(rssChannel), cancelled);
+    }
+
+    // feeds of a route with a cache of its own, keyed rss/<route>/..., do not compete with other feeds for the shared cache
+    @Nullable
+    private RenderedFeedCache cacheFor(@NonNull String key) {
+        String prefix = FeedPager.KEY + "/";
+        if (!routeCaches.isEmpty() && key.startsWith(prefix)) {
+            int end = key.indexOf('/', prefix.length());
+            if (end > 0) {
+                RenderedFeedCache routeCache = routeCaches.get(key.substring(prefix.length(), end));
+                if (routeCache != null) {
+                    return routeCache;
+                }
+            }
+        }
+        return renderedFeedCache;
+    }
+
+    // requests which accept gzip are compressed incrementally; otherwise the heap cache is looked up first, then the file store, and a miss renders the feed once into both and into the last known good feeds
+    @NonNull
+    private MutableHttpResponse<?> respondWithFeed(@NonNull HttpRequest<?> request, @NonNull String key, @NonNull RssChannel rssChannel, @NonNull OptionalLong version, @NonNull BooleanSupplier cancelled) {
+        OptionalLong lastKnownGoodVersion = version.isPresent() || lastKnownGoodFeedStore == null ? version : FeedPager.version(rssChannel);
+        boolean storesLastKnownGood = storesLastKnownGood(key, lastKnownGoodVersion);
+        if (feedBodyRenderer.compresses(request)) {
+            // a compressed response cannot be stored, so a feed without a date is only rendered for the store if it has none
+            if (storesLastKnownGood && (lastKnownGoodVersion.isPresent() || Objects.requireNonNull(lastKnownGoodFeedStore).find(key).isEmpty())) {
+                storeLastKnownGood(key, lastKnownGoodVersion, rssChannel, cancelled);
+            }
+            return feedBodyRenderer.renderGzip(rssChannel, cancelled);
+        }
+        RenderedFeedCache cache = cacheFor(key);
+        boolean cacheable = version.isPresent() && (cache != null || feedFileStore != null);
+        if (cacheable) {
+            Optional<MutableHttpResponse<?>> rendered = findRendered(cache, key, version.getAsLong());
+            if (rendered.isPresent()) {
+                if (storesLastKnownGood) {
+                    storeLastKnownGood(key, lastKnownGoodVersion, rssChannel, cancelled);
+                }
+                return rendered.get();
+            }
+        } else if (!storesLastKnownGood) {
+            return feedBodyRenderer.render(request, rssChannel, cancelled);
+        }
+        try {
+            if (cache == null && !storesLastKnownGood) {
+                Optional<Path> file = Objects.requireNonNull(feedFileStore).store(key, version.getAsLong(), EXTENSION, outputStream -> feedBodyRenderer.render(outputStream, rssChannel, cancelled));
+                if (file.isPresent()) {
+                    return HttpResponse.ok(new SystemFile(file.get().toFile(), MediaType.APPLICATION_XML_TYPE));
+                }
+                return feedBodyRenderer.render(request, rssChannel, cancelled);
+            }
+            byte[] body = storesLastKnownGood ? feedBodyRenderer.renderToByteArray(rssChannel, cancelled) : lastKnownGood(key, lastKnownGoodVersion, rssChannel, cancelled);
+            if (storesLastKnownGood) {
+                Objects.requireNonNull(lastKnownGoodFeedStore).put(key, lastKnownGoodVersion.orElse(0L), body);
+            }
+            if (cacheable) {
+                long epochMilli = version.getAsLong();
+                if (cache != null) {
+                    cache.put(key, epochMilli, body);
+                }
+                if (feedFileStore != null) {
+                    feedFileStore.store(key, epochMilli, EXTENSION, outputStream -> outputStream.write(body));
+                }
+            }
+            return HttpResponse.ok(body);
+        } catch (IOException e) {
+            FeedBodies.logRenderFailure(e);
+            return HttpResponse.serverError();
+        }
+    }
+
+    // a feed without a date is stored for each response, a feed with one once per version
+    private boolean storesLastKnownGood(@NonNull String key, @NonNull OptionalLong version) {
+        if (lastKnownGoodFeedStore == null) {
+            return false;
+        }
+        if (version.isEmpty()) {
+            return true;
+        }
+        Optional<LastKnownGoodFeedStore.StoredFeed> storedFeed = lastKnownGoodFeedStore.find(key);
+        return storedFeed.isEmpty() || storedFeed.get().getVersion() != version.getAsLong();
+    }
+
+    // the given version of a feed from the heap cache, else from the file store
+    @NonNull
+    private Optional<MutableHttpResponse<?>> findRendered(@Nullable RenderedFeedCache cache, @NonNull String key, long version) {
+        if (cache != null) {
+            Optional<Object> body = cache.read(key, version, feedBodyRenderer::cachedBody);
+            if (body.isPresent()) {
+                return Optional.of(HttpResponse.ok(body.get()));
+            }
+        }
+        if (feedFileStore != null) {
+            Optional<Path> file = feedFileStore.find(key, version);
+            if (file.isPresent()) {
+                return Optional.of(HttpResponse.ok(new SystemFile(file.get().toFile(), MediaType.APPLICATION_XML_TYPE)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // a render which fails only costs the store its update, the response is rendered on its own
+    private void storeLastKnownGood(@NonNull String key, @NonNull OptionalLong version, @NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) {
+        try {
+            Objects.requireNonNull(lastKnownGoodFeedStore).put(key, version.orElse(0L), feedBodyRenderer.renderToByteArray(rssChannel, cancelled));
+        } catch (IOException e) {
+            FeedBodies.logRenderFailure(e);
+        }
+    }
+
+    // the version stored as the last known good feed is not rendered again
+    @NonNull
+    private byte[] lastKnownGood(@NonNull String key, @NonNull OptionalLong version, @NonNull RssChannel rssChannel, @NonNull BooleanSupplier cancelled) throws IOException {
+        if (lastKnownGoodFeedStore != null && version.isPresent()) {
+            Optional<LastKnownGoodFeedStore.StoredFeed> storedFeed = lastKnownGoodFeedStore.find(key);
+            if (storedFeed.isPresent() && storedFeed.get().getVersion() == version.getAsLong()) {
+                return storedFeed.get().getBody();
+            }
+        }
+        return feedBodyRenderer.renderToByteArray(rssChannel, cancelled);
+    }
+
+    // the guid of an item, else its link, else its title, else its description
+    @NonNull
+    private static String itemId(@NonNull RssItem rssItem) {
+        return rssItem.getGuid()
+                .or(rssItem::getLink)
+                .or(rssItem::getTitle)
+                .or(rssItem::getDescription)
+                .orElse("");
+    }
+
+    @NonNull
+    private static String itemId(@NonNull RssItemSnapshot rssItem) {
+        String id = rssItem.getGuid() != null ? rssItem.getGuid() : rssItem.getLink();
+        id = id != null ? id : rssItem.getTitle();
+        id = id != null ? id : rssItem.getDescription();
+        return id != null ? id : "";
+    }
+
+    /**
+     * Marks the failures of the provider, which are the only ones answered with the fallback.
+     */
+    private static final class ProviderFailure extends RuntimeException {
+        private ProviderFailure(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rss.FeedQuery;
+import io.micronaut.rss.RssChannel;
+import io.micronaut.rss.RssFeedProvider;
+import io.micronaut.rss.cache.RenderedFeedCache;
+import org.reactivestreams.Publisher;
+
+import java.io.Serializable;
+
+/**
+ * A route of {@link FeedController} to a named {@link RssFeedProvider}, with the guard of its calls and the cache of rendered feeds of the route.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public final class FeedRoute {
+    private final String name;
+
+    @Nullable
+    private final String prefix;
+
+    private final RssFeedProvider rssFeedProvider;
+
+    private final FeedProviderGuard guard;
+
+    @Nullable
+    private final RenderedFeedCache renderedFeedCache;
+
+    /**
+     *
+     * @param name The name of the route, which is its path segment
+     * @param prefix The prefix of the ids routed to the provider or {@code null}
+     * @param rssFeedProvider The provider of the route
+     * @param guard Bounds the calls to the provider
+     * @param renderedFeedCache The cache of the rendered feeds of the route or {@code null} if they share the cache of rendered feeds
+     */
+    public FeedRoute(@NonNull String name,
+                     @Nullable String prefix,
+                     @NonNull RssFeedProvider rssFeedProvider,
+                     @NonNull FeedProviderGuard guard,
+                     @Nullable RenderedFeedCache renderedFeedCache) {
+        this.name = name;
+        this.prefix = prefix;
+        this.rssFeedProvider = rssFeedProvider;
+        this.guard = guard;
+        this.renderedFeedCache = renderedFeedCache;
+    }
+
+    /**
+     * @return The name of the route, which is its path segment
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The prefix of the ids routed to the provider or {@code null} if the route is only reached by its path segment
+     */
+    @Nullable
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @return The cache of the rendered feeds of the route or {@code null} if they share the cache of rendered feeds
+     */
+    @Nullable
+    public RenderedFeedCache getRenderedFeedCache() {
+        return renderedFeedCache;
+    }
+
+    /**
+     * Fetches a feed from the provider of the route through its guard.
+     * @param id RSS Channel unique identifier, without the prefix of the route
+     * @param query The requested items
+     * @return An RSS channel identified by the ID parameter
+     * @see FeedProviderGuard#fetch(java.util.function.Supplier)
+     */
+    @NonNull
+    public Publisher<RssChannel> fetchById(@NonNull Serializable id, @NonNull FeedQuery query) {
+        return guard.fetch(() -> rssFeedProvider.fetchById(id, query));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+
+/**
+ * Defines interface for Configuration options of a route of {@link FeedController} to a named {@link io.micronaut.rss.RssFeedProvider}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+public interface FeedRouteConfiguration extends Named {
+
+    /**
+     *
+     * @return The name of the provider bean, the name of the route by default.
+     */
+    @NonNull
+    String getProvider();
+
+    /**
+     *
+     * @return The prefix of the ids routed to the provider, which is removed from the id passed to it, or {@code null} if the route is only reached by its path segment.
+     */
+    @Nullable
+    String getPrefix();
+
+    /**
+     *
+     * @return The name of the executor on which the provider is called, or {@code null} to call it on the thread of the request.
+     */
+    @Nullable
+    String getExecutor();
+
+    /**
+     *
+     * @return How long the provider may take to fetch a feed, or {@code null} if it is not limited.
+     */
+    @Nullable
+    Duration getTimeout();
+
+    /**
+     *
+     * @return The maximum size of the rendered feeds cached for the route, or {@code 0} if they share the cache of rendered feeds.
+     */
+    long getCacheMaxSize();
+
+    /**
+     *
+     * @return The maximum number of concurrent calls to the provider, or {@code null} if it is not limited.
+     */
+    @Nullable
+    Integer getMaxConcurrency();
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.time.Duration;
+
+/**
+ * {@link io.micronaut.context.annotation.EachProperty} implementation of {@link FeedRouteConfiguration}, e.g. {@code micronaut.rss.feed.routes.podcasts.prefix}.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@EachProperty(FeedRouteConfigurationProperties.PREFIX)
+public class FeedRouteConfigurationProperties implements FeedRouteConfiguration {
+
+    public static final String PREFIX = FeedControllerConfigurationProperties.PREFIX + ".routes";
+
+    private final String name;
+
+    @Nullable
+    private String provider;
+
+    @Nullable
+    private String prefix;
+
+    @Nullable
+    private String executor;
+
+    @Nullable
+    private Duration timeout;
+
+    @PositiveOrZero
+    private long cacheMaxSize;
+
+    @Nullable
+    @Positive
+    private Integer maxConcurrency;
+
+    /**
+     *
+     * @param name The name of the route, which is its path segment
+     */
+    public FeedRouteConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public String getProvider() {
+        return provider != null ? provider : name;
+    }
+
+    /**
+     * The name of the {@link io.micronaut.rss.RssFeedProvider} bean, qualified with {@code @Named}, of the route. Default value the name of the route.
+     * @param provider The name of the provider bean
+     */
+    public void setProvider(@Nullable String provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    @Nullable
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * The prefix of the ids routed to the provider, e.g. {@code podcast-}. The prefix is removed from the id passed to the provider. Default value null, the route is only reached by its path segment.
+     * @param prefix The id prefix
+     */
+    public void setPrefix(@Nullable String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    @Nullable
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The name of the executor, configured with {@code micronaut.executors}, on which the provider is called, so that a slow backend does not block the threads of other routes. Default value null, the provider is called on the thread of the request.
+     * @param executor The executor name
+     */
+    public void setExecutor(@Nullable String executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * How long the provider may take to fetch a feed, e.g. {@code 2s}. Slower fetches are answered with the last known good feed, if any, or else with {@code 504 Gateway Timeout}. Default value null, fetches are not limited.
+     * @param timeout The timeout
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public long getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    /**
+     * Maximum size of the rendered feeds cached for the route, e.g. {@code 32MB}, so that the feeds of other routes cannot evict them. Default value 0, the route shares the cache of rendered feeds.
+     * @param cacheMaxSize Maximum size in bytes
+     */
+    public void setCacheMaxSize(@ReadableBytes long cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    @Override
+    @Nullable
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The maximum number of concurrent calls to the provider of the route. Further requests are answered with the last known good feed, if any, or else with {@code 503 Service Unavailable}, instead of queueing up behind a slow backend. Default value null, calls are not limited.
+     * @param maxConcurrency The maximum number of concurrent calls
+     */
+    public void setMaxConcurrency(@Nullable Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+}
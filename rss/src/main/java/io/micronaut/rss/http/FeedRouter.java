@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rss.http;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.rss.RssFeedProvider;
+import io.micronaut.rss.cache.RenderedFeedCache;
+import jakarta.inject.Singleton;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Routes the feeds requested from {@link FeedController} to named {@link RssFeedProvider} beans, by the path segment of the route or by the prefix of the id.
+ * The route table is computed once from the {@link FeedRouteConfiguration} beans.
+ *
+ * @author Sergio del Amo
+ * @since 4.5.0
+ */
+@Requires(property = FeedRouteConfigurationProperties.PREFIX)
+@Singleton
+public class FeedRouter {
+    private final Map<String, FeedRoute> routesByName = new HashMap<>();
+    private final List<FeedRoute> routesByPrefix = new ArrayList<>();
+
+    /**
+     *
+     * @param configurations The routes
+     * @param rssFeedProviders The providers keyed by bean name
+     * @param executors The executors keyed by name
+     */
+    public FeedRouter(List<FeedRouteConfiguration> configurations,
+                      Map<String, RssFeedProvider> rssFeedProviders,
+                      Map<String, ExecutorService> executors) {
+        for (FeedRouteConfiguration configuration : configurations) {
+            RssFeedProvider rssFeedProvider = rssFeedProviders.get(configuration.getProvider());
+            if (rssFeedProvider == null) {
+                throw new IllegalStateException("no RSS feed provider named " + configuration.getProvider() + " for the route " + configuration.getName());
+            }
+            ExecutorService executor = null;
+            if (configuration.getExecutor() != null) {
+                executor = executors.get(configuration.getExecutor());
+                if (executor == null) {
+                    throw new IllegalStateException("no executor named " + configuration.getExecutor() + " for the route " + configuration.getName());
+                }
+            }
+            FeedRoute route = new FeedRoute(configuration.getName(),
+                    configuration.getPrefix(),
+                    rssFeedProvider,
+                    new FeedProviderGuard(executor != null ? Schedulers.fromExecutorService(executor) : null, configuration.getTimeout(), configuration.getMaxConcurrency()),
+                    configuration.getCacheMaxSize() > 0 ? new RenderedFeedCache(configuration.getCacheMaxSize()) : null);
+            routesByName.put(route.getName(), route);
+            if (route.getPrefix() != null) {
+                routesByPrefix.add(route);
+            }
+        }
+        // the longest prefix wins, e.g. podcast-kids- over podcast-
+        routesByPrefix.sort(Comparator.comparingInt((FeedRoute route) -> route.getPrefix().length()).reversed());
+    }
+
+    /**
+     * @param name The name of a route
+     * @return The route or an empty optional if there is no route with that name
+     */
+    @NonNull
+    public Optional<FeedRoute> findByName(@NonNull String name) {
+        return Optional.ofNullable(routesByName.get(name));
+    }
+
+    /**
+     * @param id A feed id
+     * @return The route with the longest prefix of the id or an empty optional if no route prefixes it
+     */
+    @NonNull
+    public Optional<FeedRoute> findByPrefix(@NonNull String id) {
+        for (FeedRoute route : routesByPrefix) {
+            if (id.startsWith(route.getPrefix())) {
+                return Optional.of(route);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return The routes
+     */
+    @NonNull
+    public List<FeedRoute> getRoutes() {
+        return List.copyOf(routesByName.values());
+    }
+}
@@ -0,0 +1,126 @@
+package io.micronaut.rss.http
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.rss.RssChannel
+import reactor.core.publisher.Mono
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+class FeedControllerArchiveSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerArchiveSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + [
+                'micronaut.rss.feed.page-size': 2,
+                'micronaut.rss.feed.base-url': 'https://example.org/',
+                'micronaut.rss.cache.heap.max-size': 1024 * 1024
+        ]
+    }
+
+    void "the oldest items are served as immutable archive pages"() {
+        given:
+        HttpClient jdkClient = HttpClient.newHttpClient()
+        String feedUrl = 'https://example.org/feed'
+
+        when:
+        HttpResponse<String> response = get(jdkClient, '/feed')
+
+        then: 'the subscription document only contains the newest items'
+        response.statusCode() == 200
+        !response.headers().firstValue('Cache-Control').present
+        response.body().contains('<title>Star City</title>')
+        response.body().contains('#item572</guid>')
+        !response.body().contains('The Engine That Does More')
+        response.body().contains("<atom:link xmlns:atom=\"http://www.w3.org/2005/Atom\" rel=\"prev-archive\" href=\"${feedUrl}/archive/1\"/>")
+        !response.body().contains('fh:archive')
+
+        when:
+        response = get(jdkClient, '/feed/archive/1')
+
+        then: 'the archive page contains the oldest items'
+        response.statusCode() == 200
+        response.headers().firstValue('Cache-Control').get() == 'public, max-age=31536000, immutable'
+        response.body().contains('<title>The Engine That Does More</title>')
+        response.body().contains("<title>Astronauts' Dirty Laundry</title>")
+        !response.body().contains('Star City')
+        response.body().contains("<atom:link xmlns:atom=\"http://www.w3.org/2005/Atom\" rel=\"current\" href=\"${feedUrl}\"/>")
+        !response.body().contains('prev-archive')
+        response.body().contains('<fh:archive xmlns:fh="http://purl.org/syndication/history/1.0"/>')
+
+        when: 'the page is not archived'
+        int before = get(jdkClient, '/feed/archive/0').statusCode()
+        int after = get(jdkClient, '/feed/archive/2').statusCode()
+
+        then:
+        before == 404
+        after == 404
+    }
+
+    void "a cached archive page is served without fetching the feed"() {
+        given:
+        HttpClient jdkClient = HttpClient.newHttpClient()
+        FeedResponder feedResponder = applicationContext.getBean(FeedResponder)
+        RssChannel rssChannel = applicationContext.getBean(MockRssFeedProvider).rssChannel
+        int fetched = 0
+        Mono<RssChannel> fetch = Mono.fromCallable {
+            fetched++
+            rssChannel
+        }
+
+        when: 'the archive page is rendered once'
+        HttpResponse<String> response = get(jdkClient, '/feed/archive/1')
+
+        then:
+        response.statusCode() == 200
+
+        when:
+        MutableHttpResponse<?> cached = Mono.from(feedResponder.respondWithArchive(io.micronaut.http.HttpRequest.GET('/feed/archive/1'), 'rss', 1, fetch)).block()
+
+        then:
+        fetched == 0
+        new String(cached.body() as byte[]) == response.body()
+        cached.headers.get('Cache-Control') == 'public, max-age=31536000, immutable'
+    }
+
+    void "the links between archive pages do not follow the Host header"() {
+        when:
+        HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(embeddedServer.URI.resolve('/feed/archive/1'))
+                .header('X-Forwarded-Host', 'attacker.example')
+                .build(), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 200
+        response.body().contains('href="https://example.org/feed"')
+        !response.body().contains('attacker.example')
+    }
+
+    void "paged feeds without a base URL fail the startup"() {
+        when:
+        ApplicationContext.run(['micronaut.rss.feed.page-size': 2]).close()
+
+        then:
+        Exception e = thrown()
+        causes(e).any { it instanceof ConfigurationException && it.message.contains('micronaut.rss.feed.base-url') }
+    }
+
+    private static List<Throwable> causes(Throwable e) {
+        List<Throwable> causes = []
+        for (Throwable cause = e; cause != null && !causes.contains(cause); cause = cause.cause) {
+            causes << cause
+        }
+        causes
+    }
+
+    private HttpResponse<String> get(HttpClient jdkClient, String path) {
+        jdkClient.send(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+    }
+}
@@ -0,0 +1,56 @@
+package io.micronaut.rss.http
+
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.rss.DefaultRssFeedRenderer
+import io.micronaut.rss.RssChannel
+import io.micronaut.rss.cache.RenderedFeedCache
+import jakarta.inject.Singleton
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class FeedControllerCacheSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerCacheSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + ['micronaut.rss.cache.heap.max-size': '1MB']
+    }
+
+    void "feeds are rendered once and then served from the heap"() {
+        given:
+        RenderedFeedCache cache = applicationContext.getBean(RenderedFeedCache)
+        CountingRssFeedRenderer renderer = applicationContext.getBean(CountingRssFeedRenderer)
+
+        when:
+        String first = client.retrieve(HttpRequest.GET('/feed'), String)
+        String second = client.retrieve(HttpRequest.GET('/feed'), String)
+        client.retrieve(HttpRequest.GET('/feed/1'), String)
+
+        then:
+        first.contains('<title>Liftoff News</title>')
+        second == first
+        renderer.renders.get() == 2
+        cache.stats.hitCount == 1
+        cache.stats.missCount == 2
+        cache.stats.entryCount == 2
+    }
+
+    @Requires(property = 'spec.name', value = 'FeedControllerCacheSpec')
+    @Replaces(DefaultRssFeedRenderer)
+    @Singleton
+    static class CountingRssFeedRenderer extends DefaultRssFeedRenderer {
+        final AtomicInteger renders = new AtomicInteger()
+
+        @Override
+        void render(OutputStream outputStream, RssChannel rssChannel) throws IOException {
+            renders.incrementAndGet()
+            super.render(outputStream, rssChannel)
+        }
+    }
+}
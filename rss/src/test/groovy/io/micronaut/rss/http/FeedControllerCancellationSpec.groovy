@@ -0,0 +1,139 @@
+package io.micronaut.rss.http
+
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.rss.DefaultRssFeedRenderer
+import io.micronaut.rss.RssChannel
+import io.micronaut.rss.RssFeedProvider
+import io.micronaut.rss.RssItem
+import io.micronaut.rss.RssItemSnapshot
+import io.micronaut.rss.XmlTemplate
+import io.micronaut.rss.cache.RenderedFeedCache
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.ZonedDateTime
+
+class FeedControllerCancellationSpec extends Specification {
+
+    void "a client which disconnects stops the render at the next item boundary"() {
+        given:
+        CountingRssFeedRenderer renderer = new CountingRssFeedRenderer()
+        RenderedFeedCache cache = new RenderedFeedCache(1024 * 1024)
+        FeedControllerConfiguration configuration = new FeedControllerConfigurationProperties()
+        FeedController controller = new FeedController(new LargeRssFeedProvider(),
+                configuration,
+                new FeedResponder(new FeedBodyRenderer(renderer, configuration, null, null, null),
+                        new FeedPager(configuration, null),
+                        null,
+                        cache,
+                        null,
+                        null,
+                        null),
+                null,
+                null)
+        List<MutableHttpResponse<?>> responses = []
+        Subscription subscription = null
+        renderer.onItem = { int items ->
+            if (items == 10) {
+                subscription.cancel()
+            }
+        }
+
+        when: 'the subscription is cancelled while the tenth item is rendered'
+        controller.index(HttpRequest.GET('/feed')).subscribe(new Subscriber<MutableHttpResponse<?>>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+                s.request(1)
+            }
+
+            @Override
+            void onNext(MutableHttpResponse<?> response) {
+                responses << response
+            }
+
+            @Override
+            void onError(Throwable t) {
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+
+        then: 'the render stops after that item and nothing is cached nor sent'
+        renderer.items == 10
+        cache.stats.entryCount == 0
+        responses.empty
+
+        when: 'a client which stays connected'
+        renderer.onItem = { int items -> }
+        renderer.items = 0
+        Mono.from(controller.index(HttpRequest.GET('/feed'))).block()
+
+        then: 'gets every item'
+        renderer.items == LargeRssFeedProvider.ITEMS
+        cache.stats.entryCount == 1
+    }
+
+    void "a response rendered when it is written is not cancelled but is limited"() {
+        given:
+        CountingRssFeedRenderer renderer = new CountingRssFeedRenderer()
+        FeedControllerConfigurationProperties configuration = new FeedControllerConfigurationProperties()
+        configuration.maxItems = 10
+        FeedBodyRenderer feedBodyRenderer = new FeedBodyRenderer(renderer, configuration, null, null, null)
+        RssChannel rssChannel = Mono.from(new LargeRssFeedProvider().fetch()).block()
+
+        when: 'the response is cancelled before it is written'
+        Writable writable = feedBodyRenderer.render(HttpRequest.HEAD('/feed'), rssChannel, () -> true).body() as Writable
+        StringWriter writer = new StringWriter()
+        writable.writeTo(writer)
+        ByteArrayOutputStream utf8 = new ByteArrayOutputStream()
+        writable.writeTo(utf8, StandardCharsets.UTF_8)
+        ByteArrayOutputStream latin1 = new ByteArrayOutputStream()
+        writable.writeTo(latin1, StandardCharsets.ISO_8859_1)
+
+        then: 'every write renders the items up to the limit'
+        items(writer.toString()) == 10
+        items(utf8.toString(StandardCharsets.UTF_8)) == 10
+        items(latin1.toString(StandardCharsets.ISO_8859_1)) == 10
+    }
+
+    private static int items(String xml) {
+        (xml =~ /<guid[^>]*>item\d+<\/guid>/).size()
+    }
+
+    static class CountingRssFeedRenderer extends DefaultRssFeedRenderer {
+        volatile int items
+        Closure<?> onItem = { int items -> }
+
+        @Override
+        protected void compileRssItem(XmlTemplate.Builder<RssItemSnapshot> item) {
+            super.compileRssItem(item)
+            item.segment { RssItemSnapshot rssItem, out -> onItem.call(++items) }
+        }
+    }
+
+    static class LargeRssFeedProvider implements RssFeedProvider {
+        static final int ITEMS = 1000
+
+        @Override
+        Publisher<RssChannel> fetch() {
+            RssChannel.Builder builder = RssChannel.builder('Large', 'https://example.com', 'A large feed')
+                    .pubDate(ZonedDateTime.parse('2003-06-10T04:00:00Z'))
+            (1..ITEMS).each { builder.item(RssItem.builder().title("Item ${it}".toString()).guid("item${it}".toString()).build()) }
+            Mono.just(builder.build())
+        }
+
+        @Override
+        Publisher<RssChannel> fetchById(Serializable id) {
+            Mono.empty()
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.micronaut.rss.http
+
+import io.micronaut.rss.RssItem
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+class FeedControllerDeltaSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerDeltaSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + ['micronaut.rss.cache.delta.max-feeds': 100]
+    }
+
+    void "clients which accept the feed instance manipulation only get the new items"() {
+        given:
+        MockRssFeedProvider provider = applicationContext.getBean(MockRssFeedProvider)
+        HttpClient jdkClient = HttpClient.newHttpClient()
+
+        when:
+        HttpResponse<String> response = jdkClient.send(request(null, null), HttpResponse.BodyHandlers.ofString())
+        String entityTag = response.headers().firstValue('ETag').get()
+
+        then:
+        response.statusCode() == 200
+        entityTag.startsWith('W/"')
+        response.body().contains('<title>Star City</title>')
+
+        when: 'the feed did not change'
+        response = jdkClient.send(request(entityTag, 'feed'), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 304
+        response.headers().firstValue('ETag').get() == entityTag
+
+        when: 'an item is added'
+        provider.rssChannel.addItem(RssItem.builder()
+                .title('Moon Landing')
+                .guid('http://liftoff.msfc.nasa.gov/2003/06/10.html#item574')
+                .build())
+        response = jdkClient.send(request(entityTag, 'feed'), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 226
+        response.headers().firstValue('IM').get() == 'feed'
+        response.headers().firstValue('Cache-Control').get() == 'no-store, im'
+        response.headers().firstValue('ETag').get() != entityTag
+        response.body().contains('<title>Liftoff News</title>')
+        response.body().contains('<title>Moon Landing</title>')
+        !response.body().contains('Star City')
+
+        when: 'the client does not accept instance manipulations'
+        response = jdkClient.send(request(entityTag, null), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 200
+        response.body().contains('Star City')
+        response.body().contains('Moon Landing')
+
+        when: 'the entity tag is unknown'
+        response = jdkClient.send(request('W/"unknown"', 'feed'), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 200
+        response.body().contains('Star City')
+    }
+
+    void "the entity tag does not change when only the content of an item changes"() {
+        given:
+        MockRssFeedProvider provider = applicationContext.getBean(MockRssFeedProvider)
+        HttpClient jdkClient = HttpClient.newHttpClient()
+        String entityTag = jdkClient.send(request(null, null), HttpResponse.BodyHandlers.ofString()).headers().firstValue('ETag').get()
+        RssItem item = provider.rssChannel.item.get().first()
+        String title = item.title.get()
+
+        when: 'an item is edited without updating the dates of the feed'
+        item.title = title + ' (edited)'
+        HttpResponse<String> response = jdkClient.send(request(entityTag, null), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 304
+
+        when: 'the last build date is updated'
+        provider.rssChannel.lastBuildDate = provider.rssChannel.lastBuildDate.get().plusMinutes(1)
+        response = jdkClient.send(request(entityTag, null), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        response.statusCode() == 200
+        response.headers().firstValue('ETag').get() != entityTag
+        response.body().contains(title + ' (edited)')
+
+        cleanup:
+        item?.title = title
+    }
+
+    private HttpRequest request(String ifNoneMatch, String aIm) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(embeddedServer.URI.resolve('/feed'))
+        if (ifNoneMatch) {
+            builder.header('If-None-Match', ifNoneMatch)
+        }
+        if (aIm) {
+            builder.header('A-IM', aIm)
+        }
+        builder.build()
+    }
+}
@@ -0,0 +1,190 @@
+package io.micronaut.rss.http
+
+import io.micronaut.core.io.Writable
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.io.buffer.ByteBufferFactory
+import io.micronaut.core.io.buffer.ReferenceCounted
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.rss.RssFeedProvider
+import io.micronaut.rss.RssFeedRenderer
+import reactor.core.publisher.Mono
+import spock.lang.Requires
+
+import java.lang.management.ManagementFactory
+import java.nio.charset.StandardCharsets
+
+class FeedControllerDirectBufferSpec extends EmbeddedServerSpecification {
+
+    private static final int WARM_UP = 200
+    private static final int REQUESTS = 1000
+
+    void "on Netty the feed is rendered into a buffer of the runtime"() {
+        given:
+        FeedController controller = applicationContext.getBean(FeedController)
+
+        when:
+        HttpResponse<?> response = Mono.from(controller.index(HttpRequest.GET('/feed'))).block()
+
+        then:
+        response.body() instanceof ByteBuffer
+
+        when:
+        ByteBuffer buffer = response.body() as ByteBuffer
+        String xml = new String(buffer.toByteArray(), StandardCharsets.UTF_8)
+        release(buffer)
+
+        then:
+        xml == writableXml()
+
+        when:
+        response = Mono.from(controller.index(HttpRequest.HEAD('/feed'))).block()
+
+        then:
+        response.body() instanceof Writable
+    }
+
+    void "without a buffer factory the controller returns a writable"() {
+        given:
+        FeedControllerConfiguration configuration = applicationContext.getBean(FeedControllerConfiguration)
+        FeedController controller = new FeedController(applicationContext.getBean(RssFeedProvider),
+                configuration,
+                new FeedResponder(new FeedBodyRenderer(applicationContext.getBean(RssFeedRenderer), configuration, null, null, null),
+                        applicationContext.getBean(FeedPager),
+                        null,
+                        null,
+                        null,
+                        null,
+                        null),
+                null,
+                null)
+
+        expect:
+        Mono.from(controller.index(HttpRequest.GET('/feed'))).block().body() instanceof Writable
+    }
+
+    @Requires({ ManagementFactory.threadMXBean instanceof com.sun.management.ThreadMXBean })
+    void "rendering into a buffer sized after the previous response allocates less and copies nothing"() {
+        given:
+        FeedController controller = applicationContext.getBean(FeedController)
+        FeedBodyRenderer feedBodyRenderer = applicationContext.getBean(FeedBodyRenderer)
+        ByteBufferFactory bufferFactory = applicationContext.getBean(ByteBufferFactory)
+        HttpRequest<?> request = HttpRequest.GET('/feed')
+        FeedController writableController = new FeedController(applicationContext.getBean(RssFeedProvider), applicationContext.getBean(RssFeedRenderer))
+
+        when: 'the writable is adapted to a Writer which fills a default buffer'
+        Measurement writer = measure {
+            ByteBuffer buffer = bufferFactory.buffer()
+            CopyCountingOutputStream out = new CopyCountingOutputStream(buffer)
+            Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8)
+            writable(writableController).writeTo(w)
+            w.flush()
+            release(buffer)
+            out
+        }
+
+        and: 'the writable writes UTF-8 bytes into a default buffer'
+        Measurement outputStream = measure {
+            ByteBuffer buffer = bufferFactory.buffer()
+            CopyCountingOutputStream out = new CopyCountingOutputStream(buffer)
+            writable(writableController).writeTo(out, StandardCharsets.UTF_8)
+            release(buffer)
+            out
+        }
+
+        and: 'the controller renders into a buffer sized after the previous response'
+        Measurement direct = measure {
+            int hint = feedBodyRenderer.bufferSizeHint
+            ByteBuffer buffer = Mono.from(controller.index(request)).block().body() as ByteBuffer
+            CopyCountingOutputStream out = new CopyCountingOutputStream(buffer)
+            if (buffer.capacity() != hint) {
+                out.growths++
+                out.copiedBytes += buffer.readableBytes()
+            }
+            release(buffer)
+            out
+        }
+
+        then: 'a default buffer grows, and copies what was written so far, for every request'
+        writer.growths > 0
+        writer.copiedBytes > 0
+        outputStream.growths > 0
+        outputStream.copiedBytes > 0
+
+        and: 'the OutputStream path skips the character encoder of the Writer path'
+        outputStream.allocatedBytes < writer.allocatedBytes
+
+        and: 'the sized buffer never grows'
+        direct.growths == 0
+        direct.copiedBytes == 0
+        direct.allocatedBytes < writer.allocatedBytes
+    }
+
+    private static Writable writable(FeedController controller) {
+        (Mono.from(controller.index(HttpRequest.GET('/feed'))).block().body() as Writable)
+    }
+
+    private String writableXml() {
+        StringWriter writer = new StringWriter()
+        writable(new FeedController(applicationContext.getBean(RssFeedProvider), applicationContext.getBean(RssFeedRenderer))).writeTo(writer)
+        writer.toString()
+    }
+
+    private static void release(ByteBuffer buffer) {
+        if (buffer instanceof ReferenceCounted) {
+            ((ReferenceCounted) buffer).release()
+        }
+    }
+
+    private static Measurement measure(Closure<CopyCountingOutputStream> request) {
+        WARM_UP.times { request.call() }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.threadMXBean
+        long growths = 0
+        long copiedBytes = 0
+        long allocated = threadMXBean.currentThreadAllocatedBytes
+        REQUESTS.times {
+            CopyCountingOutputStream out = request.call()
+            growths += out.growths
+            copiedBytes += out.copiedBytes
+        }
+        allocated = threadMXBean.currentThreadAllocatedBytes - allocated
+        new Measurement(allocatedBytes: allocated / REQUESTS, growths: growths / REQUESTS, copiedBytes: copiedBytes / REQUESTS)
+    }
+
+    static class Measurement {
+        double allocatedBytes
+        double growths
+        double copiedBytes
+    }
+
+    /**
+     * Counts how often the buffer grows, each growth copies the bytes written so far.
+     */
+    static class CopyCountingOutputStream extends OutputStream {
+        final ByteBuffer buffer
+        final OutputStream out
+        long growths
+        long copiedBytes
+
+        CopyCountingOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer
+            this.out = buffer.toOutputStream()
+        }
+
+        @Override
+        void write(int b) throws IOException {
+            write([(byte) b] as byte[], 0, 1)
+        }
+
+        @Override
+        void write(byte[] b, int off, int len) throws IOException {
+            int capacity = buffer.capacity()
+            int readable = buffer.readableBytes()
+            out.write(b, off, len)
+            if (buffer.capacity() != capacity) {
+                growths++
+                copiedBytes += readable
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.micronaut.rss.http
+
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.rss.RssChannel
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.util.concurrent.PollingConditions
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class FeedControllerFallbackSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerFallbackSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + [
+                'micronaut.rss.feed.timeout': '500ms',
+                'micronaut.rss.feed.max-concurrency': 1,
+                'micronaut.rss.cache.last-known-good.max-size': '1MB',
+        ]
+    }
+
+    void cleanup() {
+        provider.delay = Duration.ZERO
+        provider.failing = false
+        // calls which timed out keep their permit until the provider finishes
+        new PollingConditions(timeout: 5).eventually {
+            assert provider.inFlight.get() == 0
+        }
+    }
+
+    void "a slow provider without a last known good feed times out with 504"() {
+        given:
+        provider.delay = Duration.ofSeconds(1)
+
+        expect:
+        get('/feed/1').statusCode() == 504
+    }
+
+    void "a slow provider is answered with the last known good feed marked as stale"() {
+        given:
+        HttpResponse<String> fresh = get('/feed')
+        provider.delay = Duration.ofSeconds(1)
+
+        when:
+        HttpResponse<String> stale = get('/feed')
+
+        then:
+        fresh.statusCode() == 200
+        !fresh.headers().firstValue('Warning').isPresent()
+        stale.statusCode() == 200
+        stale.body() == fresh.body()
+        stale.headers().firstValue('Warning').get() == '111 - "Revalidation Failed"'
+        stale.headers().firstValue('Age').get().toInteger() >= 0
+    }
+
+    void "a failing provider is answered with the last known good feed"() {
+        given:
+        HttpResponse<String> fresh = get('/feed/1')
+        provider.failing = true
+
+        when:
+        HttpResponse<String> stale = get('/feed/1')
+
+        then:
+        fresh.statusCode() == 200
+        stale.statusCode() == 200
+        stale.body() == fresh.body()
+        stale.headers().firstValue('Warning').isPresent()
+        stale.headers().firstValue('Age').isPresent()
+    }
+
+    void "a failing provider of a queried feed is not masked"() {
+        given:
+        provider.failing = true
+
+        expect:
+        get('/feed?sort=oldest').statusCode() == 500
+    }
+
+    void "a call which times out keeps its permit until the provider finishes"() {
+        given:
+        provider.delay = Duration.ofSeconds(1)
+
+        when:
+        int timedOut = get('/feed/2').statusCode()
+        int rejected = get('/feed/2').statusCode()
+
+        then:
+        timedOut == 504
+        rejected == 503
+
+        when:
+        new PollingConditions(timeout: 5).eventually {
+            assert provider.inFlight.get() == 0
+        }
+        provider.delay = Duration.ZERO
+
+        then:
+        get('/feed/2').statusCode() == 404
+    }
+
+    void "requests beyond the maximum concurrency are rejected with 503 instead of waiting for the provider"() {
+        given:
+        provider.delay = Duration.ofMillis(300)
+
+        when:
+        CompletableFuture<HttpResponse<String>> first = getAsync('/feed?limit=1')
+        sleep(100)
+        HttpResponse<String> second = get('/feed?limit=1')
+
+        then:
+        second.statusCode() == 503
+        first.get().statusCode() == 200
+    }
+
+    private FlakyRssFeedProvider getProvider() {
+        applicationContext.getBean(FlakyRssFeedProvider)
+    }
+
+    private HttpResponse<String> get(String path) {
+        getAsync(path).get()
+    }
+
+    private CompletableFuture<HttpResponse<String>> getAsync(String path) {
+        HttpClient.newHttpClient().sendAsync(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+    }
+
+    @Requires(property = 'spec.name', value = 'FeedControllerFallbackSpec')
+    @Replaces(MockRssFeedProvider)
+    @Singleton
+    static class FlakyRssFeedProvider extends MockRssFeedProvider {
+        volatile Duration delay = Duration.ZERO
+        volatile boolean failing
+        final AtomicInteger inFlight = new AtomicInteger()
+
+        @Override
+        Publisher<RssChannel> fetch() {
+            flaky(super.fetch())
+        }
+
+        @Override
+        Publisher<RssChannel> fetchById(Serializable id) {
+            flaky(super.fetchById(id))
+        }
+
+        private Publisher<RssChannel> flaky(Publisher<RssChannel> rssChannel) {
+            if (failing) {
+                return Mono.error(new IllegalStateException('backend unavailable'))
+            }
+            if (delay.isZero()) {
+                return rssChannel
+            }
+            Mono.defer {
+                inFlight.incrementAndGet()
+                Mono.delay(delay).then(Mono.from(rssChannel))
+            }.doFinally { inFlight.decrementAndGet() }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.micronaut.rss.http
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.client.HttpClient
+import io.micronaut.rss.DefaultRssFeedRenderer
+import io.micronaut.rss.RssChannel
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.atomic.AtomicInteger
+
+class FeedControllerFileStoreSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "feeds are rendered to files once and warm files are reused after a restart"() {
+        given:
+        Map<String, Object> configuration = [
+                'spec.name': 'FeedControllerFileStoreSpec',
+                'micronaut.rss.cache.files.directory': tempDir.toString()
+        ]
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, configuration)
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+
+        when:
+        HttpResponse<String> response = client.toBlocking().exchange(HttpRequest.GET('/feed'), String)
+        String xml = response.body()
+
+        then:
+        response.contentType.get().toString() == 'application/xml'
+        xml.contains('<title>Liftoff News</title>')
+        server.applicationContext.getBean(CountingRssFeedRenderer).renders.get() == 1
+        xmlFiles().size() == 1
+
+        when:
+        String again = client.toBlocking().retrieve(HttpRequest.GET('/feed'), String)
+        client.toBlocking().retrieve(HttpRequest.GET('/feed/1'), String)
+
+        then:
+        again == xml
+        server.applicationContext.getBean(CountingRssFeedRenderer).renders.get() == 2
+        xmlFiles().size() == 2
+
+        when:
+        client.close()
+        server.close()
+        server = ApplicationContext.run(EmbeddedServer, configuration)
+        client = server.applicationContext.createBean(HttpClient, server.URL)
+        String afterRestart = client.toBlocking().retrieve(HttpRequest.GET('/feed'), String)
+
+        then:
+        afterRestart == xml
+        server.applicationContext.getBean(CountingRssFeedRenderer).renders.get() == 0
+
+        cleanup:
+        client?.close()
+        server?.close()
+    }
+
+    private List<Path> xmlFiles() {
+        Files.list(tempDir).withCloseable { it.filter { it.fileName.toString().endsWith('.xml') }.toList() }
+    }
+
+    @Requires(property = 'spec.name', value = 'FeedControllerFileStoreSpec')
+    @Replaces(DefaultRssFeedRenderer)
+    @Singleton
+    static class CountingRssFeedRenderer extends DefaultRssFeedRenderer {
+        final AtomicInteger renders = new AtomicInteger()
+
+        @Override
+        void render(OutputStream outputStream, RssChannel rssChannel) throws IOException {
+            renders.incrementAndGet()
+            super.render(outputStream, rssChannel)
+        }
+    }
+}
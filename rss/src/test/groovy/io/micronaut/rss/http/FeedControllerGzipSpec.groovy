@@ -0,0 +1,80 @@
+package io.micronaut.rss.http
+
+import io.micronaut.rss.RssFeedRenderer
+import io.micronaut.rss.RssItem
+import io.micronaut.rss.cache.GzipFragmentCache
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.nio.charset.StandardCharsets
+import java.util.zip.GZIPInputStream
+
+class FeedControllerGzipSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerGzipSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + ['micronaut.rss.cache.gzip.max-size': '1MB']
+    }
+
+    void "items are compressed once and concatenated into a gzip response"() {
+        given:
+        GzipFragmentCache cache = applicationContext.getBean(GzipFragmentCache)
+        MockRssFeedProvider provider = applicationContext.getBean(MockRssFeedProvider)
+        HttpClient jdkClient = HttpClient.newHttpClient()
+
+        when:
+        HttpResponse<byte[]> response = jdkClient.send(gzipRequest(), HttpResponse.BodyHandlers.ofByteArray())
+
+        then:
+        response.statusCode() == 200
+        response.headers().firstValue('Content-Encoding').get() == 'gzip'
+        response.headers().firstValue('Vary').get() == 'Accept-Encoding'
+        gunzip(response.body()) == render(provider)
+        cache.stats.missCount == 6
+        cache.stats.hitCount == 0
+
+        when: 'an item is added'
+        provider.rssChannel.addItem(RssItem.builder()
+                .title('Moon Landing')
+                .link('http://liftoff.msfc.nasa.gov/news/2003/news-moon.asp')
+                .guid('http://liftoff.msfc.nasa.gov/2003/06/10.html#item574')
+                .build())
+        response = jdkClient.send(gzipRequest(), HttpResponse.BodyHandlers.ofByteArray())
+
+        then: 'only the new item is compressed'
+        gunzip(response.body()) == render(provider)
+        gunzip(response.body()).contains('<title>Moon Landing</title>')
+        cache.stats.missCount == 7
+        cache.stats.hitCount == 6
+
+        when: 'gzip is not accepted'
+        HttpResponse<String> plain = jdkClient.send(HttpRequest.newBuilder(embeddedServer.URI.resolve('/feed')).build(), HttpResponse.BodyHandlers.ofString())
+
+        then:
+        !plain.headers().firstValue('Content-Encoding').present
+        plain.body() == render(provider)
+        cache.stats.missCount == 7
+    }
+
+    private HttpRequest gzipRequest() {
+        HttpRequest.newBuilder(embeddedServer.URI.resolve('/feed'))
+                .header('Accept-Encoding', 'gzip, deflate')
+                .build()
+    }
+
+    private String render(MockRssFeedProvider provider) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        applicationContext.getBean(RssFeedRenderer).render(out, provider.rssChannel)
+        out.toString(StandardCharsets.UTF_8)
+    }
+
+    private static String gunzip(byte[] compressed) {
+        new String(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8)
+    }
+}
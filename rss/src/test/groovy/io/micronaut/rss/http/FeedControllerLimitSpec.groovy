@@ -0,0 +1,46 @@
+package io.micronaut.rss.http
+
+import io.micronaut.rss.cache.FeedTruncationCounter
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+class FeedControllerLimitSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerLimitSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + ['micronaut.rss.feed.max-items': 2]
+    }
+
+    void "feeds with more items than the maximum are truncated at an item boundary"() {
+        given:
+        FeedTruncationCounter feedTruncationCounter = applicationContext.getBean(FeedTruncationCounter)
+
+        when:
+        HttpResponse<String> response = get('/feed')
+
+        then:
+        response.statusCode() == 200
+        response.body().contains('<title>Liftoff News</title>')
+        response.body().trim().endsWith('</rss>')
+        (response.body() =~ /#item(\d+)<\/guid>/).collect { it[1] } == ['573', '572']
+        feedTruncationCounter.count == 1
+
+        when: 'a feed which fits is requested'
+        response = get('/feed?limit=2')
+
+        then:
+        (response.body() =~ /#item(\d+)<\/guid>/).collect { it[1] } == ['573', '572']
+        feedTruncationCounter.count == 1
+    }
+
+    private HttpResponse<String> get(String path) {
+        HttpClient.newHttpClient().send(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+    }
+}
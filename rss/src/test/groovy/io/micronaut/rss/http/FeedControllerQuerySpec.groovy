@@ -0,0 +1,79 @@
+package io.micronaut.rss.http
+
+import io.micronaut.rss.cache.RenderedFeedCache
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+class FeedControllerQuerySpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerQuerySpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + [
+                'micronaut.rss.feed.max-limit': 2,
+                'micronaut.rss.cache.heap.max-size': 1024 * 1024,
+                'micronaut.rss.cache.delta.max-feeds': 100
+        ]
+    }
+
+    void "query parameters select the items of the feed"(String path, List<String> guids) {
+        when:
+        HttpResponse<String> response = get(path)
+
+        then:
+        response.statusCode() == 200
+        response.body().contains('<title>Liftoff News</title>')
+        (response.body() =~ /#item(\d+)<\/guid>/).collect { it[1] } == guids
+
+        where:
+        path                                          || guids
+        '/feed'                                       || ['573', '572', '571', '570']
+        '/feed?limit=10'                              || ['573', '572']
+        '/feed?limit=1'                               || ['573']
+        '/feed?sort=oldest&limit=1'                   || ['570']
+        '/feed?since=2003-05-27T00:00:00Z'            || ['573', '572', '571']
+        '/feed?since=2003-05-27T00:00:00Z&sort=oldest' || ['571', '572', '573']
+        '/feed?category=rockets'                      || []
+        '/feed/1?limit=1'                             || ['573']
+    }
+
+    void "invalid query parameters are rejected"(String path) {
+        expect:
+        get(path).statusCode() == 400
+
+        where:
+        path << ['/feed?limit=0', '/feed?limit=ten', '/feed?sort=random', '/feed?since=yesterday']
+    }
+
+    void "queried feeds which do not exist are not found"() {
+        expect:
+        get('/feed/2?limit=1').statusCode() == 404
+    }
+
+    void "queried feeds are neither cached nor tracked"() {
+        given:
+        RenderedFeedCache cache = applicationContext.getBean(RenderedFeedCache)
+        long entries = cache.stats.entryCount
+
+        when:
+        List<HttpResponse<String>> responses = (20..26).collect { get("/feed?since=2003-05-${it}T00:00:00Z") }
+
+        then:
+        responses.every { it.statusCode() == 200 && !it.headers().firstValue('ETag').present }
+        cache.stats.entryCount == entries
+
+        and: 'the whole feed is'
+        get('/feed').headers().firstValue('ETag').present
+        cache.stats.entryCount == 1
+    }
+
+    private HttpResponse<String> get(String path) {
+        HttpClient.newHttpClient().send(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+    }
+}
@@ -0,0 +1,110 @@
+package io.micronaut.rss.http
+
+import io.micronaut.context.annotation.Primary
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.rss.RssChannel
+import io.micronaut.rss.RssFeedProvider
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+
+class FeedControllerRouteSpec extends EmbeddedServerSpecification {
+
+    @Override
+    String getSpecName() {
+        'FeedControllerRouteSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + [
+                'micronaut.rss.feed.routes.news.prefix': 'news-',
+                'micronaut.rss.feed.routes.news.executor': 'io',
+                'micronaut.rss.feed.routes.news.cache-max-size': '1MB',
+                'micronaut.rss.feed.routes.breaking.provider': 'news',
+                'micronaut.rss.feed.routes.breaking.prefix': 'news-breaking-',
+                'micronaut.rss.feed.routes.slow.timeout': '100ms',
+        ]
+    }
+
+    void "feeds are routed to the provider of their path segment"() {
+        when:
+        HttpResponse<String> response = get('/feed/news/7')
+
+        then:
+        response.statusCode() == 200
+        response.body().contains('<title>News 7</title>')
+    }
+
+    void "feeds are routed to the provider of the longest prefix of their id"(String path, String title) {
+        when:
+        HttpResponse<String> response = get(path)
+
+        then:
+        response.statusCode() == 200
+        response.body().contains("<title>${title}</title>")
+
+        where:
+        path                     || title
+        '/feed/news-7'           || 'News 7'
+        '/feed/news-breaking-7'  || 'News 7'
+        '/feed/1'                || 'Liftoff News'
+    }
+
+    void "unknown routes are not found"() {
+        expect:
+        get('/feed/podcasts/7').statusCode() == 404
+    }
+
+    void "a route whose provider does not answer within its timeout responds with 504"() {
+        expect:
+        get('/feed/slow/1').statusCode() == 504
+    }
+
+    private HttpResponse<String> get(String path) {
+        HttpClient.newHttpClient().send(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+    }
+
+    @Requires(property = 'spec.name', value = 'FeedControllerRouteSpec')
+    @Primary
+    @Replaces(MockRssFeedProvider)
+    @Singleton
+    static class DefaultRssFeedProvider extends MockRssFeedProvider {
+    }
+
+    @Requires(property = 'spec.name', value = 'FeedControllerRouteSpec')
+    @Named('news')
+    @Singleton
+    static class NewsRssFeedProvider implements RssFeedProvider {
+        @Override
+        Publisher<RssChannel> fetch() {
+            Mono.just(RssChannel.builder('News', 'https://news.example.com', 'News').build())
+        }
+
+        @Override
+        Publisher<RssChannel> fetchById(Serializable id) {
+            Mono.just(RssChannel.builder("News ${id}".toString(), "https://news.example.com/${id}".toString(), 'News').build())
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'FeedControllerRouteSpec')
+    @Named('slow')
+    @Singleton
+    static class SlowRssFeedProvider implements RssFeedProvider {
+        @Override
+        Publisher<RssChannel> fetch() {
+            Mono.never()
+        }
+
+        @Override
+        Publisher<RssChannel> fetchById(Serializable id) {
+            Mono.never()
+        }
+    }
+}
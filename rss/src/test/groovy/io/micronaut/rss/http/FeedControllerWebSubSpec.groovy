@@ -0,0 +1,135 @@
+package io.micronaut.rss.http
+
+import com.sun.net.httpserver.HttpServer
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.rss.websub.WebSubPublisher
+import spock.util.concurrent.PollingConditions
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+class FeedControllerWebSubSpec extends EmbeddedServerSpecification {
+
+    static final List<String> PINGS = new CopyOnWriteArrayList<>()
+    static final AtomicInteger FAILURES = new AtomicInteger()
+    static final HttpServer HUB = startHub()
+
+    @Override
+    String getSpecName() {
+        'FeedControllerWebSubSpec'
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ConfigurationFixture.super.getConfiguration() + [
+                'micronaut.rss.websub.hubs': ["http://localhost:${HUB.address.port}/hub".toString()],
+                'micronaut.rss.websub.base-url': 'https://example.org/',
+                'micronaut.rss.websub.debounce': '300ms',
+                'micronaut.rss.websub.retry-delay': '100ms',
+        ]
+    }
+
+    void setup() {
+        PINGS.clear()
+        FAILURES.set(0)
+    }
+
+    void cleanupSpec() {
+        HUB.stop(0)
+    }
+
+    void "subscription documents link to the hubs and to the configured topic, and serving them notifies no hub"() {
+        given:
+        MockRssFeedProvider provider = applicationContext.getBean(MockRssFeedProvider)
+
+        when:
+        String body = get('/feed').body()
+        provider.rssChannel.setLastBuildDate(provider.rssChannel.getLastBuildDate().get().plusDays(1))
+        get('/feed')
+        sleep(500)
+
+        then:
+        body.contains("rel=\"hub\" href=\"http://localhost:${HUB.address.port}/hub\"")
+        body.contains('rel="self" href="https://example.org/feed"')
+        PINGS.isEmpty()
+    }
+
+    void "changes published within the debounce window are notified once"() {
+        given:
+        WebSubPublisher publisher = applicationContext.getBean(WebSubPublisher)
+        String topic = publisher.topic('/feed')
+
+        when:
+        publisher.publish(topic)
+        publisher.publish(topic)
+
+        then:
+        topic == 'https://example.org/feed'
+        new PollingConditions(timeout: 5).eventually {
+            assert PINGS == ['hub.mode=publish&hub.url=' + URLEncoder.encode(topic, StandardCharsets.UTF_8)]
+        }
+
+        when:
+        sleep(500)
+
+        then:
+        PINGS.size() == 1
+    }
+
+    void "a hub which fails is retried"() {
+        given:
+        WebSubPublisher publisher = applicationContext.getBean(WebSubPublisher)
+        long published = publisher.publishedCount
+        FAILURES.set(1)
+
+        when:
+        publisher.publish('https://example.org/a')
+        publisher.publish('https://example.org/b')
+        publisher.publish('https://example.org/a')
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert publisher.publishedCount == published + 1
+        }
+        PINGS.size() == 2
+        PINGS.every { it == 'hub.mode=publish&hub.url=https%3A%2F%2Fexample.org%2Fa&hub.url=https%3A%2F%2Fexample.org%2Fb' }
+        publisher.failedCount == 0
+    }
+
+    void "hubs without a base URL fail the startup"() {
+        when:
+        ApplicationContext.run(['micronaut.rss.websub.hubs': ['https://example.org/hub']]).close()
+
+        then:
+        Exception e = thrown()
+        causes(e).any { it instanceof ConfigurationException && it.message.contains('micronaut.rss.websub.base-url') }
+    }
+
+    private static List<Throwable> causes(Throwable e) {
+        List<Throwable> causes = []
+        for (Throwable cause = e; cause != null && !causes.contains(cause); cause = cause.cause) {
+            causes << cause
+        }
+        causes
+    }
+
+    private HttpResponse<String> get(String path) {
+        HttpClient.newHttpClient().send(HttpRequest.newBuilder(embeddedServer.URI.resolve(path)).build(), HttpResponse.BodyHandlers.ofString())
+    }
+
+    private static HttpServer startHub() {
+        HttpServer hub = HttpServer.create(new InetSocketAddress('localhost', 0), 0)
+        hub.createContext('/hub') { exchange ->
+            PINGS << new String(exchange.requestBody.readAllBytes(), StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(FAILURES.getAndDecrement() > 0 ? 503 : 204, -1)
+            exchange.close()
+        }
+        hub.start()
+        hub
+    }
+}
@@ -0,0 +1,144 @@
+package io.micronaut.rss.http
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.rss.DefaultRssFeedRenderer
+import io.micronaut.rss.RssChannel
+import io.micronaut.rss.RssItem
+import io.micronaut.rss.cache.FeedDeltaTracker
+import io.micronaut.rss.cache.LastKnownGoodFeedStore
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+
+class FeedResponderSpec extends Specification {
+
+    RssChannel undated = RssChannel.builder('Undated', 'https://example.com', 'A feed without dates')
+            .item(RssItem.builder().title('Item').guid('item').build())
+            .build()
+
+    void "a feed which fails to render is not answered with the last known good feed"() {
+        given:
+        LastKnownGoodFeedStore lastKnownGoodFeedStore = new LastKnownGoodFeedStore(1024 * 1024, Clock.systemUTC())
+        lastKnownGoodFeedStore.put('rss', 0L, '<rss/>'.getBytes(StandardCharsets.UTF_8))
+        FeedResponder feedResponder = feedResponder(new CountingRssFeedRenderer(failing: true), lastKnownGoodFeedStore)
+
+        when:
+        Mono.from(feedResponder.respond(HttpRequest.GET('/feed'), 'rss', Mono.just(undated))).block()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    void "a feed without a date is rendered once per response and that body is stored as the last known good feed"() {
+        given:
+        CountingRssFeedRenderer renderer = new CountingRssFeedRenderer()
+        LastKnownGoodFeedStore lastKnownGoodFeedStore = new LastKnownGoodFeedStore(1024 * 1024, Clock.systemUTC())
+        FeedResponder feedResponder = feedResponder(renderer, lastKnownGoodFeedStore)
+
+        when:
+        MutableHttpResponse<?> first = Mono.from(feedResponder.respond(HttpRequest.GET('/feed'), 'rss', Mono.just(undated))).block()
+        MutableHttpResponse<?> second = Mono.from(feedResponder.respond(HttpRequest.GET('/feed'), 'rss', Mono.just(undated))).block()
+
+        then:
+        renderer.renders == 2
+        first.body() == second.body()
+        lastKnownGoodFeedStore.find('rss').get().body == second.body()
+    }
+
+    void "the age of the last known good feed counts from the last fetch of its version"() {
+        given:
+        MutableClock clock = new MutableClock(Instant.parse('2026-10-18T00:00:00Z'))
+        LastKnownGoodFeedStore lastKnownGoodFeedStore = new LastKnownGoodFeedStore(1024 * 1024, clock)
+        FeedResponder feedResponder = feedResponder(new CountingRssFeedRenderer(), lastKnownGoodFeedStore)
+        RssChannel dated = RssChannel.builder('Dated', 'https://example.com', 'A feed with a date')
+                .pubDate(ZonedDateTime.parse('2026-10-17T00:00:00Z'))
+                .item(RssItem.builder().title('Item').guid('item').build())
+                .build()
+
+        when:
+        Mono.from(feedResponder.respond(HttpRequest.GET('/feed'), 'rss', Mono.just(dated))).block()
+        clock.instant = clock.instant.plusSeconds(600)
+        Mono.from(feedResponder.respond(HttpRequest.GET('/feed'), 'rss', Mono.just(dated))).block()
+        clock.instant = clock.instant.plusSeconds(30)
+        MutableHttpResponse<?> stale = Mono.from(feedResponder.respond(HttpRequest.GET('/feed'), 'rss', Mono.error(new IOException('backend down')))).block()
+
+        then:
+        stale.header('Age') == '30'
+        lastKnownGoodFeedStore.find('rss').get().storedAt == Instant.parse('2026-10-18T00:00:00Z')
+    }
+
+    void "a feed without a date is sent without an entity tag"() {
+        given:
+        FeedControllerConfiguration configuration = new FeedControllerConfigurationProperties()
+        FeedResponder feedResponder = new FeedResponder(new FeedBodyRenderer(new DefaultRssFeedRenderer(), configuration, null, null, null),
+                new FeedPager(configuration, null),
+                null,
+                null,
+                new FeedDeltaTracker(100, 4),
+                null,
+                null)
+
+        when:
+        MutableHttpResponse<?> response = Mono.from(feedResponder.respond(HttpRequest.GET('/feed').header('If-None-Match', '*'), 'rss', Mono.just(undated))).block()
+
+        then:
+        response.status() == HttpStatus.OK
+        !response.header('ETag')
+    }
+
+    private static FeedResponder feedResponder(DefaultRssFeedRenderer renderer, LastKnownGoodFeedStore lastKnownGoodFeedStore) {
+        FeedControllerConfiguration configuration = new FeedControllerConfigurationProperties()
+        new FeedResponder(new FeedBodyRenderer(renderer, configuration, null, null, null),
+                new FeedPager(configuration, null),
+                null,
+                null,
+                null,
+                null,
+                lastKnownGoodFeedStore)
+    }
+
+    static class CountingRssFeedRenderer extends DefaultRssFeedRenderer {
+        volatile int renders
+        boolean failing
+
+        @Override
+        void render(OutputStream outputStream, RssChannel rssChannel) throws IOException {
+            if (failing) {
+                throw new IllegalStateException('renderer bug')
+            }
+            renders++
+            super.render(outputStream, rssChannel)
+        }
+    }
+
+    static class MutableClock extends Clock {
+        Instant instant
+
+        MutableClock(Instant instant) {
+            this.instant = instant
+        }
+
+        @Override
+        ZoneId getZone() {
+            ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            this
+        }
+
+        @Override
+        Instant instant() {
+            instant
+        }
+    }
+}